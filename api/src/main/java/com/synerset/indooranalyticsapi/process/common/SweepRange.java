@@ -0,0 +1,72 @@
+package com.synerset.indooranalyticsapi.process.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Range of values of swept parameter, from the first to the last value inclusive, with constant step. Last value is
+ * included only if it is reached by the whole number of steps.
+ */
+public record SweepRange(
+        @NotNull
+        @Schema(example = "-25.0")
+        Double from,
+        @NotNull
+        @Schema(example = "15.0")
+        Double to,
+        @NotNull
+        @Positive
+        @Schema(example = "0.5")
+        Double step
+) {
+
+    private static final double STEP_TOLERANCE = 1E-9;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    @AssertTrue(message = "Range start, end and step must be finite numbers")
+    boolean isFinite() {
+        return (from == null || Double.isFinite(from)) && (to == null || Double.isFinite(to))
+                && (step == null || Double.isFinite(step));
+    }
+
+    @AssertTrue(message = "Range end must not be lower than range start")
+    boolean isOrdered() {
+        return from == null || to == null || from <= to;
+    }
+
+    /**
+     * Returns true if range start and end are within given limits, inclusive.
+     */
+    public boolean isWithin(double min, double max) {
+        return from == null || to == null || (from >= min && to <= max);
+    }
+
+    /**
+     * Returns the number of values in range. It is calculated in floating point, so that the size of a very long range
+     * can be checked without overflow before values are generated. Result is NaN or infinite if range is not finite.
+     */
+    public double size() {
+        return Math.floor((to - from) / step + STEP_TOLERANCE) + 1;
+    }
+
+    /**
+     * Returns all values of range. Each value is calculated from the range start, so that rounding errors of
+     * the step do not accumulate.
+     *
+     * @throws IllegalStateException if the number of values cannot be held in an array.
+     */
+    public double[] values() {
+        double size = size();
+        if (!(size <= MAX_ARRAY_SIZE)) {
+            throw new IllegalStateException("Number of values in range exceeds " + MAX_ARRAY_SIZE + ": " + size);
+        }
+        double[] values = new double[(int) size];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + i * step;
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.synerset.indooranalyticsapi.process.cooling;
+
+import com.synerset.indooranalyticsapi.common.InvalidResponse;
+import com.synerset.indooranalyticsapi.common.SwaggerApiRoot;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolingProcessRequest;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolingProcessResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+import static com.synerset.indooranalyticsapi.process.cooling.CoolingRequestExamples.COOLING_BATCH_EXAMPLE;
+import static com.synerset.indooranalyticsapi.process.cooling.CoolingRequestExamples.COOLING_FROM_POWER_EXAMPLE;
+import static com.synerset.indooranalyticsapi.process.cooling.CoolingRequestExamples.COOLING_FROM_REL_HUM_EXAMPLE;
+import static com.synerset.indooranalyticsapi.process.cooling.CoolingRequestExamples.COOLING_FROM_TEMP_EXAMPLE;
+
+@Tag(name = "Cooling process service:")
+@RequestMapping("/processes/cooling")
+public interface CoolingProcessRestService extends SwaggerApiRoot {
+
+    String COOLING_DESCRIPTION = """
+               Pressure specification is optional. In the absence of explicit input, the standard atmospheric pressure
+               of [101325.0 Pa] shall be used in calculations. Humidity may be denoted either as inletRelativeHumidity or
+               inletHumidityRatio; in their absence, dry air scenario will be assumed.
+               Flow of inlet air can be specified either as inletVolFlow or inletMassFlow. Absence of both means that
+               zero flow is assumed, what will result in no state change of the inlet air.
+               Coolant supply and return temperatures are required, average coolant temperature is assumed as the
+               coil surface temperature. Cooling power must be negative or zero.;
+            """;
+
+    String COOLING_BATCH_DESCRIPTION = """
+               List of cooling processes, each defined as in single cooling endpoints. Strategy is resolved for each
+               process from the target it specifies, in order of precedence: inputCoolingPower, targetTemperature,
+               targetRelativeHumidity. Processes are evaluated in parallel and returned in the order of request.
+               If any process cannot be calculated, the whole batch is rejected, with the index of invalid process
+               in the error message.
+            """;
+
+    int BATCH_MAX_SIZE = 10_000;
+
+    /**
+     * Calculates the outcome of cooling humid air for a specified input cooling power.
+     *
+     * @param coolingRequest The request containing cooling process parameters.
+     * @param imperialUnits  Indicates whether to use imperial units for output.
+     * @return The response containing the outcome of cooling.
+     */
+    @Operation(summary = "Calculates the outcome of cooling humid air for a specified input cooling power.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = COOLING_DESCRIPTION,
+                    content = @Content(examples = @ExampleObject(COOLING_FROM_POWER_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CoolingProcessResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/input-power")
+    CoolingProcessResponse getCoolingForInputPower(@RequestBody @Valid CoolingProcessRequest coolingRequest,
+                                                   @RequestParam(name = "imperial-units", defaultValue = "false") boolean imperialUnits);
+
+    /**
+     * Calculates the outcome of cooling humid air to achieve a desired outlet temperature.
+     *
+     * @param coolingRequest The request containing cooling process parameters.
+     * @param imperialUnits  Indicates whether to use imperial units for output.
+     * @return The response containing the outcome of cooling.
+     */
+    @Operation(summary = "Calculates the outcome of cooling humid air to achieve a desired outlet temperature.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = COOLING_DESCRIPTION,
+                    content = @Content(examples = @ExampleObject(COOLING_FROM_TEMP_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CoolingProcessResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/target-temperature")
+    CoolingProcessResponse getCoolingForTargetTemperature(@RequestBody @Valid CoolingProcessRequest coolingRequest,
+                                                          @RequestParam(name = "imperial-units", defaultValue = "false") boolean imperialUnits);
+
+    /**
+     * Calculates the outcome of cooling humid air to achieve a desired outlet relative humidity.
+     *
+     * @param coolingRequest The request containing cooling process parameters.
+     * @param imperialUnits  Indicates whether to use imperial units for output.
+     * @return The response containing the outcome of cooling.
+     */
+    @Operation(summary = "Calculates the outcome of cooling humid air to achieve a desired outlet relative humidity.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = COOLING_DESCRIPTION,
+                    content = @Content(examples = @ExampleObject(COOLING_FROM_REL_HUM_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CoolingProcessResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/target-relative-humidity")
+    CoolingProcessResponse getCoolingForTargetRelativeHumidity(@RequestBody @Valid CoolingProcessRequest coolingRequest,
+                                                               @RequestParam(name = "imperial-units", defaultValue = "false") boolean imperialUnits);
+
+    /**
+     * Calculates the outcome of cooling humid air for a list of processes. Strategy of each process is resolved from
+     * the target it specifies. Processes are evaluated in parallel, results are returned in the order of request.
+     *
+     * @param coolingRequests The list of requests containing cooling process parameters.
+     * @param imperialUnits   Indicates whether to use imperial units for output.
+     * @return The list of responses containing outcomes of cooling.
+     */
+    @Operation(summary = "Calculates the outcome of cooling humid air for a list of processes.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = COOLING_BATCH_DESCRIPTION,
+                    content = @Content(examples = @ExampleObject(COOLING_BATCH_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful.",
+                    content = {@Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CoolingProcessResponse.class)))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/batch")
+    List<CoolingProcessResponse> getCoolingBatch(@RequestBody @NotEmpty @Size(max = BATCH_MAX_SIZE) List<@Valid CoolingProcessRequest> coolingRequests,
+                                                 @RequestParam(name = "imperial-units", defaultValue = "false") boolean imperialUnits);
+
+}
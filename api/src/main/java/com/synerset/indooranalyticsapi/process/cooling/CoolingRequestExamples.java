@@ -0,0 +1,86 @@
+package com.synerset.indooranalyticsapi.process.cooling;
+
+class CoolingRequestExamples {
+
+    private CoolingRequestExamples() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static final String COOLING_FROM_POWER_EXAMPLE = """
+              {
+                "inputCoolingPower": {"value": -20, "unit": "kW"},
+                "coolantData": {
+                  "supplyTemperature": {"value": 7, "unit": "oC"},
+                  "returnTemperature": {"value": 14, "unit": "oC"}
+                },
+                "inletAirFlow":{
+                  "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                  "inletTemperature": {"value": 35, "unit": "oC"},
+                  "inletRelativeHumidity": {"value": 55,"unit": "%"},
+                  "inletVolFlow": {"value": 30000, "unit": "m3/h"}
+                }
+              }
+            """;
+
+    static final String COOLING_FROM_TEMP_EXAMPLE = """
+              {
+                "targetTemperature": {"value": 25, "unit": "oC"},
+                "coolantData": {
+                  "supplyTemperature": {"value": 7, "unit": "oC"},
+                  "returnTemperature": {"value": 14, "unit": "oC"}
+                },
+                "inletAirFlow":{
+                  "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                  "inletTemperature": {"value": 35, "unit": "oC"},
+                  "inletRelativeHumidity": {"value": 55,"unit": "%"},
+                  "inletVolFlow": {"value": 30000, "unit": "m3/h"}
+                }
+              }
+            """;
+
+    static final String COOLING_FROM_REL_HUM_EXAMPLE = """
+              {
+                "targetRelativeHumidity": {"value": 90, "unit": "%"},
+                "coolantData": {
+                  "supplyTemperature": {"value": 7, "unit": "oC"},
+                  "returnTemperature": {"value": 14, "unit": "oC"}
+                },
+                "inletAirFlow":{
+                  "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                  "inletTemperature": {"value": 35, "unit": "oC"},
+                  "inletRelativeHumidity": {"value": 55,"unit": "%"},
+                  "inletVolFlow": {"value": 30000, "unit": "m3/h"}
+                }
+              }
+            """;
+
+    static final String COOLING_BATCH_EXAMPLE = """
+              [
+                {
+                  "targetTemperature": {"value": 25, "unit": "oC"},
+                  "coolantData": {
+                    "supplyTemperature": {"value": 7, "unit": "oC"},
+                    "returnTemperature": {"value": 14, "unit": "oC"}
+                  },
+                  "inletAirFlow":{
+                    "inletTemperature": {"value": 35, "unit": "oC"},
+                    "inletRelativeHumidity": {"value": 55,"unit": "%"},
+                    "inletVolFlow": {"value": 30000, "unit": "m3/h"}
+                  }
+                },
+                {
+                  "inputCoolingPower": {"value": -20, "unit": "kW"},
+                  "coolantData": {
+                    "supplyTemperature": {"value": 7, "unit": "oC"},
+                    "returnTemperature": {"value": 14, "unit": "oC"}
+                  },
+                  "inletAirFlow":{
+                    "inletTemperature": {"value": 30, "unit": "oC"},
+                    "inletRelativeHumidity": {"value": 45,"unit": "%"},
+                    "inletVolFlow": {"value": 10000, "unit": "m3/h"}
+                  }
+                }
+              ]
+            """;
+
+}
@@ -0,0 +1,37 @@
+package com.synerset.indooranalyticsapi.process.cooling.data;
+
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.flow.VolumetricFlow;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificHeat;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CondensateFlowResponse(
+        @Schema(example = "{\"value\": 101325.0,\"unit\": \"Pa\"}")
+        Pressure condPressure,
+        @Schema(example = "{\"value\": 10.5,\"unit\": \"oC\"}")
+        Temperature condTemperature,
+        @Schema(example = "{\"value\": 4.195,\"unit\": \"kJ/(kg·K)\"}")
+        SpecificHeat condSpecificHeat,
+        @Schema(example = "{\"value\": 44.045,\"unit\": \"kJ/kg\"}")
+        SpecificEnthalpy condSpecificEnthalpy,
+        @Schema(example = "{\"value\": 0.0434,\"unit\": \"kg/s\"}")
+        MassFlow condMassFlow,
+        @Schema(example = "{\"value\": 4.338E-5,\"unit\": \"m3/s\"}")
+        VolumetricFlow condVolFlow
+) {
+
+    public CondensateFlowResponse toImperialUnits() {
+        return new CondensateFlowResponse(
+                condPressure.toPsi(),
+                condTemperature.toFahrenheit(),
+                condSpecificHeat.toBTUPerPoundFahrenheit(),
+                condSpecificEnthalpy.toBTUPerPound(),
+                condMassFlow.toPoundsPerSecond(),
+                condVolFlow.toCubicFeetPerMinute()
+        );
+    }
+
+}
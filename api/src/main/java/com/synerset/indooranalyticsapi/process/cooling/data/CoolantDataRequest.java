@@ -0,0 +1,14 @@
+package com.synerset.indooranalyticsapi.process.cooling.data;
+
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.validation.PhysicalRange;
+import jakarta.validation.constraints.NotNull;
+
+public record CoolantDataRequest(
+        @NotNull
+        @PhysicalRange(min = "-50oC", max = "50oC")
+        Temperature supplyTemperature,
+        @NotNull
+        @PhysicalRange(min = "-50oC", max = "50oC")
+        Temperature returnTemperature
+) {}
@@ -0,0 +1,29 @@
+package com.synerset.indooranalyticsapi.process.cooling.data;
+
+import com.synerset.indooranalyticsapi.process.common.OutletAirFlowResponse;
+import com.synerset.unitility.unitsystem.dimensionless.BypassFactor;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CoolingProcessResponse(
+        @Schema(example = "CoolingFromTemperature")
+        String coolingStrategy,
+        @Schema(example = "{\"value\": -201.984,\"unit\": \"kW\"}")
+        Power coolingPower,
+        @Schema(example = "{\"value\": 0.592}")
+        BypassFactor bypassFactor,
+        OutletAirFlowResponse outletAirFlow,
+        CondensateFlowResponse waterCondensateFlow
+) {
+
+    public CoolingProcessResponse toImperialUnits() {
+        return new CoolingProcessResponse(
+                coolingStrategy,
+                coolingPower.toBTUPerHour(),
+                bypassFactor,
+                outletAirFlow.toImperialUnits(),
+                waterCondensateFlow.toImperialUnits()
+        );
+    }
+
+}
@@ -2,9 +2,13 @@ package com.synerset.indooranalyticsapi.process.heating;
 
 import com.synerset.indooranalyticsapi.common.InvalidResponse;
 import com.synerset.indooranalyticsapi.common.SwaggerApiRoot;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingBatchRequest;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingBatchResponse;
 import com.synerset.indooranalyticsapi.process.heating.data.HeatingProcessRequest;
 import com.synerset.indooranalyticsapi.process.heating.data.HeatingProcessResponse;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingSweepRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,14 +16,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static com.synerset.indooranalyticsapi.process.heating.HeatingRequestExamples.HEATING_FROM_POWER_EXAMPLE;
 import static com.synerset.indooranalyticsapi.process.heating.HeatingRequestExamples.HEATING_FROM_REL_HUM_EXAMPLE;
 import static com.synerset.indooranalyticsapi.process.heating.HeatingRequestExamples.HEATING_FROM_TEMP_EXAMPLE;
+import static com.synerset.indooranalyticsapi.process.heating.HeatingRequestExamples.HEATING_SWEEP_EXAMPLE;
 
 @Tag(name = "Heating process service:")
 @RequestMapping("/processes/heating")
@@ -33,6 +40,27 @@ public interface HeatingProcessRestService extends SwaggerApiRoot {
                zero flow is assumed, what will result in no state change of the inlet air.;
             """;
 
+    String HEATING_BATCH_DESCRIPTION = """
+               Columnar batch of heating processes: i-th elements of all arrays define i-th process. Values are plain
+               numbers in fixed SI units given in the schema. Pressure is optional, standard atmospheric pressure
+               of [101325.0 Pa] is used in its absence. Humidity may be denoted either as inletRelativeHumidity or
+               inletHumidityRatio; in their absence, dry air scenario will be assumed. Rows which cannot be calculated
+               do not reject the batch, they are reported with "NaN" values and a failure reason.
+            """;
+
+    String HEATING_SWEEP_DESCRIPTION = """
+               Parametric sweep of heating processes: heating is calculated for every combination of inlet temperature
+               and inlet mass flow from the given ranges, at constant pressure, humidity and target. Constant inputs
+               are physical quantities, as in single heating request. Ranges are plain numbers in fixed SI units given
+               in the schema, limited to the physical range of inlet air. Results are streamed back as CSV or as JSON
+               array of rows, ordered by inlet temperature, then by inlet mass flow. Points which cannot be calculated
+               do not reject the sweep, they are reported with "NaN" values and a failure reason.
+            """;
+
+    int BATCH_MAX_SIZE = 1_000_000;
+
+    String SWEEP_CSV_MEDIA_TYPE = "text/csv";
+
     /**
      * Calculates the outcome of heating humid air for a specified input heating power.
      *
@@ -99,4 +127,84 @@ public interface HeatingProcessRestService extends SwaggerApiRoot {
     HeatingProcessResponse getHeatingForTargetRelativeHumidity(@RequestBody @Valid HeatingProcessRequest heatingRequest,
                                                                @RequestParam(name = "imperial-units", defaultValue = "false") boolean imperialUnits);
 
-}
\ No newline at end of file
+    /**
+     * Calculates the outcome of heating humid air for a columnar batch of processes with specified input heating power.
+     * Rows are evaluated in parallel, results are returned as columns in the order of request rows.
+     *
+     * @param heatingBatchRequest The columnar request, with input heating power column.
+     * @return The columnar response with outcomes of heating.
+     */
+    @Operation(summary = "Calculates the outcome of heating humid air for a columnar batch with specified input heating power.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(description = HEATING_BATCH_DESCRIPTION))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful, failed rows are reported in response.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = HeatingBatchResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/batch/input-power")
+    HeatingBatchResponse getHeatingBatchForInputPower(@RequestBody @Valid HeatingBatchRequest heatingBatchRequest);
+
+    /**
+     * Calculates the outcome of heating humid air for a columnar batch of processes with desired outlet temperature.
+     * Rows are evaluated in parallel, results are returned as columns in the order of request rows.
+     *
+     * @param heatingBatchRequest The columnar request, with target temperature column.
+     * @return The columnar response with outcomes of heating.
+     */
+    @Operation(summary = "Calculates the outcome of heating humid air for a columnar batch with desired outlet temperature.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(description = HEATING_BATCH_DESCRIPTION))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful, failed rows are reported in response.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = HeatingBatchResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/batch/target-temperature")
+    HeatingBatchResponse getHeatingBatchForTargetTemperature(@RequestBody @Valid HeatingBatchRequest heatingBatchRequest);
+
+    /**
+     * Calculates the outcome of heating humid air for a columnar batch of processes with desired outlet relative
+     * humidity. Rows are evaluated in parallel, results are returned as columns in the order of request rows.
+     *
+     * @param heatingBatchRequest The columnar request, with target relative humidity column.
+     * @return The columnar response with outcomes of heating.
+     */
+    @Operation(summary = "Calculates the outcome of heating humid air for a columnar batch with desired outlet relative humidity.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(description = HEATING_BATCH_DESCRIPTION))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful, failed rows are reported in response.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = HeatingBatchResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/batch/target-relative-humidity")
+    HeatingBatchResponse getHeatingBatchForTargetRelativeHumidity(@RequestBody @Valid HeatingBatchRequest heatingBatchRequest);
+
+    /**
+     * Calculates heating for every combination of inlet temperature and inlet mass flow from the given ranges, e.g.
+     * to draw heating design curves. Results are streamed back as they are calculated, in CSV or JSON format.
+     *
+     * @param heatingSweepRequest The sweep request, with ranges of inlet temperature and mass flow.
+     * @param format              The format of response: json or csv.
+     * @return The stream of sweep points, ordered by inlet temperature, then by inlet mass flow.
+     */
+    @Operation(summary = "Calculates heating for every combination of inlet temperature and inlet mass flow from the given ranges.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = HEATING_SWEEP_DESCRIPTION,
+                    content = @Content(examples = @ExampleObject(HEATING_SWEEP_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful, failed points are reported in response.",
+                    content = {@Content(mediaType = "application/json"), @Content(mediaType = SWEEP_CSV_MEDIA_TYPE)}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/sweep")
+    ResponseEntity<StreamingResponseBody> getHeatingSweep(@RequestBody @Valid HeatingSweepRequest heatingSweepRequest,
+                                                          @Parameter(description = "Response format: json or csv")
+                                                          @RequestParam(name = "format", defaultValue = "json") String format);
+
+}
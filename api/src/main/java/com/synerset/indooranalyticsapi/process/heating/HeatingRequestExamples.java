@@ -42,4 +42,14 @@ class HeatingRequestExamples {
               }
             """;
 
+    static final String HEATING_SWEEP_EXAMPLE = """
+              {
+                "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                "inletTemperature": {"from": -25.0, "to": 15.0, "step": 0.5},
+                "inletRelativeHumidity": {"value": 95, "unit": "%"},
+                "inletMassFlow": {"from": 1.0, "to": 10.0, "step": 1.0},
+                "targetTemperature": {"value": 22, "unit": "oC"}
+              }
+            """;
+
 }
@@ -0,0 +1,50 @@
+package com.synerset.indooranalyticsapi.process.heating.data;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Arrays;
+
+import static com.synerset.indooranalyticsapi.process.heating.HeatingProcessRestService.BATCH_MAX_SIZE;
+
+/**
+ * Columnar request of batch heating calculation. Each array is a column, i-th elements of all columns define i-th
+ * heating process. Values are plain numbers in fixed units, specified in the column schema. Only the target column
+ * matching the requested endpoint is required.
+ */
+public record HeatingBatchRequest(
+        @Schema(description = "Inlet absolute pressure [Pa], optional, standard atmosphere by default",
+                example = "[101325.0, 101325.0]")
+        double[] inletPressure,
+        @NotNull
+        @Size(min = 1, max = BATCH_MAX_SIZE)
+        @Schema(description = "Inlet dry bulb temperature [oC]", example = "[-20.0, -15.0]")
+        double[] inletTemperature,
+        @Schema(description = "Inlet relative humidity [%], optional if inlet humidity ratio is present",
+                example = "[95.0, 90.0]")
+        double[] inletRelativeHumidity,
+        @Schema(description = "Inlet humidity ratio [kg/kg], optional, takes precedence over relative humidity")
+        double[] inletHumidityRatio,
+        @NotNull
+        @Schema(description = "Inlet mass flow of humid air [kg/s]", example = "[11.5, 11.5]")
+        double[] inletMassFlow,
+        @Schema(description = "Input heating power [kW], required for input power mode", example = "[50.0, 50.0]")
+        double[] inputHeatingPower,
+        @Schema(description = "Target outlet temperature [oC], required for target temperature mode",
+                example = "[22.0, 22.0]")
+        double[] targetTemperature,
+        @Schema(description = "Target outlet relative humidity [%], required for target relative humidity mode",
+                example = "[30.0, 30.0]")
+        double[] targetRelativeHumidity
+) {
+    public HeatingBatchRequest {
+        if (inletTemperature != null && inletPressure == null) {
+            inletPressure = new double[inletTemperature.length];
+            Arrays.fill(inletPressure, 101_325.0);
+        }
+        if (inletTemperature != null && inletRelativeHumidity == null && inletHumidityRatio == null) {
+            inletHumidityRatio = new double[inletTemperature.length];
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.synerset.indooranalyticsapi.process.heating.data;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Columnar response of batch heating calculation, i-th elements of all columns correspond to i-th heating process
+ * of the request. Rows which could not be calculated contain "NaN" values and a failure reason, failure reason of
+ * successful rows is null.
+ */
+public record HeatingBatchResponse(
+        @Schema(example = "HeatingFromTemperature")
+        String heatingStrategy,
+        @Schema(description = "Heating power [kW]", example = "[486.2, 428.5]")
+        double[] heatingPower,
+        @Schema(description = "Outlet dry bulb temperature [oC]", example = "[22.0, 22.0]")
+        double[] outletTemperature,
+        @Schema(description = "Outlet relative humidity [%]", example = "[3.73, 5.63]")
+        double[] outletRelativeHumidity,
+        @Schema(description = "Outlet humidity ratio [kg/kg]", example = "[0.00061, 0.00092]")
+        double[] outletHumidityRatio,
+        @Schema(description = "Outlet specific enthalpy [kJ/kg]", example = "[23.67, 24.46]")
+        double[] outletSpecificEnthalpy,
+        @Schema(description = "Failure reason of each row, null for successful rows", example = "[null, null]")
+        String[] failureReason
+) {}
@@ -0,0 +1,71 @@
+package com.synerset.indooranalyticsapi.process.heating.data;
+
+import com.synerset.indooranalyticsapi.process.common.SweepRange;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.validation.PhysicalRange;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * Request of parametric heating sweep. Heating is calculated for every combination of inlet temperature and inlet mass
+ * flow from the given ranges. Constant inputs are physical quantities, validated as in single heating request. Swept
+ * ranges are plain numbers in fixed units, specified in the schema, and are limited to the same physical ranges. Only
+ * one target is required, if more are specified, the first one in order of input power, target temperature, target
+ * relative humidity is used.
+ */
+public record HeatingSweepRequest(
+        @PhysicalRange(min = "50_000Pa", max = "5.0MPa")
+        Pressure inletPressure,
+        @NotNull
+        @Valid
+        @Schema(description = "Range of inlet dry bulb temperature [oC], from -120 to 165")
+        SweepRange inletTemperature,
+        @PhysicalRange(min = "0%", max = "100%")
+        RelativeHumidity inletRelativeHumidity,
+        @PhysicalRange(min = "0kg/kg", max = "5.0kg/kg")
+        HumidityRatio inletHumidityRatio,
+        @NotNull
+        @Valid
+        @Schema(description = "Range of inlet mass flow of humid air [kg/s], from 0 to 333 333")
+        SweepRange inletMassFlow,
+        @PhysicalRange(min = "0.0kW", max = "300MW")
+        Power inputHeatingPower,
+        @PhysicalRange(min = "-120oC", max = "165c")
+        Temperature targetTemperature,
+        @PhysicalRange(min = "0.5%", max = "100%")
+        RelativeHumidity targetRelativeHumidity
+) {
+
+    private static final double MIN_TEMPERATURE = -120;
+    private static final double MAX_TEMPERATURE = 165;
+    private static final double MIN_MASS_FLOW = 0;
+    // 1.2E9 kg/h, as in inlet air flow request
+    private static final double MAX_MASS_FLOW = 1.2E9 / 3600;
+
+    public HeatingSweepRequest {
+        if (inletPressure == null) {
+            inletPressure = Pressure.STANDARD_ATMOSPHERE;
+        }
+        if (ObjectUtils.allNull(inletRelativeHumidity, inletHumidityRatio)) {
+            inletHumidityRatio = HumidityRatio.HUM_RATIO_MIN_LIMIT;
+        }
+    }
+
+    @AssertTrue(message = "Inlet temperature range must be within -120 oC and 165 oC")
+    boolean isInletTemperatureInPhysicalRange() {
+        return inletTemperature == null || inletTemperature.isWithin(MIN_TEMPERATURE, MAX_TEMPERATURE);
+    }
+
+    @AssertTrue(message = "Inlet mass flow range must be within 0 kg/s and 333 333 kg/s")
+    boolean isInletMassFlowInPhysicalRange() {
+        return inletMassFlow == null || inletMassFlow.isWithin(MIN_MASS_FLOW, MAX_MASS_FLOW);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.synerset.indooranalyticsapi.process.mixing;
+
+import com.synerset.indooranalyticsapi.common.InvalidResponse;
+import com.synerset.indooranalyticsapi.common.SwaggerApiRoot;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingMultipleProcessRequest;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingProcessRequest;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingProcessResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import static com.synerset.indooranalyticsapi.process.mixing.MixingRequestExamples.MIXING_OF_MULTIPLE_FLOWS_EXAMPLE;
+import static com.synerset.indooranalyticsapi.process.mixing.MixingRequestExamples.MIXING_OF_TWO_FLOWS_EXAMPLE;
+
+@Tag(name = "Mixing process service:")
+@RequestMapping("/processes/mixing")
+public interface MixingProcessRestService extends SwaggerApiRoot {
+
+    String MIXING_DESCRIPTION = """
+               Pressure specification is optional. In the absence of explicit input, the standard atmospheric pressure
+               of [101325.0 Pa] shall be used in calculations. Humidity may be denoted either as inletRelativeHumidity or
+               inletHumidityRatio; in their absence, dry air scenario will be assumed.
+               Flow of air can be specified either as inletVolFlow or inletMassFlow. Absence of both means that
+               zero flow is assumed. Pressure of inlet air flow is used as the outlet pressure.;
+            """;
+
+    int MIXING_FLOWS_MAX_SIZE = 10_000;
+
+    /**
+     * Calculates the outcome of adiabatic mixing of two humid air flows.
+     *
+     * @param mixingRequest The request containing inlet and recirculation air flows.
+     * @param imperialUnits Indicates whether to use imperial units for output.
+     * @return The response containing the outcome of mixing.
+     */
+    @Operation(summary = "Calculates the outcome of adiabatic mixing of two humid air flows.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = MIXING_DESCRIPTION,
+                    content = @Content(examples = @ExampleObject(MIXING_OF_TWO_FLOWS_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = MixingProcessResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping
+    MixingProcessResponse getMixing(@RequestBody @Valid MixingProcessRequest mixingRequest,
+                                    @RequestParam(name = "imperial-units", defaultValue = "false") boolean imperialUnits);
+
+    /**
+     * Calculates the outcome of adiabatic mixing of inlet air flow with multiple humid air flows. Balance is
+     * calculated in a single pass, so calculation time grows linearly with the number of flows.
+     *
+     * @param mixingRequest The request containing inlet air flow and a list of mixed air flows.
+     * @param imperialUnits Indicates whether to use imperial units for output.
+     * @return The response containing the outcome of mixing.
+     */
+    @Operation(summary = "Calculates the outcome of adiabatic mixing of inlet air flow with multiple humid air flows.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = MIXING_DESCRIPTION,
+                    content = @Content(examples = @ExampleObject(MIXING_OF_MULTIPLE_FLOWS_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = MixingProcessResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/multiple")
+    MixingProcessResponse getMixingOfMultipleFlows(@RequestBody @Valid MixingMultipleProcessRequest mixingRequest,
+                                                   @RequestParam(name = "imperial-units", defaultValue = "false") boolean imperialUnits);
+
+}
@@ -0,0 +1,51 @@
+package com.synerset.indooranalyticsapi.process.mixing;
+
+class MixingRequestExamples {
+
+    private MixingRequestExamples() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static final String MIXING_OF_TWO_FLOWS_EXAMPLE = """
+              {
+                "inletAirFlow":{
+                  "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                  "inletTemperature": {"value": -20, "unit": "oC"},
+                  "inletRelativeHumidity": {"value": 95,"unit": "%"},
+                  "inletVolFlow": {"value": 10000, "unit": "m3/h"}
+                },
+                "recirculationAirFlow":{
+                  "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                  "inletTemperature": {"value": 15, "unit": "oC"},
+                  "inletRelativeHumidity": {"value": 30,"unit": "%"},
+                  "inletVolFlow": {"value": 20000, "unit": "m3/h"}
+                }
+              }
+            """;
+
+    static final String MIXING_OF_MULTIPLE_FLOWS_EXAMPLE = """
+              {
+                "inletAirFlow":{
+                  "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                  "inletTemperature": {"value": -20, "unit": "oC"},
+                  "inletRelativeHumidity": {"value": 95,"unit": "%"},
+                  "inletVolFlow": {"value": 10000, "unit": "m3/h"}
+                },
+                "mixingAirFlows":[
+                  {
+                    "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                    "inletTemperature": {"value": 15, "unit": "oC"},
+                    "inletRelativeHumidity": {"value": 30,"unit": "%"},
+                    "inletVolFlow": {"value": 20000, "unit": "m3/h"}
+                  },
+                  {
+                    "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                    "inletTemperature": {"value": 35, "unit": "oC"},
+                    "inletRelativeHumidity": {"value": 45,"unit": "%"},
+                    "inletVolFlow": {"value": 5000, "unit": "m3/h"}
+                  }
+                ]
+              }
+            """;
+
+}
@@ -0,0 +1,20 @@
+package com.synerset.indooranalyticsapi.process.mixing.data;
+
+import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+import static com.synerset.indooranalyticsapi.process.mixing.MixingProcessRestService.MIXING_FLOWS_MAX_SIZE;
+
+public record MixingMultipleProcessRequest(
+        @NotNull
+        @Valid
+        InletAirFlowRequest inletAirFlow,
+        @NotEmpty
+        @Size(max = MIXING_FLOWS_MAX_SIZE)
+        List<@NotNull @Valid InletAirFlowRequest> mixingAirFlows
+) {}
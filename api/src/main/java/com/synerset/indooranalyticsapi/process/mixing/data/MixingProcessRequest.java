@@ -0,0 +1,14 @@
+package com.synerset.indooranalyticsapi.process.mixing.data;
+
+import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record MixingProcessRequest(
+        @NotNull
+        @Valid
+        InletAirFlowRequest inletAirFlow,
+        @NotNull
+        @Valid
+        InletAirFlowRequest recirculationAirFlow
+) {}
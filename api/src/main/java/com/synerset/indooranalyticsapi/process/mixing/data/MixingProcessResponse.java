@@ -0,0 +1,19 @@
+package com.synerset.indooranalyticsapi.process.mixing.data;
+
+import com.synerset.indooranalyticsapi.process.common.OutletAirFlowResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record MixingProcessResponse(
+        @Schema(example = "MixingOfTwoFlows")
+        String mixingStrategy,
+        OutletAirFlowResponse outletAirFlow
+) {
+
+    public MixingProcessResponse toImperialUnits() {
+        return new MixingProcessResponse(
+                mixingStrategy,
+                outletAirFlow.toImperialUnits()
+        );
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.synerset.indooranalyticsapi.process.pipeline;
+
+class PipelineRequestExamples {
+
+    private PipelineRequestExamples() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static final String AIR_HANDLING_UNIT_EXAMPLE = """
+              {
+                "inletAirFlow":{
+                  "inletPressure": {"value": 101325.0, "unit": "Pa"},
+                  "inletTemperature": {"value": 32, "unit": "oC"},
+                  "inletRelativeHumidity": {"value": 45,"unit": "%"},
+                  "inletVolFlow": {"value": 10000, "unit": "m3/h"}
+                },
+                "steps":[
+                  {
+                    "process": "mixing",
+                    "mixingAirFlows":[
+                      {
+                        "inletTemperature": {"value": 24, "unit": "oC"},
+                        "inletRelativeHumidity": {"value": 50,"unit": "%"},
+                        "inletVolFlow": {"value": 20000, "unit": "m3/h"}
+                      }
+                    ]
+                  },
+                  {
+                    "process": "cooling",
+                    "coolantData": {
+                      "supplyTemperature": {"value": 7, "unit": "oC"},
+                      "returnTemperature": {"value": 12, "unit": "oC"}
+                    },
+                    "targetTemperature": {"value": 14, "unit": "oC"}
+                  },
+                  {
+                    "process": "heating",
+                    "targetTemperature": {"value": 18, "unit": "oC"}
+                  }
+                ]
+              }
+            """;
+
+}
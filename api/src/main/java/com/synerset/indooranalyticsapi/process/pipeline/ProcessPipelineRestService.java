@@ -0,0 +1,58 @@
+package com.synerset.indooranalyticsapi.process.pipeline;
+
+import com.synerset.indooranalyticsapi.common.InvalidResponse;
+import com.synerset.indooranalyticsapi.common.SwaggerApiRoot;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessPipelineRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessPipelineResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import static com.synerset.indooranalyticsapi.process.pipeline.PipelineRequestExamples.AIR_HANDLING_UNIT_EXAMPLE;
+
+@Tag(name = "Process pipeline service:")
+@RequestMapping("/processes/pipeline")
+public interface ProcessPipelineRestService extends SwaggerApiRoot {
+
+    String PIPELINE_DESCRIPTION = """
+               Ordered list of process steps applied to inletAirFlow, e.g. sections of air handling unit. Outlet air of
+               each step is the inlet air of the next step. Type of step is defined by "process" property: heating,
+               cooling or mixing. Heating and cooling steps require one target: input power, target temperature or target
+               relative humidity, cooling step requires also coolant data. Mixing step requires a list of mixing flows.
+               Inlet air flow is specified as in other process endpoints.;
+            """;
+
+    int PIPELINE_MAX_STEPS = 50;
+
+    /**
+     * Calculates the outcome of ordered chain of processes, returning the state of air after every step.
+     *
+     * @param pipelineRequest The request containing inlet air flow and ordered process steps.
+     * @param imperialUnits   Indicates whether to use imperial units for output.
+     * @return The response containing the outcome of every step.
+     */
+    @Operation(summary = "Calculates the outcome of ordered chain of processes, returning the state of air after every step.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = PIPELINE_DESCRIPTION,
+                    content = @Content(examples = @ExampleObject(AIR_HANDLING_UNIT_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProcessPipelineResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping
+    ProcessPipelineResponse getPipeline(@RequestBody @Valid ProcessPipelineRequest pipelineRequest,
+                                        @RequestParam(name = "imperial-units", defaultValue = "false") boolean imperialUnits);
+
+}
@@ -0,0 +1,21 @@
+package com.synerset.indooranalyticsapi.process.pipeline.data;
+
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolantDataRequest;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.validation.PhysicalRange;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record CoolingStepRequest(
+        @NotNull
+        @Valid
+        CoolantDataRequest coolantData,
+        @PhysicalRange(min = "-300MW", max = "0.0kW")
+        Power inputCoolingPower,
+        @PhysicalRange(min = "-120oC", max = "165c")
+        Temperature targetTemperature,
+        @PhysicalRange(min = "0.5%", max = "100%")
+        RelativeHumidity targetRelativeHumidity
+) implements ProcessStepRequest {}
@@ -0,0 +1,15 @@
+package com.synerset.indooranalyticsapi.process.pipeline.data;
+
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.validation.PhysicalRange;
+
+public record HeatingStepRequest(
+        @PhysicalRange(min = "0.0kW", max = "300MW")
+        Power inputHeatingPower,
+        @PhysicalRange(min = "-120oC", max = "165c")
+        Temperature targetTemperature,
+        @PhysicalRange(min = "0.5%", max = "100%")
+        RelativeHumidity targetRelativeHumidity
+) implements ProcessStepRequest {}
@@ -0,0 +1,20 @@
+package com.synerset.indooranalyticsapi.process.pipeline.data;
+
+import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+import static com.synerset.indooranalyticsapi.process.pipeline.ProcessPipelineRestService.PIPELINE_MAX_STEPS;
+
+public record ProcessPipelineRequest(
+        @NotNull
+        @Valid
+        InletAirFlowRequest inletAirFlow,
+        @NotEmpty
+        @Size(max = PIPELINE_MAX_STEPS)
+        List<@NotNull @Valid ProcessStepRequest> steps
+) {}
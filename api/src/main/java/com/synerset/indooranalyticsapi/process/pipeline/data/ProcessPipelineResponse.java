@@ -0,0 +1,17 @@
+package com.synerset.indooranalyticsapi.process.pipeline.data;
+
+import java.util.List;
+
+public record ProcessPipelineResponse(
+        List<ProcessStepResponse> steps
+) {
+
+    public ProcessPipelineResponse toImperialUnits() {
+        return new ProcessPipelineResponse(
+                steps.stream()
+                        .map(ProcessStepResponse::toImperialUnits)
+                        .toList()
+        );
+    }
+
+}
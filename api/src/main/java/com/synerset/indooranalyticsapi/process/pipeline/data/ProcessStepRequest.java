@@ -0,0 +1,25 @@
+package com.synerset.indooranalyticsapi.process.pipeline.data;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.swagger.v3.oas.annotations.media.DiscriminatorMapping;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Single step of process pipeline request. Type of step is resolved from the "process" property.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "process")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = HeatingStepRequest.class, name = "heating"),
+        @JsonSubTypes.Type(value = CoolingStepRequest.class, name = "cooling"),
+        @JsonSubTypes.Type(value = MixingStepRequest.class, name = "mixing")
+})
+@Schema(discriminatorProperty = "process",
+        oneOf = {HeatingStepRequest.class, CoolingStepRequest.class, MixingStepRequest.class},
+        discriminatorMapping = {
+                @DiscriminatorMapping(value = "heating", schema = HeatingStepRequest.class),
+                @DiscriminatorMapping(value = "cooling", schema = CoolingStepRequest.class),
+                @DiscriminatorMapping(value = "mixing", schema = MixingStepRequest.class)
+        })
+public sealed interface ProcessStepRequest permits HeatingStepRequest, CoolingStepRequest, MixingStepRequest {
+}
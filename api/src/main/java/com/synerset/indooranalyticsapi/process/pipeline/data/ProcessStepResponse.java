@@ -0,0 +1,30 @@
+package com.synerset.indooranalyticsapi.process.pipeline.data;
+
+import com.synerset.indooranalyticsapi.process.common.OutletAirFlowResponse;
+import com.synerset.indooranalyticsapi.process.cooling.data.CondensateFlowResponse;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ProcessStepResponse(
+        @Schema(example = "heating")
+        String process,
+        @Schema(example = "HeatingFromTemperature")
+        String strategy,
+        @Schema(example = "{\"value\": 524688.965,\"unit\": \"W\"}")
+        Power heatOfProcess,
+        OutletAirFlowResponse outletAirFlow,
+        @Schema(description = "Present only for cooling step")
+        CondensateFlowResponse waterCondensateFlow
+) {
+
+    public ProcessStepResponse toImperialUnits() {
+        return new ProcessStepResponse(
+                process,
+                strategy,
+                heatOfProcess.toBTUPerHour(),
+                outletAirFlow.toImperialUnits(),
+                waterCondensateFlow == null ? null : waterCondensateFlow.toImperialUnits()
+        );
+    }
+
+}
@@ -4,6 +4,7 @@ import com.synerset.indooranalyticsapi.common.InvalidResponse;
 import com.synerset.indooranalyticsapi.common.SwaggerApiRoot;
 import com.synerset.indooranalyticsapi.property.data.DryAirResponse;
 import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
 import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
 import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
@@ -11,19 +12,38 @@ import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
 import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 import com.synerset.unitility.validation.PhysicalRange;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static com.synerset.indooranalyticsapi.property.PropertiesRequestExamples.HUMID_AIR_BATCH_EXAMPLE;
+import static com.synerset.indooranalyticsapi.property.PropertiesRequestExamples.HUMID_AIR_STREAM_EXAMPLE;
 
 /**
  * Represents a REST service for calculating physical properties of air.
  * This service provides endpoints for calculating properties of dry air and humid air.
+ * Property endpoints return {@link ResponseEntity} with body in the form of documented response schema, which can be
+ * written either from response record or, if the implementation chooses so, directly from calculated air state.
  */
 @Validated
 @Tag(name = "Physical properties service:")
@@ -31,6 +51,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 public interface PhysicalPropertiesRestService extends SwaggerApiRoot {
 
     String DEFAULT_PRESSURE = "101325.0Pa";
+    int BATCH_MAX_SIZE = 50_000;
 
     /**
      * Calculates dry air properties based on user input, based on humid air dry bulb temperature.
@@ -50,16 +71,16 @@ public interface PhysicalPropertiesRestService extends SwaggerApiRoot {
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = InvalidResponse.class))})})
     @GetMapping("/dry-air")
-    DryAirResponse getDryAirProperties(@RequestParam
-                                       @Schema(example = "20oC")
-                                       @PhysicalRange(min = "-150oC", max = "1000oC")
-                                       Temperature temperature,
-                                       @RequestParam(defaultValue = DEFAULT_PRESSURE)
-                                       @Schema(example = DEFAULT_PRESSURE)
-                                       @PhysicalRange(min = "1000Pa", max = "10MPa")
-                                       Pressure pressure,
-                                       @RequestParam(name = "imperial-units", defaultValue = "false")
-                                       boolean imperialUnits);
+    ResponseEntity<?> getDryAirProperties(@RequestParam
+                                          @Schema(example = "20oC")
+                                          @PhysicalRange(min = "-150oC", max = "1000oC")
+                                          Temperature temperature,
+                                          @RequestParam(defaultValue = DEFAULT_PRESSURE)
+                                          @Schema(example = DEFAULT_PRESSURE)
+                                          @PhysicalRange(min = "1000Pa", max = "10MPa")
+                                          Pressure pressure,
+                                          @RequestParam(name = "imperial-units", defaultValue = "false")
+                                          boolean imperialUnits);
 
     /**
      * Calculates humid air properties based on user input with temperature input as DBT (Dry Bulb Temperature).
@@ -84,23 +105,80 @@ public interface PhysicalPropertiesRestService extends SwaggerApiRoot {
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = InvalidResponse.class))})})
     @GetMapping("/humid-air")
-    HumidAirResponse getHumidAirProperties(@RequestParam
-                                           @Schema(example = "20oC")
-                                           @PhysicalRange(min = "-150oC", max = "200oC")
-                                           Temperature temperature,
-                                           @RequestParam(defaultValue = DEFAULT_PRESSURE)
-                                           @Schema(example = DEFAULT_PRESSURE)
-                                           @PhysicalRange(min = "50_000Pa", max = "5.0MPa")
-                                           Pressure pressure,
-                                           @RequestParam(required = false, name = "humidity-ratio")
-                                           @PhysicalRange(min = "0.0kg/kg", max = "3.0kg/kg")
-                                           HumidityRatio humidityRatio,
-                                           @RequestParam(required = false, name = "relative-humidity")
-                                           @Schema(example = "40.5%")
-                                           @PhysicalRange(min = "0%", max = "100%")
-                                           RelativeHumidity relativeHumidity,
-                                           @RequestParam(name = "imperial-units", defaultValue = "false")
-                                           boolean imperialUnits);
+    ResponseEntity<?> getHumidAirProperties(@RequestParam
+                                            @Schema(example = "20oC")
+                                            @PhysicalRange(min = "-150oC", max = "200oC")
+                                            Temperature temperature,
+                                            @RequestParam(defaultValue = DEFAULT_PRESSURE)
+                                            @Schema(example = DEFAULT_PRESSURE)
+                                            @PhysicalRange(min = "50_000Pa", max = "5.0MPa")
+                                            Pressure pressure,
+                                            @RequestParam(required = false, name = "humidity-ratio")
+                                            @PhysicalRange(min = "0.0kg/kg", max = "3.0kg/kg")
+                                            HumidityRatio humidityRatio,
+                                            @RequestParam(required = false, name = "relative-humidity")
+                                            @Schema(example = "40.5%")
+                                            @PhysicalRange(min = "0%", max = "100%")
+                                            RelativeHumidity relativeHumidity,
+                                            @RequestParam(name = "imperial-units", defaultValue = "false")
+                                            boolean imperialUnits);
+
+    /**
+     * Calculates humid air properties for a batch of humid air states, with temperature input as DBT (Dry Bulb Temperature).
+     * Intended for bulk consumers, which would otherwise have to send separate request for each state. States are
+     * evaluated in parallel, the order of responses corresponds to the order of states in request. The same limitations
+     * as for the single state calculation apply. If any of the states is invalid, the whole batch is rejected.
+     *
+     * @param humidAirStates The list of humid air states, up to {@value #BATCH_MAX_SIZE} items.
+     * @param imperialUnits  Indicates whether to use imperial units for output.
+     * @return The list of responses containing the properties of humid air, in the order of input states.
+     */
+    @Operation(summary = "Calculates humid air properties for a batch of states. Temperature input as DBT.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(examples = @ExampleObject(HUMID_AIR_BATCH_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calculation successful.",
+                    content = {@Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = HumidAirResponse.class)))}),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, calculations not possible.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InvalidResponse.class))})})
+    @PostMapping("/humid-air/batch")
+    ResponseEntity<?> getHumidAirPropertiesBatch(@RequestBody
+                                                 @NotEmpty
+                                                 @Size(max = BATCH_MAX_SIZE)
+                                                 List<@Valid HumidAirStateRequest> humidAirStates,
+                                                 @RequestParam(name = "imperial-units", defaultValue = "false")
+                                                 boolean imperialUnits);
+
+    /**
+     * Calculates humid air properties for a stream of states, sent as newline delimited JSON (NDJSON), one
+     * {@link HumidAirStateRequest} per line. Response is streamed back as NDJSON, one {@link HumidAirResponse} per
+     * input line, in the order of input. Input is read and evaluated in bounded chunks, so memory usage does not depend
+     * on the stream length. Unlike batch endpoint, invalid line does not reject the whole stream: an
+     * {@link InvalidResponse} is written in its place and processing continues. Malformed JSON, which does not allow
+     * to locate the next line, ends the stream with an {@link InvalidResponse} line.
+     *
+     * @param humidAirStates The NDJSON stream of humid air states.
+     * @param imperialUnits  Indicates whether to use imperial units for output.
+     * @return The NDJSON stream of humid air properties or invalid responses, in the order of input states.
+     */
+    @Operation(summary = "Calculates humid air properties for NDJSON stream of states. Temperature input as DBT.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            examples = @ExampleObject(HUMID_AIR_STREAM_EXAMPLE))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream accepted, each line contains calculation result " +
+                    "or invalid response.",
+                    content = {@Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(oneOf = {HumidAirResponse.class, InvalidResponse.class}))})})
+    @PostMapping(value = "/humid-air/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> getHumidAirPropertiesStream(@Parameter(hidden = true)
+                                                                      InputStream humidAirStates,
+                                                                      @RequestParam(name = "imperial-units", defaultValue = "false")
+                                                                      boolean imperialUnits);
 
     /**
      * Calculates humid air properties based on user input for calculated from wet bulb temperature (DBT is unknown).
@@ -122,20 +200,20 @@ public interface PhysicalPropertiesRestService extends SwaggerApiRoot {
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = InvalidResponse.class))})})
     @GetMapping("/humid-air/from-wet-bulb")
-    HumidAirResponse getHumidAirPropertiesFromWbt(@RequestParam(name = "wet-bulb-temperature")
-                                                  @Schema(example = "30.0oC")
-                                                  @PhysicalRange(min = "-120oC", max = "100oC")
-                                                  Temperature wetBulbTemperature,
-                                                  @RequestParam(required = false, name = "relative-humidity")
-                                                  @Schema(example = "40.0%")
-                                                  @PhysicalRange(min = "0%", max = "100%")
-                                                  RelativeHumidity relativeHumidity,
-                                                  @RequestParam(defaultValue = DEFAULT_PRESSURE)
-                                                  @Schema(example = DEFAULT_PRESSURE)
-                                                  @PhysicalRange(min = "50_000Pa", max = "5.0MPa")
-                                                  Pressure pressure,
-                                                  @RequestParam(name = "imperial-units", defaultValue = "false")
-                                                  boolean imperialUnits);
+    ResponseEntity<?> getHumidAirPropertiesFromWbt(@RequestParam(name = "wet-bulb-temperature")
+                                                   @Schema(example = "30.0oC")
+                                                   @PhysicalRange(min = "-120oC", max = "100oC")
+                                                   Temperature wetBulbTemperature,
+                                                   @RequestParam(required = false, name = "relative-humidity")
+                                                   @Schema(example = "40.0%")
+                                                   @PhysicalRange(min = "0%", max = "100%")
+                                                   RelativeHumidity relativeHumidity,
+                                                   @RequestParam(defaultValue = DEFAULT_PRESSURE)
+                                                   @Schema(example = DEFAULT_PRESSURE)
+                                                   @PhysicalRange(min = "50_000Pa", max = "5.0MPa")
+                                                   Pressure pressure,
+                                                   @RequestParam(name = "imperial-units", defaultValue = "false")
+                                                   boolean imperialUnits);
 
     /**
      * Calculates humid air properties based on user input for calculated from dew point temperature (DBT is unknown).
@@ -157,20 +235,20 @@ public interface PhysicalPropertiesRestService extends SwaggerApiRoot {
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = InvalidResponse.class))})})
     @GetMapping("/humid-air/from-dew-point")
-    HumidAirResponse getHumidAirPropertiesFromTdp(@RequestParam(name = "dew-point-temperature")
-                                                  @Schema(example = "10.0oC")
-                                                  @PhysicalRange(min = "-150oC", max = "100oC")
-                                                  Temperature dewPointTemperature,
-                                                  @RequestParam(name = "relative-humidity")
-                                                  @Schema(example = "40.0%")
-                                                  @PhysicalRange(min = "0%", max = "100%")
-                                                  RelativeHumidity relativeHumidity,
-                                                  @RequestParam(defaultValue = DEFAULT_PRESSURE)
-                                                  @Schema(example = DEFAULT_PRESSURE)
-                                                  @PhysicalRange(min = "1000Pa", max = "10MPa")
-                                                  Pressure pressure,
-                                                  @RequestParam(name = "imperial-units", defaultValue = "false")
-                                                  boolean imperialUnits);
+    ResponseEntity<?> getHumidAirPropertiesFromTdp(@RequestParam(name = "dew-point-temperature")
+                                                   @Schema(example = "10.0oC")
+                                                   @PhysicalRange(min = "-150oC", max = "100oC")
+                                                   Temperature dewPointTemperature,
+                                                   @RequestParam(name = "relative-humidity")
+                                                   @Schema(example = "40.0%")
+                                                   @PhysicalRange(min = "0%", max = "100%")
+                                                   RelativeHumidity relativeHumidity,
+                                                   @RequestParam(defaultValue = DEFAULT_PRESSURE)
+                                                   @Schema(example = DEFAULT_PRESSURE)
+                                                   @PhysicalRange(min = "1000Pa", max = "10MPa")
+                                                   Pressure pressure,
+                                                   @RequestParam(name = "imperial-units", defaultValue = "false")
+                                                   boolean imperialUnits);
 
     /**
      * Calculates humid air properties based on user input for calculated from specific enthalpy (DBT is unknown).
@@ -192,20 +270,20 @@ public interface PhysicalPropertiesRestService extends SwaggerApiRoot {
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = InvalidResponse.class))})})
     @GetMapping("/humid-air/from-enthalpy")
-    HumidAirResponse getHumidAirPropertiesFromIx(@RequestParam(name = "specific-enthalpy")
-                                                 @Schema(example = "20.8kJ/kg")
-                                                 @PhysicalRange(min = "-150kJ/kg", max = "100kJ/kg")
-                                                 SpecificEnthalpy specificEnthalpy,
-                                                 @RequestParam(name = "humidity-ratio")
-                                                 @Schema(example = "0.003kg/kg")
-                                                 @PhysicalRange(min = "0.0kg/kg", max = "2.0kg/kg")
-                                                 HumidityRatio humidityRatio,
-                                                 @RequestParam(defaultValue = DEFAULT_PRESSURE)
-                                                 @Schema(example = DEFAULT_PRESSURE)
-                                                 @PhysicalRange(min = "1000Pa", max = "10MPa")
-                                                 Pressure pressure,
-                                                 @RequestParam(name = "imperial-units", defaultValue = "false")
-                                                 boolean imperialUnits);
+    ResponseEntity<?> getHumidAirPropertiesFromIx(@RequestParam(name = "specific-enthalpy")
+                                                  @Schema(example = "20.8kJ/kg")
+                                                  @PhysicalRange(min = "-150kJ/kg", max = "100kJ/kg")
+                                                  SpecificEnthalpy specificEnthalpy,
+                                                  @RequestParam(name = "humidity-ratio")
+                                                  @Schema(example = "0.003kg/kg")
+                                                  @PhysicalRange(min = "0.0kg/kg", max = "2.0kg/kg")
+                                                  HumidityRatio humidityRatio,
+                                                  @RequestParam(defaultValue = DEFAULT_PRESSURE)
+                                                  @Schema(example = DEFAULT_PRESSURE)
+                                                  @PhysicalRange(min = "1000Pa", max = "10MPa")
+                                                  Pressure pressure,
+                                                  @RequestParam(name = "imperial-units", defaultValue = "false")
+                                                  boolean imperialUnits);
 
     /**
      * Calculates humid air properties based on user input for calculated from humidity ratio or relative humidity (DBT is unknown).
@@ -227,19 +305,19 @@ public interface PhysicalPropertiesRestService extends SwaggerApiRoot {
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = InvalidResponse.class))})})
     @GetMapping("/humid-air/from-humidity")
-    HumidAirResponse getHumidAirPropertiesFromXRh(@RequestParam(name = "humidity-ratio")
-                                                  @Schema(example = "0.0073kg/kg")
-                                                  @PhysicalRange(min = "0.0kg/kg", max = "2.0kg/kg")
-                                                  HumidityRatio humidityRatio,
-                                                  @RequestParam(name = "relative-humidity")
-                                                  @Schema(example = "50%")
-                                                  @PhysicalRange(min = "0%", max = "100%")
-                                                  RelativeHumidity relativeHumidity,
-                                                  @RequestParam(defaultValue = DEFAULT_PRESSURE)
-                                                  @Schema(example = DEFAULT_PRESSURE)
-                                                  @PhysicalRange(min = "1000Pa", max = "10MPa")
-                                                  Pressure pressure,
-                                                  @RequestParam(name = "imperial-units", defaultValue = "false")
-                                                  boolean imperialUnits);
+    ResponseEntity<?> getHumidAirPropertiesFromXRh(@RequestParam(name = "humidity-ratio")
+                                                   @Schema(example = "0.0073kg/kg")
+                                                   @PhysicalRange(min = "0.0kg/kg", max = "2.0kg/kg")
+                                                   HumidityRatio humidityRatio,
+                                                   @RequestParam(name = "relative-humidity")
+                                                   @Schema(example = "50%")
+                                                   @PhysicalRange(min = "0%", max = "100%")
+                                                   RelativeHumidity relativeHumidity,
+                                                   @RequestParam(defaultValue = DEFAULT_PRESSURE)
+                                                   @Schema(example = DEFAULT_PRESSURE)
+                                                   @PhysicalRange(min = "1000Pa", max = "10MPa")
+                                                   Pressure pressure,
+                                                   @RequestParam(name = "imperial-units", defaultValue = "false")
+                                                   boolean imperialUnits);
 
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.synerset.indooranalyticsapi.property;
+
+class PropertiesRequestExamples {
+
+    private PropertiesRequestExamples() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static final String HUMID_AIR_BATCH_EXAMPLE = """
+              [
+                {
+                  "temperature": {"value": 20, "unit": "oC"},
+                  "pressure": {"value": 101325.0, "unit": "Pa"},
+                  "relativeHumidity": {"value": 45, "unit": "%"}
+                },
+                {
+                  "temperature": {"value": -5, "unit": "oC"},
+                  "humidityRatio": {"value": 0.002, "unit": "kg/kg"}
+                }
+              ]
+            """;
+
+    static final String HUMID_AIR_STREAM_EXAMPLE = """
+            {"temperature": {"value": 20, "unit": "oC"}, "relativeHumidity": {"value": 45, "unit": "%"}}
+            {"temperature": {"value": 21, "unit": "oC"}, "relativeHumidity": {"value": 47, "unit": "%"}}
+            {"temperature": {"value": -5, "unit": "oC"}, "humidityRatio": {"value": 0.002, "unit": "kg/kg"}}
+            """;
+
+}
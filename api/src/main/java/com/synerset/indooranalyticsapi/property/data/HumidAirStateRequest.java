@@ -0,0 +1,40 @@
+package com.synerset.indooranalyticsapi.property.data;
+
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.validation.PhysicalRange;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * Represents a single humid air state in a batch request. Temperature is required as DBT (Dry Bulb Temperature).
+ * Pressure and humidity are optional, in their absence standard atmospheric pressure and dry air are assumed.
+ * If both humidity ratio and relative humidity are provided, humidity ratio takes precedence.
+ */
+public record HumidAirStateRequest(
+        @NotNull
+        @Schema(example = "{\"value\": 20.0,\"unit\": \"oC\"}")
+        @PhysicalRange(min = "-150oC", max = "200oC")
+        Temperature temperature,
+        @Schema(example = "{\"value\": 101325.0,\"unit\": \"Pa\"}")
+        @PhysicalRange(min = "50_000Pa", max = "5.0MPa")
+        Pressure pressure,
+        @Schema(example = "{\"value\": 45.0,\"unit\": \"%\"}")
+        @PhysicalRange(min = "0%", max = "100%")
+        RelativeHumidity relativeHumidity,
+        @PhysicalRange(min = "0.0kg/kg", max = "3.0kg/kg")
+        HumidityRatio humidityRatio
+) {
+    public HumidAirStateRequest {
+        if (pressure == null) {
+            pressure = Pressure.STANDARD_ATMOSPHERE;
+        }
+        if (ObjectUtils.allNull(relativeHumidity, humidityRatio)) {
+            humidityRatio = HumidityRatio.HUM_RATIO_MIN_LIMIT;
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.synerset.indooranalytics.benchmarks;
+
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+/**
+ * Input states of humid air used to parameterize benchmarks. Scenarios cover typical HVAC conditions and the edge
+ * cases described in the REST API documentation: states close to saturation and high temperatures (>80 oC), for
+ * which iterative solvers need more iterations.
+ */
+public enum AirScenario {
+
+    TYPICAL_INDOOR(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(20), RelativeHumidity.ofPercentage(50)),
+    COLD_OUTDOOR(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(-20), RelativeHumidity.ofPercentage(80)),
+    NEAR_SATURATION(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(25), RelativeHumidity.ofPercentage(99.5)),
+    HIGH_TEMPERATURE(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(85), RelativeHumidity.ofPercentage(20));
+
+    private final Pressure pressure;
+    private final Temperature temperature;
+    private final RelativeHumidity relativeHumidity;
+
+    AirScenario(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity) {
+        this.pressure = pressure;
+        this.temperature = temperature;
+        this.relativeHumidity = relativeHumidity;
+    }
+
+    public Pressure getPressure() {
+        return pressure;
+    }
+
+    public Temperature getTemperature() {
+        return temperature;
+    }
+
+    public RelativeHumidity getRelativeHumidity() {
+        return relativeHumidity;
+    }
+
+}
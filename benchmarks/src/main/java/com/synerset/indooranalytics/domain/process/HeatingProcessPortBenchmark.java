@@ -0,0 +1,61 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.process.heating.Heating;
+import com.synerset.indooranalytics.benchmarks.AirScenario;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of every {@link HeatingProcessPort} operation. Target temperature and target relative humidity are
+ * chosen so that each strategy heats the inlet flow by a similar amount.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeatingProcessPortBenchmark {
+
+    @Param
+    public AirScenario scenario;
+
+    private HeatingProcessPort heatingService;
+    private FlowOfHumidAir inletFlow;
+    private Power inputPower;
+    private Temperature targetTemperature;
+    private RelativeHumidity targetRelativeHumidity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        heatingService = HeatingProcessPort.create();
+        HumidAir inletAir = HumidAir.of(scenario.getPressure(), scenario.getTemperature(), scenario.getRelativeHumidity());
+        inletFlow = FlowOfHumidAir.of(inletAir, MassFlow.ofKilogramsPerSecond(1.0));
+        inputPower = Power.ofKiloWatts(10);
+        targetTemperature = Temperature.ofCelsius(scenario.getTemperature().getInCelsius() + 10);
+        targetRelativeHumidity = RelativeHumidity.ofPercentage(scenario.getRelativeHumidity().getInPercent() / 2);
+    }
+
+    @Benchmark
+    public Heating heatingForInputPower() {
+        return heatingService.computeHeatingForInputPower(inletFlow, inputPower);
+    }
+
+    @Benchmark
+    public Heating heatingForTargetTemperature() {
+        return heatingService.computeHeatingForTargetTemperature(inletFlow, targetTemperature);
+    }
+
+    @Benchmark
+    public Heating heatingForTargetRelativeHumidity() {
+        return heatingService.computeHeatingForTargetRelativeHumidity(inletFlow, targetRelativeHumidity);
+    }
+
+}
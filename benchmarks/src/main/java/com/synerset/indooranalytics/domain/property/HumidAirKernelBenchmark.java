@@ -0,0 +1,57 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares primitive {@link HumidAirKernel} against object-based humid air for a column of states, both evaluated on a
+ * single thread. Run with "-prof gc" to compare allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HumidAirKernelBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private HumidAirColumns columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        columns = HumidAirColumns.ofSize(size);
+        for (int row = 0; row < size; row++) {
+            columns.pressure()[row] = 101_325;
+            columns.temperature()[row] = Temperature.ofCelsius(-20 + 60.0 * row / size).getInKelvins();
+        }
+    }
+
+    @Benchmark
+    public HumidAirColumns kernel() {
+        for (int row = 0; row < size; row++) {
+            columns.humidityRatio()[row] = Double.NaN;
+            columns.relativeHumidity()[row] = 10 + 85.0 * row / size;
+        }
+        HumidAirKernel.compute(columns);
+        return columns;
+    }
+
+    @Benchmark
+    public void objectBased(Blackhole blackhole) {
+        for (int row = 0; row < size; row++) {
+            blackhole.consume(HumidAir.of(Pressure.ofPascal(columns.pressure()[row]),
+                    Temperature.ofKelvins(columns.temperature()[row]),
+                    RelativeHumidity.ofPercentage(10 + 85.0 * row / size)));
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.hvacengine.fluids.dryair.DryAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.benchmarks.AirScenario;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of every {@link PhysicalPropertiesPort} operation, for exact and lookup table implementation. Inverse
+ * inputs (WBT, Tdp, h, x) are derived from the scenario state, so that each operation resolves the same air state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PhysicalPropertiesPortBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param
+    public AirScenario scenario;
+
+    @Param({"EXACT", "TABULATED"})
+    public String serviceType;
+
+    private PhysicalPropertiesPort propertiesService;
+    private Pressure pressure;
+    private Temperature temperature;
+    private RelativeHumidity relativeHumidity;
+    private HumidityRatio humidityRatio;
+    private Temperature wetBulbTemperature;
+    private Temperature dewPointTemperature;
+    private SpecificEnthalpy specificEnthalpy;
+    private List<HumidAirState> humidAirStates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PhysicalPropertiesPort exactService = PhysicalPropertiesPort.create();
+        propertiesService = "TABULATED".equals(serviceType)
+                ? PhysicalPropertiesPort.createTabulated(exactService, List.of(Pressure.STANDARD_ATMOSPHERE),
+                new LookupTableGrid(-40, 60, 0.5, 1, 100, 1), 0.01)
+                : exactService;
+
+        pressure = scenario.getPressure();
+        temperature = scenario.getTemperature();
+        relativeHumidity = scenario.getRelativeHumidity();
+
+        HumidAir referenceAir = HumidAir.of(pressure, temperature, relativeHumidity);
+        humidityRatio = referenceAir.getHumidityRatio();
+        wetBulbTemperature = referenceAir.getWetBulbTemperature();
+        dewPointTemperature = referenceAir.getDewPointTemperature();
+        specificEnthalpy = referenceAir.getSpecificEnthalpy();
+
+        humidAirStates = Collections.nCopies(BATCH_SIZE, new HumidAirState(pressure, temperature, null, relativeHumidity));
+    }
+
+    @Benchmark
+    public DryAir dryAir() {
+        return propertiesService.getDryAirProperties(pressure, temperature);
+    }
+
+    @Benchmark
+    public HumidAir humidAirFromRelativeHumidity() {
+        return propertiesService.getHumidAirProperties(pressure, temperature, relativeHumidity);
+    }
+
+    @Benchmark
+    public HumidAir humidAirFromHumidityRatio() {
+        return propertiesService.getHumidAirProperties(pressure, temperature, humidityRatio);
+    }
+
+    @Benchmark
+    public HumidAir humidAirFromWetBulbTemperature() {
+        return propertiesService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity);
+    }
+
+    @Benchmark
+    public HumidAir humidAirFromDewPointTemperature() {
+        return propertiesService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, relativeHumidity);
+    }
+
+    @Benchmark
+    public HumidAir humidAirFromSpecificEnthalpyAndHumidityRatio() {
+        return propertiesService.getHumidAirPropertiesFromIx(pressure, specificEnthalpy, humidityRatio);
+    }
+
+    @Benchmark
+    public HumidAir humidAirFromHumidityRatioAndRelativeHumidity() {
+        return propertiesService.getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<HumidAir> humidAirBatch() {
+        return propertiesService.getHumidAirPropertiesBatch(humidAirStates);
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.benchmarks.AirScenario;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares cold and warm start of instrumented solver on a simulated sensor stream: wet bulb and dew point
+ * temperatures drifting by random steps of up to 0.05 K around the scenario state. Besides time per operation, total
+ * numbers of solver iterations and solutions are reported as secondary results, their ratio is the average number of
+ * iterations per solution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SolverWarmStartBenchmark {
+
+    private static final int STREAM_LENGTH = 1_024;
+    private static final double MAX_DRIFT_STEP = 0.05;
+
+    @Param
+    public AirScenario scenario;
+
+    @Param({"false", "true"})
+    public boolean warmStart;
+
+    private PhysicalPropertiesPort propertiesService;
+    private Pressure pressure;
+    private RelativeHumidity relativeHumidity;
+    private Temperature[] wetBulbTemperatures;
+    private Temperature[] dewPointTemperatures;
+    private int position;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SolverCounters implements SolverListener {
+
+        public long iterations;
+        public long solutions;
+
+        @Override
+        public void onConverged(SolverEntryPoint entryPoint, int iterations, long elapsedNanos) {
+            this.iterations += iterations;
+            solutions++;
+        }
+
+        @Override
+        public void onFailed(SolverEntryPoint entryPoint, SolverFailureReason reason, int iterations, long elapsedNanos) {
+            this.iterations += iterations;
+            solutions++;
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            iterations = 0;
+            solutions = 0;
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(SolverCounters counters) {
+        propertiesService = PhysicalPropertiesPort.createInstrumented(PhysicalPropertiesPort.create(), counters, warmStart);
+        pressure = scenario.getPressure();
+        relativeHumidity = scenario.getRelativeHumidity();
+
+        HumidAir referenceAir = HumidAir.of(pressure, scenario.getTemperature(), relativeHumidity);
+        double wetBulbTemperature = referenceAir.getWetBulbTemperature().getInCelsius();
+        double dewPointTemperature = referenceAir.getDewPointTemperature().getInCelsius();
+
+        SplittableRandom random = new SplittableRandom(42);
+        wetBulbTemperatures = new Temperature[STREAM_LENGTH];
+        dewPointTemperatures = new Temperature[STREAM_LENGTH];
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            wetBulbTemperature += random.nextDouble(-MAX_DRIFT_STEP, MAX_DRIFT_STEP);
+            dewPointTemperature += random.nextDouble(-MAX_DRIFT_STEP, MAX_DRIFT_STEP);
+            wetBulbTemperatures[i] = Temperature.ofCelsius(wetBulbTemperature);
+            dewPointTemperatures[i] = Temperature.ofCelsius(dewPointTemperature);
+        }
+    }
+
+    @Benchmark
+    public void streamFromWbtAndTdp(Blackhole blackhole) {
+        int index = position++ & (STREAM_LENGTH - 1);
+        blackhole.consume(propertiesService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperatures[index], relativeHumidity));
+        blackhole.consume(propertiesService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperatures[index], relativeHumidity));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.synerset.indooranalytics.infrastructure.adapter.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.process.heating.Heating;
+import com.synerset.indooranalytics.benchmarks.AirScenario;
+import com.synerset.indooranalytics.domain.process.HeatingProcessPort;
+import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingProcessResponse;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ProcessControllerMapper} and imperial units conversion of heating response. Mapper is
+ * instantiated directly from MapStruct generated implementation, without Spring context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessControllerMapperBenchmark {
+
+    @Param
+    public AirScenario scenario;
+
+    private ProcessControllerMapper processMapper;
+    private InletAirFlowRequest inletAirFlowRequest;
+    private FlowOfHumidAir inletFlow;
+    private Heating heating;
+    private HeatingProcessResponse heatingResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        processMapper = new ProcessControllerMapperImpl();
+        inletAirFlowRequest = new InletAirFlowRequest(scenario.getPressure(), scenario.getTemperature(),
+                scenario.getRelativeHumidity(), null, null, MassFlow.ofKilogramsPerSecond(1.0));
+        inletFlow = processMapper.toFlowOfHumidAir(inletAirFlowRequest);
+        heating = HeatingProcessPort.create().computeHeatingForInputPower(inletFlow, Power.ofKiloWatts(10));
+        heatingResponse = processMapper.toHeatingResponse(heating);
+    }
+
+    @Benchmark
+    public FlowOfHumidAir toFlowOfHumidAir() {
+        return processMapper.toFlowOfHumidAir(inletAirFlowRequest);
+    }
+
+    @Benchmark
+    public InletAirFlowRequest toInletFlowRequest() {
+        return processMapper.toInletFlowRequest(inletFlow);
+    }
+
+    @Benchmark
+    public HeatingProcessResponse toHeatingResponse() {
+        return processMapper.toHeatingResponse(heating);
+    }
+
+    @Benchmark
+    public HeatingProcessResponse heatingResponseToImperialUnits() {
+        return heatingResponse.toImperialUnits();
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.synerset.hvacengine.fluids.dryair.DryAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.benchmarks.AirScenario;
+import com.synerset.indooranalyticsapi.property.data.DryAirResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link PhysicalPropertiesMapper} and imperial units conversion of its responses. Mapper is
+ * instantiated directly from MapStruct generated implementation, without Spring context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PhysicalPropertiesMapperBenchmark {
+
+    @Param
+    public AirScenario scenario;
+
+    private PhysicalPropertiesMapper propertiesMapper;
+    private DryAir dryAir;
+    private HumidAir humidAir;
+    private DryAirResponse dryAirResponse;
+    private HumidAirResponse humidAirResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        propertiesMapper = new PhysicalPropertiesMapperImpl();
+        dryAir = DryAir.of(scenario.getPressure(), scenario.getTemperature());
+        humidAir = HumidAir.of(scenario.getPressure(), scenario.getTemperature(), scenario.getRelativeHumidity());
+        dryAirResponse = propertiesMapper.toDryAirResponse(dryAir);
+        humidAirResponse = propertiesMapper.toHumidAirResponse(humidAir);
+    }
+
+    @Benchmark
+    public DryAirResponse toDryAirResponse() {
+        return propertiesMapper.toDryAirResponse(dryAir);
+    }
+
+    @Benchmark
+    public HumidAirResponse toHumidAirResponse() {
+        return propertiesMapper.toHumidAirResponse(humidAir);
+    }
+
+    @Benchmark
+    public DryAirResponse dryAirResponseToImperialUnits() {
+        return dryAirResponse.toImperialUnits();
+    }
+
+    @Benchmark
+    public HumidAirResponse humidAirResponseToImperialUnits() {
+        return humidAirResponse.toImperialUnits();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
+import com.synerset.unitility.jackson.module.PhysicsJacksonModule;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deserialization of quantities given as text, e.g. "20.5oC", by {@link FastQuantityDeserializer} and
+ * {@link FastQuantityConverter} against the original deserializer of unitility module. Run with "-prof gc" to compare
+ * allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FastQuantityDeserializerBenchmark {
+
+    private static final String STATE_JSON = """
+            {"temperature": "20.5oC", "pressure": "101_325Pa", "relativeHumidity": "45.5%"}""";
+    private static final String TEMPERATURE_PARAMETER = "20.5oC";
+    private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+    private static final TypeDescriptor TEMPERATURE_TYPE = TypeDescriptor.valueOf(Temperature.class);
+
+    private ObjectMapper originalMapper;
+    private ObjectReader originalStateReader;
+    private ObjectReader fastStateReader;
+    private FastQuantityConverter fastConverter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        originalMapper = new ObjectMapper().registerModule(new PhysicsJacksonModule());
+        ObjectMapper fastMapper = new ObjectMapper().registerModule(new PhysicsJacksonModule())
+                .registerModule(new FastQuantityModule());
+        originalStateReader = originalMapper.readerFor(HumidAirStateRequest.class);
+        fastStateReader = fastMapper.readerFor(HumidAirStateRequest.class);
+        fastConverter = new FastQuantityConverter(fastMapper);
+    }
+
+    @Benchmark
+    public HumidAirStateRequest textStateOriginal() throws JsonProcessingException {
+        return originalStateReader.readValue(STATE_JSON);
+    }
+
+    @Benchmark
+    public HumidAirStateRequest textStateFast() throws JsonProcessingException {
+        return fastStateReader.readValue(STATE_JSON);
+    }
+
+    @Benchmark
+    public Temperature queryParameterOriginal() {
+        return originalMapper.convertValue(TEMPERATURE_PARAMETER, Temperature.class);
+    }
+
+    @Benchmark
+    public Object queryParameterFast() {
+        return fastConverter.convert(TEMPERATURE_PARAMETER, STRING_TYPE, TEMPERATURE_TYPE);
+    }
+
+}
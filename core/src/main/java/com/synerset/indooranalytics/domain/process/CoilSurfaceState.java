@@ -0,0 +1,20 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.liquidwater.LiquidWater;
+
+/**
+ * State of saturated air and condensate at the surface of cooling coil, determined by the pressure and average coolant
+ * temperature. It does not depend on inlet air, so it can be shared by all processes for the same coil conditions.
+ *
+ * @param pressure                  The absolute pressure, in Pa.
+ * @param surfaceTemperature        The coil surface temperature (apparatus dew point), in °C.
+ * @param saturatedHumidityRatio    The humidity ratio of saturated air at coil surface, in kg/kg.
+ * @param condensate                The condensate at coil surface temperature.
+ * @param condensateSpecificEnthalpy The specific enthalpy of condensate, in kJ/kg.
+ */
+record CoilSurfaceState(double pressure,
+                        double surfaceTemperature,
+                        double saturatedHumidityRatio,
+                        LiquidWater condensate,
+                        double condensateSpecificEnthalpy) {
+}
@@ -0,0 +1,53 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+import com.synerset.hvacengine.fluids.liquidwater.LiquidWater;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of coil surface states, keyed by pressure and coolant temperatures. Repeated requests for the same coil
+ * conditions skip calculation of saturated air and condensate properties. Cache is bounded: when it exceeds
+ * {@value #MAX_ENTRIES} entries it is cleared, which is sufficient for the limited set of coolant temperatures used
+ * in practice, without the cost of eviction bookkeeping on each lookup.
+ */
+class CoilSurfaceStateCache {
+
+    static final int MAX_ENTRIES = 4096;
+
+    private final Map<CoilKey, CoilSurfaceState> surfaceStates = new ConcurrentHashMap<>();
+
+    CoilSurfaceState get(Pressure pressure, CoolantData coolantData) {
+        CoilKey key = new CoilKey(pressure.getInPascals(), coolantData.supplyTemperature().getInCelsius(),
+                coolantData.returnTemperature().getInCelsius());
+        CoilSurfaceState surfaceState = surfaceStates.get(key);
+        if (surfaceState != null) {
+            return surfaceState;
+        }
+        if (surfaceStates.size() >= MAX_ENTRIES) {
+            surfaceStates.clear();
+        }
+        return surfaceStates.computeIfAbsent(key, k -> computeSurfaceState(pressure, coolantData));
+    }
+
+    int size() {
+        return surfaceStates.size();
+    }
+
+    private static CoilSurfaceState computeSurfaceState(Pressure pressure, CoolantData coolantData) {
+        double p = pressure.getInPascals();
+        double surfaceTemperature = coolantData.averageTemperatureInCelsius();
+        double saturatedHumidityRatio = HumidAirEquations.maxHumidityRatio(
+                HumidAirEquations.saturationPressure(surfaceTemperature), p);
+        LiquidWater condensate = LiquidWater.of(pressure, Temperature.ofCelsius(surfaceTemperature));
+        return new CoilSurfaceState(p, surfaceTemperature, saturatedHumidityRatio, condensate,
+                condensate.getSpecificEnthalpy().getInKiloJoulesPerKiloGram());
+    }
+
+    private record CoilKey(double pressure, double supplyTemperature, double returnTemperature) {
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+/**
+ * Supply and return temperatures of coolant flowing through the cooling coil.
+ *
+ * @param supplyTemperature The coolant temperature at coil inlet.
+ * @param returnTemperature The coolant temperature at coil outlet.
+ */
+public record CoolantData(Temperature supplyTemperature, Temperature returnTemperature) {
+
+    public CoolantData {
+        if (supplyTemperature == null || returnTemperature == null) {
+            throw new IllegalArgumentException("Coolant supply and return temperatures must be not null.");
+        }
+        if (supplyTemperature.isGreaterThan(returnTemperature)) {
+            throw new IllegalArgumentException("Coolant supply temperature must not be greater than return temperature. " +
+                    "t_supply = " + supplyTemperature + ", t_return = " + returnTemperature);
+        }
+    }
+
+    /**
+     * Returns the average coolant temperature, which is assumed as the temperature of coil surface.
+     *
+     * @return The average coolant temperature, in °C.
+     */
+    public double averageTemperatureInCelsius() {
+        return (supplyTemperature.getInCelsius() + returnTemperature.getInCelsius()) / 2;
+    }
+
+}
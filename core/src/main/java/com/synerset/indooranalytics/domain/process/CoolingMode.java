@@ -0,0 +1,22 @@
+package com.synerset.indooranalytics.domain.process;
+
+/**
+ * Modes of cooling process, defined by the quantity requested at the outlet of cooling coil.
+ */
+public enum CoolingMode {
+
+    INPUT_POWER("CoolingFromPower"),
+    TARGET_TEMPERATURE("CoolingFromTemperature"),
+    TARGET_RELATIVE_HUMIDITY("CoolingFromRH");
+
+    private final String strategyName;
+
+    CoolingMode(String strategyName) {
+        this.strategyName = strategyName;
+    }
+
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.liquidwater.FlowOfLiquidWater;
+import com.synerset.unitility.unitsystem.dimensionless.BypassFactor;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+
+/**
+ * Result of real cooling process with condensate discharge.
+ *
+ * @param mode           The mode of cooling process.
+ * @param coolingPower   The heat of process, negative for cooling.
+ * @param bypassFactor   The bypass factor of cooling coil.
+ * @param outletFlow     The flow of humid air at coil outlet.
+ * @param condensateFlow The flow of condensate discharged from the coil, zero flow for dry coil.
+ */
+public record CoolingProcess(CoolingMode mode,
+                             Power coolingPower,
+                             BypassFactor bypassFactor,
+                             FlowOfHumidAir outletFlow,
+                             FlowOfLiquidWater condensateFlow) {
+}
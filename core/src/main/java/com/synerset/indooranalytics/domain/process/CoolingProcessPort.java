@@ -0,0 +1,57 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+/**
+ * Port for computing real cooling processes service. Cooling coil is modelled with bypass factor: part of inlet air
+ * leaves the coil unchanged, the rest is cooled down to the coil surface temperature, which is the average coolant
+ * temperature. If the surface is below the dew point of inlet air, moisture condenses and is discharged as condensate.
+ */
+public interface CoolingProcessPort {
+
+    /**
+     * Computes cooling for a specified input cooling power.
+     *
+     * @param inletFlow    The inlet flow of humid air.
+     * @param coolantData  The supply and return temperatures of coolant.
+     * @param inputPower   The input power for cooling, negative or zero.
+     * @return             The cooling process.
+     */
+    CoolingProcess computeCoolingForInputPower(FlowOfHumidAir inletFlow, CoolantData coolantData, Power inputPower);
+
+    /**
+     * Computes cooling to achieve a desired target temperature.
+     *
+     * @param inletFlow          The inlet flow of humid air.
+     * @param coolantData        The supply and return temperatures of coolant.
+     * @param targetTemperature  The target temperature for cooling.
+     * @return                   The cooling process.
+     */
+    CoolingProcess computeCoolingForTargetTemperature(FlowOfHumidAir inletFlow, CoolantData coolantData,
+                                                      Temperature targetTemperature);
+
+    /**
+     * Computes cooling to achieve a desired target relative humidity.
+     *
+     * @param inletFlow          The inlet flow of humid air.
+     * @param coolantData        The supply and return temperatures of coolant.
+     * @param relativeHumidity   The target relative humidity for cooling.
+     * @return                   The cooling process.
+     */
+    CoolingProcess computeCoolingForTargetRelativeHumidity(FlowOfHumidAir inletFlow, CoolantData coolantData,
+                                                           RelativeHumidity relativeHumidity);
+
+    /**
+     * Creates an instance of the CoolingProcessPort service. Coil surface states are cached by the instance, so it
+     * should be shared.
+     *
+     * @return The CoolingProcessPort instance.
+     */
+    static CoolingProcessPort create() {
+        return new CoolingProcessService(new CoilSurfaceStateCache());
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+import com.synerset.hvacengine.fluids.liquidwater.FlowOfLiquidWater;
+import com.synerset.indooranalytics.domain.property.BrentDekkerSolver;
+import com.synerset.unitility.unitsystem.dimensionless.BypassFactor;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Calculations are performed on primitive values, value objects are created only for the final outlet state.
+ * Outlet state for a given bypass factor is: t2 = tm + BF·(t1 - tm), x2 = BF·x1 + (1 - BF)·xs for wet coil or x1 for
+ * dry coil, where tm is coil surface temperature and xs is humidity ratio of saturated air at coil surface.
+ * Heat of process is a sum of air enthalpy change and enthalpy of discharged condensate.
+ */
+class CoolingProcessService implements CoolingProcessPort {
+
+    private final CoilSurfaceStateCache surfaceStateCache;
+    private final BrentDekkerSolver solver;
+
+    CoolingProcessService(CoilSurfaceStateCache surfaceStateCache) {
+        this.surfaceStateCache = surfaceStateCache;
+        this.solver = new BrentDekkerSolver();
+    }
+
+    @Override
+    public CoolingProcess computeCoolingForInputPower(FlowOfHumidAir inletFlow, CoolantData coolantData, Power inputPower) {
+        CoilInlet inlet = CoilInlet.of(inletFlow, surfaceStateCache.get(inletFlow.getPressure(), coolantData));
+        double targetPower = inputPower.getInKiloWatts();
+        if (targetPower > 0) {
+            throw new ProcessCalculationException("Cooling power must be negative or zero. Q = " + inputPower);
+        }
+        if (targetPower == 0 || inlet.dryAirMassFlow() == 0) {
+            return toCoolingProcess(CoolingMode.INPUT_POWER, inlet, 1);
+        }
+        double maxCoolingPower = inlet.heatOfProcess(0);
+        if (targetPower < maxCoolingPower) {
+            throw new ProcessCalculationException("Requested cooling power exceeds coil capacity for given coolant " +
+                    "temperatures. Q = " + targetPower + " kW, Q_max = " + maxCoolingPower + " kW");
+        }
+        double bypassFactor = solveBypassFactor(bf -> inlet.heatOfProcess(bf) - targetPower);
+        return toCoolingProcess(CoolingMode.INPUT_POWER, inlet, bypassFactor);
+    }
+
+    @Override
+    public CoolingProcess computeCoolingForTargetTemperature(FlowOfHumidAir inletFlow, CoolantData coolantData,
+                                                             Temperature targetTemperature) {
+
+        CoilInlet inlet = CoilInlet.of(inletFlow, surfaceStateCache.get(inletFlow.getPressure(), coolantData));
+        double target = targetTemperature.getInCelsius();
+        double surfaceTemperature = inlet.surfaceState().surfaceTemperature();
+        if (target > inlet.temperature() || target < surfaceTemperature) {
+            throw new ProcessCalculationException("Target temperature must be between coil surface temperature and " +
+                    "inlet temperature. t_target = " + targetTemperature + ", t_surface = " + surfaceTemperature +
+                    " °C, t_inlet = " + inlet.temperature() + " °C");
+        }
+        double bypassFactor = inlet.temperature() == surfaceTemperature
+                ? 1
+                : (target - surfaceTemperature) / (inlet.temperature() - surfaceTemperature);
+        return toCoolingProcess(CoolingMode.TARGET_TEMPERATURE, inlet, bypassFactor);
+    }
+
+    @Override
+    public CoolingProcess computeCoolingForTargetRelativeHumidity(FlowOfHumidAir inletFlow, CoolantData coolantData,
+                                                                  RelativeHumidity relativeHumidity) {
+
+        CoilInlet inlet = CoilInlet.of(inletFlow, surfaceStateCache.get(inletFlow.getPressure(), coolantData));
+        double target = relativeHumidity.getInPercent();
+        double inletRelativeHumidity = inlet.relativeHumidity(1);
+        double maxRelativeHumidity = inlet.relativeHumidity(0);
+        if (target < inletRelativeHumidity || target > maxRelativeHumidity) {
+            throw new ProcessCalculationException("Target relative humidity cannot be achieved for given coolant " +
+                    "temperatures. RH_target = " + target + " %, RH_inlet = " + inletRelativeHumidity +
+                    " %, RH_max = " + maxRelativeHumidity + " %");
+        }
+        double bypassFactor = solveBypassFactor(bf -> inlet.relativeHumidity(bf) - target);
+        return toCoolingProcess(CoolingMode.TARGET_RELATIVE_HUMIDITY, inlet, bypassFactor);
+    }
+
+    private double solveBypassFactor(DoubleUnaryOperator function) {
+        if (function.applyAsDouble(1) == 0) {
+            return 1;
+        }
+        if (function.applyAsDouble(0) == 0) {
+            return 0;
+        }
+        return solver.solve(function, 0, 1).root();
+    }
+
+    private static CoolingProcess toCoolingProcess(CoolingMode mode, CoilInlet inlet, double bypassFactor) {
+        CoilSurfaceState surfaceState = inlet.surfaceState();
+        double outletTemperature = inlet.outletTemperature(bypassFactor);
+        double outletHumidityRatio = inlet.outletHumidityRatio(bypassFactor);
+        Pressure pressure = Pressure.ofPascal(surfaceState.pressure());
+
+        HumidAir outletAir = HumidAir.of(pressure, Temperature.ofCelsius(outletTemperature),
+                HumidityRatio.ofKilogramPerKilogram(outletHumidityRatio));
+        FlowOfHumidAir outletFlow = FlowOfHumidAir.of(outletAir,
+                MassFlow.ofKilogramsPerSecond(inlet.dryAirMassFlow() * (1 + outletHumidityRatio)));
+        FlowOfLiquidWater condensateFlow = FlowOfLiquidWater.of(surfaceState.condensate(),
+                MassFlow.ofKilogramsPerSecond(inlet.condensateMassFlow(bypassFactor)));
+
+        return new CoolingProcess(mode, Power.ofKiloWatts(inlet.heatOfProcess(bypassFactor)),
+                BypassFactor.of(bypassFactor), outletFlow, condensateFlow);
+    }
+
+    private record CoilInlet(CoilSurfaceState surfaceState,
+                             double temperature,
+                             double humidityRatio,
+                             double specificEnthalpy,
+                             double dryAirMassFlow) {
+
+        static CoilInlet of(FlowOfHumidAir inletFlow, CoilSurfaceState surfaceState) {
+            double temperature = inletFlow.getTemperature().getInCelsius();
+            double humidityRatio = inletFlow.getHumidityRatio().getInKilogramPerKilogram();
+            double specificEnthalpy = HumidAirEquations.specificEnthalpy(temperature, humidityRatio, surfaceState.pressure());
+            double dryAirMassFlow = inletFlow.getMassFlow().getInKilogramsPerSecond() / (1 + humidityRatio);
+            return new CoilInlet(surfaceState, temperature, humidityRatio, specificEnthalpy, dryAirMassFlow);
+        }
+
+        double outletTemperature(double bypassFactor) {
+            double surfaceTemperature = surfaceState.surfaceTemperature();
+            return surfaceTemperature + bypassFactor * (temperature - surfaceTemperature);
+        }
+
+        double outletHumidityRatio(double bypassFactor) {
+            double saturatedHumidityRatio = surfaceState.saturatedHumidityRatio();
+            if (saturatedHumidityRatio >= humidityRatio) {
+                return humidityRatio;
+            }
+            return bypassFactor * humidityRatio + (1 - bypassFactor) * saturatedHumidityRatio;
+        }
+
+        double condensateMassFlow(double bypassFactor) {
+            return dryAirMassFlow * (humidityRatio - outletHumidityRatio(bypassFactor));
+        }
+
+        double heatOfProcess(double bypassFactor) {
+            double outletEnthalpy = HumidAirEquations.specificEnthalpy(outletTemperature(bypassFactor),
+                    outletHumidityRatio(bypassFactor), surfaceState.pressure());
+            return dryAirMassFlow * (outletEnthalpy - specificEnthalpy)
+                   + condensateMassFlow(bypassFactor) * surfaceState.condensateSpecificEnthalpy();
+        }
+
+        double relativeHumidity(double bypassFactor) {
+            return HumidAirEquations.relativeHumidity(outletTemperature(bypassFactor),
+                    outletHumidityRatio(bypassFactor), surfaceState.pressure());
+        }
+
+    }
+
+}
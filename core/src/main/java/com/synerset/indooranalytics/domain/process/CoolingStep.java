@@ -0,0 +1,20 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+/**
+ * Cooling step of process pipeline. Exactly one of the targets is expected, if more are specified, the first one
+ * in order of input power, target temperature, target relative humidity is used.
+ *
+ * @param coolantData            The supply and return temperatures of coolant.
+ * @param inputPower             The input power for cooling, negative or zero.
+ * @param targetTemperature      The target temperature for cooling.
+ * @param targetRelativeHumidity The target relative humidity for cooling.
+ */
+public record CoolingStep(CoolantData coolantData,
+                          Power inputPower,
+                          Temperature targetTemperature,
+                          RelativeHumidity targetRelativeHumidity) implements ProcessStep {
+}
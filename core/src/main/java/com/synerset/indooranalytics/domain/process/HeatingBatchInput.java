@@ -0,0 +1,42 @@
+package com.synerset.indooranalytics.domain.process;
+
+/**
+ * Columnar input of batch heating calculation. Each row defines one heating process: inlet air state, inlet mass flow
+ * and target, interpreted according to {@link HeatingBatchMode}. Humidity of inlet air is specified either as humidity
+ * ratio or relative humidity column, humidity ratio takes precedence if both are present. All present columns must be
+ * of the same length.
+ *
+ * @param inletPressure         The absolute pressure of inlet air, in Pa.
+ * @param inletTemperature      The dry bulb temperature of inlet air, in °C.
+ * @param inletRelativeHumidity The relative humidity of inlet air, in % (optional if humidity ratio is present).
+ * @param inletHumidityRatio    The humidity ratio of inlet air, in kg/kg (optional if relative humidity is present).
+ * @param inletMassFlow         The mass flow of inlet humid air, in kg/s.
+ * @param target                The input heating power in kW, outlet temperature in °C or outlet relative humidity in %.
+ */
+public record HeatingBatchInput(double[] inletPressure,
+                                double[] inletTemperature,
+                                double[] inletRelativeHumidity,
+                                double[] inletHumidityRatio,
+                                double[] inletMassFlow,
+                                double[] target) {
+
+    public HeatingBatchInput {
+        if (inletPressure == null || inletTemperature == null || inletMassFlow == null || target == null) {
+            throw new IllegalArgumentException("Inlet pressure, temperature, mass flow and target columns must be not null.");
+        }
+        if (inletRelativeHumidity == null && inletHumidityRatio == null) {
+            throw new IllegalArgumentException("Either inlet relative humidity or inlet humidity ratio column must be provided.");
+        }
+        int size = inletTemperature.length;
+        if (inletPressure.length != size || inletMassFlow.length != size || target.length != size
+                || (inletRelativeHumidity != null && inletRelativeHumidity.length != size)
+                || (inletHumidityRatio != null && inletHumidityRatio.length != size)) {
+            throw new IllegalArgumentException("All input columns must be of the same length.");
+        }
+    }
+
+    public int size() {
+        return inletTemperature.length;
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.synerset.indooranalytics.domain.process;
+
+/**
+ * Mode of batch heating calculation, determines the meaning of target column of {@link HeatingBatchInput}.
+ */
+public enum HeatingBatchMode {
+
+    /**
+     * Target column contains input heating power, in kW.
+     */
+    INPUT_POWER("HeatingFromPower"),
+
+    /**
+     * Target column contains outlet temperature, in °C.
+     */
+    TARGET_TEMPERATURE("HeatingFromTemperature"),
+
+    /**
+     * Target column contains outlet relative humidity, in %.
+     */
+    TARGET_RELATIVE_HUMIDITY("HeatingFromRH");
+
+    private final String strategyName;
+
+    HeatingBatchMode(String strategyName) {
+        this.strategyName = strategyName;
+    }
+
+    /**
+     * Returns the name of heating strategy, consistent with strategy names of single heating calculation.
+     */
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.synerset.indooranalytics.domain.process;
+
+import java.util.Objects;
+
+/**
+ * Columnar result of batch heating calculation, rows correspond to rows of {@link HeatingBatchInput} or to points of
+ * {@link HeatingSweepInput}. Rows which could not be calculated contain NaN values and a failure reason. Failure reason
+ * is null for successful rows.
+ *
+ * @param heatingPower           The heating power, in kW.
+ * @param outletTemperature      The dry bulb temperature of outlet air, in °C.
+ * @param outletRelativeHumidity The relative humidity of outlet air, in %.
+ * @param outletHumidityRatio    The humidity ratio of outlet air, in kg/kg.
+ * @param outletSpecificEnthalpy The specific enthalpy of outlet air, in kJ/kg.
+ * @param failureReason          The reason of calculation failure, or null if calculation was successful.
+ */
+public record HeatingBatchResult(double[] heatingPower,
+                                 double[] outletTemperature,
+                                 double[] outletRelativeHumidity,
+                                 double[] outletHumidityRatio,
+                                 double[] outletSpecificEnthalpy,
+                                 String[] failureReason) {
+
+    static HeatingBatchResult ofSize(int size) {
+        return new HeatingBatchResult(new double[size], new double[size], new double[size], new double[size],
+                new double[size], new String[size]);
+    }
+
+    public int size() {
+        return heatingPower.length;
+    }
+
+    /**
+     * Returns the number of rows which could not be calculated.
+     */
+    public long failureCount() {
+        long count = 0;
+        for (String reason : failureReason) {
+            if (Objects.nonNull(reason)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
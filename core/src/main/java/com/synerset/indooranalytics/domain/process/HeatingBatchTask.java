@@ -0,0 +1,75 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task evaluating a range of rows of batch heating. Ranges larger than {@value #ROWS_PER_TASK} rows are split
+ * in halves. Each row is evaluated on primitive values with {@link HeatingEquations}.
+ */
+class HeatingBatchTask extends RecursiveAction {
+
+    static final int ROWS_PER_TASK = 512;
+
+    private final HeatingBatchInput input;
+    private final HeatingBatchMode mode;
+    private final HeatingBatchResult result;
+    private final int fromRow;
+    private final int toRow;
+
+    HeatingBatchTask(HeatingBatchInput input, HeatingBatchMode mode, HeatingBatchResult result, int fromRow, int toRow) {
+        this.input = input;
+        this.mode = mode;
+        this.result = result;
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+    }
+
+    @Override
+    protected void compute() {
+        if (toRow - fromRow > ROWS_PER_TASK) {
+            int middleRow = (fromRow + toRow) >>> 1;
+            invokeAll(new HeatingBatchTask(input, mode, result, fromRow, middleRow),
+                    new HeatingBatchTask(input, mode, result, middleRow, toRow));
+            return;
+        }
+        for (int row = fromRow; row < toRow; row++) {
+            try {
+                computeRow(row);
+            } catch (RuntimeException ex) {
+                HeatingEquations.writeFailure(result, row, ex);
+            }
+        }
+    }
+
+    private void computeRow(int row) {
+        double pressure = input.inletPressure()[row];
+        double inletTemperature = input.inletTemperature()[row];
+        double humidityRatio = input.inletHumidityRatio() == null
+                ? HeatingEquations.humidityRatio(pressure, inletTemperature, input.inletRelativeHumidity()[row])
+                : input.inletHumidityRatio()[row];
+        double dryAirMassFlow = HeatingEquations.dryAirMassFlow(input.inletMassFlow()[row], humidityRatio);
+        double inletEnthalpy = HeatingEquations.specificEnthalpy(pressure, inletTemperature, humidityRatio);
+        double target = input.target()[row];
+
+        double heatingPower;
+        double outletTemperature;
+        double outletEnthalpy;
+        if (mode == HeatingBatchMode.INPUT_POWER) {
+            heatingPower = target;
+            outletEnthalpy = HeatingEquations.outletEnthalpyForPower(inletEnthalpy, dryAirMassFlow, heatingPower);
+            outletTemperature = HeatingEquations.outletTemperatureForEnthalpy(pressure, inletTemperature, inletEnthalpy,
+                    humidityRatio, outletEnthalpy);
+        } else {
+            outletTemperature = HeatingEquations.outletTemperatureForTarget(mode, pressure, inletTemperature,
+                    humidityRatio, target);
+            outletEnthalpy = HeatingEquations.specificEnthalpy(pressure, outletTemperature, humidityRatio);
+            heatingPower = dryAirMassFlow * (outletEnthalpy - inletEnthalpy);
+        }
+        double outletRelativeHumidity = HumidAirEquations.relativeHumidity(outletTemperature, humidityRatio, pressure);
+        HeatingEquations.write(result, row, heatingPower, outletTemperature, outletRelativeHumidity, humidityRatio,
+                outletEnthalpy);
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+
+/**
+ * Primitive equations of heating process, shared by batch and sweep tasks. They follow single heating process of
+ * Hvac|Engine: heating proceeds at constant humidity ratio, heat of process is a product of dry air mass flow and
+ * enthalpy difference. Values are in units of {@link HeatingBatchInput}.
+ */
+final class HeatingEquations {
+
+    private HeatingEquations() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static double humidityRatio(double pressure, double temperature, double relativeHumidity) {
+        return HumidAirEquations.humidityRatio(relativeHumidity, HumidAirEquations.saturationPressure(temperature), pressure);
+    }
+
+    static double specificEnthalpy(double pressure, double temperature, double humidityRatio) {
+        return HumidAirEquations.specificEnthalpy(temperature, humidityRatio, pressure);
+    }
+
+    static double dryAirMassFlow(double massFlow, double humidityRatio) {
+        return massFlow / (1 + humidityRatio);
+    }
+
+    /**
+     * Returns outlet specific enthalpy for input heating power. Zero power or zero flow leaves inlet state unchanged.
+     */
+    static double outletEnthalpyForPower(double inletEnthalpy, double dryAirMassFlow, double heatingPower) {
+        if (heatingPower == 0 || dryAirMassFlow == 0) {
+            return inletEnthalpy;
+        }
+        return inletEnthalpy + heatingPower / dryAirMassFlow;
+    }
+
+    static double outletTemperatureForEnthalpy(double pressure, double inletTemperature, double inletEnthalpy,
+                                               double humidityRatio, double outletEnthalpy) {
+
+        if (outletEnthalpy == inletEnthalpy) {
+            return inletTemperature;
+        }
+        return HumidAirEquations.dryBulbTemperatureIX(outletEnthalpy, humidityRatio, pressure);
+    }
+
+    /**
+     * Returns outlet temperature for target temperature or target relative humidity mode.
+     *
+     * @throws ProcessCalculationException if the target cannot be reached by heating.
+     */
+    static double outletTemperatureForTarget(HeatingBatchMode mode, double pressure, double inletTemperature,
+                                             double humidityRatio, double target) {
+
+        return switch (mode) {
+            case TARGET_TEMPERATURE -> {
+                if (target < inletTemperature) {
+                    throw new ProcessCalculationException("Target temperature must be greater than inlet temperature " +
+                            "for heating process. t_target = " + target + " oC, t_inlet = " + inletTemperature + " oC");
+                }
+                yield target;
+            }
+            case TARGET_RELATIVE_HUMIDITY -> {
+                double inletRelativeHumidity = HumidAirEquations.relativeHumidity(inletTemperature, humidityRatio, pressure);
+                if (target > inletRelativeHumidity) {
+                    throw new ProcessCalculationException("Target relative humidity must be lower than inlet relative " +
+                            "humidity in heating process. RH_target = " + target + " %, RH_inlet = " +
+                            inletRelativeHumidity + " %");
+                }
+                yield HumidAirEquations.dryBulbTemperatureXRH(humidityRatio, target, pressure);
+            }
+            case INPUT_POWER -> throw new IllegalArgumentException("Outlet temperature for input power depends on mass flow");
+        };
+    }
+
+    static void write(HeatingBatchResult result, int row, double heatingPower, double outletTemperature,
+                      double outletRelativeHumidity, double humidityRatio, double outletEnthalpy) {
+
+        result.heatingPower()[row] = heatingPower;
+        result.outletTemperature()[row] = outletTemperature;
+        result.outletRelativeHumidity()[row] = outletRelativeHumidity;
+        result.outletHumidityRatio()[row] = humidityRatio;
+        result.outletSpecificEnthalpy()[row] = outletEnthalpy;
+    }
+
+    static void writeFailure(HeatingBatchResult result, int row, RuntimeException failure) {
+        result.heatingPower()[row] = Double.NaN;
+        result.outletTemperature()[row] = Double.NaN;
+        result.outletRelativeHumidity()[row] = Double.NaN;
+        result.outletHumidityRatio()[row] = Double.NaN;
+        result.outletSpecificEnthalpy()[row] = Double.NaN;
+        result.failureReason()[row] = failure instanceof ProcessCalculationException
+                ? failure.getMessage()
+                : failure.getClass().getSimpleName() + ": " + failure.getMessage();
+    }
+
+}
@@ -38,6 +38,28 @@ public interface HeatingProcessPort {
      */
     Heating computeHeatingForTargetRelativeHumidity(FlowOfHumidAir inletFlow, RelativeHumidity relativeHumidity);
 
+    /**
+     * Computes heating for a batch of processes defined in columnar form. Rows are evaluated in parallel, using common
+     * fork-join pool. Rows which cannot be calculated do not fail the batch, they are reported in the result with
+     * a failure reason.
+     *
+     * @param batchInput The columnar input of heating processes.
+     * @param mode       The heating mode, determining the meaning of target column.
+     * @return The columnar result, in the order of input rows.
+     */
+    HeatingBatchResult computeHeatingBatch(HeatingBatchInput batchInput, HeatingBatchMode mode);
+
+    /**
+     * Computes heating for every combination of inlet temperature and inlet mass flow levels of a sweep. Temperature
+     * levels are evaluated in parallel, using common fork-join pool, inlet air state is shared by all mass flow levels.
+     * Rows which cannot be calculated do not fail the sweep, they are reported in the result with a failure reason.
+     *
+     * @param sweepInput The levels of heating sweep.
+     * @param mode       The heating mode, determining the meaning of target.
+     * @return The columnar result, temperature-major: all mass flow levels of the first temperature level come first.
+     */
+    HeatingBatchResult computeHeatingSweep(HeatingSweepInput sweepInput, HeatingBatchMode mode);
+
     /**
      * Creates an instance of the HeatingProcessPort service.
      *
@@ -7,6 +7,8 @@ import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.Power;
 import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 
+import java.util.concurrent.ForkJoinPool;
+
 class HeatingProcessService implements HeatingProcessPort {
 
     @Override
@@ -27,4 +29,19 @@ class HeatingProcessService implements HeatingProcessPort {
         return Heating.of(heatingStrategy);
     }
 
+    @Override
+    public HeatingBatchResult computeHeatingBatch(HeatingBatchInput batchInput, HeatingBatchMode mode) {
+        HeatingBatchResult batchResult = HeatingBatchResult.ofSize(batchInput.size());
+        ForkJoinPool.commonPool().invoke(new HeatingBatchTask(batchInput, mode, batchResult, 0, batchInput.size()));
+        return batchResult;
+    }
+
+    @Override
+    public HeatingBatchResult computeHeatingSweep(HeatingSweepInput sweepInput, HeatingBatchMode mode) {
+        HeatingBatchResult sweepResult = HeatingBatchResult.ofSize(sweepInput.size());
+        ForkJoinPool.commonPool().invoke(new HeatingSweepTask(sweepInput, mode, sweepResult, 0,
+                sweepInput.inletTemperature().length));
+        return sweepResult;
+    }
+
 }
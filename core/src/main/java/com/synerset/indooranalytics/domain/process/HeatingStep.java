@@ -0,0 +1,18 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+/**
+ * Heating step of process pipeline. Exactly one of the targets is expected, if more are specified, the first one
+ * in order of input power, target temperature, target relative humidity is used.
+ *
+ * @param inputPower             The input power for heating.
+ * @param targetTemperature      The target temperature for heating.
+ * @param targetRelativeHumidity The target relative humidity for heating.
+ */
+public record HeatingStep(Power inputPower,
+                          Temperature targetTemperature,
+                          RelativeHumidity targetRelativeHumidity) implements ProcessStep {
+}
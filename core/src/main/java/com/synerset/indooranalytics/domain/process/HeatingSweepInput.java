@@ -0,0 +1,36 @@
+package com.synerset.indooranalytics.domain.process;
+
+/**
+ * Input of parametric heating sweep: the Cartesian product of inlet temperature levels and inlet mass flow levels,
+ * at constant pressure, humidity and target. Row of the result for i-th temperature and j-th mass flow has index
+ * {@code i * inletMassFlow.length + j}. Humidity of inlet air is specified either as humidity ratio or relative
+ * humidity, humidity ratio takes precedence if both are present, absent value is denoted by NaN.
+ *
+ * @param inletPressure         The absolute pressure of inlet air, in Pa.
+ * @param inletTemperature      The dry bulb temperature levels of inlet air, in °C.
+ * @param inletRelativeHumidity The relative humidity of inlet air, in % (NaN if humidity ratio is present).
+ * @param inletHumidityRatio    The humidity ratio of inlet air, in kg/kg (NaN if relative humidity is present).
+ * @param inletMassFlow         The mass flow levels of inlet humid air, in kg/s.
+ * @param target                The input heating power in kW, outlet temperature in °C or outlet relative humidity in %.
+ */
+public record HeatingSweepInput(double inletPressure,
+                                double[] inletTemperature,
+                                double inletRelativeHumidity,
+                                double inletHumidityRatio,
+                                double[] inletMassFlow,
+                                double target) {
+
+    public HeatingSweepInput {
+        if (inletTemperature == null || inletMassFlow == null) {
+            throw new IllegalArgumentException("Inlet temperature and mass flow levels must be not null.");
+        }
+        if (Double.isNaN(inletRelativeHumidity) && Double.isNaN(inletHumidityRatio)) {
+            throw new IllegalArgumentException("Either inlet relative humidity or inlet humidity ratio must be provided.");
+        }
+    }
+
+    public int size() {
+        return inletTemperature.length * inletMassFlow.length;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task evaluating a range of temperature levels of heating sweep. Ranges larger than
+ * {@value #TEMPERATURE_LEVELS_PER_TASK} levels are split in halves. Points are evaluated with the same
+ * {@link HeatingEquations} as batch heating. Inlet air state is calculated once per temperature level and shared by all
+ * mass flow levels. For target temperature and target relative humidity, outlet state does not depend on mass flow
+ * either, so only heating power is evaluated per mass flow level.
+ */
+class HeatingSweepTask extends RecursiveAction {
+
+    static final int TEMPERATURE_LEVELS_PER_TASK = 8;
+
+    private final HeatingSweepInput input;
+    private final HeatingBatchMode mode;
+    private final HeatingBatchResult result;
+    private final int fromLevel;
+    private final int toLevel;
+
+    HeatingSweepTask(HeatingSweepInput input, HeatingBatchMode mode, HeatingBatchResult result, int fromLevel, int toLevel) {
+        this.input = input;
+        this.mode = mode;
+        this.result = result;
+        this.fromLevel = fromLevel;
+        this.toLevel = toLevel;
+    }
+
+    @Override
+    protected void compute() {
+        if (toLevel - fromLevel > TEMPERATURE_LEVELS_PER_TASK) {
+            int middleLevel = (fromLevel + toLevel) >>> 1;
+            invokeAll(new HeatingSweepTask(input, mode, result, fromLevel, middleLevel),
+                    new HeatingSweepTask(input, mode, result, middleLevel, toLevel));
+            return;
+        }
+        for (int level = fromLevel; level < toLevel; level++) {
+            try {
+                computeLevel(level);
+            } catch (RuntimeException ex) {
+                writeLevelFailure(level, ex);
+            }
+        }
+    }
+
+    private void computeLevel(int level) {
+        double pressure = input.inletPressure();
+        double inletTemperature = input.inletTemperature()[level];
+        double humidityRatio = Double.isNaN(input.inletHumidityRatio())
+                ? HeatingEquations.humidityRatio(pressure, inletTemperature, input.inletRelativeHumidity())
+                : input.inletHumidityRatio();
+        double inletEnthalpy = HeatingEquations.specificEnthalpy(pressure, inletTemperature, humidityRatio);
+        double target = input.target();
+        int firstRow = level * input.inletMassFlow().length;
+
+        if (mode == HeatingBatchMode.INPUT_POWER) {
+            for (int flowLevel = 0; flowLevel < input.inletMassFlow().length; flowLevel++) {
+                int row = firstRow + flowLevel;
+                try {
+                    double dryAirMassFlow = HeatingEquations.dryAirMassFlow(input.inletMassFlow()[flowLevel], humidityRatio);
+                    double outletEnthalpy = HeatingEquations.outletEnthalpyForPower(inletEnthalpy, dryAirMassFlow, target);
+                    double outletTemperature = HeatingEquations.outletTemperatureForEnthalpy(pressure, inletTemperature,
+                            inletEnthalpy, humidityRatio, outletEnthalpy);
+                    double outletRelativeHumidity = HumidAirEquations.relativeHumidity(outletTemperature, humidityRatio, pressure);
+                    HeatingEquations.write(result, row, target, outletTemperature, outletRelativeHumidity, humidityRatio,
+                            outletEnthalpy);
+                } catch (RuntimeException ex) {
+                    HeatingEquations.writeFailure(result, row, ex);
+                }
+            }
+            return;
+        }
+
+        double outletTemperature = HeatingEquations.outletTemperatureForTarget(mode, pressure, inletTemperature,
+                humidityRatio, target);
+        double outletEnthalpy = HeatingEquations.specificEnthalpy(pressure, outletTemperature, humidityRatio);
+        double outletRelativeHumidity = HumidAirEquations.relativeHumidity(outletTemperature, humidityRatio, pressure);
+        for (int flowLevel = 0; flowLevel < input.inletMassFlow().length; flowLevel++) {
+            double dryAirMassFlow = HeatingEquations.dryAirMassFlow(input.inletMassFlow()[flowLevel], humidityRatio);
+            HeatingEquations.write(result, firstRow + flowLevel, dryAirMassFlow * (outletEnthalpy - inletEnthalpy),
+                    outletTemperature, outletRelativeHumidity, humidityRatio, outletEnthalpy);
+        }
+    }
+
+    private void writeLevelFailure(int level, RuntimeException failure) {
+        int firstRow = level * input.inletMassFlow().length;
+        for (int row = firstRow; row < firstRow + input.inletMassFlow().length; row++) {
+            HeatingEquations.writeFailure(result, row, failure);
+        }
+    }
+
+}
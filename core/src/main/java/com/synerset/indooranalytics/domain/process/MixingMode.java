@@ -0,0 +1,21 @@
+package com.synerset.indooranalytics.domain.process;
+
+/**
+ * Modes of mixing process, defined by the number of mixed flows.
+ */
+public enum MixingMode {
+
+    TWO_FLOWS("MixingOfTwoFlows"),
+    MULTIPLE_FLOWS("MixingOfMultipleFlows");
+
+    private final String strategyName;
+
+    MixingMode(String strategyName) {
+        this.strategyName = strategyName;
+    }
+
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+}
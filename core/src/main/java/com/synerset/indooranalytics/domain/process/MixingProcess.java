@@ -0,0 +1,12 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+
+/**
+ * Result of adiabatic mixing of humid air flows.
+ *
+ * @param mode       The mode of mixing process.
+ * @param outletFlow The flow of humid air after mixing.
+ */
+public record MixingProcess(MixingMode mode, FlowOfHumidAir outletFlow) {
+}
@@ -0,0 +1,42 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+
+import java.util.List;
+
+/**
+ * Port for computing adiabatic mixing processes service. Mixing is resolved from the balance of dry air, moisture
+ * and energy: outlet humidity ratio and specific enthalpy are averages of inlet values, weighted by dry air mass flow.
+ * Outlet pressure is the pressure of inlet flow.
+ */
+public interface MixingProcessPort {
+
+    /**
+     * Computes mixing of two flows of humid air.
+     *
+     * @param inletFlow          The inlet flow of humid air.
+     * @param recirculationFlow  The flow of humid air mixed with inlet flow.
+     * @return                   The mixing process.
+     */
+    MixingProcess computeMixing(FlowOfHumidAir inletFlow, FlowOfHumidAir recirculationFlow);
+
+    /**
+     * Computes mixing of inlet flow with any number of other flows of humid air. Balance is calculated in a single
+     * pass over the flows, so the cost is linear in the number of flows.
+     *
+     * @param inletFlow    The inlet flow of humid air.
+     * @param mixingFlows  The flows of humid air mixed with inlet flow.
+     * @return             The mixing process.
+     */
+    MixingProcess computeMixingOfMultipleFlows(FlowOfHumidAir inletFlow, List<FlowOfHumidAir> mixingFlows);
+
+    /**
+     * Creates an instance of the MixingProcessPort service.
+     *
+     * @return The MixingProcessPort instance.
+     */
+    static MixingProcessPort create() {
+        return new MixingProcessService();
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.List;
+
+/**
+ * Sums of dry air mass flow, moisture flow and enthalpy flow are accumulated on primitive values in a single pass,
+ * outlet temperature is resolved once from the resulting specific enthalpy and humidity ratio. Value objects are created
+ * only for the outlet flow.
+ */
+class MixingProcessService implements MixingProcessPort {
+
+    @Override
+    public MixingProcess computeMixing(FlowOfHumidAir inletFlow, FlowOfHumidAir recirculationFlow) {
+        MixingBalance mixingBalance = new MixingBalance(inletFlow);
+        mixingBalance.add(recirculationFlow);
+        return new MixingProcess(MixingMode.TWO_FLOWS, mixingBalance.toOutletFlow(inletFlow));
+    }
+
+    @Override
+    public MixingProcess computeMixingOfMultipleFlows(FlowOfHumidAir inletFlow, List<FlowOfHumidAir> mixingFlows) {
+        MixingBalance mixingBalance = new MixingBalance(inletFlow);
+        for (FlowOfHumidAir mixingFlow : mixingFlows) {
+            mixingBalance.add(mixingFlow);
+        }
+        return new MixingProcess(MixingMode.MULTIPLE_FLOWS, mixingBalance.toOutletFlow(inletFlow));
+    }
+
+    private static final class MixingBalance {
+
+        private final double pressure;
+        private double dryAirMassFlow;
+        private double moistureFlow;
+        private double enthalpyFlow;
+
+        private MixingBalance(FlowOfHumidAir inletFlow) {
+            this.pressure = inletFlow.getPressure().getInPascals();
+            add(inletFlow);
+        }
+
+        private void add(FlowOfHumidAir flow) {
+            double temperature = flow.getTemperature().getInCelsius();
+            double humidityRatio = flow.getHumidityRatio().getInKilogramPerKilogram();
+            double flowDryAirMassFlow = flow.getMassFlow().getInKilogramsPerSecond() / (1 + humidityRatio);
+            dryAirMassFlow += flowDryAirMassFlow;
+            moistureFlow += flowDryAirMassFlow * humidityRatio;
+            enthalpyFlow += flowDryAirMassFlow * HumidAirEquations.specificEnthalpy(temperature, humidityRatio, pressure);
+        }
+
+        private FlowOfHumidAir toOutletFlow(FlowOfHumidAir inletFlow) {
+            if (dryAirMassFlow == 0) {
+                return inletFlow;
+            }
+            double outletHumidityRatio = moistureFlow / dryAirMassFlow;
+            double outletSpecificEnthalpy = enthalpyFlow / dryAirMassFlow;
+            double outletTemperature = HumidAirEquations.dryBulbTemperatureIX(outletSpecificEnthalpy,
+                    outletHumidityRatio, pressure);
+
+            HumidAir outletAir = HumidAir.of(Pressure.ofPascal(pressure), Temperature.ofCelsius(outletTemperature),
+                    HumidityRatio.ofKilogramPerKilogram(outletHumidityRatio));
+            return FlowOfHumidAir.of(outletAir,
+                    MassFlow.ofKilogramsPerSecond(dryAirMassFlow * (1 + outletHumidityRatio)));
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+
+import java.util.List;
+
+/**
+ * Mixing step of process pipeline. Flow entering the step is mixed with all provided flows.
+ *
+ * @param mixingFlows The flows of humid air mixed with the flow entering the step.
+ */
+public record MixingStep(List<FlowOfHumidAir> mixingFlows) implements ProcessStep {
+}
@@ -0,0 +1,13 @@
+package com.synerset.indooranalytics.domain.process;
+
+/**
+ * Thrown if requested outcome of a process cannot be achieved for given inlet conditions, e.g. if requested cooling
+ * power exceeds coil capacity. Stack trace is not captured, as the message fully describes the failure.
+ */
+public class ProcessCalculationException extends RuntimeException {
+
+    public ProcessCalculationException(String message) {
+        super(message, null, false, false);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+
+import java.util.List;
+
+/**
+ * Port for computing a chain of processes, e.g. of air handling unit sections, in one call. Outlet flow of each step
+ * is passed in memory as the inlet flow of the next step.
+ */
+public interface ProcessPipelinePort {
+
+    /**
+     * Computes ordered steps of process pipeline.
+     *
+     * @param inletFlow The inlet flow of humid air, entering the first step.
+     * @param steps     The ordered steps of pipeline.
+     * @return          The results of every step, in the order of steps.
+     * @throws ProcessCalculationException if a step does not specify its target or cannot be calculated.
+     */
+    List<ProcessStepResult> computePipeline(FlowOfHumidAir inletFlow, List<ProcessStep> steps);
+
+    /**
+     * Creates an instance of the ProcessPipelinePort service, delegating steps to the provided process services.
+     *
+     * @param heatingService The heating process service.
+     * @param coolingService The cooling process service.
+     * @param mixingService  The mixing process service.
+     * @return The ProcessPipelinePort instance.
+     */
+    static ProcessPipelinePort create(HeatingProcessPort heatingService,
+                                      CoolingProcessPort coolingService,
+                                      MixingProcessPort mixingService) {
+
+        return new ProcessPipelineService(heatingService, coolingService, mixingService);
+    }
+
+}
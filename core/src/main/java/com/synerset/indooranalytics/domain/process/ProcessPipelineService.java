@@ -0,0 +1,117 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.brentsolver.BrentSolverException;
+import com.synerset.hvacengine.common.exceptions.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.exceptions.HvacEngineMissingArgumentException;
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.process.heating.Heating;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes process steps one after another. Calculation failures of any step, whether rejected by the pipeline itself,
+ * by process services or by Hvac|Engine, are reported as {@link ProcessCalculationException} with the index of the
+ * failing step.
+ */
+class ProcessPipelineService implements ProcessPipelinePort {
+
+    private final HeatingProcessPort heatingService;
+    private final CoolingProcessPort coolingService;
+    private final MixingProcessPort mixingService;
+
+    ProcessPipelineService(HeatingProcessPort heatingService,
+                           CoolingProcessPort coolingService,
+                           MixingProcessPort mixingService) {
+
+        this.heatingService = heatingService;
+        this.coolingService = coolingService;
+        this.mixingService = mixingService;
+    }
+
+    @Override
+    public List<ProcessStepResult> computePipeline(FlowOfHumidAir inletFlow, List<ProcessStep> steps) {
+        List<ProcessStepResult> stepResults = new ArrayList<>(steps.size());
+        FlowOfHumidAir stepInletFlow = inletFlow;
+        for (int index = 0; index < steps.size(); index++) {
+            ProcessStepResult stepResult = computeStep(index, stepInletFlow, steps.get(index));
+            stepResults.add(stepResult);
+            stepInletFlow = stepResult.outletFlow();
+        }
+        return stepResults;
+    }
+
+    private ProcessStepResult computeStep(int index, FlowOfHumidAir inletFlow, ProcessStep step) {
+        try {
+            return switch (step) {
+                case HeatingStep heatingStep -> computeHeatingStep(inletFlow, heatingStep);
+                case CoolingStep coolingStep -> computeCoolingStep(inletFlow, coolingStep);
+                case MixingStep mixingStep -> {
+                    MixingProcess mixingProcess = mixingService.computeMixingOfMultipleFlows(inletFlow, mixingStep.mixingFlows());
+                    yield new ProcessStepResult(step, mixingProcess.mode().getStrategyName(), Power.ofWatts(0),
+                            mixingProcess.outletFlow(), null);
+                }
+            };
+        } catch (ProcessCalculationException ex) {
+            throw new ProcessCalculationException("Step " + index + ": " + ex.getMessage());
+        } catch (HvacEngineArgumentException | HvacEngineMissingArgumentException ex) {
+            throw new ProcessCalculationException("Step " + index + ": unphysical value caused calculation failure. "
+                    + ex.getMessage());
+        } catch (BrentSolverException ex) {
+            throw new ProcessCalculationException("Step " + index + ": solver convergence failure, reason: "
+                    + ex.getMessage());
+        }
+    }
+
+    private ProcessStepResult computeHeatingStep(FlowOfHumidAir inletFlow, HeatingStep heatingStep) {
+        Heating heating;
+        if (heatingStep.inputPower() != null) {
+            heating = heatingService.computeHeatingForInputPower(inletFlow, heatingStep.inputPower());
+        } else if (heatingStep.targetTemperature() != null) {
+            if (heatingStep.targetTemperature().isLowerThan(inletFlow.getTemperature())) {
+                throw new ProcessCalculationException("Target temperature must be greater than " +
+                        "inlet temperature for heating process. t_target = " + heatingStep.targetTemperature() +
+                        ", t_inlet = " + inletFlow.getTemperature());
+            }
+            heating = heatingService.computeHeatingForTargetTemperature(inletFlow, heatingStep.targetTemperature());
+        } else if (heatingStep.targetRelativeHumidity() != null) {
+            if (heatingStep.targetRelativeHumidity().isGreaterThan(inletFlow.getRelativeHumidity())) {
+                throw new ProcessCalculationException("Target relative humidity must be lower than " +
+                        "inlet relative humidity in heating process. RH_target = " + heatingStep.targetRelativeHumidity() +
+                        ", RH_inlet = " + inletFlow.getRelativeHumidity());
+            }
+            heating = heatingService.computeHeatingForTargetRelativeHumidity(inletFlow, heatingStep.targetRelativeHumidity());
+        } else {
+            throw missingTarget("heating");
+        }
+        return new ProcessStepResult(heatingStep, heating.getHeatingStrategy().getClass().getSimpleName(),
+                heating.getHeatOfProcess(), heating.getOutletFlow(), null);
+    }
+
+    private ProcessStepResult computeCoolingStep(FlowOfHumidAir inletFlow, CoolingStep coolingStep) {
+        if (coolingStep.inputPower() == null && coolingStep.targetTemperature() == null
+                && coolingStep.targetRelativeHumidity() == null) {
+            throw missingTarget("cooling");
+        }
+        CoolingProcess cooling;
+        if (coolingStep.inputPower() != null) {
+            cooling = coolingService.computeCoolingForInputPower(inletFlow, coolingStep.coolantData(),
+                    coolingStep.inputPower());
+        } else if (coolingStep.targetTemperature() != null) {
+            cooling = coolingService.computeCoolingForTargetTemperature(inletFlow, coolingStep.coolantData(),
+                    coolingStep.targetTemperature());
+        } else {
+            cooling = coolingService.computeCoolingForTargetRelativeHumidity(inletFlow, coolingStep.coolantData(),
+                    coolingStep.targetRelativeHumidity());
+        }
+        return new ProcessStepResult(coolingStep, cooling.mode().getStrategyName(), cooling.coolingPower(),
+                cooling.outletFlow(), cooling.condensateFlow());
+    }
+
+    private static ProcessCalculationException missingTarget(String processName) {
+        return new ProcessCalculationException("Input power, target temperature or target " +
+                "relative humidity must be specified for " + processName + " process.");
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.synerset.indooranalytics.domain.process;
+
+/**
+ * Single step of process pipeline. Each step transforms the outlet flow of the previous step, the first step
+ * transforms the pipeline inlet flow.
+ */
+public sealed interface ProcessStep permits HeatingStep, CoolingStep, MixingStep {
+}
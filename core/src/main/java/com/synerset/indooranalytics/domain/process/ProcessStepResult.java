@@ -0,0 +1,21 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.liquidwater.FlowOfLiquidWater;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+
+/**
+ * Result of a single step of process pipeline.
+ *
+ * @param step           The evaluated step.
+ * @param strategy       The name of strategy used by the step.
+ * @param heatOfProcess  The heat of process, zero for mixing.
+ * @param outletFlow     The flow of humid air leaving the step.
+ * @param condensateFlow The flow of condensate discharged in cooling step, null for other steps.
+ */
+public record ProcessStepResult(ProcessStep step,
+                                String strategy,
+                                Power heatOfProcess,
+                                FlowOfHumidAir outletFlow,
+                                FlowOfLiquidWater condensateFlow) {
+}
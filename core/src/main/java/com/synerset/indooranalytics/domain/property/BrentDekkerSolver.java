@@ -0,0 +1,197 @@
+package com.synerset.indooranalytics.domain.property;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Brent-Dekker root finder, combining bisection, secant and inverse quadratic interpolation steps. In contrast to
+ * solver embedded in Hvac|Engine equations, it reports the number of iterations and the reason of failure, so that
+ * difficult inputs can be observed. Instances are immutable and thread safe.
+ */
+public final class BrentDekkerSolver {
+
+    public static final double DEFAULT_ACCURACY = 1E-9;
+    public static final int DEFAULT_ITERATION_LIMIT = 100;
+    static final double BRACKET_EXPANSION_FACTOR = 1.6;
+
+    private final double accuracy;
+    private final int iterationLimit;
+
+    public BrentDekkerSolver() {
+        this(DEFAULT_ACCURACY, DEFAULT_ITERATION_LIMIT);
+    }
+
+    public BrentDekkerSolver(double accuracy, int iterationLimit) {
+        this.accuracy = accuracy;
+        this.iterationLimit = iterationLimit;
+    }
+
+    /**
+     * Finds a root of the function within given range.
+     *
+     * @param function   The function, which root is searched for.
+     * @param lowerBound The lower bound of search range.
+     * @param upperBound The upper bound of search range.
+     * @return The root and the number of iterations.
+     * @throws SolverConvergenceException if root is not bracketed, function fails or accuracy is not reached.
+     */
+    public Solution solve(DoubleUnaryOperator function, double lowerBound, double upperBound) {
+        double fa = evaluate(function, lowerBound, 0);
+        double fb = evaluate(function, upperBound, 0);
+        if (fa * fb > 0) {
+            throw new SolverConvergenceException("Root is not bracketed in range [" + lowerBound + ", " + upperBound
+                    + "], f(a) = " + fa + ", f(b) = " + fb, SolverFailureReason.ROOT_NOT_BRACKETED, 0, null);
+        }
+        return solveBracketed(function, lowerBound, fa, upperBound, fb, 0);
+    }
+
+    /**
+     * Finds a root of the function, starting from a narrow bracket around the initial guess. If root is not
+     * bracketed, the bound with lower absolute function value is moved away by {@value #BRACKET_EXPANSION_FACTOR} of
+     * bracket width, until sign change is found or both range limits are reached. Each expansion is counted as an
+     * iteration. With a guess close to the root, solution requires only a few function evaluations.
+     *
+     * @param function     The function, which root is searched for.
+     * @param initialGuess The initial guess of root.
+     * @param initialStep  The half width of initial bracket.
+     * @param lowerLimit   The lower limit of search range.
+     * @param upperLimit   The upper limit of search range.
+     * @return The root and the number of iterations, including bracket expansions.
+     * @throws SolverConvergenceException if root is not bracketed, function fails or accuracy is not reached.
+     */
+    public Solution solveFrom(DoubleUnaryOperator function, double initialGuess, double initialStep,
+                       double lowerLimit, double upperLimit) {
+
+        double guess = Math.min(Math.max(initialGuess, lowerLimit), upperLimit);
+        double a = Math.max(guess - initialStep, lowerLimit);
+        double b = Math.min(guess + initialStep, upperLimit);
+        double fa = evaluate(function, a, 0);
+        double fb = evaluate(function, b, 0);
+        int expansions = 0;
+
+        while (fa * fb > 0) {
+            boolean lowerExpandable = a > lowerLimit;
+            boolean upperExpandable = b < upperLimit;
+            if (!lowerExpandable && !upperExpandable) {
+                throw new SolverConvergenceException("Root is not bracketed in range [" + lowerLimit + ", " + upperLimit
+                        + "], f(a) = " + fa + ", f(b) = " + fb, SolverFailureReason.ROOT_NOT_BRACKETED, expansions, null);
+            }
+            expansions++;
+            double width = b - a;
+            if (lowerExpandable && (Math.abs(fa) < Math.abs(fb) || !upperExpandable)) {
+                a = Math.max(a - BRACKET_EXPANSION_FACTOR * width, lowerLimit);
+                fa = evaluate(function, a, expansions);
+            } else {
+                b = Math.min(b + BRACKET_EXPANSION_FACTOR * width, upperLimit);
+                fb = evaluate(function, b, expansions);
+            }
+        }
+
+        return solveBracketed(function, a, fa, b, fb, expansions);
+    }
+
+    private Solution solveBracketed(DoubleUnaryOperator function, double a, double fa, double b, double fb,
+                                    int iterationOffset) {
+
+        if (fa == 0) {
+            return new Solution(a, iterationOffset);
+        }
+        if (fb == 0) {
+            return new Solution(b, iterationOffset);
+        }
+
+        double c = a;
+        double fc = fa;
+        double d = b - a;
+        double e = d;
+
+        for (int iteration = 1; iteration <= iterationLimit; iteration++) {
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b;
+                b = c;
+                c = a;
+                fa = fb;
+                fb = fc;
+                fc = fa;
+            }
+
+            double tolerance = 2 * Math.ulp(b) + 0.5 * accuracy;
+            double midpoint = 0.5 * (c - b);
+            if (Math.abs(midpoint) <= tolerance || fb == 0) {
+                return new Solution(b, iterationOffset + iteration);
+            }
+
+            if (Math.abs(e) >= tolerance && Math.abs(fa) > Math.abs(fb)) {
+                double p;
+                double q;
+                double s = fb / fa;
+                if (a == c) {
+                    // Secant step
+                    p = 2 * midpoint * s;
+                    q = 1 - s;
+                } else {
+                    // Inverse quadratic interpolation step
+                    double r = fb / fc;
+                    q = fa / fc;
+                    p = s * (2 * midpoint * q * (q - r) - (b - a) * (r - 1));
+                    q = (q - 1) * (r - 1) * (s - 1);
+                }
+                if (p > 0) {
+                    q = -q;
+                } else {
+                    p = -p;
+                }
+                if (2 * p < Math.min(3 * midpoint * q - Math.abs(tolerance * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = midpoint;
+                    e = d;
+                }
+            } else {
+                // Bisection step
+                d = midpoint;
+                e = d;
+            }
+
+            a = b;
+            fa = fb;
+            b += Math.abs(d) > tolerance ? d : Math.copySign(tolerance, midpoint);
+            fb = evaluate(function, b, iterationOffset + iteration);
+
+            if ((fb > 0) == (fc > 0)) {
+                c = a;
+                fc = fa;
+                d = b - a;
+                e = d;
+            }
+        }
+
+        throw new SolverConvergenceException("Accuracy of " + accuracy + " was not reached within " + iterationLimit
+                + " iterations", SolverFailureReason.ITERATION_LIMIT_EXCEEDED, iterationOffset + iterationLimit, null);
+    }
+
+    private static double evaluate(DoubleUnaryOperator function, double x, int iteration) {
+        double value;
+        try {
+            value = function.applyAsDouble(x);
+        } catch (RuntimeException ex) {
+            throw new SolverConvergenceException("Function evaluation failed for x = " + x + ": " + ex.getMessage(),
+                    SolverFailureReason.FUNCTION_FAILURE, iteration, ex);
+        }
+        if (!Double.isFinite(value)) {
+            throw new SolverConvergenceException("Function value is not finite for x = " + x,
+                    SolverFailureReason.NON_FINITE_VALUE, iteration, null);
+        }
+        return value;
+    }
+
+    /**
+     * Root found by the solver.
+     *
+     * @param root       The root of function.
+     * @param iterations The number of iterations.
+     */
+    public record Solution(double root, int iterations) {
+    }
+
+}
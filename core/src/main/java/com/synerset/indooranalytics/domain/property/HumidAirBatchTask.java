@@ -0,0 +1,34 @@
+package com.synerset.indooranalytics.domain.property;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task evaluating a range of rows of {@link HumidAirColumns} with {@link HumidAirKernel}. Ranges larger than
+ * {@value #ROWS_PER_TASK} rows are split in halves.
+ */
+class HumidAirBatchTask extends RecursiveAction {
+
+    static final int ROWS_PER_TASK = 512;
+
+    private final HumidAirColumns columns;
+    private final int fromRow;
+    private final int toRow;
+
+    HumidAirBatchTask(HumidAirColumns columns, int fromRow, int toRow) {
+        this.columns = columns;
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+    }
+
+    @Override
+    protected void compute() {
+        if (toRow - fromRow > ROWS_PER_TASK) {
+            int middleRow = (fromRow + toRow) >>> 1;
+            invokeAll(new HumidAirBatchTask(columns, fromRow, middleRow),
+                    new HumidAirBatchTask(columns, middleRow, toRow));
+            return;
+        }
+        HumidAirKernel.compute(columns, fromRow, toRow);
+    }
+
+}
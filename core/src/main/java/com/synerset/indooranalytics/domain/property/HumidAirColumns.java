@@ -0,0 +1,84 @@
+package com.synerset.indooranalytics.domain.property;
+
+import java.util.Arrays;
+
+/**
+ * Columnar (struct of arrays) humid air states and their properties, evaluated by {@link HumidAirKernel}. Each array
+ * holds one property, index of a row is the same in every array. Caller fills input columns of each row: pressure,
+ * temperature and either humidity ratio or relative humidity. Humidity ratio takes precedence, unless it is NaN, which
+ * is its initial value. Remaining columns, including the missing humidity, are written by the kernel. Rows which could
+ * not be calculated contain NaN values and a failure reason, which is null for successful rows.<br>
+ * All values are in SI units, except relative humidity, which is given in %.
+ *
+ * @param pressure            The absolute pressure, in Pa.
+ * @param temperature         The dry bulb temperature, in K.
+ * @param relativeHumidity    The relative humidity, in %.
+ * @param humidityRatio       The humidity ratio, in kg/kg.
+ * @param saturationPressure  The saturation pressure of water vapour, in Pa.
+ * @param maxHumidityRatio    The humidity ratio of saturated air, in kg/kg.
+ * @param density             The density, in kg/m³.
+ * @param specificHeat        The specific heat at constant pressure, in J/(kg·K).
+ * @param specificEnthalpy    The specific enthalpy, in J/kg.
+ * @param dynamicViscosity    The dynamic viscosity, in Pa·s.
+ * @param kinematicViscosity  The kinematic viscosity, in m²/s.
+ * @param thermalConductivity The thermal conductivity, in W/(m·K).
+ * @param thermalDiffusivity  The thermal diffusivity, in m²/s.
+ * @param prandtlNumber       The Prandtl number.
+ * @param wetBulbTemperature  The wet bulb temperature, in K.
+ * @param dewPointTemperature The dew point temperature, in K.
+ * @param failureReason       The reason of calculation failure, or null if calculation was successful.
+ */
+public record HumidAirColumns(double[] pressure,
+                              double[] temperature,
+                              double[] relativeHumidity,
+                              double[] humidityRatio,
+                              double[] saturationPressure,
+                              double[] maxHumidityRatio,
+                              double[] density,
+                              double[] specificHeat,
+                              double[] specificEnthalpy,
+                              double[] dynamicViscosity,
+                              double[] kinematicViscosity,
+                              double[] thermalConductivity,
+                              double[] thermalDiffusivity,
+                              double[] prandtlNumber,
+                              double[] wetBulbTemperature,
+                              double[] dewPointTemperature,
+                              String[] failureReason) {
+
+    public HumidAirColumns {
+        int size = temperature.length;
+        for (double[] column : new double[][]{pressure, relativeHumidity, humidityRatio, saturationPressure,
+                maxHumidityRatio, density, specificHeat, specificEnthalpy, dynamicViscosity, kinematicViscosity,
+                thermalConductivity, thermalDiffusivity, prandtlNumber, wetBulbTemperature, dewPointTemperature}) {
+            if (column.length != size) {
+                throw new IllegalArgumentException("All columns must be of the same length.");
+            }
+        }
+        if (failureReason.length != size) {
+            throw new IllegalArgumentException("All columns must be of the same length.");
+        }
+    }
+
+    /**
+     * Allocates columns for provided number of rows, humidity ratio column is filled with NaN. Columns can be reused
+     * between calls of the kernel, as long as humidity inputs are set for every row.
+     *
+     * @param size The number of rows.
+     * @return New columns of the given size.
+     */
+    public static HumidAirColumns ofSize(int size) {
+        double[] humidityRatio = new double[size];
+        Arrays.fill(humidityRatio, Double.NaN);
+        return new HumidAirColumns(new double[size], new double[size], new double[size], humidityRatio,
+                new double[size], new double[size], new double[size], new double[size],
+                new double[size], new double[size], new double[size], new double[size],
+                new double[size], new double[size], new double[size], new double[size],
+                new String[size]);
+    }
+
+    public int size() {
+        return temperature.length;
+    }
+
+}
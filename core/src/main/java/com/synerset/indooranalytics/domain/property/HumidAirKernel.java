@@ -0,0 +1,127 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.hvacengine.fluids.SharedEquations;
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+import com.synerset.hvacengine.fluids.humidair.VapourState;
+
+/**
+ * Low-level, primitive counterpart of {@link PhysicalPropertiesPort} for bulk calculations. Humid air states are read
+ * from and their properties written into caller-supplied {@link HumidAirColumns}, in SI units. The same equations as in
+ * object-based API are used, but no value objects are created, so that calculation of closed-form properties does not
+ * allocate. Only wet bulb and dew point temperatures are resolved by iterative solvers of Hvac|Engine.<br>
+ * Inputs are not validated by the kernel, callers are responsible for keeping them in physical range.
+ */
+public final class HumidAirKernel {
+
+    private static final double KELVIN_OFFSET = 273.15;
+    private static final double JOULES_PER_KILOJOULE = 1000;
+
+    private HumidAirKernel() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Calculates humid air properties for the state in the given row and writes them into the same row.
+     *
+     * @param columns The columns with input state, to write the results into.
+     * @param row     The index of row.
+     * @throws RuntimeException if any of properties cannot be calculated, e.g. if a solver does not converge.
+     */
+    public static void compute(HumidAirColumns columns, int row) {
+        double pressure = columns.pressure()[row];
+        // Equations of Hvac|Engine take temperatures in °C and return energy in kJ
+        double temperature = columns.temperature()[row] - KELVIN_OFFSET;
+        double saturationPressure = HumidAirEquations.saturationPressure(temperature);
+        double humidityRatio = columns.humidityRatio()[row];
+        double relativeHumidity;
+        if (Double.isNaN(humidityRatio)) {
+            relativeHumidity = columns.relativeHumidity()[row];
+            humidityRatio = HumidAirEquations.humidityRatio(relativeHumidity, saturationPressure, pressure);
+        } else {
+            relativeHumidity = HumidAirEquations.relativeHumidity(temperature, humidityRatio, pressure);
+        }
+
+        double density = HumidAirEquations.density(temperature, humidityRatio, pressure);
+        double specificHeat = HumidAirEquations.specificHeat(temperature, humidityRatio);
+        double dynamicViscosity = HumidAirEquations.dynamicViscosity(temperature, humidityRatio);
+        double thermalConductivity = HumidAirEquations.thermalConductivity(temperature, humidityRatio);
+        double wetBulbTemperature = HumidAirEquations.wetBulbTemperature(temperature, relativeHumidity, pressure);
+        double dewPointTemperature = HumidAirEquations.dewPointTemperature(temperature, relativeHumidity, pressure);
+
+        columns.relativeHumidity()[row] = relativeHumidity;
+        columns.humidityRatio()[row] = humidityRatio;
+        columns.saturationPressure()[row] = saturationPressure;
+        columns.maxHumidityRatio()[row] = HumidAirEquations.maxHumidityRatio(saturationPressure, pressure);
+        columns.density()[row] = density;
+        columns.specificHeat()[row] = specificHeat * JOULES_PER_KILOJOULE;
+        columns.specificEnthalpy()[row] = HumidAirEquations.specificEnthalpy(temperature, humidityRatio, pressure)
+                                          * JOULES_PER_KILOJOULE;
+        columns.dynamicViscosity()[row] = dynamicViscosity;
+        columns.kinematicViscosity()[row] = HumidAirEquations.kinematicViscosity(temperature, humidityRatio, density);
+        columns.thermalConductivity()[row] = thermalConductivity;
+        columns.thermalDiffusivity()[row] = SharedEquations.thermalDiffusivity(density, thermalConductivity, specificHeat);
+        columns.prandtlNumber()[row] = SharedEquations.prandtlNumber(dynamicViscosity, thermalConductivity, specificHeat);
+        columns.wetBulbTemperature()[row] = wetBulbTemperature + KELVIN_OFFSET;
+        columns.dewPointTemperature()[row] = dewPointTemperature + KELVIN_OFFSET;
+        columns.failureReason()[row] = null;
+    }
+
+    /**
+     * Calculates humid air properties for a range of rows. Rows which cannot be calculated are filled with NaN values
+     * and their failure reason, calculation of remaining rows continues.
+     *
+     * @param columns The columns with input states, to write the results into.
+     * @param fromRow The index of the first row, inclusive.
+     * @param toRow   The index of the last row, exclusive.
+     */
+    public static void compute(HumidAirColumns columns, int fromRow, int toRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            try {
+                compute(columns, row);
+            } catch (RuntimeException ex) {
+                writeFailure(columns, row, ex);
+            }
+        }
+    }
+
+    /**
+     * Calculates humid air properties for all rows of the columns, as in {@link #compute(HumidAirColumns, int, int)}.
+     *
+     * @param columns The columns with input states, to write the results into.
+     */
+    public static void compute(HumidAirColumns columns) {
+        compute(columns, 0, columns.size());
+    }
+
+    /**
+     * Determines vapour state of a calculated row, by the same rules as Hvac|Engine humid air: air holding less water
+     * than saturated air is unsaturated, excess water forms water mist above 0 °C and ice fog below it.
+     *
+     * @param columns The calculated columns.
+     * @param row     The index of row.
+     * @return The vapour state of humid air in the row.
+     */
+    public static VapourState vapourState(HumidAirColumns columns, int row) {
+        double humidityRatio = columns.humidityRatio()[row];
+        double maxHumidityRatio = columns.maxHumidityRatio()[row];
+        if (humidityRatio == maxHumidityRatio) {
+            return VapourState.SATURATED;
+        }
+        if (humidityRatio < maxHumidityRatio) {
+            return VapourState.UNSATURATED;
+        }
+        return columns.temperature()[row] > KELVIN_OFFSET ? VapourState.WATER_MIST : VapourState.ICE_FOG;
+    }
+
+    private static void writeFailure(HumidAirColumns columns, int row, RuntimeException failure) {
+        for (double[] column : new double[][]{columns.relativeHumidity(), columns.humidityRatio(),
+                columns.saturationPressure(), columns.maxHumidityRatio(), columns.density(), columns.specificHeat(),
+                columns.specificEnthalpy(), columns.dynamicViscosity(), columns.kinematicViscosity(),
+                columns.thermalConductivity(), columns.thermalDiffusivity(), columns.prandtlNumber(),
+                columns.wetBulbTemperature(), columns.dewPointTemperature()}) {
+            column[row] = Double.NaN;
+        }
+        columns.failureReason()[row] = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+    }
+
+}
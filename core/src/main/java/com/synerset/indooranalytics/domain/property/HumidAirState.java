@@ -0,0 +1,21 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+/**
+ * Input state of humid air, defined by pressure, dry bulb temperature and humidity. Humidity can be specified either
+ * as humidity ratio or relative humidity, if both are present humidity ratio takes precedence.
+ *
+ * @param pressure         The pressure of the air.
+ * @param temperature      The dry bulb temperature of the air.
+ * @param humidityRatio    The humidity ratio of the air (optional).
+ * @param relativeHumidity The relative humidity of the air (optional).
+ */
+public record HumidAirState(Pressure pressure,
+                            Temperature temperature,
+                            HumidityRatio humidityRatio,
+                            RelativeHumidity relativeHumidity) {
+}
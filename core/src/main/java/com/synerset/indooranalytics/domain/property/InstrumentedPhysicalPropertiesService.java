@@ -0,0 +1,191 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.hvacengine.fluids.dryair.DryAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+import com.synerset.hvacengine.fluids.ice.IceEquations;
+import com.synerset.hvacengine.fluids.liquidwater.LiquidWaterEquations;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Physical properties service resolving dry bulb temperature for wet bulb, dew point, enthalpy and humidity inputs by
+ * {@link BrentDekkerSolver}, instead of the solver embedded in Hvac|Engine equations. Functions are built from the
+ * same Hvac|Engine equations, so that results agree within solver accuracy. Statistics of every solution, successful
+ * or not, are reported to {@link SolverListener}. Requests which do not require iterative solution are delegated to
+ * the exact service.<br>
+ * Wet bulb temperature is resolved from the adiabatic saturation energy balance directly, not by inverting
+ * {@link HumidAirEquations#wetBulbTemperature}, which runs a solver of its own, so that reported iterations describe
+ * the whole solution. Upper limit of each search range is bounded physically, below the temperature at which partial
+ * pressure of vapour would reach total pressure, where equations of humid air are no longer valid.<br>
+ * In warm start mode, solver starts from a narrow bracket around the last solution of the same entry point on the
+ * current thread (see {@link WarmStartSeeds}) instead of the whole search range. The first solution on each thread
+ * is solved from the whole range.
+ */
+class InstrumentedPhysicalPropertiesService implements PhysicalPropertiesPort {
+
+    /**
+     * Limits of dry bulb temperature search range, in °C.
+     */
+    static final double MIN_TEMPERATURE = -100;
+    static final double MAX_TEMPERATURE = 200;
+    /**
+     * Maximum difference between dry bulb and wet bulb temperature searched for, in K.
+     */
+    static final double MAX_WET_BULB_DEPRESSION = 100;
+    /**
+     * Number of bisection steps used to find physical limit of search range, narrowing it below 1E-9 K.
+     */
+    private static final int VAPOUR_LIMIT_STEPS = 40;
+    /**
+     * Half width of initial bracket around warm start seed, in K.
+     */
+    static final double WARM_START_STEP = 0.1;
+    /**
+     * Approximate change of dry bulb temperature per unit change of leading input. Dry bulb temperature follows wet
+     * bulb and dew point temperature at constant relative humidity roughly one to one, and enthalpy with specific heat
+     * of air close to 1 kJ/(kg·K). Relative humidity has no simple relation, only the last root is used.
+     */
+    private static final double UNIT_SENSITIVITY = 1.0;
+    private static final double NO_SENSITIVITY = 0.0;
+
+    private final PhysicalPropertiesPort exactService;
+    private final BrentDekkerSolver solver;
+    private final SolverListener listener;
+    private final WarmStartSeeds warmStartSeeds;
+
+    InstrumentedPhysicalPropertiesService(PhysicalPropertiesPort exactService, SolverListener listener, boolean warmStart) {
+        this.exactService = exactService;
+        this.solver = new BrentDekkerSolver();
+        this.listener = listener;
+        this.warmStartSeeds = warmStart ? new WarmStartSeeds() : null;
+    }
+
+    @Override
+    public DryAir getDryAirProperties(Pressure pressure, Temperature temperature) {
+        return exactService.getDryAirProperties(pressure, temperature);
+    }
+
+    @Override
+    public HumidAir getHumidAirProperties(Pressure pressure, Temperature temperature, HumidityRatio humidityRatio) {
+        return exactService.getHumidAirProperties(pressure, temperature, humidityRatio);
+    }
+
+    @Override
+    public HumidAir getHumidAirProperties(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity) {
+        return exactService.getHumidAirProperties(pressure, temperature, relativeHumidity);
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromWbt(Pressure pressure, Temperature wetBulbTemperature, RelativeHumidity relativeHumidity) {
+        double p = pressure.getInPascals();
+        double tWbt = wetBulbTemperature.getInCelsius();
+        double rh = relativeHumidity.getInPercent();
+        // Adiabatic saturation: enthalpy of air plus enthalpy of water evaporated at wet bulb temperature is equal to
+        // enthalpy of air saturated at wet bulb temperature. Terms at wet bulb temperature are constant.
+        double saturatedHumidityRatio = HumidAirEquations.maxHumidityRatio(HumidAirEquations.saturationPressure(tWbt), p);
+        double saturatedEnthalpy = HumidAirEquations.specificEnthalpy(tWbt, saturatedHumidityRatio, p);
+        double waterEnthalpy = tWbt <= 0
+                ? IceEquations.specificEnthalpy(tWbt)
+                : LiquidWaterEquations.specificEnthalpy(tWbt);
+        double dryBulbTemperature = solve(SolverEntryPoint.WET_BULB_TEMPERATURE,
+                t -> {
+                    double x = HumidAirEquations.humidityRatio(rh, HumidAirEquations.saturationPressure(t), p);
+                    return HumidAirEquations.specificEnthalpy(t, x, p)
+                            + (saturatedHumidityRatio - x) * waterEnthalpy - saturatedEnthalpy;
+                },
+                tWbt, UNIT_SENSITIVITY, tWbt, Math.min(tWbt + MAX_WET_BULB_DEPRESSION, vapourPressureLimit(p, rh)));
+        return HumidAir.of(pressure, Temperature.ofCelsius(dryBulbTemperature), relativeHumidity);
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromTdp(Pressure pressure, Temperature dewPointTemperature, RelativeHumidity relativeHumidity) {
+        double tDp = dewPointTemperature.getInCelsius();
+        double rh = relativeHumidity.getInPercent();
+        // Partial pressure of vapour is equal to saturation pressure at dew point temperature
+        double vapourPressure = HumidAirEquations.saturationPressure(tDp);
+        double dryBulbTemperature = solve(SolverEntryPoint.DEW_POINT_TEMPERATURE,
+                t -> rh / 100 * HumidAirEquations.saturationPressure(t) - vapourPressure,
+                tDp, UNIT_SENSITIVITY, tDp, vapourPressureLimit(pressure.getInPascals(), rh));
+        return HumidAir.of(pressure, Temperature.ofCelsius(dryBulbTemperature), relativeHumidity);
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromIx(Pressure pressure, SpecificEnthalpy specificEnthalpy, HumidityRatio humidityRatio) {
+        double p = pressure.getInPascals();
+        double h = specificEnthalpy.getInKiloJoulesPerKiloGram();
+        double x = humidityRatio.getInKilogramPerKilogram();
+        double dryBulbTemperature = solve(SolverEntryPoint.SPECIFIC_ENTHALPY,
+                t -> HumidAirEquations.specificEnthalpy(t, x, p) - h,
+                h, UNIT_SENSITIVITY, MIN_TEMPERATURE, vapourPressureLimit(p, 100));
+        return HumidAir.of(pressure, Temperature.ofCelsius(dryBulbTemperature), humidityRatio);
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromXRh(Pressure pressure, HumidityRatio humidityRatio, RelativeHumidity relativeHumidity) {
+        double p = pressure.getInPascals();
+        double x = humidityRatio.getInKilogramPerKilogram();
+        double rh = relativeHumidity.getInPercent();
+        double dryBulbTemperature = solve(SolverEntryPoint.HUMIDITY,
+                t -> HumidAirEquations.relativeHumidity(t, x, p) - rh,
+                rh, NO_SENSITIVITY, MIN_TEMPERATURE, vapourPressureLimit(p, rh));
+        return HumidAir.of(pressure, Temperature.ofCelsius(dryBulbTemperature), humidityRatio);
+    }
+
+    private double solve(SolverEntryPoint entryPoint, DoubleUnaryOperator function, double leadingInput,
+                         double sensitivity, double lowerBound, double upperBound) {
+
+        long start = System.nanoTime();
+        try {
+            if (lowerBound >= upperBound) {
+                throw new SolverConvergenceException("Search range [" + lowerBound + ", " + upperBound
+                        + "] is empty, partial pressure of vapour reaches total pressure",
+                        SolverFailureReason.ROOT_NOT_BRACKETED, 0, null);
+            }
+            double seed = warmStartSeeds == null ? Double.NaN : warmStartSeeds.seed(entryPoint, leadingInput, sensitivity);
+            BrentDekkerSolver.Solution solution = Double.isNaN(seed)
+                    ? solver.solve(function, lowerBound, upperBound)
+                    : solver.solveFrom(function, seed, WARM_START_STEP, lowerBound, upperBound);
+            listener.onConverged(entryPoint, solution.iterations(), System.nanoTime() - start);
+            if (warmStartSeeds != null) {
+                warmStartSeeds.update(entryPoint, leadingInput, solution.root());
+            }
+            return solution.root();
+        } catch (SolverConvergenceException ex) {
+            listener.onFailed(entryPoint, ex.getReason(), ex.getIterations(), System.nanoTime() - start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the highest temperature within search range, at which partial pressure of vapour at given relative
+     * humidity stays below total pressure. At saturation (100%) it is the boiling temperature at given pressure.
+     * Saturation pressure is monotonic, so bisection always narrows to the limit from below.
+     */
+    static double vapourPressureLimit(double pressure, double relativeHumidity) {
+        if (relativeHumidity <= 0) {
+            return MAX_TEMPERATURE;
+        }
+        double limitingSaturationPressure = pressure * 100 / relativeHumidity;
+        if (HumidAirEquations.saturationPressure(MAX_TEMPERATURE) < limitingSaturationPressure) {
+            return MAX_TEMPERATURE;
+        }
+        double below = MIN_TEMPERATURE;
+        double above = MAX_TEMPERATURE;
+        for (int step = 0; step < VAPOUR_LIMIT_STEPS; step++) {
+            double middle = (below + above) / 2;
+            if (HumidAirEquations.saturationPressure(middle) < limitingSaturationPressure) {
+                below = middle;
+            } else {
+                above = middle;
+            }
+        }
+        return below;
+    }
+
+}
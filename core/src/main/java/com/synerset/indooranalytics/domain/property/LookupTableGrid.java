@@ -0,0 +1,38 @@
+package com.synerset.indooranalytics.domain.property;
+
+/**
+ * Definition of a regular grid of psychrometric lookup table. First axis is an input temperature (wet bulb or dew
+ * point temperature) in degrees Celsius, second axis is a relative humidity in percent. Both axes are inclusive.
+ *
+ * @param minTemperature         The lowest input temperature node, in °C.
+ * @param maxTemperature         The highest input temperature node, in °C.
+ * @param temperatureStep        The distance between input temperature nodes, in °C.
+ * @param minRelativeHumidity    The lowest relative humidity node, in %.
+ * @param maxRelativeHumidity    The highest relative humidity node, in %.
+ * @param relativeHumidityStep   The distance between relative humidity nodes, in %.
+ */
+public record LookupTableGrid(double minTemperature,
+                              double maxTemperature,
+                              double temperatureStep,
+                              double minRelativeHumidity,
+                              double maxRelativeHumidity,
+                              double relativeHumidityStep) {
+
+    public LookupTableGrid {
+        if (temperatureStep <= 0 || relativeHumidityStep <= 0) {
+            throw new IllegalArgumentException("Lookup table grid steps must be positive.");
+        }
+        if (maxTemperature <= minTemperature || maxRelativeHumidity <= minRelativeHumidity) {
+            throw new IllegalArgumentException("Lookup table grid upper bounds must be greater than lower bounds.");
+        }
+    }
+
+    int temperatureNodes() {
+        return (int) Math.round((maxTemperature - minTemperature) / temperatureStep) + 1;
+    }
+
+    int relativeHumidityNodes() {
+        return (int) Math.round((maxRelativeHumidity - minRelativeHumidity) / relativeHumidityStep) + 1;
+    }
+
+}
@@ -8,6 +8,9 @@ import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
 import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
 import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Port interface for service retrieving physical properties of air.
  */
@@ -42,6 +45,46 @@ public interface PhysicalPropertiesPort {
      */
     HumidAir getHumidAirProperties(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity);
 
+    /**
+     * Retrieves the properties of humid air for a humid air state. Humidity ratio takes precedence over relative
+     * humidity, if both are present.
+     *
+     * @param humidAirState The humid air state.
+     * @return The properties of humid air.
+     */
+    default HumidAir getHumidAirProperties(HumidAirState humidAirState) {
+        return humidAirState.humidityRatio() == null
+                ? getHumidAirProperties(humidAirState.pressure(), humidAirState.temperature(), humidAirState.relativeHumidity())
+                : getHumidAirProperties(humidAirState.pressure(), humidAirState.temperature(), humidAirState.humidityRatio());
+    }
+
+    /**
+     * Retrieves the properties of humid air for a batch of humid air states. States are evaluated in parallel, using
+     * common fork-join pool. Returned list preserves the order of input states.
+     *
+     * @param humidAirStates The list of humid air states.
+     * @return The list of humid air properties, in the order of input states.
+     */
+    default List<HumidAir> getHumidAirPropertiesBatch(List<HumidAirState> humidAirStates) {
+        return humidAirStates.parallelStream()
+                .map(this::getHumidAirProperties)
+                .toList();
+    }
+
+    /**
+     * Calculates the properties of humid air for columns of states, in place. Input states are read from the columns
+     * as described in {@link HumidAirColumns} and evaluated by primitive {@link HumidAirKernel} in parallel, using
+     * common fork-join pool, without creating value objects for any state. Rows which cannot be calculated are marked
+     * with failure reason, remaining rows are calculated regardless.
+     *
+     * @param humidAirColumns The columns of input states, to write the properties into.
+     * @return The given columns, filled with properties of humid air.
+     */
+    default HumidAirColumns computeHumidAirPropertiesBatch(HumidAirColumns humidAirColumns) {
+        ForkJoinPool.commonPool().invoke(new HumidAirBatchTask(humidAirColumns, 0, humidAirColumns.size()));
+        return humidAirColumns;
+    }
+
     /**
      * Retrieves the properties of humid air based on pressure, wet bulb temperature, and relative humidity.
      *
@@ -91,4 +134,52 @@ public interface PhysicalPropertiesPort {
     static PhysicalPropertiesPort create(){
         return new PhysicalPropertiesService();
     }
+
+    /**
+     * Static factory method to create an instance of PhysicalPropertiesPort, which resolves wet bulb and dew point
+     * requests by bilinear interpolation in lookup tables precomputed for provided pressure levels. Grid cells in which
+     * interpolation error in the cell centre exceeds the error tolerance, and requests outside the grid or at other
+     * pressures, are resolved by the exact service. Tables are built eagerly, which may take a few seconds.
+     *
+     * @param exactService   The service used to resolve requests not covered by tables.
+     * @param pressureLevels The pressure levels for which tables are built.
+     * @param grid           The grid of input temperature and relative humidity.
+     * @param errorTolerance The accepted interpolation error of dry bulb temperature, in K.
+     * @return A new instance of PhysicalPropertiesPort.
+     */
+    static PhysicalPropertiesPort createTabulated(PhysicalPropertiesPort exactService,
+                                                  List<Pressure> pressureLevels,
+                                                  LookupTableGrid grid,
+                                                  double errorTolerance) {
+        return new TabulatedPhysicalPropertiesService(exactService, pressureLevels, grid, errorTolerance);
+    }
+
+    /**
+     * Static factory method to create an instance of PhysicalPropertiesPort, which resolves wet bulb, dew point,
+     * enthalpy and humidity requests by its own Brent-Dekker solver and reports iteration count, time and failure reason
+     * of every solution to the listener. Remaining requests are resolved by the exact service.
+     *
+     * @param exactService The service used to resolve requests not requiring iterative solution.
+     * @param listener     The listener of solver statistics.
+     * @return A new instance of PhysicalPropertiesPort.
+     */
+    static PhysicalPropertiesPort createInstrumented(PhysicalPropertiesPort exactService, SolverListener listener) {
+        return new InstrumentedPhysicalPropertiesService(exactService, listener, false);
+    }
+
+    /**
+     * Static factory method to create an instance of instrumented PhysicalPropertiesPort, as in
+     * {@link #createInstrumented(PhysicalPropertiesPort, SolverListener)}, with optional warm start. In warm start
+     * mode, solver is seeded with the last solution of the same entry point on the current thread, so that consecutive
+     * similar inputs, e.g. from a sensor stream, converge in a few iterations.
+     *
+     * @param exactService The service used to resolve requests not requiring iterative solution.
+     * @param listener     The listener of solver statistics.
+     * @param warmStart    Indicates whether solver is seeded from previous solutions.
+     * @return A new instance of PhysicalPropertiesPort.
+     */
+    static PhysicalPropertiesPort createInstrumented(PhysicalPropertiesPort exactService, SolverListener listener,
+                                                     boolean warmStart) {
+        return new InstrumentedPhysicalPropertiesService(exactService, listener, warmStart);
+    }
 }
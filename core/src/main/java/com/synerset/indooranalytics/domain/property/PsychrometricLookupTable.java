@@ -0,0 +1,155 @@
+package com.synerset.indooranalytics.domain.property;
+
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed table of dry bulb temperature as a function of input temperature (wet bulb or dew point) and relative
+ * humidity, at single pressure level. Node values are stored in a flat, row-major primitive array and queried by
+ * bilinear interpolation.<br>
+ * Each grid cell is validated when the table is built: the interpolated value in the cell centre, where bilinear
+ * interpolation error is the largest, is compared against the exact solution. Cells with a missing corner (solver
+ * failure) or with a centre error greater than the accepted tolerance are marked as not covered, and queries falling
+ * into them must be resolved by the exact solver.
+ */
+final class PsychrometricLookupTable {
+
+    /**
+     * Exact solution of dry bulb temperature, in °C, for the input temperature in °C and relative humidity in %.
+     */
+    @FunctionalInterface
+    interface ExactSolution {
+        double dryBulbTemperature(double inputTemperature, double relativeHumidity);
+    }
+
+    private final LookupTableGrid grid;
+    private final int temperatureNodes;
+    private final int relativeHumidityNodes;
+    private final double[] dryBulbTemperatures;
+    private final boolean[] coveredCells;
+    private final double maxInterpolationError;
+
+    private PsychrometricLookupTable(LookupTableGrid grid, double[] dryBulbTemperatures, boolean[] coveredCells,
+                                     double maxInterpolationError) {
+
+        this.grid = grid;
+        this.temperatureNodes = grid.temperatureNodes();
+        this.relativeHumidityNodes = grid.relativeHumidityNodes();
+        this.dryBulbTemperatures = dryBulbTemperatures;
+        this.coveredCells = coveredCells;
+        this.maxInterpolationError = maxInterpolationError;
+    }
+
+    /**
+     * Interpolates dry bulb temperature for provided input temperature and relative humidity.
+     *
+     * @param inputTemperature The wet bulb or dew point temperature, in °C.
+     * @param relativeHumidity The relative humidity, in %.
+     * @return Dry bulb temperature in °C, or NaN if the point is outside the grid or in a cell which is not covered.
+     */
+    double interpolate(double inputTemperature, double relativeHumidity) {
+        double temperaturePosition = (inputTemperature - grid.minTemperature()) / grid.temperatureStep();
+        double humidityPosition = (relativeHumidity - grid.minRelativeHumidity()) / grid.relativeHumidityStep();
+
+        if (!(temperaturePosition >= 0 && temperaturePosition <= temperatureNodes - 1
+                && humidityPosition >= 0 && humidityPosition <= relativeHumidityNodes - 1)) {
+            return Double.NaN;
+        }
+
+        int row = Math.min((int) temperaturePosition, temperatureNodes - 2);
+        int column = Math.min((int) humidityPosition, relativeHumidityNodes - 2);
+
+        if (!coveredCells[row * (relativeHumidityNodes - 1) + column]) {
+            return Double.NaN;
+        }
+
+        return bilinear(row, column, temperaturePosition - row, humidityPosition - column);
+    }
+
+    /**
+     * Returns the largest difference between interpolated and exact dry bulb temperature, in K, found in centres of
+     * covered cells.
+     */
+    double getMaxInterpolationError() {
+        return maxInterpolationError;
+    }
+
+    /**
+     * Returns the share of grid cells which are answered by interpolation, from 0 to 1.
+     */
+    double getCoverage() {
+        int covered = 0;
+        for (boolean coveredCell : coveredCells) {
+            if (coveredCell) {
+                covered++;
+            }
+        }
+        return (double) covered / coveredCells.length;
+    }
+
+    private double bilinear(int row, int column, double rowFraction, double columnFraction) {
+        int lowerIndex = row * relativeHumidityNodes + column;
+        int upperIndex = lowerIndex + relativeHumidityNodes;
+        double lower = dryBulbTemperatures[lowerIndex]
+                + columnFraction * (dryBulbTemperatures[lowerIndex + 1] - dryBulbTemperatures[lowerIndex]);
+        double upper = dryBulbTemperatures[upperIndex]
+                + columnFraction * (dryBulbTemperatures[upperIndex + 1] - dryBulbTemperatures[upperIndex]);
+        return lower + rowFraction * (upper - lower);
+    }
+
+    /**
+     * Builds lookup table by evaluating the exact solution in each grid node and in the centre of each cell. Nodes
+     * are evaluated in parallel. Solver failures are recorded as NaN and make adjacent cells uncovered.
+     *
+     * @param grid           The grid definition.
+     * @param exactSolution  The exact solution of dry bulb temperature.
+     * @param errorTolerance The accepted interpolation error in cell centre, in K.
+     * @return New lookup table.
+     */
+    static PsychrometricLookupTable build(LookupTableGrid grid, ExactSolution exactSolution, double errorTolerance) {
+        int temperatureNodes = grid.temperatureNodes();
+        int relativeHumidityNodes = grid.relativeHumidityNodes();
+        int cellColumns = relativeHumidityNodes - 1;
+
+        double[] dryBulbTemperatures = new double[temperatureNodes * relativeHumidityNodes];
+        IntStream.range(0, dryBulbTemperatures.length).parallel().forEach(index -> {
+            double inputTemperature = grid.minTemperature() + (index / relativeHumidityNodes) * grid.temperatureStep();
+            double relativeHumidity = grid.minRelativeHumidity() + (index % relativeHumidityNodes) * grid.relativeHumidityStep();
+            dryBulbTemperatures[index] = solveSafely(exactSolution, inputTemperature, relativeHumidity);
+        });
+
+        PsychrometricLookupTable draft = new PsychrometricLookupTable(grid, dryBulbTemperatures,
+                new boolean[(temperatureNodes - 1) * cellColumns], 0);
+
+        double[] cellErrors = new double[(temperatureNodes - 1) * cellColumns];
+        IntStream.range(0, cellErrors.length).parallel().forEach(cell -> {
+            int row = cell / cellColumns;
+            int column = cell % cellColumns;
+            double interpolated = draft.bilinear(row, column, 0.5, 0.5);
+            double exact = solveSafely(exactSolution,
+                    grid.minTemperature() + (row + 0.5) * grid.temperatureStep(),
+                    grid.minRelativeHumidity() + (column + 0.5) * grid.relativeHumidityStep());
+            cellErrors[cell] = Math.abs(interpolated - exact);
+        });
+
+        boolean[] coveredCells = new boolean[cellErrors.length];
+        double maxInterpolationError = 0;
+        for (int cell = 0; cell < cellErrors.length; cell++) {
+            // NaN comparison is false, so cells with a failed node or centre remain uncovered
+            if (cellErrors[cell] <= errorTolerance) {
+                coveredCells[cell] = true;
+                maxInterpolationError = Math.max(maxInterpolationError, cellErrors[cell]);
+            }
+        }
+
+        return new PsychrometricLookupTable(grid, dryBulbTemperatures, coveredCells, maxInterpolationError);
+    }
+
+    private static double solveSafely(ExactSolution exactSolution, double inputTemperature, double relativeHumidity) {
+        try {
+            return exactSolution.dryBulbTemperature(inputTemperature, relativeHumidity);
+        } catch (RuntimeException ex) {
+            return Double.NaN;
+        }
+    }
+
+}
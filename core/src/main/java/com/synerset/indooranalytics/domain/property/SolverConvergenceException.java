@@ -0,0 +1,26 @@
+package com.synerset.indooranalytics.domain.property;
+
+/**
+ * Thrown by instrumented physical properties service, if dry bulb temperature could not be resolved. Stack trace is
+ * not captured, failure is described by the reason, number of iterations and the solver exception as a cause.
+ */
+public class SolverConvergenceException extends RuntimeException {
+
+    private final SolverFailureReason reason;
+    private final int iterations;
+
+    public SolverConvergenceException(String message, SolverFailureReason reason, int iterations, Throwable cause) {
+        super(message, cause, false, false);
+        this.reason = reason;
+        this.iterations = iterations;
+    }
+
+    public SolverFailureReason getReason() {
+        return reason;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+}
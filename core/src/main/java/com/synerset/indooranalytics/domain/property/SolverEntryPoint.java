@@ -0,0 +1,23 @@
+package com.synerset.indooranalytics.domain.property;
+
+/**
+ * Entry points of physical properties service, which resolve dry bulb temperature by an iterative solver.
+ */
+public enum SolverEntryPoint {
+
+    WET_BULB_TEMPERATURE("from-wbt"),
+    DEW_POINT_TEMPERATURE("from-tdp"),
+    SPECIFIC_ENTHALPY("from-ix"),
+    HUMIDITY("from-xrh");
+
+    private final String tagValue;
+
+    SolverEntryPoint(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+}
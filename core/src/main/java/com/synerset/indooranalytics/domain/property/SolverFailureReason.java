@@ -0,0 +1,35 @@
+package com.synerset.indooranalytics.domain.property;
+
+/**
+ * Reasons for which iterative solver may fail to find a root.
+ */
+public enum SolverFailureReason {
+
+    /**
+     * Function has the same sign at both ends of the search range, root is not bracketed.
+     */
+    ROOT_NOT_BRACKETED("root-not-bracketed"),
+    /**
+     * Required accuracy was not reached within the iteration limit.
+     */
+    ITERATION_LIMIT_EXCEEDED("iteration-limit-exceeded"),
+    /**
+     * Function returned NaN or infinite value.
+     */
+    NON_FINITE_VALUE("non-finite-value"),
+    /**
+     * Function evaluation failed with an exception, for example for unphysical intermediate state.
+     */
+    FUNCTION_FAILURE("function-failure");
+
+    private final String tagValue;
+
+    SolverFailureReason(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.synerset.indooranalytics.domain.property;
+
+/**
+ * Receives statistics of each iterative solution performed by instrumented physical properties service. Listener is
+ * invoked on the calling thread, implementations must be thread safe and should be cheap.
+ */
+public interface SolverListener {
+
+    /**
+     * Invoked after root was found.
+     *
+     * @param entryPoint   The entry point of service.
+     * @param iterations   The number of solver iterations.
+     * @param elapsedNanos The time of solution, in nanoseconds.
+     */
+    void onConverged(SolverEntryPoint entryPoint, int iterations, long elapsedNanos);
+
+    /**
+     * Invoked after solver failed, before exception is thrown to the caller.
+     *
+     * @param entryPoint   The entry point of service.
+     * @param reason       The reason of failure.
+     * @param iterations   The number of solver iterations performed before failure.
+     * @param elapsedNanos The time until failure, in nanoseconds.
+     */
+    void onFailed(SolverEntryPoint entryPoint, SolverFailureReason reason, int iterations, long elapsedNanos);
+
+}
@@ -0,0 +1,124 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.hvacengine.fluids.dryair.DryAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.List;
+
+/**
+ * Physical properties service answering wet bulb and dew point requests from precomputed lookup tables. Tables are
+ * built for each configured pressure level. Requests at other pressures, outside the table grid or in cells which did
+ * not pass validation are resolved by the exact service. All remaining requests are delegated to the exact service.
+ */
+class TabulatedPhysicalPropertiesService implements PhysicalPropertiesPort {
+
+    /**
+     * Maximum distance between requested pressure and table pressure level, for which table is used.
+     */
+    static final double PRESSURE_TOLERANCE_PA = 0.5;
+
+    private final PhysicalPropertiesPort exactService;
+    private final double[] pressureLevels;
+    private final PsychrometricLookupTable[] wetBulbTables;
+    private final PsychrometricLookupTable[] dewPointTables;
+
+    TabulatedPhysicalPropertiesService(PhysicalPropertiesPort exactService,
+                                       List<Pressure> pressureLevels,
+                                       LookupTableGrid grid,
+                                       double errorTolerance) {
+
+        this.exactService = exactService;
+        this.pressureLevels = new double[pressureLevels.size()];
+        this.wetBulbTables = new PsychrometricLookupTable[pressureLevels.size()];
+        this.dewPointTables = new PsychrometricLookupTable[pressureLevels.size()];
+
+        for (int i = 0; i < pressureLevels.size(); i++) {
+            Pressure pressure = pressureLevels.get(i);
+            this.pressureLevels[i] = pressure.getInPascals();
+            this.wetBulbTables[i] = PsychrometricLookupTable.build(grid, (wetBulbTemperature, relativeHumidity) ->
+                    HumidAirEquations.dryBulbTemperatureWbtRH(
+                            Temperature.ofCelsius(wetBulbTemperature),
+                            RelativeHumidity.ofPercentage(relativeHumidity),
+                            pressure).getInCelsius(), errorTolerance);
+            this.dewPointTables[i] = PsychrometricLookupTable.build(grid, (dewPointTemperature, relativeHumidity) ->
+                    HumidAirEquations.dryBulbTemperatureTdpRH(
+                            Temperature.ofCelsius(dewPointTemperature),
+                            RelativeHumidity.ofPercentage(relativeHumidity),
+                            pressure).getInCelsius(), errorTolerance);
+        }
+    }
+
+    @Override
+    public DryAir getDryAirProperties(Pressure pressure, Temperature temperature) {
+        return exactService.getDryAirProperties(pressure, temperature);
+    }
+
+    @Override
+    public HumidAir getHumidAirProperties(Pressure pressure, Temperature temperature, HumidityRatio humidityRatio) {
+        return exactService.getHumidAirProperties(pressure, temperature, humidityRatio);
+    }
+
+    @Override
+    public HumidAir getHumidAirProperties(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity) {
+        return exactService.getHumidAirProperties(pressure, temperature, relativeHumidity);
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromWbt(Pressure pressure, Temperature wetBulbTemperature, RelativeHumidity relativeHumidity) {
+        double dryBulbTemperature = interpolate(wetBulbTables, pressure, wetBulbTemperature, relativeHumidity);
+        if (Double.isNaN(dryBulbTemperature)) {
+            return exactService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity);
+        }
+        return HumidAir.of(pressure, Temperature.ofCelsius(dryBulbTemperature), relativeHumidity);
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromTdp(Pressure pressure, Temperature dewPointTemperature, RelativeHumidity relativeHumidity) {
+        double dryBulbTemperature = interpolate(dewPointTables, pressure, dewPointTemperature, relativeHumidity);
+        if (Double.isNaN(dryBulbTemperature)) {
+            return exactService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, relativeHumidity);
+        }
+        return HumidAir.of(pressure, Temperature.ofCelsius(dryBulbTemperature), relativeHumidity);
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromIx(Pressure pressure, SpecificEnthalpy specificEnthalpy, HumidityRatio humidityRatio) {
+        return exactService.getHumidAirPropertiesFromIx(pressure, specificEnthalpy, humidityRatio);
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromXRh(Pressure pressure, HumidityRatio humidityRatio, RelativeHumidity relativeHumidity) {
+        return exactService.getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity);
+    }
+
+    /**
+     * Returns the largest interpolation error, in K, found during validation of all tables.
+     */
+    double getMaxInterpolationError() {
+        double maxError = 0;
+        for (int i = 0; i < pressureLevels.length; i++) {
+            maxError = Math.max(maxError, wetBulbTables[i].getMaxInterpolationError());
+            maxError = Math.max(maxError, dewPointTables[i].getMaxInterpolationError());
+        }
+        return maxError;
+    }
+
+    private double interpolate(PsychrometricLookupTable[] tables, Pressure pressure, Temperature inputTemperature,
+                               RelativeHumidity relativeHumidity) {
+
+        double pressureValue = pressure.getInPascals();
+        for (int i = 0; i < pressureLevels.length; i++) {
+            if (Math.abs(pressureLevels[i] - pressureValue) <= PRESSURE_TOLERANCE_PA) {
+                return tables[i].interpolate(inputTemperature.getInCelsius(), relativeHumidity.getInPercent());
+            }
+        }
+        return Double.NaN;
+    }
+
+}
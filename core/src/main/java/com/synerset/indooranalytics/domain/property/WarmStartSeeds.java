@@ -0,0 +1,46 @@
+package com.synerset.indooranalytics.domain.property;
+
+import java.util.Arrays;
+
+/**
+ * Per-thread memory of the last solution of each {@link SolverEntryPoint}, used to seed the solver with a guess close
+ * to the root. Consecutive inputs of a sensor stream evaluated on the same thread differ only slightly, so the
+ * previous root, shifted by the change of the leading input, is usually within a fraction of a kelvin from the new one.
+ * Memory is not shared between threads, so no synchronization is needed. It is of no use when each request runs on
+ * a new thread, e.g. on virtual threads.
+ */
+final class WarmStartSeeds {
+
+    private static final int SLOTS = 2;
+    private static final int LEADING_INPUT_SLOT = 0;
+    private static final int ROOT_SLOT = 1;
+
+    private final ThreadLocal<double[]> lastSolutions = ThreadLocal.withInitial(() -> {
+        double[] solutions = new double[SolverEntryPoint.values().length * SLOTS];
+        Arrays.fill(solutions, Double.NaN);
+        return solutions;
+    });
+
+    /**
+     * Returns the seed for a new solution: the last root of the entry point, shifted by the change of leading input
+     * multiplied by the sensitivity of root to that input.
+     *
+     * @param entryPoint   The entry point of service.
+     * @param leadingInput The input, which mostly determines the root.
+     * @param sensitivity  The approximate derivative of root with respect to leading input.
+     * @return The seed, or NaN if there was no previous solution on the current thread.
+     */
+    double seed(SolverEntryPoint entryPoint, double leadingInput, double sensitivity) {
+        double[] solutions = lastSolutions.get();
+        int offset = entryPoint.ordinal() * SLOTS;
+        return solutions[offset + ROOT_SLOT] + sensitivity * (leadingInput - solutions[offset + LEADING_INPUT_SLOT]);
+    }
+
+    void update(SolverEntryPoint entryPoint, double leadingInput, double root) {
+        double[] solutions = lastSolutions.get();
+        int offset = entryPoint.ordinal() * SLOTS;
+        solutions[offset + LEADING_INPUT_SLOT] = leadingInput;
+        solutions[offset + ROOT_SLOT] = root;
+    }
+
+}
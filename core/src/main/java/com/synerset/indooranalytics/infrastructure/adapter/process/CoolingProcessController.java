@@ -0,0 +1,183 @@
+package com.synerset.indooranalytics.infrastructure.adapter.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.indooranalytics.domain.process.CoolantData;
+import com.synerset.indooranalytics.domain.process.CoolingProcess;
+import com.synerset.indooranalytics.domain.process.CoolingProcessPort;
+import com.synerset.indooranalytics.infrastructure.exceptionhandling.IndoorAnalyticsInvalidArgumentException;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhase;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhaseTimer;
+import com.synerset.indooranalyticsapi.process.cooling.CoolingProcessRestService;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolantDataRequest;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolingProcessRequest;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolingProcessResponse;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@RestController
+class CoolingProcessController implements CoolingProcessRestService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoolingProcessController.class);
+    private final CoolingProcessPort coolingService;
+    private final ProcessControllerMapper processMapper;
+    private final MeterRegistry meterRegistry;
+    private final RequestPhaseTimer phaseTimer;
+
+    public CoolingProcessController(CoolingProcessPort coolingService,
+                                    ProcessControllerMapper processMapper,
+                                    MeterRegistry meterRegistry,
+                                    RequestPhaseTimer phaseTimer) {
+
+        this.coolingService = coolingService;
+        this.processMapper = processMapper;
+        this.meterRegistry = meterRegistry;
+        this.phaseTimer = phaseTimer;
+    }
+
+    @Override
+    public CoolingProcessResponse getCoolingForInputPower(CoolingProcessRequest coolingRequest, boolean imperialUnits) {
+        LOGGER.debug("[REST CALL]: Requested cooling of humid air for input power: {}", coolingRequest);
+        meterRegistry.counter("process-cooling-input-power").increment();
+        validateCoolantRequirements(coolingRequest);
+        validateInputPowerRequirements(coolingRequest);
+        phaseTimer.startRequest("process-cooling-input-power");
+        FlowOfHumidAir inletFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(coolingRequest.inletAirFlow()));
+        CoolantData coolantData = processMapper.toCoolantData(coolingRequest.coolantData());
+        CoolingProcess coolingProcess = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                coolingService.computeCoolingForInputPower(inletFlow, coolantData, coolingRequest.inputCoolingPower()));
+        return toCoolingResponse(coolingProcess, imperialUnits);
+    }
+
+    @Override
+    public CoolingProcessResponse getCoolingForTargetTemperature(CoolingProcessRequest coolingRequest, boolean imperialUnits) {
+        LOGGER.debug("[REST CALL]: Requested cooling of humid air for target temperature: {}", coolingRequest);
+        meterRegistry.counter("process-cooling-target-temperature").increment();
+        validateCoolantRequirements(coolingRequest);
+        validateCoolingTemperatureRequirement(coolingRequest);
+        phaseTimer.startRequest("process-cooling-target-temperature");
+        FlowOfHumidAir inletFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(coolingRequest.inletAirFlow()));
+        CoolantData coolantData = processMapper.toCoolantData(coolingRequest.coolantData());
+        CoolingProcess coolingProcess = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                coolingService.computeCoolingForTargetTemperature(inletFlow, coolantData, coolingRequest.targetTemperature()));
+        return toCoolingResponse(coolingProcess, imperialUnits);
+    }
+
+    @Override
+    public CoolingProcessResponse getCoolingForTargetRelativeHumidity(CoolingProcessRequest coolingRequest, boolean imperialUnits) {
+        LOGGER.debug("[REST CALL]: Requested cooling of humid air for input data for relative humidity: {}", coolingRequest);
+        meterRegistry.counter("process-cooling-target-relative-humidity").increment();
+        validateCoolantRequirements(coolingRequest);
+        validateCoolingHumidityRequirement(coolingRequest);
+        phaseTimer.startRequest("process-cooling-target-relative-humidity");
+        FlowOfHumidAir inletFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(coolingRequest.inletAirFlow()));
+        CoolantData coolantData = processMapper.toCoolantData(coolingRequest.coolantData());
+        CoolingProcess coolingProcess = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                coolingService.computeCoolingForTargetRelativeHumidity(inletFlow, coolantData, coolingRequest.targetRelativeHumidity()));
+        return toCoolingResponse(coolingProcess, imperialUnits);
+    }
+
+    @Override
+    public List<CoolingProcessResponse> getCoolingBatch(List<CoolingProcessRequest> coolingRequests, boolean imperialUnits) {
+        LOGGER.debug("[REST CALL]: Requested batch cooling of humid air, processes: {}", coolingRequests.size());
+        meterRegistry.counter("process-cooling-batch").increment();
+        meterRegistry.counter("process-cooling-batch-processes").increment(coolingRequests.size());
+        phaseTimer.startRequest("process-cooling-batch");
+        List<CoolingProcessResponse> coolingResponses = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                IntStream.range(0, coolingRequests.size())
+                        .parallel()
+                        .mapToObj(index -> computeBatchItem(index, coolingRequests.get(index)))
+                        .toList());
+        return imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, () -> coolingResponses.stream()
+                        .map(CoolingProcessResponse::toImperialUnits)
+                        .toList())
+                : coolingResponses;
+    }
+
+    private CoolingProcessResponse computeBatchItem(int index, CoolingProcessRequest coolingRequest) {
+        try {
+            validateCoolantRequirements(coolingRequest);
+            FlowOfHumidAir inletFlow = processMapper.toFlowOfHumidAir(coolingRequest.inletAirFlow());
+            CoolantData coolantData = processMapper.toCoolantData(coolingRequest.coolantData());
+            CoolingProcess coolingProcess;
+            if (coolingRequest.inputCoolingPower() != null) {
+                coolingProcess = coolingService.computeCoolingForInputPower(inletFlow, coolantData,
+                        coolingRequest.inputCoolingPower());
+            } else if (coolingRequest.targetTemperature() != null) {
+                validateCoolingTemperatureRequirement(coolingRequest);
+                coolingProcess = coolingService.computeCoolingForTargetTemperature(inletFlow, coolantData,
+                        coolingRequest.targetTemperature());
+            } else if (coolingRequest.targetRelativeHumidity() != null) {
+                coolingProcess = coolingService.computeCoolingForTargetRelativeHumidity(inletFlow, coolantData,
+                        coolingRequest.targetRelativeHumidity());
+            } else {
+                throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Cooling power, target temperature " +
+                                                                  "or target relative humidity must be specified");
+            }
+            return processMapper.toCoolingResponse(coolingProcess);
+        } catch (RuntimeException ex) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Cooling process at index " + index +
+                                                              " cannot be calculated. " + ex.getMessage());
+        }
+    }
+
+    private CoolingProcessResponse toCoolingResponse(CoolingProcess coolingProcess, boolean imperialUnits) {
+        CoolingProcessResponse coolingResponse = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toCoolingResponse(coolingProcess));
+        return imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, coolingResponse::toImperialUnits)
+                : coolingResponse;
+    }
+
+    private void validateCoolantRequirements(CoolingProcessRequest coolingRequest) {
+        CoolantDataRequest coolantData = coolingRequest.coolantData();
+        Temperature supplyTemp = coolantData.supplyTemperature();
+        Temperature returnTemp = coolantData.returnTemperature();
+
+        if (supplyTemp.isGreaterThan(returnTemp)) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Coolant supply temperature must not be " +
+                                                              "greater than return temperature. " +
+                                                              "t_supply = " + supplyTemp + ", t_return = " + returnTemp);
+        }
+    }
+
+    private void validateInputPowerRequirements(CoolingProcessRequest coolingRequest) {
+        if (coolingRequest.inputCoolingPower() == null) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Cooling power must be not null");
+        }
+    }
+
+    private void validateCoolingTemperatureRequirement(CoolingProcessRequest coolingRequest) {
+        Temperature targetTemp = coolingRequest.targetTemperature();
+        Temperature inletTemp = coolingRequest.inletAirFlow().inletTemperature();
+
+        if (targetTemp == null) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Target temperature must be not null");
+        }
+
+        if (targetTemp.isGreaterThan(inletTemp)) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Target temperature must be lower than " +
+                                                              "inlet temperature for cooling process. " +
+                                                              "t_target = " + targetTemp + ", t_inlet = " + inletTemp);
+        }
+    }
+
+    private void validateCoolingHumidityRequirement(CoolingProcessRequest coolingRequest) {
+        RelativeHumidity targetRH = coolingRequest.targetRelativeHumidity();
+
+        if (targetRH == null) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Target relative humidity must be not null");
+        }
+    }
+
+}
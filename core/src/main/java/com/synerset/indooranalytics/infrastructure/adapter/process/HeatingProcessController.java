@@ -2,17 +2,29 @@ package com.synerset.indooranalytics.infrastructure.adapter.process;
 
 import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
 import com.synerset.hvacengine.process.heating.Heating;
+import com.synerset.indooranalytics.domain.process.HeatingBatchInput;
+import com.synerset.indooranalytics.domain.process.HeatingBatchMode;
+import com.synerset.indooranalytics.domain.process.HeatingBatchResult;
 import com.synerset.indooranalytics.domain.process.HeatingProcessPort;
+import com.synerset.indooranalytics.domain.process.HeatingSweepInput;
 import com.synerset.indooranalytics.infrastructure.exceptionhandling.IndoorAnalyticsInvalidArgumentException;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhase;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhaseTimer;
 import com.synerset.indooranalyticsapi.process.heating.HeatingProcessRestService;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingBatchRequest;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingBatchResponse;
 import com.synerset.indooranalyticsapi.process.heating.data.HeatingProcessRequest;
 import com.synerset.indooranalyticsapi.process.heating.data.HeatingProcessResponse;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingSweepRequest;
 import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 class HeatingProcessController implements HeatingProcessRestService {
@@ -21,14 +33,20 @@ class HeatingProcessController implements HeatingProcessRestService {
     private final HeatingProcessPort heatingService;
     private final ProcessControllerMapper processMapper;
     private final MeterRegistry meterRegistry;
+    private final RequestPhaseTimer phaseTimer;
+    private final HeatingSweepWriter heatingSweepWriter;
 
     public HeatingProcessController(HeatingProcessPort heatingService,
                                     ProcessControllerMapper processMapper,
-                                    MeterRegistry meterRegistry) {
+                                    MeterRegistry meterRegistry,
+                                    RequestPhaseTimer phaseTimer,
+                                    HeatingSweepWriter heatingSweepWriter) {
 
         this.heatingService = heatingService;
         this.processMapper = processMapper;
         this.meterRegistry = meterRegistry;
+        this.phaseTimer = phaseTimer;
+        this.heatingSweepWriter = heatingSweepWriter;
     }
 
     @Override
@@ -36,10 +54,16 @@ class HeatingProcessController implements HeatingProcessRestService {
         LOGGER.debug("[REST CALL]: Requested heating of humid air for input power: {}", heatingRequest);
         meterRegistry.counter("process-heating-input-power").increment();
         validateInputPowerRequirements(heatingRequest);
-        FlowOfHumidAir inletFlow = processMapper.toFlowOfHumidAir(heatingRequest.inletAirFlow());
-        Heating heatingProcess = heatingService.computeHeatingForInputPower(inletFlow, heatingRequest.inputHeatingPower());
-        HeatingProcessResponse heatingResponse = processMapper.toHeatingResponse(heatingProcess);
-        return imperialUnits ? heatingResponse.toImperialUnits() : heatingResponse;
+        phaseTimer.startRequest("process-heating-input-power");
+        FlowOfHumidAir inletFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(heatingRequest.inletAirFlow()));
+        Heating heatingProcess = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                heatingService.computeHeatingForInputPower(inletFlow, heatingRequest.inputHeatingPower()));
+        HeatingProcessResponse heatingResponse = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toHeatingResponse(heatingProcess));
+        return imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, heatingResponse::toImperialUnits)
+                : heatingResponse;
     }
 
     @Override
@@ -47,10 +71,16 @@ class HeatingProcessController implements HeatingProcessRestService {
         LOGGER.debug("[REST CALL]: Requested heating of humid air for target temperature: {}", heatingRequest);
         meterRegistry.counter("process-heating-target-temperature").increment();
         validateHeatingTemperatureRequirement(heatingRequest);
-        FlowOfHumidAir inletFlow = processMapper.toFlowOfHumidAir(heatingRequest.inletAirFlow());
-        Heating heatingProcess = heatingService.computeHeatingForTargetTemperature(inletFlow, heatingRequest.targetTemperature());
-        HeatingProcessResponse heatingResponse = processMapper.toHeatingResponse(heatingProcess);
-        return imperialUnits ? heatingResponse.toImperialUnits() : heatingResponse;
+        phaseTimer.startRequest("process-heating-target-temperature");
+        FlowOfHumidAir inletFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(heatingRequest.inletAirFlow()));
+        Heating heatingProcess = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                heatingService.computeHeatingForTargetTemperature(inletFlow, heatingRequest.targetTemperature()));
+        HeatingProcessResponse heatingResponse = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toHeatingResponse(heatingProcess));
+        return imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, heatingResponse::toImperialUnits)
+                : heatingResponse;
     }
 
     @Override
@@ -58,10 +88,117 @@ class HeatingProcessController implements HeatingProcessRestService {
         LOGGER.debug("[REST CALL]: Requested heating of humid air for input data for relative humidity: {}", heatingRequest);
         meterRegistry.counter("process-heating-target-relative-humidity").increment();
         validateHeatingHumidityRequirement(heatingRequest);
-        FlowOfHumidAir inletFlow = processMapper.toFlowOfHumidAir(heatingRequest.inletAirFlow());
-        Heating heatingProcess = heatingService.computeHeatingForTargetRelativeHumidity(inletFlow, heatingRequest.targetRelativeHumidity());
-        HeatingProcessResponse heatingResponse = processMapper.toHeatingResponse(heatingProcess);
-        return imperialUnits ? heatingResponse.toImperialUnits() : heatingResponse;
+        phaseTimer.startRequest("process-heating-target-relative-humidity");
+        FlowOfHumidAir inletFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(heatingRequest.inletAirFlow()));
+        Heating heatingProcess = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                heatingService.computeHeatingForTargetRelativeHumidity(inletFlow, heatingRequest.targetRelativeHumidity()));
+        HeatingProcessResponse heatingResponse = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toHeatingResponse(heatingProcess));
+        return imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, heatingResponse::toImperialUnits)
+                : heatingResponse;
+    }
+
+    @Override
+    public HeatingBatchResponse getHeatingBatchForInputPower(HeatingBatchRequest heatingBatchRequest) {
+        LOGGER.debug("[REST CALL]: Requested batch heating of humid air for input power, rows: {}",
+                heatingBatchRequest.inletTemperature().length);
+        meterRegistry.counter("process-heating-batch-input-power").increment();
+        phaseTimer.startRequest("process-heating-batch-input-power");
+        return computeHeatingBatch(heatingBatchRequest, heatingBatchRequest.inputHeatingPower(), HeatingBatchMode.INPUT_POWER);
+    }
+
+    @Override
+    public HeatingBatchResponse getHeatingBatchForTargetTemperature(HeatingBatchRequest heatingBatchRequest) {
+        LOGGER.debug("[REST CALL]: Requested batch heating of humid air for target temperature, rows: {}",
+                heatingBatchRequest.inletTemperature().length);
+        meterRegistry.counter("process-heating-batch-target-temperature").increment();
+        phaseTimer.startRequest("process-heating-batch-target-temperature");
+        return computeHeatingBatch(heatingBatchRequest, heatingBatchRequest.targetTemperature(), HeatingBatchMode.TARGET_TEMPERATURE);
+    }
+
+    @Override
+    public HeatingBatchResponse getHeatingBatchForTargetRelativeHumidity(HeatingBatchRequest heatingBatchRequest) {
+        LOGGER.debug("[REST CALL]: Requested batch heating of humid air for target relative humidity, rows: {}",
+                heatingBatchRequest.inletTemperature().length);
+        meterRegistry.counter("process-heating-batch-target-relative-humidity").increment();
+        phaseTimer.startRequest("process-heating-batch-target-relative-humidity");
+        return computeHeatingBatch(heatingBatchRequest, heatingBatchRequest.targetRelativeHumidity(), HeatingBatchMode.TARGET_RELATIVE_HUMIDITY);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getHeatingSweep(HeatingSweepRequest heatingSweepRequest, String format) {
+        LOGGER.debug("[REST CALL]: Requested heating sweep: {}, format: {}", heatingSweepRequest, format);
+        meterRegistry.counter("process-heating-sweep").increment();
+        boolean csvFormat = validateSweepFormat(format);
+        validateSweepSize(heatingSweepRequest);
+
+        HeatingBatchMode mode;
+        double target;
+        if (heatingSweepRequest.inputHeatingPower() != null) {
+            mode = HeatingBatchMode.INPUT_POWER;
+            target = heatingSweepRequest.inputHeatingPower().getInKiloWatts();
+        } else if (heatingSweepRequest.targetTemperature() != null) {
+            mode = HeatingBatchMode.TARGET_TEMPERATURE;
+            target = heatingSweepRequest.targetTemperature().getInCelsius();
+        } else if (heatingSweepRequest.targetRelativeHumidity() != null) {
+            mode = HeatingBatchMode.TARGET_RELATIVE_HUMIDITY;
+            target = heatingSweepRequest.targetRelativeHumidity().getInPercent();
+        } else {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Input heating power, target temperature " +
+                                                              "or target relative humidity must be not null");
+        }
+
+        HeatingSweepInput sweepInput = processMapper.toHeatingSweepInput(heatingSweepRequest, target);
+        meterRegistry.counter("process-heating-sweep-points").increment(sweepInput.size());
+        StreamingResponseBody responseBody = csvFormat
+                ? outputStream -> heatingSweepWriter.writeCsv(sweepInput, mode, outputStream)
+                : outputStream -> heatingSweepWriter.writeJson(sweepInput, mode, outputStream);
+        return ResponseEntity.ok()
+                .contentType(csvFormat ? MediaType.parseMediaType(SWEEP_CSV_MEDIA_TYPE) : MediaType.APPLICATION_JSON)
+                .body(responseBody);
+    }
+
+    private HeatingBatchResponse computeHeatingBatch(HeatingBatchRequest heatingBatchRequest, double[] target,
+                                                     HeatingBatchMode mode) {
+
+        if (target == null) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Target column for " +
+                                                              mode.getStrategyName() + " must be not null");
+        }
+        HeatingBatchInput batchInput;
+        try {
+            batchInput = processMapper.toHeatingBatchInput(heatingBatchRequest, target);
+        } catch (IllegalArgumentException ex) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. " + ex.getMessage());
+        }
+        meterRegistry.counter("process-heating-batch-rows").increment(batchInput.size());
+        HeatingBatchResult batchResult = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                heatingService.computeHeatingBatch(batchInput, mode));
+        return phaseTimer.record(RequestPhase.MAPPING, () -> processMapper.toHeatingBatchResponse(batchResult, mode));
+    }
+
+    private boolean validateSweepFormat(String format) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return true;
+        }
+        if ("json".equalsIgnoreCase(format)) {
+            return false;
+        }
+        throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Unsupported sweep format: " + format +
+                                                          ", supported formats: json, csv");
+    }
+
+    private void validateSweepSize(HeatingSweepRequest heatingSweepRequest) {
+        // Sizes are compared as doubles, so that ranges too long for integer arithmetic are rejected as well
+        double temperatureLevels = heatingSweepRequest.inletTemperature().size();
+        double massFlowLevels = heatingSweepRequest.inletMassFlow().size();
+        if (!(temperatureLevels * massFlowLevels <= BATCH_MAX_SIZE)) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Number of sweep points must not exceed " +
+                                                              BATCH_MAX_SIZE + ", requested: " + temperatureLevels +
+                                                              " x " + massFlowLevels);
+        }
     }
 
     private void validateInputPowerRequirements(HeatingProcessRequest heatingRequest) {
@@ -0,0 +1,123 @@
+package com.synerset.indooranalytics.infrastructure.adapter.process;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.indooranalytics.domain.process.HeatingBatchMode;
+import com.synerset.indooranalytics.domain.process.HeatingBatchResult;
+import com.synerset.indooranalytics.domain.process.HeatingProcessPort;
+import com.synerset.indooranalytics.domain.process.HeatingSweepInput;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Evaluates heating sweep and writes its points as CSV or JSON array. Sweep is evaluated in chunks of temperature
+ * levels, of about {@value #POINTS_PER_CHUNK} points each. Each chunk is evaluated in parallel, written and flushed,
+ * so the client receives first points before the whole sweep is calculated and only a single chunk is held in memory.
+ */
+@Component
+class HeatingSweepWriter {
+
+    static final int POINTS_PER_CHUNK = 8192;
+    static final String[] COLUMNS = {"inletTemperature", "inletMassFlow", "heatingPower", "outletTemperature",
+            "outletRelativeHumidity", "outletHumidityRatio", "outletSpecificEnthalpy", "failureReason"};
+
+    private final ObjectMapper objectMapper;
+    private final HeatingProcessPort heatingService;
+
+    HeatingSweepWriter(ObjectMapper objectMapper, HeatingProcessPort heatingService) {
+        this.objectMapper = objectMapper;
+        this.heatingService = heatingService;
+    }
+
+    void writeJson(HeatingSweepInput sweepInput, HeatingBatchMode mode, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField("heatingStrategy", mode.getStrategyName());
+            generator.writeArrayFieldStart("points");
+            evaluateInChunks(sweepInput, mode, (chunkInput, chunkResult) -> {
+                for (int row = 0; row < chunkResult.size(); row++) {
+                    generator.writeStartObject();
+                    generator.writeNumberField(COLUMNS[0], inletTemperature(chunkInput, row));
+                    generator.writeNumberField(COLUMNS[1], inletMassFlow(chunkInput, row));
+                    generator.writeNumberField(COLUMNS[2], chunkResult.heatingPower()[row]);
+                    generator.writeNumberField(COLUMNS[3], chunkResult.outletTemperature()[row]);
+                    generator.writeNumberField(COLUMNS[4], chunkResult.outletRelativeHumidity()[row]);
+                    generator.writeNumberField(COLUMNS[5], chunkResult.outletHumidityRatio()[row]);
+                    generator.writeNumberField(COLUMNS[6], chunkResult.outletSpecificEnthalpy()[row]);
+                    generator.writeStringField(COLUMNS[7], chunkResult.failureReason()[row]);
+                    generator.writeEndObject();
+                }
+                generator.flush();
+            });
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    void writeCsv(HeatingSweepInput sweepInput, HeatingBatchMode mode, OutputStream outputStream) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+            evaluateInChunks(sweepInput, mode, (chunkInput, chunkResult) -> {
+                StringBuilder line = new StringBuilder(160);
+                for (int row = 0; row < chunkResult.size(); row++) {
+                    line.setLength(0);
+                    line.append(inletTemperature(chunkInput, row)).append(',')
+                            .append(inletMassFlow(chunkInput, row)).append(',')
+                            .append(chunkResult.heatingPower()[row]).append(',')
+                            .append(chunkResult.outletTemperature()[row]).append(',')
+                            .append(chunkResult.outletRelativeHumidity()[row]).append(',')
+                            .append(chunkResult.outletHumidityRatio()[row]).append(',')
+                            .append(chunkResult.outletSpecificEnthalpy()[row]).append(',');
+                    String failureReason = chunkResult.failureReason()[row];
+                    if (failureReason != null) {
+                        line.append('"').append(failureReason.replace("\"", "\"\"")).append('"');
+                    }
+                    line.append('\n');
+                    writer.append(line);
+                }
+                writer.flush();
+            });
+        }
+    }
+
+    private void evaluateInChunks(HeatingSweepInput sweepInput, HeatingBatchMode mode, ChunkConsumer chunkConsumer)
+            throws IOException {
+
+        double[] temperatureLevels = sweepInput.inletTemperature();
+        int levelsPerChunk = Math.max(1, POINTS_PER_CHUNK / sweepInput.inletMassFlow().length);
+        for (int fromLevel = 0; fromLevel < temperatureLevels.length; fromLevel += levelsPerChunk) {
+            int toLevel = Math.min(fromLevel + levelsPerChunk, temperatureLevels.length);
+            HeatingSweepInput chunkInput = new HeatingSweepInput(
+                    sweepInput.inletPressure(),
+                    Arrays.copyOfRange(temperatureLevels, fromLevel, toLevel),
+                    sweepInput.inletRelativeHumidity(),
+                    sweepInput.inletHumidityRatio(),
+                    sweepInput.inletMassFlow(),
+                    sweepInput.target()
+            );
+            chunkConsumer.accept(chunkInput, heatingService.computeHeatingSweep(chunkInput, mode));
+        }
+    }
+
+    private static double inletTemperature(HeatingSweepInput sweepInput, int row) {
+        return sweepInput.inletTemperature()[row / sweepInput.inletMassFlow().length];
+    }
+
+    private static double inletMassFlow(HeatingSweepInput sweepInput, int row) {
+        return sweepInput.inletMassFlow()[row % sweepInput.inletMassFlow().length];
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(HeatingSweepInput chunkInput, HeatingBatchResult chunkResult) throws IOException;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.synerset.indooranalytics.infrastructure.adapter.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.indooranalytics.domain.process.MixingProcess;
+import com.synerset.indooranalytics.domain.process.MixingProcessPort;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhase;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhaseTimer;
+import com.synerset.indooranalyticsapi.process.mixing.MixingProcessRestService;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingMultipleProcessRequest;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingProcessRequest;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingProcessResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+class MixingProcessController implements MixingProcessRestService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MixingProcessController.class);
+    private final MixingProcessPort mixingService;
+    private final ProcessControllerMapper processMapper;
+    private final MeterRegistry meterRegistry;
+    private final RequestPhaseTimer phaseTimer;
+
+    public MixingProcessController(MixingProcessPort mixingService,
+                                   ProcessControllerMapper processMapper,
+                                   MeterRegistry meterRegistry,
+                                   RequestPhaseTimer phaseTimer) {
+
+        this.mixingService = mixingService;
+        this.processMapper = processMapper;
+        this.meterRegistry = meterRegistry;
+        this.phaseTimer = phaseTimer;
+    }
+
+    @Override
+    public MixingProcessResponse getMixing(MixingProcessRequest mixingRequest, boolean imperialUnits) {
+        LOGGER.debug("[REST CALL]: Requested mixing of two humid air flows: {}", mixingRequest);
+        meterRegistry.counter("process-mixing").increment();
+        phaseTimer.startRequest("process-mixing");
+        FlowOfHumidAir inletFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(mixingRequest.inletAirFlow()));
+        FlowOfHumidAir recirculationFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(mixingRequest.recirculationAirFlow()));
+        MixingProcess mixingProcess = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                mixingService.computeMixing(inletFlow, recirculationFlow));
+        return toMixingResponse(mixingProcess, imperialUnits);
+    }
+
+    @Override
+    public MixingProcessResponse getMixingOfMultipleFlows(MixingMultipleProcessRequest mixingRequest, boolean imperialUnits) {
+        LOGGER.debug("[REST CALL]: Requested mixing of multiple humid air flows, mixing flows: {}",
+                mixingRequest.mixingAirFlows().size());
+        meterRegistry.counter("process-mixing-multiple").increment();
+        meterRegistry.counter("process-mixing-multiple-flows").increment(mixingRequest.mixingAirFlows().size());
+        phaseTimer.startRequest("process-mixing-multiple");
+        FlowOfHumidAir inletFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(mixingRequest.inletAirFlow()));
+        List<FlowOfHumidAir> mixingFlows = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowsOfHumidAir(mixingRequest.mixingAirFlows()));
+        MixingProcess mixingProcess = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                mixingService.computeMixingOfMultipleFlows(inletFlow, mixingFlows));
+        return toMixingResponse(mixingProcess, imperialUnits);
+    }
+
+    private MixingProcessResponse toMixingResponse(MixingProcess mixingProcess, boolean imperialUnits) {
+        MixingProcessResponse mixingResponse = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toMixingResponse(mixingProcess));
+        return imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, mixingResponse::toImperialUnits)
+                : mixingResponse;
+    }
+
+}
@@ -4,18 +4,49 @@ import com.synerset.hvacengine.fluids.FlowEquations;
 import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
 import com.synerset.hvacengine.fluids.humidair.HumidAir;
 import com.synerset.hvacengine.fluids.humidair.VapourState;
+import com.synerset.hvacengine.fluids.liquidwater.FlowOfLiquidWater;
 import com.synerset.hvacengine.process.heating.Heating;
 import com.synerset.hvacengine.process.heating.HeatingStrategy;
+import com.synerset.indooranalytics.domain.process.CoolantData;
+import com.synerset.indooranalytics.domain.process.CoolingMode;
+import com.synerset.indooranalytics.domain.process.CoolingProcess;
+import com.synerset.indooranalytics.domain.process.CoolingStep;
+import com.synerset.indooranalytics.domain.process.HeatingBatchInput;
+import com.synerset.indooranalytics.domain.process.HeatingBatchMode;
+import com.synerset.indooranalytics.domain.process.HeatingBatchResult;
+import com.synerset.indooranalytics.domain.process.HeatingStep;
+import com.synerset.indooranalytics.domain.process.HeatingSweepInput;
+import com.synerset.indooranalytics.domain.process.MixingMode;
+import com.synerset.indooranalytics.domain.process.MixingProcess;
+import com.synerset.indooranalytics.domain.process.MixingStep;
+import com.synerset.indooranalytics.domain.process.ProcessStep;
+import com.synerset.indooranalytics.domain.process.ProcessStepResult;
 import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
 import com.synerset.indooranalyticsapi.process.common.OutletAirFlowResponse;
+import com.synerset.indooranalyticsapi.process.cooling.data.CondensateFlowResponse;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolantDataRequest;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolingProcessResponse;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingBatchRequest;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingBatchResponse;
 import com.synerset.indooranalyticsapi.process.heating.data.HeatingProcessResponse;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingSweepRequest;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingProcessResponse;
+import com.synerset.indooranalyticsapi.process.pipeline.data.CoolingStepRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.HeatingStepRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.MixingStepRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessPipelineResponse;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessStepRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessStepResponse;
 import com.synerset.unitility.unitsystem.flow.MassFlow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
-interface ProcessControllerMapper {
+public interface ProcessControllerMapper {
 
     @Mapping(target = "inletPressure", source = "fluid.pressure")
     @Mapping(target = "inletTemperature", source = "fluid.temperature")
@@ -40,6 +71,34 @@ interface ProcessControllerMapper {
     @Mapping(target = "outletAirFlow", source = "outletFlow")
     HeatingProcessResponse toHeatingResponse(Heating heating);
 
+    @Mapping(target = "condPressure", source = "fluid.pressure")
+    @Mapping(target = "condTemperature", source = "fluid.temperature")
+    @Mapping(target = "condSpecificHeat", source = "fluid.specificHeat")
+    @Mapping(target = "condSpecificEnthalpy", source = "fluid.specificEnthalpy")
+    @Mapping(target = "condMassFlow", source = "massFlow")
+    @Mapping(target = "condVolFlow", source = "volFlow")
+    CondensateFlowResponse toCondensateFlowResponse(FlowOfLiquidWater flowOfLiquidWater);
+
+    @Mapping(target = "coolingStrategy", source = "mode")
+    @Mapping(target = "outletAirFlow", source = "outletFlow")
+    @Mapping(target = "waterCondensateFlow", source = "condensateFlow")
+    CoolingProcessResponse toCoolingResponse(CoolingProcess coolingProcess);
+
+    @Mapping(target = "mixingStrategy", source = "mode")
+    @Mapping(target = "outletAirFlow", source = "outletFlow")
+    MixingProcessResponse toMixingResponse(MixingProcess mixingProcess);
+
+    @Mapping(target = "process", source = "step")
+    @Mapping(target = "outletAirFlow", source = "outletFlow")
+    @Mapping(target = "waterCondensateFlow", source = "condensateFlow")
+    ProcessStepResponse toProcessStepResponse(ProcessStepResult processStepResult);
+
+    List<ProcessStepResponse> toProcessStepResponses(List<ProcessStepResult> processStepResults);
+
+    default ProcessPipelineResponse toPipelineResponse(List<ProcessStepResult> processStepResults) {
+        return new ProcessPipelineResponse(toProcessStepResponses(processStepResults));
+    }
+
     default FlowOfHumidAir toFlowOfHumidAir(InletAirFlowRequest inletAirFlowRequest) {
         HumidAir humidAir = inletAirFlowRequest.inletHumidityRatio() == null
                 ? HumidAir.of(inletAirFlowRequest.inletPressure(), inletAirFlowRequest.inletTemperature(), inletAirFlowRequest.inletRelativeHumidity())
@@ -52,6 +111,79 @@ interface ProcessControllerMapper {
         return FlowOfHumidAir.of(humidAir, massFlow);
     }
 
+    default List<FlowOfHumidAir> toFlowsOfHumidAir(List<InletAirFlowRequest> inletAirFlowRequests) {
+        List<FlowOfHumidAir> flowsOfHumidAir = new ArrayList<>(inletAirFlowRequests.size());
+        for (InletAirFlowRequest inletAirFlowRequest : inletAirFlowRequests) {
+            flowsOfHumidAir.add(toFlowOfHumidAir(inletAirFlowRequest));
+        }
+        return flowsOfHumidAir;
+    }
+
+    default CoolantData toCoolantData(CoolantDataRequest coolantDataRequest) {
+        return new CoolantData(coolantDataRequest.supplyTemperature(), coolantDataRequest.returnTemperature());
+    }
+
+    default List<ProcessStep> toProcessSteps(List<ProcessStepRequest> processStepRequests) {
+        List<ProcessStep> processSteps = new ArrayList<>(processStepRequests.size());
+        for (ProcessStepRequest processStepRequest : processStepRequests) {
+            processSteps.add(toProcessStep(processStepRequest));
+        }
+        return processSteps;
+    }
+
+    default ProcessStep toProcessStep(ProcessStepRequest processStepRequest) {
+        return switch (processStepRequest) {
+            case HeatingStepRequest heatingStep -> new HeatingStep(
+                    heatingStep.inputHeatingPower(),
+                    heatingStep.targetTemperature(),
+                    heatingStep.targetRelativeHumidity()
+            );
+            case CoolingStepRequest coolingStep -> new CoolingStep(
+                    toCoolantData(coolingStep.coolantData()),
+                    coolingStep.inputCoolingPower(),
+                    coolingStep.targetTemperature(),
+                    coolingStep.targetRelativeHumidity()
+            );
+            case MixingStepRequest mixingStep -> new MixingStep(toFlowsOfHumidAir(mixingStep.mixingAirFlows()));
+        };
+    }
+
+    default HeatingBatchInput toHeatingBatchInput(HeatingBatchRequest heatingBatchRequest, double[] target) {
+        return new HeatingBatchInput(
+                heatingBatchRequest.inletPressure(),
+                heatingBatchRequest.inletTemperature(),
+                heatingBatchRequest.inletRelativeHumidity(),
+                heatingBatchRequest.inletHumidityRatio(),
+                heatingBatchRequest.inletMassFlow(),
+                target
+        );
+    }
+
+    default HeatingSweepInput toHeatingSweepInput(HeatingSweepRequest heatingSweepRequest, double target) {
+        return new HeatingSweepInput(
+                heatingSweepRequest.inletPressure().getInPascals(),
+                heatingSweepRequest.inletTemperature().values(),
+                heatingSweepRequest.inletRelativeHumidity() == null
+                        ? Double.NaN : heatingSweepRequest.inletRelativeHumidity().getInPercent(),
+                heatingSweepRequest.inletHumidityRatio() == null
+                        ? Double.NaN : heatingSweepRequest.inletHumidityRatio().getInKilogramPerKilogram(),
+                heatingSweepRequest.inletMassFlow().values(),
+                target
+        );
+    }
+
+    default HeatingBatchResponse toHeatingBatchResponse(HeatingBatchResult heatingBatchResult, HeatingBatchMode mode) {
+        return new HeatingBatchResponse(
+                mode.getStrategyName(),
+                heatingBatchResult.heatingPower(),
+                heatingBatchResult.outletTemperature(),
+                heatingBatchResult.outletRelativeHumidity(),
+                heatingBatchResult.outletHumidityRatio(),
+                heatingBatchResult.outletSpecificEnthalpy(),
+                heatingBatchResult.failureReason()
+        );
+    }
+
     default String toHeatingStrategyAsString(HeatingStrategy heatingStrategy) {
         if (heatingStrategy == null) {
             return null;
@@ -59,6 +191,29 @@ interface ProcessControllerMapper {
         return heatingStrategy.getClass().getSimpleName();
     }
 
+    default String toCoolingStrategyAsString(CoolingMode coolingMode) {
+        if (coolingMode == null) {
+            return null;
+        }
+        return coolingMode.getStrategyName();
+    }
+
+    default String toMixingStrategyAsString(MixingMode mixingMode) {
+        if (mixingMode == null) {
+            return null;
+        }
+        return mixingMode.getStrategyName();
+    }
+
+    default String toProcessName(ProcessStep processStep) {
+        return switch (processStep) {
+            case null -> null;
+            case HeatingStep heatingStep -> "heating";
+            case CoolingStep coolingStep -> "cooling";
+            case MixingStep mixingStep -> "mixing";
+        };
+    }
+
     default String toVapourStateAsString(VapourState vapourState) {
         if (vapourState == null) {
             return null;
@@ -0,0 +1,66 @@
+package com.synerset.indooranalytics.infrastructure.adapter.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.indooranalytics.domain.process.ProcessPipelinePort;
+import com.synerset.indooranalytics.domain.process.ProcessStep;
+import com.synerset.indooranalytics.domain.process.ProcessStepResult;
+import com.synerset.indooranalytics.infrastructure.exceptionhandling.IndoorAnalyticsInvalidArgumentException;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhase;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhaseTimer;
+import com.synerset.indooranalyticsapi.process.pipeline.ProcessPipelineRestService;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessPipelineRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessPipelineResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+class ProcessPipelineController implements ProcessPipelineRestService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessPipelineController.class);
+    private final ProcessPipelinePort pipelineService;
+    private final ProcessControllerMapper processMapper;
+    private final MeterRegistry meterRegistry;
+    private final RequestPhaseTimer phaseTimer;
+
+    public ProcessPipelineController(ProcessPipelinePort pipelineService,
+                                     ProcessControllerMapper processMapper,
+                                     MeterRegistry meterRegistry,
+                                     RequestPhaseTimer phaseTimer) {
+
+        this.pipelineService = pipelineService;
+        this.processMapper = processMapper;
+        this.meterRegistry = meterRegistry;
+        this.phaseTimer = phaseTimer;
+    }
+
+    @Override
+    public ProcessPipelineResponse getPipeline(ProcessPipelineRequest pipelineRequest, boolean imperialUnits) {
+        LOGGER.debug("[REST CALL]: Requested process pipeline, steps: {}", pipelineRequest.steps().size());
+        meterRegistry.counter("process-pipeline").increment();
+        meterRegistry.counter("process-pipeline-steps").increment(pipelineRequest.steps().size());
+        phaseTimer.startRequest("process-pipeline");
+        FlowOfHumidAir inletFlow = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toFlowOfHumidAir(pipelineRequest.inletAirFlow()));
+        List<ProcessStep> steps = phaseTimer.record(RequestPhase.MAPPING, () -> toProcessSteps(pipelineRequest));
+        List<ProcessStepResult> stepResults = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                pipelineService.computePipeline(inletFlow, steps));
+        ProcessPipelineResponse pipelineResponse = phaseTimer.record(RequestPhase.MAPPING, () ->
+                processMapper.toPipelineResponse(stepResults));
+        return imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, pipelineResponse::toImperialUnits)
+                : pipelineResponse;
+    }
+
+    private List<ProcessStep> toProcessSteps(ProcessPipelineRequest pipelineRequest) {
+        try {
+            return processMapper.toProcessSteps(pipelineRequest.steps());
+        } catch (IllegalArgumentException ex) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. " + ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * Response body which writes itself directly to the generator of response, used in place of response records when
+ * direct response writer is enabled. Written by {@link DirectResponseHttpMessageConverter}.
+ */
+@FunctionalInterface
+interface DirectResponse {
+
+    void write(JsonGenerator generator, SerializerProvider provider) throws IOException;
+
+}
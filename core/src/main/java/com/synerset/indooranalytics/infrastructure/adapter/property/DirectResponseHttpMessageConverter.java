@@ -0,0 +1,87 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.synerset.indooranalytics.infrastructure.serialization.UnitConversions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes {@link DirectResponse} bodies of property endpoints, registered only if
+ * indoor-analytics.direct-response-writer.enabled is set to true. Response is written to the generator of the
+ * object mapper of Jackson converter matching the negotiated content type (JSON, CBOR or Smile), with serializer
+ * provider carrying {@link UnitConversions} requested for current request, so the output is identical to response
+ * record written by the Jackson converter itself.
+ */
+@Component
+@ConditionalOnProperty(name = "indoor-analytics.direct-response-writer.enabled", havingValue = "true")
+class DirectResponseHttpMessageConverter extends AbstractHttpMessageConverter<DirectResponse> {
+
+    private final List<AbstractJackson2HttpMessageConverter> jacksonConverters;
+
+    DirectResponseHttpMessageConverter(List<AbstractJackson2HttpMessageConverter> jacksonConverters) {
+        super(jacksonConverters.stream()
+                .flatMap(jacksonConverter -> jacksonConverter.getSupportedMediaTypes().stream())
+                .distinct()
+                .toArray(MediaType[]::new));
+        this.jacksonConverters = jacksonConverters;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DirectResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected DirectResponse readInternal(Class<? extends DirectResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Direct response can only be written.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(DirectResponse directResponse, HttpOutputMessage outputMessage) throws IOException {
+        ObjectMapper objectMapper = findObjectMapper(outputMessage.getHeaders().getContentType());
+        SerializationConfig config = UnitConversions.withRequestConversions(objectMapper.getSerializationConfig());
+        SerializerProvider provider = ((DefaultSerializerProvider) objectMapper.getSerializerProvider())
+                .createInstance(config, objectMapper.getSerializerFactory());
+
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            if (config.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+                generator.useDefaultPrettyPrinter();
+            }
+            directResponse.write(generator, provider);
+        }
+    }
+
+    private ObjectMapper findObjectMapper(MediaType contentType) {
+        for (AbstractJackson2HttpMessageConverter jacksonConverter : jacksonConverters) {
+            for (MediaType supportedMediaType : jacksonConverter.getSupportedMediaTypes()) {
+                if (contentType == null || supportedMediaType.includes(contentType)) {
+                    return jacksonConverter.getObjectMapper();
+                }
+            }
+        }
+        throw new IllegalStateException("No Jackson converter found for content type: " + contentType);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.synerset.hvacengine.fluids.dryair.DryAir;
+import com.synerset.indooranalyticsapi.property.data.DryAirResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes dry air as JSON directly from Hvac|Engine object, without creating {@link DryAirResponse} record and its
+ * imperial copy, in the same way as {@link HumidAirJsonWriter} does for humid air. Output is identical to serialized
+ * response record, in imperial units each quantity is converted as in {@link DryAirResponse#toImperialUnits()}.
+ */
+@Component
+class DryAirJsonWriter {
+
+    void writeDryAir(DryAir dryAir, boolean imperialUnits, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        generator.writeStartObject();
+        if (imperialUnits) {
+            provider.defaultSerializeField("temperature", dryAir.getTemperature().toFahrenheit(), generator);
+            provider.defaultSerializeField("pressure", dryAir.getPressure().toPsi(), generator);
+            provider.defaultSerializeField("density", dryAir.getDensity().toPoundPerCubicFoot(), generator);
+            provider.defaultSerializeField("specificHeat", dryAir.getSpecificHeat().toBTUPerPoundFahrenheit(), generator);
+            provider.defaultSerializeField("specificEnthalpy", dryAir.getSpecificEnthalpy().toBTUPerPound(), generator);
+            provider.defaultSerializeField("dynamicViscosity", dryAir.getDynamicViscosity().toPoise(), generator);
+            provider.defaultSerializeField("kinematicViscosity", dryAir.getKinematicViscosity().toSquareFootPerSecond(), generator);
+            provider.defaultSerializeField("thermalConductivity", dryAir.getThermalConductivity().toBTUPerHourFeetFahrenheit(), generator);
+        } else {
+            provider.defaultSerializeField("temperature", dryAir.getTemperature(), generator);
+            provider.defaultSerializeField("pressure", dryAir.getPressure(), generator);
+            provider.defaultSerializeField("density", dryAir.getDensity(), generator);
+            provider.defaultSerializeField("specificHeat", dryAir.getSpecificHeat(), generator);
+            provider.defaultSerializeField("specificEnthalpy", dryAir.getSpecificEnthalpy(), generator);
+            provider.defaultSerializeField("dynamicViscosity", dryAir.getDynamicViscosity(), generator);
+            provider.defaultSerializeField("kinematicViscosity", dryAir.getKinematicViscosity(), generator);
+            provider.defaultSerializeField("thermalConductivity", dryAir.getThermalConductivity(), generator);
+        }
+        provider.defaultSerializeField("prandtlNumber", dryAir.getPrandtlNumber(), generator);
+        generator.writeEndObject();
+    }
+
+}
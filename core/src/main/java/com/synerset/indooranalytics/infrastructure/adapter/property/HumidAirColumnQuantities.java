@@ -0,0 +1,87 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.HumidAirColumns;
+import com.synerset.unitility.unitsystem.dimensionless.PrandtlNumber;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.*;
+
+/**
+ * Reads values of a calculated row of {@link HumidAirColumns} as quantities, converted from SI units of columns to the
+ * units of {@link HumidAir} properties (°C, kJ/kg, kJ/(kg·K)), so that responses created from columns are written
+ * the same way as responses mapped from humid air.
+ */
+final class HumidAirColumnQuantities {
+
+    private static final double JOULES_PER_KILOJOULE = 1000;
+
+    private HumidAirColumnQuantities() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static Temperature temperature(HumidAirColumns columns, int row) {
+        return Temperature.ofKelvins(columns.temperature()[row]).toCelsius();
+    }
+
+    static Pressure pressure(HumidAirColumns columns, int row) {
+        return Pressure.ofPascal(columns.pressure()[row]);
+    }
+
+    static Density density(HumidAirColumns columns, int row) {
+        return Density.ofKilogramPerCubicMeter(columns.density()[row]);
+    }
+
+    static RelativeHumidity relativeHumidity(HumidAirColumns columns, int row) {
+        return RelativeHumidity.ofPercentage(columns.relativeHumidity()[row]);
+    }
+
+    static Pressure saturationPressure(HumidAirColumns columns, int row) {
+        return Pressure.ofPascal(columns.saturationPressure()[row]);
+    }
+
+    static HumidityRatio humidityRatio(HumidAirColumns columns, int row) {
+        return HumidityRatio.ofKilogramPerKilogram(columns.humidityRatio()[row]);
+    }
+
+    static HumidityRatio maxHumidityRatio(HumidAirColumns columns, int row) {
+        return HumidityRatio.ofKilogramPerKilogram(columns.maxHumidityRatio()[row]);
+    }
+
+    static Temperature wetBulbTemperature(HumidAirColumns columns, int row) {
+        return Temperature.ofKelvins(columns.wetBulbTemperature()[row]).toCelsius();
+    }
+
+    static Temperature dewPointTemperature(HumidAirColumns columns, int row) {
+        return Temperature.ofKelvins(columns.dewPointTemperature()[row]).toCelsius();
+    }
+
+    static SpecificHeat specificHeat(HumidAirColumns columns, int row) {
+        return SpecificHeat.ofKiloJoulePerKiloGramKelvin(columns.specificHeat()[row] / JOULES_PER_KILOJOULE);
+    }
+
+    static SpecificEnthalpy specificEnthalpy(HumidAirColumns columns, int row) {
+        return SpecificEnthalpy.ofKiloJoulePerKiloGram(columns.specificEnthalpy()[row] / JOULES_PER_KILOJOULE);
+    }
+
+    static DynamicViscosity dynamicViscosity(HumidAirColumns columns, int row) {
+        return DynamicViscosity.ofKiloGramPerMeterSecond(columns.dynamicViscosity()[row]);
+    }
+
+    static KinematicViscosity kinematicViscosity(HumidAirColumns columns, int row) {
+        return KinematicViscosity.ofSquareMeterPerSecond(columns.kinematicViscosity()[row]);
+    }
+
+    static ThermalConductivity thermalConductivity(HumidAirColumns columns, int row) {
+        return ThermalConductivity.ofWattsPerMeterKelvin(columns.thermalConductivity()[row]);
+    }
+
+    static ThermalDiffusivity thermalDiffusivity(HumidAirColumns columns, int row) {
+        return ThermalDiffusivity.ofSquareMeterPerSecond(columns.thermalDiffusivity()[row]);
+    }
+
+    static PrandtlNumber prandtlNumber(HumidAirColumns columns, int row) {
+        return PrandtlNumber.of(columns.prandtlNumber()[row]);
+    }
+
+}
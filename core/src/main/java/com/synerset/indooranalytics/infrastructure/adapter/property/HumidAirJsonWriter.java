@@ -0,0 +1,140 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.HumidAirColumns;
+import com.synerset.indooranalytics.domain.property.HumidAirKernel;
+import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes humid air as JSON directly from Hvac|Engine object, without creating {@link HumidAirResponse} record and its
+ * imperial copy. Fields are written in the order of record components, each value with the serializer of object mapper,
+ * so the output is identical to serialized response record. In imperial units each quantity is converted just before
+ * it is written, with the same conversions as in {@link HumidAirResponse#toImperialUnits()}. Calculated rows of
+ * {@link HumidAirColumns} are written in the same form, as if their response was mapped from humid air.
+ */
+@Component
+class HumidAirJsonWriter {
+
+    private final ObjectMapper objectMapper;
+
+    HumidAirJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates serializer provider to be used for writing values of a single response or stream. Serializers are
+     * resolved from the shared cache of object mapper.
+     */
+    SerializerProvider createSerializerProvider() {
+        return objectMapper.getSerializerProviderInstance();
+    }
+
+    void writeHumidAir(HumidAir humidAir, boolean imperialUnits, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        generator.writeStartObject();
+        provider.defaultSerializeField("vapourState", humidAir.getVapourState(), generator);
+        if (imperialUnits) {
+            provider.defaultSerializeField("temperature", humidAir.getTemperature().toFahrenheit(), generator);
+            provider.defaultSerializeField("pressure", humidAir.getPressure().toPsi(), generator);
+            provider.defaultSerializeField("density", humidAir.getDensity().toPoundPerCubicFoot(), generator);
+            provider.defaultSerializeField("relativeHumidity", humidAir.getRelativeHumidity(), generator);
+            provider.defaultSerializeField("saturationPressure", humidAir.getSaturationPressure().toPsi(), generator);
+            provider.defaultSerializeField("humidityRatio", humidAir.getHumidityRatio().toPoundPerPound(), generator);
+            provider.defaultSerializeField("maxHumidityRatio", humidAir.getMaxHumidityRatio().toPoundPerPound(), generator);
+            provider.defaultSerializeField("wetBulbTemperature", humidAir.getWetBulbTemperature().toFahrenheit(), generator);
+            provider.defaultSerializeField("dewPointTemperature", humidAir.getDewPointTemperature().toFahrenheit(), generator);
+            provider.defaultSerializeField("specificHeat", humidAir.getSpecificHeat().toBTUPerPoundFahrenheit(), generator);
+            provider.defaultSerializeField("specificEnthalpy", humidAir.getSpecificEnthalpy().toBTUPerPound(), generator);
+            provider.defaultSerializeField("dynamicViscosity", humidAir.getDynamicViscosity().toPoise(), generator);
+            provider.defaultSerializeField("kinematicViscosity", humidAir.getKinematicViscosity().toSquareFootPerSecond(), generator);
+            provider.defaultSerializeField("thermalConductivity", humidAir.getThermalConductivity().toBTUPerHourFeetFahrenheit(), generator);
+            provider.defaultSerializeField("thermalDiffusivity", humidAir.getThermalDiffusivity().toSquareFeetPerSecond(), generator);
+        } else {
+            provider.defaultSerializeField("temperature", humidAir.getTemperature(), generator);
+            provider.defaultSerializeField("pressure", humidAir.getPressure(), generator);
+            provider.defaultSerializeField("density", humidAir.getDensity(), generator);
+            provider.defaultSerializeField("relativeHumidity", humidAir.getRelativeHumidity(), generator);
+            provider.defaultSerializeField("saturationPressure", humidAir.getSaturationPressure(), generator);
+            provider.defaultSerializeField("humidityRatio", humidAir.getHumidityRatio(), generator);
+            provider.defaultSerializeField("maxHumidityRatio", humidAir.getMaxHumidityRatio(), generator);
+            provider.defaultSerializeField("wetBulbTemperature", humidAir.getWetBulbTemperature(), generator);
+            provider.defaultSerializeField("dewPointTemperature", humidAir.getDewPointTemperature(), generator);
+            provider.defaultSerializeField("specificHeat", humidAir.getSpecificHeat(), generator);
+            provider.defaultSerializeField("specificEnthalpy", humidAir.getSpecificEnthalpy(), generator);
+            provider.defaultSerializeField("dynamicViscosity", humidAir.getDynamicViscosity(), generator);
+            provider.defaultSerializeField("kinematicViscosity", humidAir.getKinematicViscosity(), generator);
+            provider.defaultSerializeField("thermalConductivity", humidAir.getThermalConductivity(), generator);
+            provider.defaultSerializeField("thermalDiffusivity", humidAir.getThermalDiffusivity(), generator);
+        }
+        provider.defaultSerializeField("prandtlNumber", humidAir.getPrandtlNumber(), generator);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a calculated row of {@link HumidAirColumns}, with the same output as for humid air of the same state.
+     * Quantities are created from columns only for the time of writing.
+     */
+    void writeHumidAir(HumidAirColumns columns, int row, boolean imperialUnits, JsonGenerator generator,
+                       SerializerProvider provider) throws IOException {
+
+        generator.writeStartObject();
+        provider.defaultSerializeField("vapourState", HumidAirKernel.vapourState(columns, row), generator);
+        if (imperialUnits) {
+            provider.defaultSerializeField("temperature", HumidAirColumnQuantities.temperature(columns, row).toFahrenheit(), generator);
+            provider.defaultSerializeField("pressure", HumidAirColumnQuantities.pressure(columns, row).toPsi(), generator);
+            provider.defaultSerializeField("density", HumidAirColumnQuantities.density(columns, row).toPoundPerCubicFoot(), generator);
+            provider.defaultSerializeField("relativeHumidity", HumidAirColumnQuantities.relativeHumidity(columns, row), generator);
+            provider.defaultSerializeField("saturationPressure", HumidAirColumnQuantities.saturationPressure(columns, row).toPsi(), generator);
+            provider.defaultSerializeField("humidityRatio", HumidAirColumnQuantities.humidityRatio(columns, row).toPoundPerPound(), generator);
+            provider.defaultSerializeField("maxHumidityRatio", HumidAirColumnQuantities.maxHumidityRatio(columns, row).toPoundPerPound(), generator);
+            provider.defaultSerializeField("wetBulbTemperature", HumidAirColumnQuantities.wetBulbTemperature(columns, row).toFahrenheit(), generator);
+            provider.defaultSerializeField("dewPointTemperature", HumidAirColumnQuantities.dewPointTemperature(columns, row).toFahrenheit(), generator);
+            provider.defaultSerializeField("specificHeat", HumidAirColumnQuantities.specificHeat(columns, row).toBTUPerPoundFahrenheit(), generator);
+            provider.defaultSerializeField("specificEnthalpy", HumidAirColumnQuantities.specificEnthalpy(columns, row).toBTUPerPound(), generator);
+            provider.defaultSerializeField("dynamicViscosity", HumidAirColumnQuantities.dynamicViscosity(columns, row).toPoise(), generator);
+            provider.defaultSerializeField("kinematicViscosity", HumidAirColumnQuantities.kinematicViscosity(columns, row).toSquareFootPerSecond(), generator);
+            provider.defaultSerializeField("thermalConductivity", HumidAirColumnQuantities.thermalConductivity(columns, row).toBTUPerHourFeetFahrenheit(), generator);
+            provider.defaultSerializeField("thermalDiffusivity", HumidAirColumnQuantities.thermalDiffusivity(columns, row).toSquareFeetPerSecond(), generator);
+        } else {
+            provider.defaultSerializeField("temperature", HumidAirColumnQuantities.temperature(columns, row), generator);
+            provider.defaultSerializeField("pressure", HumidAirColumnQuantities.pressure(columns, row), generator);
+            provider.defaultSerializeField("density", HumidAirColumnQuantities.density(columns, row), generator);
+            provider.defaultSerializeField("relativeHumidity", HumidAirColumnQuantities.relativeHumidity(columns, row), generator);
+            provider.defaultSerializeField("saturationPressure", HumidAirColumnQuantities.saturationPressure(columns, row), generator);
+            provider.defaultSerializeField("humidityRatio", HumidAirColumnQuantities.humidityRatio(columns, row), generator);
+            provider.defaultSerializeField("maxHumidityRatio", HumidAirColumnQuantities.maxHumidityRatio(columns, row), generator);
+            provider.defaultSerializeField("wetBulbTemperature", HumidAirColumnQuantities.wetBulbTemperature(columns, row), generator);
+            provider.defaultSerializeField("dewPointTemperature", HumidAirColumnQuantities.dewPointTemperature(columns, row), generator);
+            provider.defaultSerializeField("specificHeat", HumidAirColumnQuantities.specificHeat(columns, row), generator);
+            provider.defaultSerializeField("specificEnthalpy", HumidAirColumnQuantities.specificEnthalpy(columns, row), generator);
+            provider.defaultSerializeField("dynamicViscosity", HumidAirColumnQuantities.dynamicViscosity(columns, row), generator);
+            provider.defaultSerializeField("kinematicViscosity", HumidAirColumnQuantities.kinematicViscosity(columns, row), generator);
+            provider.defaultSerializeField("thermalConductivity", HumidAirColumnQuantities.thermalConductivity(columns, row), generator);
+            provider.defaultSerializeField("thermalDiffusivity", HumidAirColumnQuantities.thermalDiffusivity(columns, row), generator);
+        }
+        provider.defaultSerializeField("prandtlNumber", HumidAirColumnQuantities.prandtlNumber(columns, row), generator);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes all rows of calculated {@link HumidAirColumns} as JSON array, with the same output as for the list of
+     * responses mapped from columns.
+     */
+    void writeHumidAirArray(HumidAirColumns columns, boolean imperialUnits, JsonGenerator generator,
+                            SerializerProvider provider) throws IOException {
+
+        generator.writeStartArray();
+        for (int row = 0; row < columns.size(); row++) {
+            writeHumidAir(columns, row, imperialUnits, generator, provider);
+        }
+        generator.writeEndArray();
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.synerset.indooranalytics.domain.property.HumidAirColumns;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.indooranalyticsapi.common.InvalidResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates NDJSON stream of humid air states. Input is read in chunks of {@value #CHUNK_SIZE} lines, each chunk is
+ * validated in parallel, calculated as {@link HumidAirColumns} by primitive kernel, written to the output in the order
+ * of input and flushed. Only a single chunk is held in memory at a time. Each line is validated separately, including
+ * physically impossible states, invalid lines and states which could not be calculated are written as
+ * {@link InvalidResponse} lines.
+ * If direct writer is enabled, calculated rows are written by {@link HumidAirJsonWriter}, without creating response
+ * records.
+ */
+@Component
+class HumidAirStreamProcessor {
+
+    static final int CHUNK_SIZE = 1024;
+    private static final Logger LOGGER = LoggerFactory.getLogger(HumidAirStreamProcessor.class);
+    private static final char LINE_SEPARATOR = '\n';
+    private static final String SERVICE_NAME = "Indoor Analytics";
+    private static final String ERROR_MSG = "Invalid stream line, calculations are not possible. Cause: ";
+    private static final String CALCULATION_FAILURE = "CalculationFailure";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PhysicalPropertiesMapper propertiesMapper;
+    private final PhysicalPropertiesPort propertiesService;
+    private final MeterRegistry meterRegistry;
+    private final HumidAirJsonWriter humidAirWriter;
+    private final boolean directWriterEnabled;
+
+    HumidAirStreamProcessor(ObjectMapper objectMapper,
+                            Validator validator,
+                            PhysicalPropertiesMapper propertiesMapper,
+                            PhysicalPropertiesPort propertiesService,
+                            MeterRegistry meterRegistry,
+                            HumidAirJsonWriter humidAirWriter,
+                            @Value("${indoor-analytics.direct-response-writer.enabled:false}") boolean directWriterEnabled) {
+
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.propertiesMapper = propertiesMapper;
+        this.propertiesService = propertiesService;
+        this.meterRegistry = meterRegistry;
+        this.humidAirWriter = humidAirWriter;
+        this.directWriterEnabled = directWriterEnabled;
+    }
+
+    void process(InputStream inputStream, OutputStream outputStream, boolean imperialUnits) throws IOException {
+        ObjectWriter responseWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        SerializerProvider serializerProvider = humidAirWriter.createSerializerProvider();
+        try (MappingIterator<HumidAirStateRequest> requestIterator = objectMapper.readerFor(HumidAirStateRequest.class)
+                .readValues(inputStream);
+             JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+
+            generator.setRootValueSeparator(null);
+            List<Object> chunk = new ArrayList<>(CHUNK_SIZE);
+            boolean streamReadable = true;
+            while (streamReadable) {
+                streamReadable = readChunk(requestIterator, chunk);
+                List<Object> lines = chunk.parallelStream()
+                        .map(line -> line instanceof HumidAirStateRequest request ? validate(request) : line)
+                        .toList();
+                List<HumidAirStateRequest> validRequests = lines.stream()
+                        .filter(HumidAirStateRequest.class::isInstance)
+                        .map(HumidAirStateRequest.class::cast)
+                        .toList();
+                HumidAirColumns humidAirColumns = propertiesService.computeHumidAirPropertiesBatch(
+                        propertiesMapper.toHumidAirColumns(validRequests));
+                int row = 0;
+                for (Object line : lines) {
+                    if (line instanceof HumidAirStateRequest) {
+                        writeState(humidAirColumns, row++, imperialUnits, generator, responseWriter, serializerProvider);
+                    } else {
+                        responseWriter.writeValue(generator, line);
+                    }
+                    generator.writeRaw(LINE_SEPARATOR);
+                }
+                generator.flush();
+                meterRegistry.counter("property-humid-air-stream-states").increment(lines.size());
+                chunk.clear();
+            }
+        }
+    }
+
+    /**
+     * Reads up to {@value #CHUNK_SIZE} lines into the chunk. Lines which cannot be bound to request are added as
+     * invalid responses.
+     *
+     * @return false if the end of stream was reached or the stream cannot be read any further.
+     */
+    private boolean readChunk(MappingIterator<HumidAirStateRequest> requestIterator, List<Object> chunk) {
+        while (chunk.size() < CHUNK_SIZE) {
+            try {
+                if (!requestIterator.hasNextValue()) {
+                    return false;
+                }
+                chunk.add(requestIterator.nextValue());
+            } catch (DatabindException ex) {
+                // Iterator skips the rest of the invalid value, stream can be continued
+                chunk.add(toInvalidResponse(ex));
+            } catch (IOException ex) {
+                LOGGER.error(ERROR_MSG, ex);
+                chunk.add(toInvalidResponse(ex));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the request, if it describes a valid state, or invalid response otherwise.
+     */
+    private Object validate(HumidAirStateRequest request) {
+        Set<ConstraintViolation<HumidAirStateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+            return new InvalidResponse(SERVICE_NAME, "ConstraintViolationException", ERROR_MSG + message, ZonedDateTime.now());
+        }
+        try {
+            if (request.humidityRatio() == null) {
+                PhysicalStateValidator.validateRelativeHumidityState(request.pressure(), request.temperature(),
+                        request.relativeHumidity());
+            }
+            return request;
+        } catch (RuntimeException ex) {
+            return toInvalidResponse(ex);
+        }
+    }
+
+    private void writeState(HumidAirColumns humidAirColumns, int row, boolean imperialUnits, JsonGenerator generator,
+                            ObjectWriter responseWriter, SerializerProvider serializerProvider) throws IOException {
+
+        String failureReason = humidAirColumns.failureReason()[row];
+        if (failureReason != null) {
+            responseWriter.writeValue(generator, new InvalidResponse(SERVICE_NAME, CALCULATION_FAILURE,
+                    ERROR_MSG + failureReason, ZonedDateTime.now()));
+        } else if (directWriterEnabled) {
+            humidAirWriter.writeHumidAir(humidAirColumns, row, imperialUnits, generator, serializerProvider);
+        } else {
+            HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAirColumns, row);
+            responseWriter.writeValue(generator, imperialUnits ? humidAirResponse.toImperialUnits() : humidAirResponse);
+        }
+    }
+
+    private static InvalidResponse toInvalidResponse(Exception ex) {
+        return new InvalidResponse(SERVICE_NAME, ex.getClass().getSimpleName(), ERROR_MSG + ex.getMessage(),
+                ZonedDateTime.now());
+    }
+
+}
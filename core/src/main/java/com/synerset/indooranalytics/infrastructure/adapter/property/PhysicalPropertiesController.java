@@ -2,10 +2,14 @@ package com.synerset.indooranalytics.infrastructure.adapter.property;
 
 import com.synerset.hvacengine.fluids.dryair.DryAir;
 import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.HumidAirColumns;
 import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhase;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhaseTimer;
 import com.synerset.indooranalyticsapi.property.PhysicalPropertiesRestService;
 import com.synerset.indooranalyticsapi.property.data.DryAirResponse;
 import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
 import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
 import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
@@ -14,7 +18,14 @@ import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RestController
 class PhysicalPropertiesController implements PhysicalPropertiesRestService {
@@ -22,111 +33,207 @@ class PhysicalPropertiesController implements PhysicalPropertiesRestService {
     private static final Logger LOGGER = LoggerFactory.getLogger(PhysicalPropertiesController.class);
     private final PhysicalPropertiesMapper propertiesMapper;
     private final PhysicalPropertiesPort propertiesService;
+    private final HumidAirStreamProcessor humidAirStreamProcessor;
     private final MeterRegistry meterRegistry;
+    private final RequestPhaseTimer phaseTimer;
+    private final HumidAirJsonWriter humidAirWriter;
+    private final DryAirJsonWriter dryAirWriter;
+    private final boolean directWriterEnabled;
 
     PhysicalPropertiesController(PhysicalPropertiesMapper propertiesMapper,
                                  PhysicalPropertiesPort propertiesService,
-                                 MeterRegistry meterRegistry) {
+                                 HumidAirStreamProcessor humidAirStreamProcessor,
+                                 MeterRegistry meterRegistry,
+                                 RequestPhaseTimer phaseTimer,
+                                 HumidAirJsonWriter humidAirWriter,
+                                 DryAirJsonWriter dryAirWriter,
+                                 @Value("${indoor-analytics.direct-response-writer.enabled:false}") boolean directWriterEnabled) {
 
         this.propertiesMapper = propertiesMapper;
         this.propertiesService = propertiesService;
+        this.humidAirStreamProcessor = humidAirStreamProcessor;
         this.meterRegistry = meterRegistry;
+        this.phaseTimer = phaseTimer;
+        this.humidAirWriter = humidAirWriter;
+        this.dryAirWriter = dryAirWriter;
+        this.directWriterEnabled = directWriterEnabled;
     }
 
     @Override
-    public DryAirResponse getDryAirProperties(Temperature temperature, Pressure pressure, boolean imperialUnits) {
+    public ResponseEntity<?> getDryAirProperties(Temperature temperature, Pressure pressure, boolean imperialUnits) {
         LOGGER.debug("[REST CALL]: Requested dry air properties for: ta = {}, p_abs = {}", temperature, pressure);
         meterRegistry.counter("property-dry-air").increment();
-        DryAir dryAir = propertiesService.getDryAirProperties(pressure, temperature);
-        DryAirResponse dryAirResponse = propertiesMapper.toDryAirResponse(dryAir);
-        return imperialUnits ? dryAirResponse.toImperialUnits() : dryAirResponse;
+        phaseTimer.startRequest("property-dry-air");
+        DryAir dryAir = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                propertiesService.getDryAirProperties(pressure, temperature));
+        return toResponse(dryAir, imperialUnits);
     }
 
     @Override
-    public HumidAirResponse getHumidAirProperties(Temperature temperature,
-                                                  Pressure pressure,
-                                                  HumidityRatio humidityRatio,
-                                                  RelativeHumidity relativeHumidity,
-                                                  boolean imperialUnits) {
+    public ResponseEntity<?> getHumidAirProperties(Temperature temperature,
+                                                   Pressure pressure,
+                                                   HumidityRatio humidityRatio,
+                                                   RelativeHumidity relativeHumidity,
+                                                   boolean imperialUnits) {
 
         LOGGER.debug("[REST CALL]: Requested humid air properties based on dry bulb temperature (DBT) for: " +
                 "t_dbt = {}, p_abs = {}, x = {}, RH = {}", temperature, pressure, humidityRatio, relativeHumidity);
         meterRegistry.counter("property-humid-air").increment();
+        phaseTimer.startRequest("property-humid-air");
 
         if (humidityRatio == null && relativeHumidity == null) {
-            HumidAir humidAir = propertiesService.getHumidAirProperties(pressure, temperature, HumidityRatio.HUM_RATIO_MIN_LIMIT);
-            HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAir);
-            return imperialUnits ? humidAirResponse.toImperialUnits() : humidAirResponse;
+            HumidAir humidAir = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                    propertiesService.getHumidAirProperties(pressure, temperature, HumidityRatio.HUM_RATIO_MIN_LIMIT));
+            return toResponse(humidAir, imperialUnits);
+        }
+
+        if (humidityRatio == null) {
+            PhysicalStateValidator.validateRelativeHumidityState(pressure, temperature, relativeHumidity);
         }
 
-        HumidAir humidAir = humidityRatio == null
+        HumidAir humidAir = phaseTimer.record(RequestPhase.COMPUTATION, () -> humidityRatio == null
                 ? propertiesService.getHumidAirProperties(pressure, temperature, relativeHumidity)
-                : propertiesService.getHumidAirProperties(pressure, temperature, humidityRatio);
+                : propertiesService.getHumidAirProperties(pressure, temperature, humidityRatio));
 
-        HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAir);
-        return imperialUnits ? humidAirResponse.toImperialUnits() : humidAirResponse;
+        return toResponse(humidAir, imperialUnits);
     }
 
     @Override
-    public HumidAirResponse getHumidAirPropertiesFromWbt(Temperature wetBulbTemperature,
-                                                         RelativeHumidity relativeHumidity,
-                                                         Pressure pressure,
-                                                         boolean imperialUnits) {
+    public ResponseEntity<?> getHumidAirPropertiesBatch(List<HumidAirStateRequest> humidAirStates, boolean imperialUnits) {
+        LOGGER.debug("[REST CALL]: Requested humid air properties based on dry bulb temperature (DBT) for a batch of " +
+                "{} states", humidAirStates.size());
+        meterRegistry.counter("property-humid-air-batch").increment();
+        meterRegistry.counter("property-humid-air-batch-states").increment(humidAirStates.size());
+        phaseTimer.startRequest("property-humid-air-batch");
+        PhysicalStateValidator.validateBatchStates(humidAirStates);
+
+        HumidAirColumns inputColumns = phaseTimer.record(RequestPhase.MAPPING, () ->
+                propertiesMapper.toHumidAirColumns(humidAirStates));
+        HumidAirColumns humidAirColumns = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                propertiesService.computeHumidAirPropertiesBatch(inputColumns));
+        PhysicalStateValidator.validateCalculatedStates(humidAirColumns);
+        if (directWriterEnabled) {
+            DirectResponse directResponse = (generator, provider) ->
+                    humidAirWriter.writeHumidAirArray(humidAirColumns, imperialUnits, generator, provider);
+            return ResponseEntity.ok(directResponse);
+        }
+        List<HumidAirResponse> humidAirResponses = phaseTimer.record(RequestPhase.MAPPING, () ->
+                propertiesMapper.toHumidAirResponses(humidAirColumns));
+        return ResponseEntity.ok(imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, () ->
+                        humidAirResponses.stream().map(HumidAirResponse::toImperialUnits).toList())
+                : humidAirResponses);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getHumidAirPropertiesStream(InputStream humidAirStates, boolean imperialUnits) {
+        LOGGER.debug("[REST CALL]: Requested humid air properties based on dry bulb temperature (DBT) for NDJSON stream");
+        meterRegistry.counter("property-humid-air-stream").increment();
+
+        StreamingResponseBody responseBody = outputStream ->
+                humidAirStreamProcessor.process(humidAirStates, outputStream, imperialUnits);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
+
+    @Override
+    public ResponseEntity<?> getHumidAirPropertiesFromWbt(Temperature wetBulbTemperature,
+                                                          RelativeHumidity relativeHumidity,
+                                                          Pressure pressure,
+                                                          boolean imperialUnits) {
 
         LOGGER.debug("[REST CALL]: Requested humid air properties derived from wet bulb temperature (WBT) for: " +
                 "t_wbt = {}, p_abs = {}, RH = {}", wetBulbTemperature, pressure, relativeHumidity);
         meterRegistry.counter("property-humid-air-from-wbt").increment();
+        phaseTimer.startRequest("property-humid-air-from-wbt");
 
         RelativeHumidity inputRelHum = relativeHumidity == null ? RelativeHumidity.RH_MIN_LIMIT : relativeHumidity;
-        HumidAir humidAir = propertiesService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, inputRelHum);
-        HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAir);
-        return imperialUnits ? humidAirResponse.toImperialUnits() : humidAirResponse;
+        PhysicalStateValidator.validateWetBulbState(pressure, wetBulbTemperature);
+        HumidAir humidAir = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                propertiesService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, inputRelHum));
+        return toResponse(humidAir, imperialUnits);
     }
 
     @Override
-    public HumidAirResponse getHumidAirPropertiesFromTdp(Temperature dewPointTemperature,
-                                                         RelativeHumidity relativeHumidity,
-                                                         Pressure pressure,
-                                                         boolean imperialUnits) {
+    public ResponseEntity<?> getHumidAirPropertiesFromTdp(Temperature dewPointTemperature,
+                                                          RelativeHumidity relativeHumidity,
+                                                          Pressure pressure,
+                                                          boolean imperialUnits) {
 
         LOGGER.debug("[REST CALL]: Requested humid air properties derived from dew point temperature (DP) for: " +
                         "t_dp = {}, p_abs = {}, RH = {}", dewPointTemperature, pressure, relativeHumidity);
         meterRegistry.counter("property-humid-from-tdp").increment();
+        phaseTimer.startRequest("property-humid-from-tdp");
 
         RelativeHumidity inputRelHum = relativeHumidity == null ? RelativeHumidity.RH_MIN_LIMIT : relativeHumidity;
-        HumidAir humidAir = propertiesService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, inputRelHum);
-        HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAir);
-        return imperialUnits ? humidAirResponse.toImperialUnits() : humidAirResponse;
+        PhysicalStateValidator.validateDewPointState(pressure, dewPointTemperature, inputRelHum);
+        HumidAir humidAir = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                propertiesService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, inputRelHum));
+        return toResponse(humidAir, imperialUnits);
     }
 
     @Override
-    public HumidAirResponse getHumidAirPropertiesFromIx(SpecificEnthalpy specificEnthalpy,
-                                                        HumidityRatio humidityRatio,
-                                                        Pressure pressure,
-                                                        boolean imperialUnits) {
+    public ResponseEntity<?> getHumidAirPropertiesFromIx(SpecificEnthalpy specificEnthalpy,
+                                                         HumidityRatio humidityRatio,
+                                                         Pressure pressure,
+                                                         boolean imperialUnits) {
 
         LOGGER.debug("[REST CALL]: Requested humid air properties derived from a specific enthalpy (h) for: " +
                 "h = {}, p_abs = {}, x = {}", specificEnthalpy, pressure, humidityRatio);
         meterRegistry.counter("property-humid-air-from-ix").increment();
+        phaseTimer.startRequest("property-humid-air-from-ix");
 
-        HumidAir humidAir = propertiesService.getHumidAirPropertiesFromIx(pressure, specificEnthalpy, humidityRatio);
-        HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAir);
-        return imperialUnits ? humidAirResponse.toImperialUnits() : humidAirResponse;
+        HumidAir humidAir = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                propertiesService.getHumidAirPropertiesFromIx(pressure, specificEnthalpy, humidityRatio));
+        return toResponse(humidAir, imperialUnits);
     }
 
     @Override
-    public HumidAirResponse getHumidAirPropertiesFromXRh(HumidityRatio humidityRatio,
-                                                         RelativeHumidity relativeHumidity,
-                                                         Pressure pressure,
-                                                         boolean imperialUnits) {
+    public ResponseEntity<?> getHumidAirPropertiesFromXRh(HumidityRatio humidityRatio,
+                                                          RelativeHumidity relativeHumidity,
+                                                          Pressure pressure,
+                                                          boolean imperialUnits) {
 
         LOGGER.debug("[REST CALL]: Requested humid air properties derived from a humidity (x or RH) for: " +
                 "p_abs = {}, x = {}, RH = {}", pressure, humidityRatio, relativeHumidity);
         meterRegistry.counter("property-humid-air-from-xrh").increment();
+        phaseTimer.startRequest("property-humid-air-from-xrh");
 
-        HumidAir humidAir = propertiesService.getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity);
-        HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAir);
-        return imperialUnits ? humidAirResponse.toImperialUnits() : humidAirResponse;
+        PhysicalStateValidator.validateHumidityState(humidityRatio, relativeHumidity);
+        HumidAir humidAir = phaseTimer.record(RequestPhase.COMPUTATION, () ->
+                propertiesService.getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity));
+        return toResponse(humidAir, imperialUnits);
+    }
+
+    /**
+     * Returns humid air as response record or, if direct writer is enabled, as {@link DirectResponse} written from humid
+     * air without creating response records.
+     */
+    private ResponseEntity<?> toResponse(HumidAir humidAir, boolean imperialUnits) {
+        if (directWriterEnabled) {
+            DirectResponse directResponse = (generator, provider) ->
+                    humidAirWriter.writeHumidAir(humidAir, imperialUnits, generator, provider);
+            return ResponseEntity.ok(directResponse);
+        }
+        HumidAirResponse humidAirResponse = phaseTimer.record(RequestPhase.MAPPING, () ->
+                propertiesMapper.toHumidAirResponse(humidAir));
+        return ResponseEntity.ok(imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, humidAirResponse::toImperialUnits)
+                : humidAirResponse);
+    }
+
+    private ResponseEntity<?> toResponse(DryAir dryAir, boolean imperialUnits) {
+        if (directWriterEnabled) {
+            DirectResponse directResponse = (generator, provider) ->
+                    dryAirWriter.writeDryAir(dryAir, imperialUnits, generator, provider);
+            return ResponseEntity.ok(directResponse);
+        }
+        DryAirResponse dryAirResponse = phaseTimer.record(RequestPhase.MAPPING, () ->
+                propertiesMapper.toDryAirResponse(dryAir));
+        return ResponseEntity.ok(imperialUnits
+                ? phaseTimer.record(RequestPhase.IMPERIAL_CONVERSION, dryAirResponse::toImperialUnits)
+                : dryAirResponse);
     }
 
-}
\ No newline at end of file
+}
@@ -2,16 +2,75 @@ package com.synerset.indooranalytics.infrastructure.adapter.property;
 
 import com.synerset.hvacengine.fluids.dryair.DryAir;
 import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.HumidAirColumns;
+import com.synerset.indooranalytics.domain.property.HumidAirKernel;
 import com.synerset.indooranalyticsapi.property.data.DryAirResponse;
 import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
-interface PhysicalPropertiesMapper {
+public interface PhysicalPropertiesMapper {
 
     DryAirResponse toDryAirResponse(DryAir dryAir);
 
     HumidAirResponse toHumidAirResponse(HumidAir humidAir);
 
-}
\ No newline at end of file
+    /**
+     * Writes humid air states into input columns of {@link HumidAirColumns}, in SI units. Absent humidity ratio is left
+     * as NaN, so that the state is calculated from relative humidity.
+     */
+    default HumidAirColumns toHumidAirColumns(List<HumidAirStateRequest> humidAirStateRequests) {
+        HumidAirColumns humidAirColumns = HumidAirColumns.ofSize(humidAirStateRequests.size());
+        for (int row = 0; row < humidAirStateRequests.size(); row++) {
+            HumidAirStateRequest request = humidAirStateRequests.get(row);
+            humidAirColumns.pressure()[row] = request.pressure().getInPascals();
+            humidAirColumns.temperature()[row] = request.temperature().getInKelvins();
+            if (request.humidityRatio() == null) {
+                humidAirColumns.relativeHumidity()[row] = request.relativeHumidity().getInPercent();
+            } else {
+                humidAirColumns.humidityRatio()[row] = request.humidityRatio().getInKilogramPerKilogram();
+            }
+        }
+        return humidAirColumns;
+    }
+
+    /**
+     * Creates response from a calculated row of {@link HumidAirColumns}, with quantities in the same units as in
+     * response mapped from {@link HumidAir}.
+     */
+    default HumidAirResponse toHumidAirResponse(HumidAirColumns humidAirColumns, int row) {
+        return new HumidAirResponse(
+                HumidAirKernel.vapourState(humidAirColumns, row),
+                HumidAirColumnQuantities.temperature(humidAirColumns, row),
+                HumidAirColumnQuantities.pressure(humidAirColumns, row),
+                HumidAirColumnQuantities.density(humidAirColumns, row),
+                HumidAirColumnQuantities.relativeHumidity(humidAirColumns, row),
+                HumidAirColumnQuantities.saturationPressure(humidAirColumns, row),
+                HumidAirColumnQuantities.humidityRatio(humidAirColumns, row),
+                HumidAirColumnQuantities.maxHumidityRatio(humidAirColumns, row),
+                HumidAirColumnQuantities.wetBulbTemperature(humidAirColumns, row),
+                HumidAirColumnQuantities.dewPointTemperature(humidAirColumns, row),
+                HumidAirColumnQuantities.specificHeat(humidAirColumns, row),
+                HumidAirColumnQuantities.specificEnthalpy(humidAirColumns, row),
+                HumidAirColumnQuantities.dynamicViscosity(humidAirColumns, row),
+                HumidAirColumnQuantities.kinematicViscosity(humidAirColumns, row),
+                HumidAirColumnQuantities.thermalConductivity(humidAirColumns, row),
+                HumidAirColumnQuantities.thermalDiffusivity(humidAirColumns, row),
+                HumidAirColumnQuantities.prandtlNumber(humidAirColumns, row)
+        );
+    }
+
+    default List<HumidAirResponse> toHumidAirResponses(HumidAirColumns humidAirColumns) {
+        List<HumidAirResponse> humidAirResponses = new ArrayList<>(humidAirColumns.size());
+        for (int row = 0; row < humidAirColumns.size(); row++) {
+            humidAirResponses.add(toHumidAirResponse(humidAirColumns, row));
+        }
+        return humidAirResponses;
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+import com.synerset.indooranalytics.domain.property.HumidAirColumns;
+import com.synerset.indooranalytics.infrastructure.exceptionhandling.IndoorAnalyticsInvalidArgumentException;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rejects physically impossible humid air states before calculation, so that invalid input does not reach iterative
+ * solvers. Only closed-form checks are performed: partial pressure of water vapour cannot exceed total pressure, and
+ * a state cannot be derived from dew point temperature or humidity ratio of dry air (RH = 0%). Ranges of single inputs
+ * are validated by {@code @PhysicalRange} constraints of the REST api.
+ */
+final class PhysicalStateValidator {
+
+    static final int MAX_REPORTED_STATES = 20;
+
+    private PhysicalStateValidator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static void validateRelativeHumidityState(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity) {
+        String failure = relativeHumidityStateFailure(pressure, temperature, relativeHumidity);
+        if (failure != null) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. " + failure);
+        }
+    }
+
+    /**
+     * Validates every state of a batch given by relative humidity. Failures of all states are reported in a single
+     * exception, each with index of the state, up to {@value #MAX_REPORTED_STATES} states.
+     */
+    static void validateBatchStates(List<HumidAirStateRequest> humidAirStates) {
+        List<String> failures = new ArrayList<>();
+        int failedStates = 0;
+        for (int index = 0; index < humidAirStates.size(); index++) {
+            HumidAirStateRequest state = humidAirStates.get(index);
+            String failure = state.humidityRatio() == null
+                    ? relativeHumidityStateFailure(state.pressure(), state.temperature(), state.relativeHumidity())
+                    : null;
+            if (failure != null && ++failedStates <= MAX_REPORTED_STATES) {
+                failures.add("State at index " + index + ": " + failure);
+            }
+        }
+        rejectFailedStates(failures, failedStates);
+    }
+
+    /**
+     * Rejects a calculated batch, if any of its states could not be calculated. Failures are reported as in
+     * {@link #validateBatchStates(List)}.
+     */
+    static void validateCalculatedStates(HumidAirColumns humidAirColumns) {
+        List<String> failures = new ArrayList<>();
+        int failedStates = 0;
+        for (int row = 0; row < humidAirColumns.size(); row++) {
+            String failure = humidAirColumns.failureReason()[row];
+            if (failure != null && ++failedStates <= MAX_REPORTED_STATES) {
+                failures.add("State at index " + row + ": " + failure);
+            }
+        }
+        rejectFailedStates(failures, failedStates);
+    }
+
+    static void validateWetBulbState(Pressure pressure, Temperature wetBulbTemperature) {
+        validateSaturationState(pressure, wetBulbTemperature, "wet bulb");
+    }
+
+    static void validateDewPointState(Pressure pressure, Temperature dewPointTemperature, RelativeHumidity relativeHumidity) {
+        validateSaturationState(pressure, dewPointTemperature, "dew point");
+        validateHumidAir(relativeHumidity, "dew point temperature");
+    }
+
+    static void validateHumidityState(HumidityRatio humidityRatio, RelativeHumidity relativeHumidity) {
+        if (humidityRatio.getInKilogramPerKilogram() > 0) {
+            validateHumidAir(relativeHumidity, "humidity ratio");
+        }
+    }
+
+    private static String relativeHumidityStateFailure(Pressure pressure, Temperature temperature,
+                                                       RelativeHumidity relativeHumidity) {
+
+        double vapourPressure = relativeHumidity.getInPercent() / 100
+                                * HumidAirEquations.saturationPressure(temperature.getInCelsius());
+        if (vapourPressure >= pressure.getInPascals()) {
+            return "Water vapour partial pressure must be lower than total pressure. p_v = " + vapourPressure +
+                   " Pa, p_abs = " + pressure;
+        }
+        return null;
+    }
+
+    private static void rejectFailedStates(List<String> failures, int failedStates) {
+        if (failedStates > MAX_REPORTED_STATES) {
+            failures.add("and " + (failedStates - MAX_REPORTED_STATES) + " more invalid states");
+        }
+        if (!failures.isEmpty()) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. " + String.join("; ", failures));
+        }
+    }
+
+    private static void validateSaturationState(Pressure pressure, Temperature temperature, String temperatureName) {
+        double saturationPressure = HumidAirEquations.saturationPressure(temperature.getInCelsius());
+        if (saturationPressure >= pressure.getInPascals()) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Saturation pressure at " + temperatureName +
+                                                              " temperature must be lower than total pressure. " +
+                                                              "p_s = " + saturationPressure + " Pa, p_abs = " + pressure);
+        }
+    }
+
+    private static void validateHumidAir(RelativeHumidity relativeHumidity, String inputName) {
+        if (relativeHumidity.getInPercent() <= 0) {
+            throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Relative humidity must be greater than " +
+                                                              "0% to derive humid air state from " + inputName + ". " +
+                                                              "RH = " + relativeHumidity);
+        }
+    }
+
+}
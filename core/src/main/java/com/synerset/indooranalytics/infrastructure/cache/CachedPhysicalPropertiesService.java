@@ -0,0 +1,162 @@
+package com.synerset.indooranalytics.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synerset.hvacengine.fluids.dryair.DryAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Memoizing decorator of {@link PhysicalPropertiesPort}. Inputs are quantized to the configured resolution and
+ * calculation is performed for the quantized (snapped) input, so that each cache entry is a deterministic function
+ * of its key, regardless of which request populated it. As a consequence, results differ from the exact calculation
+ * by at most half of the quantization step of each input. Cache is bounded by size and time to live, hit, miss and
+ * eviction statistics are published to the meter registry under the "physical-properties" cache name.
+ * Failed calculations are not cached.
+ */
+public class CachedPhysicalPropertiesService implements PhysicalPropertiesPort {
+
+    static final String CACHE_NAME = "physical-properties";
+
+    private final PhysicalPropertiesPort propertiesService;
+    private final QuantizationResolution resolution;
+    private final Cache<PropertiesCacheKey, Object> cache;
+
+    public CachedPhysicalPropertiesService(PhysicalPropertiesPort propertiesService,
+                                           QuantizationResolution resolution,
+                                           long maximumSize,
+                                           Duration timeToLive,
+                                           MeterRegistry meterRegistry) {
+
+        this.propertiesService = propertiesService;
+        this.resolution = resolution;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public DryAir getDryAirProperties(Pressure pressure, Temperature temperature) {
+        long pressureStep = quantize(pressure.getInPascals(), resolution.pressurePa());
+        long temperatureStep = quantize(temperature.getInCelsius(), resolution.temperatureK());
+        PropertiesCacheKey key = new PropertiesCacheKey(PropertiesCacheKey.Operation.DRY_AIR, pressureStep, temperatureStep, 0);
+        return getOrCompute(key, () -> propertiesService.getDryAirProperties(
+                toPressure(pressureStep),
+                toTemperature(temperatureStep)));
+    }
+
+    @Override
+    public HumidAir getHumidAirProperties(Pressure pressure, Temperature temperature, HumidityRatio humidityRatio) {
+        long pressureStep = quantize(pressure.getInPascals(), resolution.pressurePa());
+        long temperatureStep = quantize(temperature.getInCelsius(), resolution.temperatureK());
+        long humidityRatioStep = quantize(humidityRatio.getInKilogramPerKilogram(), resolution.humidityRatioKgKg());
+        PropertiesCacheKey key = new PropertiesCacheKey(PropertiesCacheKey.Operation.HUMID_AIR_X, pressureStep, temperatureStep, humidityRatioStep);
+        return getOrCompute(key, () -> propertiesService.getHumidAirProperties(
+                toPressure(pressureStep),
+                toTemperature(temperatureStep),
+                toHumidityRatio(humidityRatioStep)));
+    }
+
+    @Override
+    public HumidAir getHumidAirProperties(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity) {
+        long pressureStep = quantize(pressure.getInPascals(), resolution.pressurePa());
+        long temperatureStep = quantize(temperature.getInCelsius(), resolution.temperatureK());
+        long relativeHumidityStep = quantize(relativeHumidity.getInPercent(), resolution.relativeHumidityPercent());
+        PropertiesCacheKey key = new PropertiesCacheKey(PropertiesCacheKey.Operation.HUMID_AIR_RH, pressureStep, temperatureStep, relativeHumidityStep);
+        return getOrCompute(key, () -> propertiesService.getHumidAirProperties(
+                toPressure(pressureStep),
+                toTemperature(temperatureStep),
+                toRelativeHumidity(relativeHumidityStep)));
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromWbt(Pressure pressure, Temperature wetBulbTemperature, RelativeHumidity relativeHumidity) {
+        long pressureStep = quantize(pressure.getInPascals(), resolution.pressurePa());
+        long temperatureStep = quantize(wetBulbTemperature.getInCelsius(), resolution.temperatureK());
+        long relativeHumidityStep = quantize(relativeHumidity.getInPercent(), resolution.relativeHumidityPercent());
+        PropertiesCacheKey key = new PropertiesCacheKey(PropertiesCacheKey.Operation.HUMID_AIR_WBT, pressureStep, temperatureStep, relativeHumidityStep);
+        return getOrCompute(key, () -> propertiesService.getHumidAirPropertiesFromWbt(
+                toPressure(pressureStep),
+                toTemperature(temperatureStep),
+                toRelativeHumidity(relativeHumidityStep)));
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromTdp(Pressure pressure, Temperature dewPointTemperature, RelativeHumidity relativeHumidity) {
+        long pressureStep = quantize(pressure.getInPascals(), resolution.pressurePa());
+        long temperatureStep = quantize(dewPointTemperature.getInCelsius(), resolution.temperatureK());
+        long relativeHumidityStep = quantize(relativeHumidity.getInPercent(), resolution.relativeHumidityPercent());
+        PropertiesCacheKey key = new PropertiesCacheKey(PropertiesCacheKey.Operation.HUMID_AIR_TDP, pressureStep, temperatureStep, relativeHumidityStep);
+        return getOrCompute(key, () -> propertiesService.getHumidAirPropertiesFromTdp(
+                toPressure(pressureStep),
+                toTemperature(temperatureStep),
+                toRelativeHumidity(relativeHumidityStep)));
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromIx(Pressure pressure, SpecificEnthalpy specificEnthalpy, HumidityRatio humidityRatio) {
+        long pressureStep = quantize(pressure.getInPascals(), resolution.pressurePa());
+        long specificEnthalpyStep = quantize(specificEnthalpy.getInKiloJoulesPerKiloGram(), resolution.specificEnthalpyKJKg());
+        long humidityRatioStep = quantize(humidityRatio.getInKilogramPerKilogram(), resolution.humidityRatioKgKg());
+        PropertiesCacheKey key = new PropertiesCacheKey(PropertiesCacheKey.Operation.HUMID_AIR_IX, pressureStep, specificEnthalpyStep, humidityRatioStep);
+        return getOrCompute(key, () -> propertiesService.getHumidAirPropertiesFromIx(
+                toPressure(pressureStep),
+                toSpecificEnthalpy(specificEnthalpyStep),
+                toHumidityRatio(humidityRatioStep)));
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromXRh(Pressure pressure, HumidityRatio humidityRatio, RelativeHumidity relativeHumidity) {
+        long pressureStep = quantize(pressure.getInPascals(), resolution.pressurePa());
+        long humidityRatioStep = quantize(humidityRatio.getInKilogramPerKilogram(), resolution.humidityRatioKgKg());
+        long relativeHumidityStep = quantize(relativeHumidity.getInPercent(), resolution.relativeHumidityPercent());
+        PropertiesCacheKey key = new PropertiesCacheKey(PropertiesCacheKey.Operation.HUMID_AIR_XRH, pressureStep, humidityRatioStep, relativeHumidityStep);
+        return getOrCompute(key, () -> propertiesService.getHumidAirPropertiesFromXRh(
+                toPressure(pressureStep),
+                toHumidityRatio(humidityRatioStep),
+                toRelativeHumidity(relativeHumidityStep)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getOrCompute(PropertiesCacheKey key, Supplier<T> calculation) {
+        return (T) cache.get(key, k -> calculation.get());
+    }
+
+    private Pressure toPressure(long step) {
+        return Pressure.ofPascal(step * resolution.pressurePa());
+    }
+
+    private Temperature toTemperature(long step) {
+        return Temperature.ofCelsius(step * resolution.temperatureK());
+    }
+
+    private RelativeHumidity toRelativeHumidity(long step) {
+        return RelativeHumidity.ofPercentage(step * resolution.relativeHumidityPercent());
+    }
+
+    private HumidityRatio toHumidityRatio(long step) {
+        return HumidityRatio.ofKilogramPerKilogram(step * resolution.humidityRatioKgKg());
+    }
+
+    private SpecificEnthalpy toSpecificEnthalpy(long step) {
+        return SpecificEnthalpy.ofKiloJoulePerKiloGram(step * resolution.specificEnthalpyKJKg());
+    }
+
+    private static long quantize(double value, double resolution) {
+        return Math.round(value / resolution);
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.synerset.indooranalytics.infrastructure.cache;
+
+import com.synerset.hvacengine.fluids.dryair.DryAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.HumidAirColumns;
+import com.synerset.indooranalytics.domain.property.HumidAirState;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight decorator of {@link PhysicalPropertiesPort}. Concurrent calls of solver-backed single requests (wet
+ * bulb, dew point, enthalpy and humidity inputs) with identical inputs share one in-flight calculation: the first caller
+ * computes the result, callers arriving while it is in progress wait for it and receive the same result or exception.
+ * Inputs are canonicalized to base units (Pa, °C, %, kg/kg, kJ/kg), so the same state given in different units is
+ * recognized as identical. Nothing is retained after calculation completes, results are not cached.<br>
+ * Closed-form requests (dry air, humid air from dry bulb temperature) and batches are delegated directly, as their
+ * calculation is cheaper than coordination of waiting callers.<br>
+ * Number of executed and coalesced calls is published to the meter registry as "physical-properties-coalescing"
+ * counter, tagged with result.
+ */
+public class CoalescingPhysicalPropertiesService implements PhysicalPropertiesPort {
+
+    static final String COUNTER_NAME = "physical-properties-coalescing";
+
+    private final PhysicalPropertiesPort propertiesService;
+    private final ConcurrentMap<PropertiesCacheKey, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+    private final Counter executedCalls;
+    private final Counter coalescedCalls;
+
+    public CoalescingPhysicalPropertiesService(PhysicalPropertiesPort propertiesService, MeterRegistry meterRegistry) {
+        this.propertiesService = propertiesService;
+        this.executedCalls = meterRegistry.counter(COUNTER_NAME, "result", "executed");
+        this.coalescedCalls = meterRegistry.counter(COUNTER_NAME, "result", "coalesced");
+    }
+
+    @Override
+    public DryAir getDryAirProperties(Pressure pressure, Temperature temperature) {
+        return propertiesService.getDryAirProperties(pressure, temperature);
+    }
+
+    @Override
+    public HumidAir getHumidAirProperties(Pressure pressure, Temperature temperature, HumidityRatio humidityRatio) {
+        return propertiesService.getHumidAirProperties(pressure, temperature, humidityRatio);
+    }
+
+    @Override
+    public HumidAir getHumidAirProperties(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity) {
+        return propertiesService.getHumidAirProperties(pressure, temperature, relativeHumidity);
+    }
+
+    @Override
+    public List<HumidAir> getHumidAirPropertiesBatch(List<HumidAirState> humidAirStates) {
+        return propertiesService.getHumidAirPropertiesBatch(humidAirStates);
+    }
+
+    @Override
+    public HumidAirColumns computeHumidAirPropertiesBatch(HumidAirColumns humidAirColumns) {
+        return propertiesService.computeHumidAirPropertiesBatch(humidAirColumns);
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromWbt(Pressure pressure, Temperature wetBulbTemperature, RelativeHumidity relativeHumidity) {
+        PropertiesCacheKey key = toKey(PropertiesCacheKey.Operation.HUMID_AIR_WBT, pressure.getInPascals(),
+                wetBulbTemperature.getInCelsius(), relativeHumidity.getInPercent());
+        return coalesce(key, () -> propertiesService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity));
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromTdp(Pressure pressure, Temperature dewPointTemperature, RelativeHumidity relativeHumidity) {
+        PropertiesCacheKey key = toKey(PropertiesCacheKey.Operation.HUMID_AIR_TDP, pressure.getInPascals(),
+                dewPointTemperature.getInCelsius(), relativeHumidity.getInPercent());
+        return coalesce(key, () -> propertiesService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, relativeHumidity));
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromIx(Pressure pressure, SpecificEnthalpy specificEnthalpy, HumidityRatio humidityRatio) {
+        PropertiesCacheKey key = toKey(PropertiesCacheKey.Operation.HUMID_AIR_IX, pressure.getInPascals(),
+                specificEnthalpy.getInKiloJoulesPerKiloGram(), humidityRatio.getInKilogramPerKilogram());
+        return coalesce(key, () -> propertiesService.getHumidAirPropertiesFromIx(pressure, specificEnthalpy, humidityRatio));
+    }
+
+    @Override
+    public HumidAir getHumidAirPropertiesFromXRh(Pressure pressure, HumidityRatio humidityRatio, RelativeHumidity relativeHumidity) {
+        PropertiesCacheKey key = toKey(PropertiesCacheKey.Operation.HUMID_AIR_XRH, pressure.getInPascals(),
+                humidityRatio.getInKilogramPerKilogram(), relativeHumidity.getInPercent());
+        return coalesce(key, () -> propertiesService.getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(PropertiesCacheKey key, Supplier<T> calculation) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(key, call);
+
+        if (inFlightCall != null) {
+            coalescedCalls.increment();
+            return (T) awaitResult(inFlightCall);
+        }
+
+        executedCalls.increment();
+        try {
+            T result = calculation.get();
+            call.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            // Errors complete the shared call as well, otherwise waiting callers would be blocked forever
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightCalls.remove(key, call);
+        }
+    }
+
+    private static Object awaitResult(CompletableFuture<Object> inFlightCall) {
+        try {
+            return inFlightCall.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static PropertiesCacheKey toKey(PropertiesCacheKey.Operation operation, double firstInput,
+                                            double secondInput, double thirdInput) {
+
+        return new PropertiesCacheKey(operation, Double.doubleToLongBits(firstInput),
+                Double.doubleToLongBits(secondInput), Double.doubleToLongBits(thirdInput));
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.synerset.indooranalytics.infrastructure.cache;
+
+/**
+ * Cache key of physical property calculation. Inputs are stored as quantization step indices, in order of the
+ * port method arguments. Unused inputs are set to zero. Exact keys, used for coalescing of in-flight calculations,
+ * store raw bits of input values in base units instead.
+ */
+record PropertiesCacheKey(Operation operation, long firstInput, long secondInput, long thirdInput) {
+
+    enum Operation {
+        DRY_AIR,
+        HUMID_AIR_X,
+        HUMID_AIR_RH,
+        HUMID_AIR_WBT,
+        HUMID_AIR_TDP,
+        HUMID_AIR_IX,
+        HUMID_AIR_XRH
+    }
+
+}
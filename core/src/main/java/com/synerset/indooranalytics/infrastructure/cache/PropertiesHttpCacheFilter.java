@@ -0,0 +1,119 @@
+package com.synerset.indooranalytics.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * HTTP caching of GET responses of physical properties, which are pure functions of request path, query parameters
+ * and requested media type. Successful responses are given a strong ETag, calculated from the response body, and
+ * Cache-Control header with the configured max-age. Conditional requests with matching If-None-Match header are
+ * answered with 304 (Not Modified) without body.<br>
+ * Optionally, response bodies are kept in memory, keyed by path, canonical query string (parameters sorted by name) and
+ * Accept header, so that repeated requests are answered without calculation. Body cache is bounded by size and time to
+ * live, statistics are published to the meter registry under the "properties-responses" cache name.
+ */
+public class PropertiesHttpCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_NAME = "properties-responses";
+
+    private final String cacheControl;
+    private final Cache<String, CachedResponse> bodyCache;
+
+    public PropertiesHttpCacheFilter(Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().getHeaderValue();
+        this.bodyCache = null;
+    }
+
+    public PropertiesHttpCacheFilter(Duration maxAge, long maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().getHeaderValue();
+        this.bodyCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bodyCache, CACHE_NAME);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String cacheKey = bodyCache == null ? null : toCacheKey(request);
+        CachedResponse cachedResponse = cacheKey == null ? null : bodyCache.getIfPresent(cacheKey);
+
+        if (cachedResponse == null) {
+            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, responseWrapper);
+            if (responseWrapper.getStatus() != HttpStatus.OK.value()) {
+                responseWrapper.copyBodyToResponse();
+                return;
+            }
+            byte[] body = responseWrapper.getContentAsByteArray();
+            cachedResponse = new CachedResponse(body, responseWrapper.getContentType(), toETag(body));
+            if (cacheKey != null) {
+                bodyCache.put(cacheKey, cachedResponse);
+            }
+        }
+
+        writeResponse(request, response, cachedResponse);
+    }
+
+    private void writeResponse(HttpServletRequest request, HttpServletResponse response, CachedResponse cachedResponse)
+            throws IOException {
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(HttpHeaders.ETAG, cachedResponse.eTag());
+        if (new ServletWebRequest(request, response).checkNotModified(cachedResponse.eTag())) {
+            return;
+        }
+        response.setContentType(cachedResponse.contentType());
+        response.setContentLength(cachedResponse.body().length);
+        response.getOutputStream().write(cachedResponse.body());
+    }
+
+    private static String toCacheKey(HttpServletRequest request) {
+        StringBuilder cacheKey = new StringBuilder(128)
+                .append(request.getRequestURI())
+                .append('?');
+        Map<String, String[]> sortedParameters = new TreeMap<>(request.getParameterMap());
+        sortedParameters.forEach((name, values) -> cacheKey.append(name).append('=')
+                .append(Arrays.toString(values)).append('&'));
+        return cacheKey.append('|')
+                .append(request.getHeader(HttpHeaders.ACCEPT))
+                .toString();
+    }
+
+    private static String toETag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private record CachedResponse(byte[] body, String contentType, String eTag) {
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.synerset.indooranalytics.infrastructure.cache;
+
+/**
+ * Resolution of input quantization used to build cache keys. Inputs falling into the same quantization step share
+ * one cache entry. Each resolution is expressed in the unit indicated by its name and must be positive.
+ *
+ * @param temperatureK                Temperature step, in K (equal to step in oC).
+ * @param pressurePa                  Pressure step, in Pa.
+ * @param relativeHumidityPercent     Relative humidity step, in %.
+ * @param humidityRatioKgKg           Humidity ratio step, in kg/kg.
+ * @param specificEnthalpyKJKg        Specific enthalpy step, in kJ/kg.
+ */
+public record QuantizationResolution(double temperatureK,
+                                     double pressurePa,
+                                     double relativeHumidityPercent,
+                                     double humidityRatioKgKg,
+                                     double specificEnthalpyKJKg) {
+
+    public QuantizationResolution {
+        requirePositive(temperatureK, "temperature");
+        requirePositive(pressurePa, "pressure");
+        requirePositive(relativeHumidityPercent, "relative humidity");
+        requirePositive(humidityRatioKgKg, "humidity ratio");
+        requirePositive(specificEnthalpyKJKg, "specific enthalpy");
+    }
+
+    private static void requirePositive(double resolution, String name) {
+        if (!(resolution > 0)) {
+            throw new IllegalArgumentException("Quantization resolution of " + name + " must be positive, but was: " + resolution);
+        }
+    }
+
+}
@@ -1,16 +1,103 @@
 package com.synerset.indooranalytics.infrastructure.configuration;
 
+import com.synerset.indooranalytics.domain.process.CoolingProcessPort;
 import com.synerset.indooranalytics.domain.process.HeatingProcessPort;
+import com.synerset.indooranalytics.domain.process.MixingProcessPort;
+import com.synerset.indooranalytics.domain.process.ProcessPipelinePort;
+import com.synerset.indooranalytics.domain.property.LookupTableGrid;
 import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.indooranalytics.domain.property.SolverListener;
+import com.synerset.indooranalytics.infrastructure.cache.CachedPhysicalPropertiesService;
+import com.synerset.indooranalytics.infrastructure.cache.CoalescingPhysicalPropertiesService;
+import com.synerset.indooranalytics.infrastructure.cache.QuantizationResolution;
+import com.synerset.indooranalytics.infrastructure.metrics.SolverMetricsListener;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
+@EnableConfigurationProperties({PropertiesCacheProperties.class, PropertiesTableProperties.class,
+        SolverInstrumentationProperties.class, PropertiesCoalescingProperties.class})
 class BeanServiceConfiguration {
 
     @Bean
-    PhysicalPropertiesPort createPhysicalPropertiesService() {
-        return PhysicalPropertiesPort.create();
+    PhysicalPropertiesPort createPhysicalPropertiesService(PropertiesCacheProperties cacheProperties,
+                                                           PropertiesTableProperties tableProperties,
+                                                           SolverInstrumentationProperties solverProperties,
+                                                           PropertiesCoalescingProperties coalescingProperties,
+                                                           SolverMetricsListener solverListener,
+                                                           MeterRegistry meterRegistry) {
+
+        return createPropertiesServiceChain(cacheProperties, tableProperties, solverProperties, coalescingProperties,
+                solverListener, meterRegistry, tableProperties.enabled());
+    }
+
+    /**
+     * Creates exact properties service wrapped with decorators enabled in configuration. Besides the bean, it is used
+     * by startup warm-up, which exercises the same decorators with its own listener and meter registry, so that
+     * warm-up calls are not recorded in application metrics. Lookup tables are built only if requested, warm-up does
+     * not build them a second time.
+     */
+    static PhysicalPropertiesPort createPropertiesServiceChain(PropertiesCacheProperties cacheProperties,
+                                                               PropertiesTableProperties tableProperties,
+                                                               SolverInstrumentationProperties solverProperties,
+                                                               PropertiesCoalescingProperties coalescingProperties,
+                                                               SolverListener solverListener,
+                                                               MeterRegistry meterRegistry,
+                                                               boolean buildTables) {
+
+        PhysicalPropertiesPort propertiesService = PhysicalPropertiesPort.create();
+
+        if (solverProperties.enabled()) {
+            propertiesService = PhysicalPropertiesPort.createInstrumented(propertiesService, solverListener,
+                    solverProperties.warmStart());
+        }
+
+        if (buildTables) {
+            propertiesService = createTabulatedService(propertiesService, tableProperties);
+        }
+
+        if (coalescingProperties.enabled()) {
+            propertiesService = new CoalescingPhysicalPropertiesService(propertiesService, meterRegistry);
+        }
+
+        if (!cacheProperties.enabled()) {
+            return propertiesService;
+        }
+
+        QuantizationResolution resolution = new QuantizationResolution(
+                cacheProperties.temperatureResolution(),
+                cacheProperties.pressureResolution(),
+                cacheProperties.relativeHumidityResolution(),
+                cacheProperties.humidityRatioResolution(),
+                cacheProperties.specificEnthalpyResolution()
+        );
+
+        return new CachedPhysicalPropertiesService(propertiesService, resolution, cacheProperties.maximumSize(),
+                cacheProperties.timeToLive(), meterRegistry);
+    }
+
+    private static PhysicalPropertiesPort createTabulatedService(PhysicalPropertiesPort exactService,
+                                                                 PropertiesTableProperties tableProperties) {
+
+        List<Pressure> pressureLevels = tableProperties.pressureLevels().stream()
+                .map(Pressure::ofPascal)
+                .toList();
+
+        LookupTableGrid grid = new LookupTableGrid(
+                tableProperties.minTemperature(),
+                tableProperties.maxTemperature(),
+                tableProperties.temperatureStep(),
+                tableProperties.minRelativeHumidity(),
+                tableProperties.maxRelativeHumidity(),
+                tableProperties.relativeHumidityStep()
+        );
+
+        return PhysicalPropertiesPort.createTabulated(exactService, pressureLevels, grid, tableProperties.errorTolerance());
     }
 
     @Bean
@@ -18,4 +105,22 @@ class BeanServiceConfiguration {
         return HeatingProcessPort.create();
     }
 
-}
\ No newline at end of file
+    @Bean
+    CoolingProcessPort createCoolingProcessService() {
+        return CoolingProcessPort.create();
+    }
+
+    @Bean
+    MixingProcessPort createMixingProcessService() {
+        return MixingProcessPort.create();
+    }
+
+    @Bean
+    ProcessPipelinePort createProcessPipelineService(HeatingProcessPort heatingService,
+                                                     CoolingProcessPort coolingService,
+                                                     MixingProcessPort mixingService) {
+
+        return ProcessPipelinePort.create(heatingService, coolingService, mixingService);
+    }
+
+}
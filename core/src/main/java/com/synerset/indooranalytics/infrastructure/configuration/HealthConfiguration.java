@@ -0,0 +1,60 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.indooranalytics.domain.process.HeatingProcessPort;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.indooranalytics.infrastructure.health.AdaptiveConcurrencyLimit;
+import com.synerset.indooranalytics.infrastructure.health.ComputationHealthIndicator;
+import com.synerset.indooranalytics.infrastructure.health.LoadSheddingFilter;
+import com.synerset.indooranalytics.infrastructure.health.LoadSheddingHealthIndicator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+class HealthConfiguration {
+
+    static final int LOAD_SHEDDING_FILTER_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    @Bean
+    ComputationHealthIndicator computationHealthIndicator(PhysicalPropertiesPort propertiesService,
+                                                          HeatingProcessPort heatingService) {
+
+        return new ComputationHealthIndicator(propertiesService, heatingService);
+    }
+
+    @Bean
+    AdaptiveConcurrencyLimit adaptiveConcurrencyLimit(LoadSheddingProperties sheddingProperties) {
+        return new AdaptiveConcurrencyLimit(sheddingProperties.initialLimit(), sheddingProperties.minLimit(),
+                sheddingProperties.maxLimit(), sheddingProperties.latencyTolerance(), sheddingProperties.backoffRatio(),
+                sheddingProperties.sampleWindow());
+    }
+
+    @Bean
+    LoadSheddingHealthIndicator loadSheddingHealthIndicator(AdaptiveConcurrencyLimit concurrencyLimit,
+                                                            LoadSheddingProperties sheddingProperties) {
+
+        return new LoadSheddingHealthIndicator(concurrencyLimit, sheddingProperties.readinessHoldTime());
+    }
+
+    @Bean
+    FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(AdaptiveConcurrencyLimit concurrencyLimit,
+                                                                  LoadSheddingProperties sheddingProperties,
+                                                                  ObjectMapper objectMapper,
+                                                                  MeterRegistry meterRegistry) {
+
+        LoadSheddingFilter sheddingFilter = new LoadSheddingFilter(concurrencyLimit,
+                sheddingProperties.solverHeavyShare(), sheddingProperties.retryAfter(), objectMapper, meterRegistry);
+
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(sheddingFilter);
+        registration.addUrlPatterns("/properties/*", "/processes/*");
+        registration.setOrder(LOAD_SHEDDING_FILTER_ORDER);
+        registration.setEnabled(sheddingProperties.enabled());
+        return registration;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import com.synerset.indooranalytics.infrastructure.cache.PropertiesHttpCacheFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HttpCacheProperties.class)
+class HttpCacheConfiguration {
+
+    static final String PROPERTIES_URL_PATTERN = "/properties/*";
+
+    @Bean
+    FilterRegistrationBean<PropertiesHttpCacheFilter> propertiesHttpCacheFilter(HttpCacheProperties cacheProperties,
+                                                                                MeterRegistry meterRegistry) {
+
+        PropertiesHttpCacheFilter cacheFilter = cacheProperties.bodyCacheEnabled()
+                ? new PropertiesHttpCacheFilter(cacheProperties.maxAge(), cacheProperties.bodyCacheMaximumSize(),
+                cacheProperties.bodyCacheTimeToLive(), meterRegistry)
+                : new PropertiesHttpCacheFilter(cacheProperties.maxAge());
+
+        FilterRegistrationBean<PropertiesHttpCacheFilter> registration = new FilterRegistrationBean<>(cacheFilter);
+        registration.addUrlPatterns(PROPERTIES_URL_PATTERN);
+        // Runs before load shedding, so that cached and not modified responses are served under overload as well
+        registration.setOrder(HealthConfiguration.LOAD_SHEDDING_FILTER_ORDER - 1);
+        registration.setEnabled(cacheProperties.enabled());
+        return registration;
+    }
+
+}
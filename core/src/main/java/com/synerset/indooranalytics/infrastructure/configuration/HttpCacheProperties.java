@@ -0,0 +1,18 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of HTTP caching of physical properties GET responses. Max age is returned in Cache-Control header. Body cache
+ * keeps serialized responses in memory, it is bounded by size and time to live.
+ */
+@ConfigurationProperties(prefix = "indoor-analytics.http-cache")
+record HttpCacheProperties(@DefaultValue("true") boolean enabled,
+                           @DefaultValue("1h") Duration maxAge,
+                           @DefaultValue("false") boolean bodyCacheEnabled,
+                           @DefaultValue("10000") long bodyCacheMaximumSize,
+                           @DefaultValue("1h") Duration bodyCacheTimeToLive) {
+}
@@ -0,0 +1,25 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of adaptive concurrency limit and load shedding of calculation requests. Sample window is the period of
+ * collecting latency samples, limit is updated at most once per window. Solver-heavy share is the part of the limit
+ * available for solver-heavy requests. Readiness hold time is the period after last rejected request, for
+ * which readiness is reported as OUT_OF_SERVICE.
+ */
+@ConfigurationProperties(prefix = "indoor-analytics.load-shedding")
+record LoadSheddingProperties(@DefaultValue("true") boolean enabled,
+                              @DefaultValue("64") int initialLimit,
+                              @DefaultValue("8") int minLimit,
+                              @DefaultValue("512") int maxLimit,
+                              @DefaultValue("2.0") double latencyTolerance,
+                              @DefaultValue("0.9") double backoffRatio,
+                              @DefaultValue("1s") Duration sampleWindow,
+                              @DefaultValue("0.75") double solverHeavyShare,
+                              @DefaultValue("1s") Duration retryAfter,
+                              @DefaultValue("5s") Duration readinessHoldTime) {
+}
@@ -0,0 +1,72 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import com.synerset.unitility.validation.PhysicalRange;
+import jakarta.validation.Constraint;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Runtime hints for GraalVM native image, in addition to hints inferred by Spring AOT processing. Ignored on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfiguration.IndoorAnalyticsRuntimeHints.class)
+class NativeImageConfiguration {
+
+    static class IndoorAnalyticsRuntimeHints implements RuntimeHintsRegistrar {
+
+        static final String API_PACKAGE = "com.synerset.indooranalyticsapi";
+
+        static final List<String> MAPPER_TYPES = List.of(
+                "com.synerset.indooranalytics.infrastructure.adapter.property.PhysicalPropertiesMapperImpl",
+                "com.synerset.indooranalytics.infrastructure.adapter.process.ProcessControllerMapperImpl"
+        );
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Request and response records, with their quantity types, are bound by Jackson through reflection. Besides
+            // controller signatures, inferred by AOT, they are also read and written directly by streaming writers
+            BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+            bindingRegistrar.registerReflectionHints(hints.reflection(), findApiRecords(classLoader));
+
+            // MapStruct generated mappers
+            MAPPER_TYPES.forEach(mapperType -> hints.reflection().registerType(TypeReference.of(mapperType),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+
+            // Physical range constraint attributes and its validators, instantiated reflectively by bean validation
+            hints.reflection().registerType(PhysicalRange.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            for (Class<?> validatorType : PhysicalRange.class.getAnnotation(Constraint.class).validatedBy()) {
+                hints.reflection().registerType(validatorType, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // Swagger UI static resources and version lookup of springdoc
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+            hints.resources().registerPattern("META-INF/maven/org.webjars/swagger-ui/pom.properties");
+        }
+
+        /**
+         * Finds all records of the api module, so that new request and response types are covered without listing them.
+         */
+        static Class<?>[] findApiRecords(ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) ->
+                    Record.class.getName().equals(metadataReader.getClassMetadata().getSuperClassName()));
+            return scanner.findCandidateComponents(API_PACKAGE).stream()
+                    .map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+                    .toArray(Class<?>[]::new);
+        }
+
+    }
+
+}
@@ -1,8 +1,13 @@
 package com.synerset.indooranalytics.infrastructure.configuration;
 
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.synerset.indooranalytics.infrastructure.serialization.FastQuantityModule;
+import com.synerset.indooranalytics.infrastructure.serialization.UnitConversionModule;
+import com.synerset.indooranalytics.infrastructure.serialization.UnitConversionTable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -13,4 +18,19 @@ class ObjectMapperConfiguration {
         objectMapper.registerModule(new JavaTimeModule());
     }
 
+    @Bean
+    Module fastQuantityModule() {
+        return new FastQuantityModule();
+    }
+
+    @Bean
+    Module unitConversionModule() {
+        return new UnitConversionModule();
+    }
+
+    @Bean
+    UnitConversionTable unitConversionTable() {
+        return UnitConversionTable.create();
+    }
+
 }
@@ -0,0 +1,21 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the memoizing cache in front of physical properties service. Resolutions define quantization step
+ * of cache keys for each input type.
+ */
+@ConfigurationProperties(prefix = "indoor-analytics.properties-cache")
+record PropertiesCacheProperties(@DefaultValue("false") boolean enabled,
+                                 @DefaultValue("100000") long maximumSize,
+                                 @DefaultValue("1h") Duration timeToLive,
+                                 @DefaultValue("0.01") double temperatureResolution,
+                                 @DefaultValue("1.0") double pressureResolution,
+                                 @DefaultValue("0.01") double relativeHumidityResolution,
+                                 @DefaultValue("0.00001") double humidityRatioResolution,
+                                 @DefaultValue("0.01") double specificEnthalpyResolution) {
+}
@@ -0,0 +1,11 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of single-flight coalescing of concurrent, identical physical properties calculations.
+ */
+@ConfigurationProperties(prefix = "indoor-analytics.properties-coalescing")
+record PropertiesCoalescingProperties(@DefaultValue("true") boolean enabled) {
+}
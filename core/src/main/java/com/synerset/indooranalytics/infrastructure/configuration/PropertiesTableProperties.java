@@ -0,0 +1,23 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Settings of the lookup table mode of physical properties service. Wet bulb and dew point requests are answered by
+ * interpolation in tables built at startup for each pressure level (in Pa), with input temperature (in °C) and
+ * relative humidity (in %) grid. Error tolerance (in K) is the accepted interpolation error of each grid cell.
+ */
+@ConfigurationProperties(prefix = "indoor-analytics.properties-table")
+record PropertiesTableProperties(@DefaultValue("false") boolean enabled,
+                                 @DefaultValue("101325") List<Double> pressureLevels,
+                                 @DefaultValue("-40") double minTemperature,
+                                 @DefaultValue("60") double maxTemperature,
+                                 @DefaultValue("0.5") double temperatureStep,
+                                 @DefaultValue("1") double minRelativeHumidity,
+                                 @DefaultValue("100") double maxRelativeHumidity,
+                                 @DefaultValue("1") double relativeHumidityStep,
+                                 @DefaultValue("0.01") double errorTolerance) {
+}
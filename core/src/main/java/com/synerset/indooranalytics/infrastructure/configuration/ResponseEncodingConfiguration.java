@@ -0,0 +1,63 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.synerset.indooranalytics.infrastructure.serialization.UnitConversions;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeType;
+
+/**
+ * Compact binary encodings of requests and responses, selected by content negotiation (Accept and Content-Type
+ * headers): CBOR (application/cbor) and Smile (application/x-jackson-smile). Mappers are created from the same builder
+ * as the JSON mapper, so quantities are serialized with the same modules and the same structure as in JSON.
+ * Smile encoder is configured to back-reference repeated string values, as each quantity repeats its unit symbol.
+ * Converters replace default binary converters of Spring MVC, which are created with a plain mapper without
+ * quantity modules.<br>
+ * Writers of all converters carry {@link UnitConversions} requested for current request.
+ */
+@Configuration
+class ResponseEncodingConfiguration {
+
+    @Bean
+    MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected ObjectWriter customizeWriter(ObjectWriter writer, MimeType mimeType, JavaType javaType) {
+                return UnitConversions.withRequestConversions(super.customizeWriter(writer, mimeType, javaType));
+            }
+        };
+    }
+
+    @Bean
+    MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build()) {
+            @Override
+            protected ObjectWriter customizeWriter(ObjectWriter writer, MimeType mimeType, JavaType javaType) {
+                return UnitConversions.withRequestConversions(super.customizeWriter(writer, mimeType, javaType));
+            }
+        };
+    }
+
+    @Bean
+    MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(smileFactory).build()) {
+            @Override
+            protected ObjectWriter customizeWriter(ObjectWriter writer, MimeType mimeType, JavaType javaType) {
+                return UnitConversions.withRequestConversions(super.customizeWriter(writer, mimeType, javaType));
+            }
+        };
+    }
+
+}
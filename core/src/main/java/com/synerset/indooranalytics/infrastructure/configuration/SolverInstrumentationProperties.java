@@ -0,0 +1,14 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of solver instrumentation. When enabled, iterative property inversions are resolved by instrumented solver,
+ * which records iteration count, time and failure reason of each solution. Warm start seeds the solver with the last
+ * solution on the same thread, it is applicable only if instrumentation is enabled.
+ */
+@ConfigurationProperties(prefix = "indoor-analytics.solver-instrumentation")
+record SolverInstrumentationProperties(@DefaultValue("false") boolean enabled,
+                                       @DefaultValue("false") boolean warmStart) {
+}
@@ -0,0 +1,52 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.indooranalytics.domain.process.HeatingProcessPort;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.indooranalytics.infrastructure.adapter.process.ProcessControllerMapper;
+import com.synerset.indooranalytics.infrastructure.adapter.property.PhysicalPropertiesMapper;
+import com.synerset.indooranalytics.infrastructure.metrics.SolverMetricsListener;
+import com.synerset.indooranalytics.infrastructure.warmup.StartupWarmUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WarmUpProperties.class)
+class WarmUpConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "indoor-analytics.warm-up.enabled", havingValue = "true")
+    StartupWarmUp startupWarmUp(PropertiesCacheProperties cacheProperties,
+                                PropertiesTableProperties tableProperties,
+                                SolverInstrumentationProperties solverProperties,
+                                PropertiesCoalescingProperties coalescingProperties,
+                                PhysicalPropertiesMapper propertiesMapper,
+                                ProcessControllerMapper processMapper,
+                                ObjectMapper objectMapper,
+                                WarmUpProperties warmUpProperties) {
+
+        // Warm-up services share classes and compiled code with application services, but not their meters and cache
+        MeterRegistry warmUpRegistry = new SimpleMeterRegistry();
+        PhysicalPropertiesPort propertiesService = BeanServiceConfiguration.createPropertiesServiceChain(cacheProperties,
+                tableProperties, solverProperties, coalescingProperties, new SolverMetricsListener(warmUpRegistry),
+                warmUpRegistry, false);
+
+        return new StartupWarmUp(propertiesService, HeatingProcessPort.create(), propertiesMapper, processMapper,
+                objectMapper, warmUpProperties.iterations());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "indoor-analytics.warm-up.exit-on-completion", havingValue = "true")
+    ApplicationListener<ApplicationReadyEvent> warmUpCompletionExit() {
+        // Application is ready after all runners completed, so classes loaded by warm-up are loaded by now
+        return event -> System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+
+}
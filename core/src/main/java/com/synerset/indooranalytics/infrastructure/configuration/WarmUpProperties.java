@@ -0,0 +1,15 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of startup warm-up. Each iteration calls every physical properties and heating operation once, with
+ * different inputs. With exit on completion, application exits as soon as it is ready, which is used by the training
+ * run recording class data sharing archive of Docker image, so that classes loaded by warm-up are archived as well.
+ */
+@ConfigurationProperties(prefix = "indoor-analytics.warm-up")
+record WarmUpProperties(@DefaultValue("false") boolean enabled,
+                        @DefaultValue("500") int iterations,
+                        @DefaultValue("false") boolean exitOnCompletion) {
+}
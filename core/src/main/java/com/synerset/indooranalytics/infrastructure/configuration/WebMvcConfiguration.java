@@ -0,0 +1,40 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhaseInterceptor;
+import com.synerset.indooranalytics.infrastructure.metrics.RequestPhaseTimer;
+import com.synerset.indooranalytics.infrastructure.serialization.FastQuantityConverter;
+import com.synerset.indooranalytics.infrastructure.serialization.UnitConversionInterceptor;
+import com.synerset.indooranalytics.infrastructure.serialization.UnitConversionTable;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+class WebMvcConfiguration implements WebMvcConfigurer {
+
+    private final RequestPhaseTimer requestPhaseTimer;
+    private final UnitConversionTable unitConversionTable;
+    private final ObjectMapper objectMapper;
+
+    WebMvcConfiguration(RequestPhaseTimer requestPhaseTimer, UnitConversionTable unitConversionTable,
+                        ObjectMapper objectMapper) {
+        this.requestPhaseTimer = requestPhaseTimer;
+        this.unitConversionTable = unitConversionTable;
+        this.objectMapper = objectMapper;
+    }
+
+    // Registered after converters of auto-configuration, converter added last takes precedence for the same types
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(new FastQuantityConverter(objectMapper));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestPhaseInterceptor(requestPhaseTimer));
+        registry.addInterceptor(new UnitConversionInterceptor(unitConversionTable));
+    }
+
+}
@@ -3,8 +3,13 @@ package com.synerset.indooranalytics.infrastructure.exceptionhandling;
 import com.synerset.brentsolver.BrentSolverException;
 import com.synerset.hvacengine.common.exceptions.HvacEngineArgumentException;
 import com.synerset.hvacengine.common.exceptions.HvacEngineMissingArgumentException;
+import com.synerset.indooranalytics.domain.process.ProcessCalculationException;
+import com.synerset.indooranalytics.domain.property.SolverConvergenceException;
 import com.synerset.indooranalyticsapi.common.InvalidResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSourceResolvable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -13,33 +18,49 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestControllerAdvice
 class GlobalRestExceptionHandler extends ResponseEntityExceptionHandler {
 
     private static final String ERROR_LOG_MSG = "Invalid request, calculations are not possible. Cause: ";
     private static final String SERVICE_NAME = "Indoor Analytics";
+    private static final String ERROR_COUNTER = "error-responses";
+    private static final Clock UTC_CLOCK = Clock.systemUTC();
+
+    private final MeterRegistry meterRegistry;
+    private final SampledErrorLogger errorLogger;
+
+    GlobalRestExceptionHandler(MeterRegistry meterRegistry,
+                               @Value("${indoor-analytics.error-logging.max-logs-per-second:10}") int maxLogsPerSecond) {
+
+        this.meterRegistry = meterRegistry;
+        this.errorLogger = new SampledErrorLogger(maxLogsPerSecond);
+    }
 
     @ExceptionHandler(value = {MethodArgumentTypeMismatchException.class})
     protected ResponseEntity<Object> handleParsingExceptions(RuntimeException ex, WebRequest request) {
-        logger.error(ERROR_LOG_MSG, ex);
+        logRejection(ex);
         Throwable rootCause = getRootCause(ex);
         InvalidResponse invalidResponse = new InvalidResponse(SERVICE_NAME, rootCause.getClass().getSimpleName(),
-                ERROR_LOG_MSG + rootCause.getMessage(), ZonedDateTime.now());
+                ERROR_LOG_MSG + rootCause.getMessage(), now());
         return handleExceptionInternal(ex, invalidResponse, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
     }
 
-    @ExceptionHandler(value = {ConstraintViolationException.class, IndoorAnalyticsInvalidArgumentException.class})
+    @ExceptionHandler(value = {ConstraintViolationException.class, IndoorAnalyticsInvalidArgumentException.class,
+            ProcessCalculationException.class})
     protected ResponseEntity<Object> handleValidationExceptions(Exception ex, WebRequest request) {
-        logger.error(ERROR_LOG_MSG, ex);
+        logRejection(ex);
         InvalidResponse invalidResponse = new InvalidResponse(SERVICE_NAME, ex.getClass().getSimpleName(),
-                ex.getMessage(), ZonedDateTime.now());
+                ex.getMessage(), now());
         return handleExceptionInternal(ex, invalidResponse, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
     }
 
@@ -47,7 +68,7 @@ class GlobalRestExceptionHandler extends ResponseEntityExceptionHandler {
     @SuppressWarnings("unchecked")
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers,
                                                                   HttpStatusCode status, WebRequest request) {
-        logger.error(ERROR_LOG_MSG, ex);
+        logRejection(ex);
         Object[] detailMessageArguments = ex.getDetailMessageArguments();
         String message;
         if (detailMessageArguments != null) {
@@ -60,27 +81,49 @@ class GlobalRestExceptionHandler extends ResponseEntityExceptionHandler {
             message = "Cause could not be determined";
         }
         InvalidResponse invalidResponse = new InvalidResponse(SERVICE_NAME, ex.getClass().getSimpleName(),
-                ERROR_LOG_MSG + message, ZonedDateTime.now());
+                ERROR_LOG_MSG + message, now());
+        return handleExceptionInternal(ex, invalidResponse, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleHandlerMethodValidationException(HandlerMethodValidationException ex,
+                                                                            HttpHeaders headers, HttpStatusCode status,
+                                                                            WebRequest request) {
+        logRejection(ex);
+        String message = ex.getAllValidationResults().stream()
+                .flatMap(result -> result.getResolvableErrors().stream())
+                .map(MessageSourceResolvable::getDefaultMessage)
+                .collect(Collectors.joining(", "));
+        InvalidResponse invalidResponse = new InvalidResponse(SERVICE_NAME, ex.getClass().getSimpleName(),
+                ERROR_LOG_MSG + message, now());
         return handleExceptionInternal(ex, invalidResponse, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
     }
 
-    @ExceptionHandler(value = {BrentSolverException.class})
+    @ExceptionHandler(value = {BrentSolverException.class, SolverConvergenceException.class})
     protected ResponseEntity<Object> handleSolverExceptions(RuntimeException ex, WebRequest request) {
-        logger.error(ERROR_LOG_MSG, ex);
+        logRejection(ex);
         InvalidResponse invalidResponse = new InvalidResponse(SERVICE_NAME, ex.getClass().getSimpleName(),
-                ERROR_LOG_MSG + "Solver convergence failure, reason: " + ex.getMessage(), ZonedDateTime.now());
+                ERROR_LOG_MSG + "Solver convergence failure, reason: " + ex.getMessage(), now());
         return handleExceptionInternal(ex, invalidResponse, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
     }
 
     @ExceptionHandler(value = {HvacEngineArgumentException.class, HvacEngineMissingArgumentException.class})
     protected ResponseEntity<Object> handleArgumentExceptions(RuntimeException ex, WebRequest request) {
-        logger.error(ERROR_LOG_MSG, ex);
+        logRejection(ex);
         InvalidResponse invalidResponse = new InvalidResponse(SERVICE_NAME, ex.getClass().getSimpleName(),
                 ERROR_LOG_MSG + "Unphysical value caused calculation failure. " + ex.getMessage(),
-                ZonedDateTime.now());
+                now());
         return handleExceptionInternal(ex, invalidResponse, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
     }
 
+    private void logRejection(Exception ex) {
+        meterRegistry.counter(ERROR_COUNTER, "cause", ex.getClass().getSimpleName()).increment();
+        errorLogger.log(ERROR_LOG_MSG, ex);
+    }
+
+    private static ZonedDateTime now() {
+        return ZonedDateTime.now(UTC_CLOCK);
+    }
 
     private static Throwable getRootCause(Throwable e) {
         Throwable rootCause = e;
@@ -1,7 +1,11 @@
 package com.synerset.indooranalytics.infrastructure.exceptionhandling;
 
+/**
+ * Thrown if request input is invalid. Stack trace is not captured, as the message fully describes the rejection and
+ * invalid input is a common, expected outcome.
+ */
 public class IndoorAnalyticsInvalidArgumentException extends RuntimeException {
     public IndoorAnalyticsInvalidArgumentException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,70 @@
+package com.synerset.indooranalytics.infrastructure.exceptionhandling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Logger of rejected requests, limiting log I/O during bursts of invalid input. At most the configured number of
+ * rejections per second is logged, the rest is only counted and the count is reported with the next logged rejection.
+ * Rejections are logged at WARN level with message only, stack traces are included at DEBUG level.
+ */
+class SampledErrorLogger {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GlobalRestExceptionHandler.class);
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxLogsPerSecond;
+    private final LongSupplier nanoClock;
+    private final AtomicLong windowStart;
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    SampledErrorLogger(int maxLogsPerSecond) {
+        this(maxLogsPerSecond, System::nanoTime);
+    }
+
+    SampledErrorLogger(int maxLogsPerSecond, LongSupplier nanoClock) {
+        this.maxLogsPerSecond = maxLogsPerSecond;
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Logs the rejection, unless the limit of logs in current second is reached.
+     *
+     * @return true if the rejection was logged, false if it was only counted.
+     */
+    boolean log(String message, Throwable ex) {
+        if (!tryAcquire()) {
+            skippedCount.incrementAndGet();
+            return false;
+        }
+        long skipped = skippedCount.getAndSet(0);
+        String skippedInfo = skipped == 0 ? "" : " [" + skipped + " rejections not logged]";
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(message + skippedInfo, ex);
+        } else {
+            LOGGER.warn("{}{}: {}{}", message, ex.getClass().getSimpleName(), ex.getMessage(), skippedInfo);
+        }
+        return true;
+    }
+
+    long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    private boolean tryAcquire() {
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= maxLogsPerSecond;
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.synerset.indooranalytics.infrastructure.health;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit adapted to observed latency, in the manner of TCP Vegas. Latency samples are collected in windows
+ * of fixed duration, separately for each {@link LatencyClass}. At the end of a window, the lowest latency of each class
+ * is compared with its baseline, which follows the lowest window latency and drifts slowly towards recent windows.
+ * If the lowest latency of any class exceeds its baseline by more than the configured tolerance, even the fastest
+ * requests are waiting, so limit is reduced by the backoff ratio. Otherwise, if at least half of the limit was in use
+ * within the window, limit grows by its square root. Limit changes at most once per window, classes with too few
+ * samples in a window are not taken into account, and limit stays within configured bounds.<br>
+ * Callers acquire a share of the limit: requests of lower priority are given a smaller share, so they are rejected
+ * first when the service becomes saturated.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    static final int MIN_WINDOW_SAMPLES = 5;
+    private static final double BASELINE_DRIFT = 0.01;
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong lastRejectionNanos = new AtomicLong(NEVER);
+    private final Map<LatencyClass, LatencyWindow> latencyWindows = new EnumMap<>(LatencyClass.class);
+    private volatile int limit;
+    private long windowStartNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double latencyTolerance,
+                                    double backoffRatio, Duration sampleWindow) {
+
+        this(initialLimit, minLimit, maxLimit, latencyTolerance, backoffRatio, sampleWindow, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double latencyTolerance,
+                             double backoffRatio, Duration sampleWindow, LongSupplier nanoClock) {
+
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy: 1 <= min <= initial <= max. " +
+                                               "min = " + minLimit + ", initial = " + initialLimit + ", max = " + maxLimit);
+        }
+        if (sampleWindow.isNegative() || sampleWindow.isZero()) {
+            throw new IllegalArgumentException("Sample window must be positive. window = " + sampleWindow);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.windowNanos = sampleWindow.toNanos();
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.windowStartNanos = nanoClock.getAsLong();
+        for (LatencyClass latencyClass : LatencyClass.values()) {
+            latencyWindows.put(latencyClass, new LatencyWindow());
+        }
+    }
+
+    /**
+     * Acquires a permit, if number of requests in flight is lower than the given share of current limit.
+     *
+     * @param limitShare The share of limit available for the caller, from 0 to 1.
+     * @return true if permit was acquired, false if request should be rejected.
+     */
+    public boolean tryAcquire(double limitShare) {
+        int allowed = Math.max(1, (int) (limit * limitShare));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                lastRejectionNanos.set(nanoClock.getAsLong());
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit, without updating the limit.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Releases a permit and records the latency of completed request, limit is updated when the window ends.
+     *
+     * @param latencyClass The class of completed request.
+     * @param latencyNanos The latency of completed request, in nanoseconds.
+     */
+    public void release(LatencyClass latencyClass, long latencyNanos) {
+        inFlight.decrementAndGet();
+        recordSample(latencyClass, latencyNanos);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Checks if any request was rejected within the given period.
+     *
+     * @param periodNanos The period, in nanoseconds.
+     * @return true if a request was rejected within the period.
+     */
+    public boolean isRejectingWithin(long periodNanos) {
+        long lastRejection = lastRejectionNanos.get();
+        return lastRejection != NEVER && nanoClock.getAsLong() - lastRejection < periodNanos;
+    }
+
+    private synchronized void recordSample(LatencyClass latencyClass, long latencyNanos) {
+        long now = nanoClock.getAsLong();
+        if (now - windowStartNanos >= windowNanos) {
+            updateLimit();
+            windowStartNanos = now;
+        }
+        latencyWindows.get(latencyClass).add(latencyNanos);
+    }
+
+    private void updateLimit() {
+        boolean sampled = false;
+        boolean queueing = false;
+        for (LatencyWindow latencyWindow : latencyWindows.values()) {
+            if (latencyWindow.hasEnoughSamples()) {
+                sampled = true;
+                queueing |= latencyWindow.exceedsBaseline(latencyTolerance);
+                latencyWindow.updateBaseline();
+            }
+            latencyWindow.reset();
+        }
+        int peak = peakInFlight.getAndSet(inFlight.get());
+
+        if (queueing) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (sampled && peak * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + Math.max(1, (int) Math.sqrt(limit)));
+        }
+    }
+
+    /**
+     * Lowest latency of a class within the current window and its baseline. Accessed under the lock of enclosing limit.
+     */
+    private static class LatencyWindow {
+
+        private double baselineNanos = Double.NaN;
+        private long minLatencyNanos = Long.MAX_VALUE;
+        private int samples;
+
+        void add(long latencyNanos) {
+            minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+            samples++;
+        }
+
+        boolean hasEnoughSamples() {
+            return samples >= MIN_WINDOW_SAMPLES;
+        }
+
+        boolean exceedsBaseline(double latencyTolerance) {
+            return !Double.isNaN(baselineNanos) && minLatencyNanos > baselineNanos * latencyTolerance;
+        }
+
+        void updateBaseline() {
+            if (Double.isNaN(baselineNanos) || minLatencyNanos < baselineNanos) {
+                baselineNanos = minLatencyNanos;
+            } else {
+                baselineNanos += (minLatencyNanos - baselineNanos) * BASELINE_DRIFT;
+            }
+        }
+
+        void reset() {
+            minLatencyNanos = Long.MAX_VALUE;
+            samples = 0;
+        }
+
+    }
+
+}
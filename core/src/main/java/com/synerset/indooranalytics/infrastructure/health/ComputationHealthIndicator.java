@@ -0,0 +1,68 @@
+package com.synerset.indooranalytics.infrastructure.health;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.process.heating.Heating;
+import com.synerset.indooranalytics.domain.process.HeatingProcessPort;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Self-check of calculations. Humid air is derived from a reference wet bulb temperature, which involves iterative
+ * solver, and heated to a reference temperature. Results are checked against the reference inputs and latency of both
+ * calculations is reported in details. Any exception or deviation larger than the tolerance results in DOWN status.
+ */
+public class ComputationHealthIndicator implements HealthIndicator {
+
+    private static final Temperature REFERENCE_WET_BULB_TEMPERATURE = Temperature.ofCelsius(15);
+    private static final RelativeHumidity REFERENCE_RELATIVE_HUMIDITY = RelativeHumidity.ofPercentage(50);
+    private static final Temperature REFERENCE_HEATING_TEMPERATURE = Temperature.ofCelsius(35);
+    private static final double TOLERANCE_CELSIUS = 0.01;
+
+    private final PhysicalPropertiesPort propertiesService;
+    private final HeatingProcessPort heatingService;
+
+    public ComputationHealthIndicator(PhysicalPropertiesPort propertiesService, HeatingProcessPort heatingService) {
+        this.propertiesService = propertiesService;
+        this.heatingService = heatingService;
+    }
+
+    @Override
+    public Health health() {
+        try {
+            long start = System.nanoTime();
+            HumidAir humidAir = propertiesService.getHumidAirPropertiesFromWbt(Pressure.STANDARD_ATMOSPHERE,
+                    REFERENCE_WET_BULB_TEMPERATURE, REFERENCE_RELATIVE_HUMIDITY);
+            long propertiesEnd = System.nanoTime();
+            Heating heating = heatingService.computeHeatingForTargetTemperature(
+                    FlowOfHumidAir.of(humidAir, MassFlow.ofKilogramsPerSecond(1.0)), REFERENCE_HEATING_TEMPERATURE);
+            long heatingEnd = System.nanoTime();
+
+            double wetBulbDeviation = Math.abs(humidAir.getWetBulbTemperature().getInCelsius()
+                                               - REFERENCE_WET_BULB_TEMPERATURE.getInCelsius());
+            double heatingDeviation = Math.abs(heating.getOutletFlow().getTemperature().getInCelsius()
+                                               - REFERENCE_HEATING_TEMPERATURE.getInCelsius());
+            Health.Builder health = wetBulbDeviation <= TOLERANCE_CELSIUS && heatingDeviation <= TOLERANCE_CELSIUS
+                    ? Health.up()
+                    : Health.down().withDetail("error", "Reference calculation result out of tolerance");
+
+            return health.withDetail("propertiesLatencyMs", toMillis(propertiesEnd - start))
+                    .withDetail("heatingLatencyMs", toMillis(heatingEnd - propertiesEnd))
+                    .build();
+        } catch (RuntimeException ex) {
+            return Health.down(ex).build();
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
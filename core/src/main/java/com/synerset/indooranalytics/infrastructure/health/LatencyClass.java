@@ -0,0 +1,12 @@
+package com.synerset.indooranalytics.infrastructure.health;
+
+/**
+ * Class of requests with comparable latency. {@link AdaptiveConcurrencyLimit} keeps a separate latency baseline for
+ * each class, so that slower, solver-heavy requests are not compared with cheap closed-form ones.
+ */
+public enum LatencyClass {
+
+    REGULAR,
+    SOLVER_HEAVY
+
+}
@@ -0,0 +1,134 @@
+package com.synerset.indooranalytics.infrastructure.health;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.indooranalyticsapi.common.InvalidResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * Sheds excess calculation requests with 503 (Service Unavailable) and Retry-After header, instead of letting them
+ * queue up until they time out. Concurrency is bounded by {@link AdaptiveConcurrencyLimit}. Solver-heavy requests
+ * (humid air from wet bulb and dew point temperature) may use only a part of the limit, so under overload they are
+ * rejected first and cheap, closed-form calculations keep being served.<br>
+ * Only GET requests feed the limit with latency samples, regular and solver-heavy ones in separate latency classes,
+ * as single state calculations of each class have comparable cost. Batch, stream and process requests hold a permit
+ * while running, asynchronous ones until the response is completed.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    static final Set<String> SOLVER_HEAVY_PATHS = Set.of(
+            "/properties/humid-air/from-wet-bulb",
+            "/properties/humid-air/from-dew-point"
+    );
+
+    private static final String SERVICE_NAME = "Indoor Analytics";
+    private static final String REJECTED_COUNTER = "load-shedding-rejected";
+
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final double solverHeavyShare;
+    private final Duration retryAfter;
+    private final ObjectMapper objectMapper;
+    private final Counter rejectedSolverHeavy;
+    private final Counter rejectedRegular;
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimit concurrencyLimit,
+                              double solverHeavyShare,
+                              Duration retryAfter,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+
+        this.concurrencyLimit = concurrencyLimit;
+        this.solverHeavyShare = solverHeavyShare;
+        this.retryAfter = retryAfter;
+        this.objectMapper = objectMapper;
+        this.rejectedSolverHeavy = meterRegistry.counter(REJECTED_COUNTER, "priority", "solver-heavy");
+        this.rejectedRegular = meterRegistry.counter(REJECTED_COUNTER, "priority", "regular");
+        Gauge.builder("load-shedding-limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("load-shedding-in-flight", concurrencyLimit, AdaptiveConcurrencyLimit::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean solverHeavy = SOLVER_HEAVY_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+        if (!concurrencyLimit.tryAcquire(solverHeavy ? solverHeavyShare : 1.0)) {
+            (solverHeavy ? rejectedSolverHeavy : rejectedRegular).increment();
+            writeRejection(response);
+            return;
+        }
+
+        boolean sampled = HttpMethod.GET.matches(request.getMethod());
+        long start = System.nanoTime();
+        boolean releasedOnCompletion = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener());
+                releasedOnCompletion = true;
+            }
+        } finally {
+            if (!releasedOnCompletion) {
+                if (sampled) {
+                    concurrencyLimit.release(solverHeavy ? LatencyClass.SOLVER_HEAVY : LatencyClass.REGULAR,
+                            System.nanoTime() - start);
+                } else {
+                    concurrencyLimit.release();
+                }
+            }
+        }
+    }
+
+    private void writeRejection(HttpServletResponse response) throws IOException {
+        InvalidResponse invalidResponse = new InvalidResponse(SERVICE_NAME, "ServiceOverloaded",
+                "Service is overloaded, retry after " + retryAfter.toSeconds() + " s.", ZonedDateTime.now());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), invalidResponse);
+    }
+
+    private class ReleasingAsyncListener implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            concurrencyLimit.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // Permit is released on completion, which follows timeout
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // Permit is released on completion, which follows error
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
+}
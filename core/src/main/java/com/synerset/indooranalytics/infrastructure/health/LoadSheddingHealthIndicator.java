@@ -0,0 +1,33 @@
+package com.synerset.indooranalytics.infrastructure.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Duration;
+
+/**
+ * Reports OUT_OF_SERVICE while requests are being shed, that is if any request was rejected by
+ * {@link AdaptiveConcurrencyLimit} within the hold time. Included in readiness group, it takes the instance out of
+ * load balancing until it catches up.
+ */
+public class LoadSheddingHealthIndicator implements HealthIndicator {
+
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final long holdTimeNanos;
+
+    public LoadSheddingHealthIndicator(AdaptiveConcurrencyLimit concurrencyLimit, Duration holdTime) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.holdTimeNanos = holdTime.toNanos();
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = concurrencyLimit.isRejectingWithin(holdTimeNanos)
+                ? Health.outOfService()
+                : Health.up();
+        return health.withDetail("limit", concurrencyLimit.getLimit())
+                .withDetail("inFlight", concurrencyLimit.getInFlight())
+                .build();
+    }
+
+}
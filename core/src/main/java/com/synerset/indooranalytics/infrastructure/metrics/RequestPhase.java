@@ -0,0 +1,39 @@
+package com.synerset.indooranalytics.infrastructure.metrics;
+
+/**
+ * Phases of REST request handling, measured separately by {@link RequestPhaseTimer}.
+ */
+public enum RequestPhase {
+
+    /**
+     * Binding of request parameters and body, including bean validation and validation in controller.
+     */
+    PARSING("parsing"),
+    /**
+     * Calculations in domain port.
+     */
+    COMPUTATION("computation"),
+    /**
+     * MapStruct mapping between API and domain objects.
+     */
+    MAPPING("mapping"),
+    /**
+     * Conversion of response to imperial units.
+     */
+    IMPERIAL_CONVERSION("imperial-conversion"),
+    /**
+     * Serialization of response body.
+     */
+    SERIALIZATION("serialization");
+
+    private final String tagValue;
+
+    RequestPhase(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+}
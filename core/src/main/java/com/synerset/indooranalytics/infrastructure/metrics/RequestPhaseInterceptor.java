@@ -0,0 +1,33 @@
+package com.synerset.indooranalytics.infrastructure.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Marks the boundaries of request handling for {@link RequestPhaseTimer}: the start of request before arguments are
+ * resolved and the end of response body serialization.
+ */
+public class RequestPhaseInterceptor implements HandlerInterceptor {
+
+    private final RequestPhaseTimer requestPhaseTimer;
+
+    public RequestPhaseInterceptor(RequestPhaseTimer requestPhaseTimer) {
+        this.requestPhaseTimer = requestPhaseTimer;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(RequestPhaseTimer.REQUEST_START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+
+        requestPhaseTimer.recordSerialization(request);
+    }
+
+}
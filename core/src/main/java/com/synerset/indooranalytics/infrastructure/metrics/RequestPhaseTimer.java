@@ -0,0 +1,105 @@
+package com.synerset.indooranalytics.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records duration of request phases as {@value #METRIC_NAME} timers with percentile histograms, tagged with endpoint
+ * and {@link RequestPhase}. State of a request is kept in request attributes:
+ * <ul>
+ *     <li>parsing is measured from {@link RequestPhaseInterceptor#preHandle} to {@link #startRequest(String)},</li>
+ *     <li>computation, mapping and imperial conversion are measured around actions passed to {@link #record},</li>
+ *     <li>serialization is measured from the end of the last recorded phase to {@link RequestPhaseInterceptor#postHandle},
+ *     as response body is written before post handle is invoked.</li>
+ * </ul>
+ * Phases are not recorded outside of request started by {@link #startRequest(String)}, actions are only executed.
+ */
+@Component
+public class RequestPhaseTimer {
+
+    public static final String METRIC_NAME = "indoor-analytics.request.phase";
+    static final String REQUEST_START_ATTRIBUTE = RequestPhaseTimer.class.getName() + ".requestStart";
+    private static final String ENDPOINT_ATTRIBUTE = RequestPhaseTimer.class.getName() + ".endpoint";
+    private static final String PHASE_END_ATTRIBUTE = RequestPhaseTimer.class.getName() + ".phaseEnd";
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer[]> timersByEndpoint = new ConcurrentHashMap<>();
+
+    public RequestPhaseTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Marks the beginning of controller logic for the given endpoint and records parsing phase.
+     *
+     * @param endpoint The endpoint name, used as a tag of timers.
+     */
+    public void startRequest(String endpoint) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (attributes.getAttribute(REQUEST_START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long requestStart) {
+            timer(endpoint, RequestPhase.PARSING).record(now - requestStart, TimeUnit.NANOSECONDS);
+        }
+        attributes.setAttribute(ENDPOINT_ATTRIBUTE, endpoint, RequestAttributes.SCOPE_REQUEST);
+        attributes.setAttribute(PHASE_END_ATTRIBUTE, now, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Executes the action and records its duration as the given phase of current request.
+     *
+     * @param phase  The phase of request.
+     * @param action The action to be measured.
+     * @return The result of action.
+     */
+    public <T> T record(RequestPhase phase, Supplier<T> action) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null
+            || !(attributes.getAttribute(ENDPOINT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof String endpoint)) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        T result = action.get();
+        long end = System.nanoTime();
+        timer(endpoint, phase).record(end - start, TimeUnit.NANOSECONDS);
+        attributes.setAttribute(PHASE_END_ATTRIBUTE, end, RequestAttributes.SCOPE_REQUEST);
+        return result;
+    }
+
+    void recordSerialization(HttpServletRequest request) {
+        if (request.getAttribute(ENDPOINT_ATTRIBUTE) instanceof String endpoint
+            && request.getAttribute(PHASE_END_ATTRIBUTE) instanceof Long phaseEnd) {
+            timer(endpoint, RequestPhase.SERIALIZATION).record(System.nanoTime() - phaseEnd, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String endpoint, RequestPhase phase) {
+        return timersByEndpoint.computeIfAbsent(endpoint, this::registerTimers)[phase.ordinal()];
+    }
+
+    private Timer[] registerTimers(String endpoint) {
+        Timer[] timers = new Timer[PHASES.length];
+        for (RequestPhase phase : PHASES) {
+            timers[phase.ordinal()] = Timer.builder(METRIC_NAME)
+                    .description("Duration of request handling phase")
+                    .tag("endpoint", endpoint)
+                    .tag("phase", phase.getTagValue())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+        return timers;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.synerset.indooranalytics.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of the last iterative solution performed while handling a request.
+ */
+record SolverDiagnostics(String entryPoint, String outcome, int iterations, long elapsedNanos) {
+
+    String toHeaderValue() {
+        return "entry-point=" + entryPoint + "; outcome=" + outcome + "; iterations=" + iterations
+                + "; time-us=" + TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+    }
+
+}
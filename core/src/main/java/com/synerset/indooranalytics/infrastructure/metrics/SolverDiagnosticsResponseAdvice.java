@@ -0,0 +1,39 @@
+package com.synerset.indooranalytics.infrastructure.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@value #SOLVER_DIAGNOSTICS_HEADER} header with iteration count and time of iterative solution to responses
+ * of requests, which were resolved by instrumented solver. Header is also returned for failed solutions.
+ */
+@RestControllerAdvice
+class SolverDiagnosticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String SOLVER_DIAGNOSTICS_HEADER = "X-Solver-Diagnostics";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+
+        if (request instanceof ServletServerHttpRequest servletRequest
+            && servletRequest.getServletRequest().getAttribute(SolverMetricsListener.DIAGNOSTICS_ATTRIBUTE)
+                instanceof SolverDiagnostics diagnostics) {
+            response.getHeaders().set(SOLVER_DIAGNOSTICS_HEADER, diagnostics.toHeaderValue());
+        }
+        return body;
+    }
+
+}
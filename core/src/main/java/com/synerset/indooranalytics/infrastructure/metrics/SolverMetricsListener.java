@@ -0,0 +1,73 @@
+package com.synerset.indooranalytics.infrastructure.metrics;
+
+import com.synerset.indooranalytics.domain.property.SolverEntryPoint;
+import com.synerset.indooranalytics.domain.property.SolverFailureReason;
+import com.synerset.indooranalytics.domain.property.SolverListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records statistics of iterative solutions as {@value #ITERATIONS_METRIC_NAME} distribution and
+ * {@value #DURATION_METRIC_NAME} timer, both with percentile histograms, tagged with entry point and outcome.
+ * Outcome is either "converged" or the reason of failure. Statistics of solution performed on a request thread are
+ * also stored as {@link SolverDiagnostics} in request attributes, to be returned in response header.
+ */
+@Component
+public class SolverMetricsListener implements SolverListener {
+
+    public static final String ITERATIONS_METRIC_NAME = "indoor-analytics.solver.iterations";
+    public static final String DURATION_METRIC_NAME = "indoor-analytics.solver.duration";
+    static final String DIAGNOSTICS_ATTRIBUTE = SolverMetricsListener.class.getName() + ".diagnostics";
+    private static final String CONVERGED_OUTCOME = "converged";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> iterationSummaries = new ConcurrentHashMap<>();
+    private final Map<String, Timer> durationTimers = new ConcurrentHashMap<>();
+
+    public SolverMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onConverged(SolverEntryPoint entryPoint, int iterations, long elapsedNanos) {
+        record(entryPoint, CONVERGED_OUTCOME, iterations, elapsedNanos);
+    }
+
+    @Override
+    public void onFailed(SolverEntryPoint entryPoint, SolverFailureReason reason, int iterations, long elapsedNanos) {
+        record(entryPoint, reason.getTagValue(), iterations, elapsedNanos);
+    }
+
+    private void record(SolverEntryPoint entryPoint, String outcome, int iterations, long elapsedNanos) {
+        String key = entryPoint.getTagValue() + '|' + outcome;
+        iterationSummaries.computeIfAbsent(key, k -> DistributionSummary.builder(ITERATIONS_METRIC_NAME)
+                        .description("Number of solver iterations")
+                        .tag("entry-point", entryPoint.getTagValue())
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(iterations);
+        durationTimers.computeIfAbsent(key, k -> Timer.builder(DURATION_METRIC_NAME)
+                        .description("Duration of iterative solution")
+                        .tag("entry-point", entryPoint.getTagValue())
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(DIAGNOSTICS_ATTRIBUTE, new SolverDiagnostics(entryPoint.getTagValue(), outcome,
+                    iterations, elapsedNanos), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+
+import java.io.IOException;
+
+/**
+ * Serializer of quantity, which writes quantity converted to the target unit, if conversion of its type is requested
+ * in {@link UnitConversions} writer attribute. Converted value is calculated with precomputed linear conversion and
+ * written in {value, unit} form, no converted quantity is created. Otherwise, serialization is handed over to the
+ * original serializer of quantity type.
+ */
+class ConvertingQuantitySerializer extends StdSerializer<Object> implements ContextualSerializer, ResolvableSerializer {
+
+    private final transient JsonSerializer<Object> delegate;
+
+    ConvertingQuantitySerializer(JsonSerializer<Object> delegate) {
+        super(Object.class);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (provider.getAttribute(UnitConversions.class) instanceof UnitConversions conversions
+            && value instanceof PhysicalQuantity<?> quantity) {
+
+            LinearConversion conversion = conversions.find(quantity);
+            if (conversion != null) {
+                generator.writeStartObject();
+                generator.writeNumberField(FastQuantityDeserializer.VALUE_FIELD, conversion.apply(quantity.getValue()));
+                generator.writeStringField(FastQuantityDeserializer.UNIT_FIELD, conversion.targetSymbol());
+                generator.writeEndObject();
+                return;
+            }
+        }
+        delegate.serialize(value, generator, provider);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+
+        if (delegate instanceof ContextualSerializer contextualDelegate) {
+            JsonSerializer<?> contextual = contextualDelegate.createContextual(provider, property);
+            return contextual == delegate ? this : new ConvertingQuantitySerializer((JsonSerializer<Object>) contextual);
+        }
+        return this;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer resolvableDelegate) {
+            resolvableDelegate.resolve(provider);
+        }
+    }
+
+}
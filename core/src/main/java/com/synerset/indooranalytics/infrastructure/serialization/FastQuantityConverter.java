@@ -0,0 +1,43 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Converter of query parameters to quantities of types listed in {@link FastQuantityModule}, which parses parameters
+ * in common SI units, e.g. "20.5oC" or "50_000Pa", by {@link QuantitySymbolTable}. Parameters in any other form or unit
+ * are converted by the object mapper, with the same result as quantity given as text in request body.
+ */
+public class FastQuantityConverter implements GenericConverter {
+
+    private static final Set<ConvertiblePair> CONVERTIBLE_TYPES = FastQuantityModule.SYMBOL_TABLES.keySet().stream()
+            .map(quantityType -> new ConvertiblePair(String.class, quantityType))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final ObjectMapper objectMapper;
+
+    public FastQuantityConverter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return CONVERTIBLE_TYPES;
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null) {
+            return null;
+        }
+        String text = (String) source;
+        Object quantity = FastQuantityModule.SYMBOL_TABLES.get(targetType.getType())
+                .parse(text.toCharArray(), 0, text.length());
+        return quantity == null ? objectMapper.convertValue(text, targetType.getType()) : quantity;
+    }
+
+}
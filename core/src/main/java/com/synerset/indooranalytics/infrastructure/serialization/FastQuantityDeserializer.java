@@ -0,0 +1,106 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+
+/**
+ * Deserializer of quantity in {value, unit} form, which resolves common unit symbols from {@link QuantitySymbolTable}
+ * while streaming through the object. Unit symbol is matched against parser text buffer and value is read as primitive
+ * double, no intermediate tree or String is created. Quantity given as text, e.g. "20.5oC", is parsed by the symbol
+ * table directly from parser text buffer as well. Any other input: quantity given in other form, unit symbol not
+ * present in the table or unexpected field, is handed over to the original deserializer of quantity type.
+ */
+class FastQuantityDeserializer extends DelegatingDeserializer {
+
+    static final String VALUE_FIELD = "value";
+    static final String UNIT_FIELD = "unit";
+
+    private final transient QuantitySymbolTable symbolTable;
+
+    FastQuantityDeserializer(JsonDeserializer<?> delegatee, QuantitySymbolTable symbolTable) {
+        super(delegatee);
+        this.symbolTable = symbolTable;
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new FastQuantityDeserializer(newDelegatee, symbolTable);
+    }
+
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            Object quantity = symbolTable.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            return quantity == null ? _delegatee.deserialize(parser, context) : quantity;
+        }
+        if (!parser.isExpectedStartObjectToken()) {
+            return _delegatee.deserialize(parser, context);
+        }
+
+        double value = 0;
+        boolean hasValue = false;
+        int symbolIndex = QuantitySymbolTable.UNKNOWN_SYMBOL;
+        String unknownSymbol = null;
+
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            if (VALUE_FIELD.equals(fieldName) && token.isNumeric()) {
+                value = parser.getDoubleValue();
+                hasValue = true;
+            } else if (UNIT_FIELD.equals(fieldName) && token == JsonToken.VALUE_STRING) {
+                symbolIndex = symbolTable.indexOf(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                unknownSymbol = symbolIndex == QuantitySymbolTable.UNKNOWN_SYMBOL ? parser.getText() : null;
+            } else {
+                ObjectNode quantityNode = toQuantityNode(context, hasValue, value, unknownSymbol, symbolIndex);
+                quantityNode.set(fieldName, context.readTree(parser));
+                return deserializeRemaining(parser, context, quantityNode);
+            }
+        }
+
+        if (hasValue && symbolIndex != QuantitySymbolTable.UNKNOWN_SYMBOL) {
+            return symbolTable.create(symbolIndex, value);
+        }
+        return deserializeNode(parser, context, toQuantityNode(context, hasValue, value, unknownSymbol, symbolIndex));
+    }
+
+    private Object deserializeRemaining(JsonParser parser, DeserializationContext context, ObjectNode quantityNode)
+            throws IOException {
+
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+            quantityNode.set(fieldName, context.readTree(parser));
+        }
+        return deserializeNode(parser, context, quantityNode);
+    }
+
+    private Object deserializeNode(JsonParser parser, DeserializationContext context, ObjectNode quantityNode)
+            throws IOException {
+
+        try (JsonParser nodeParser = quantityNode.traverse(parser.getCodec())) {
+            nodeParser.nextToken();
+            return _delegatee.deserialize(nodeParser, context);
+        }
+    }
+
+    private ObjectNode toQuantityNode(DeserializationContext context, boolean hasValue, double value,
+                                      String unknownSymbol, int symbolIndex) {
+
+        ObjectNode quantityNode = context.getNodeFactory().objectNode();
+        if (hasValue) {
+            quantityNode.put(VALUE_FIELD, value);
+        }
+        if (unknownSymbol != null) {
+            quantityNode.put(UNIT_FIELD, unknownSymbol);
+        } else if (symbolIndex != QuantitySymbolTable.UNKNOWN_SYMBOL) {
+            quantityNode.put(UNIT_FIELD, symbolTable.symbolAt(symbolIndex));
+        }
+        return quantityNode;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.flow.VolumetricFlow;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Density;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.Map;
+import java.util.function.DoubleFunction;
+
+/**
+ * Jackson module wrapping deserializers of quantities used in requests of this service with
+ * {@link FastQuantityDeserializer}. Symbol tables contain SI units and their common ASCII spellings, as used in request
+ * examples. Quantities of other types, or in other units, are deserialized by unitility module as before.
+ */
+public class FastQuantityModule extends SimpleModule {
+
+    static final Map<Class<?>, QuantitySymbolTable> SYMBOL_TABLES = Map.of(
+            Temperature.class, QuantitySymbolTable.of(Map.<String, DoubleFunction<?>>of(
+                    "oC", Temperature::ofCelsius,
+                    "°C", Temperature::ofCelsius,
+                    "oF", Temperature::ofFahrenheit,
+                    "°F", Temperature::ofFahrenheit)),
+            Pressure.class, QuantitySymbolTable.of(Map.<String, DoubleFunction<?>>of(
+                    "Pa", Pressure::ofPascal,
+                    "bar", Pressure::ofBar)),
+            RelativeHumidity.class, QuantitySymbolTable.of(Map.<String, DoubleFunction<?>>of(
+                    "%", RelativeHumidity::ofPercentage)),
+            HumidityRatio.class, QuantitySymbolTable.of(Map.<String, DoubleFunction<?>>of(
+                    "kg/kg", HumidityRatio::ofKilogramPerKilogram)),
+            MassFlow.class, QuantitySymbolTable.of(Map.<String, DoubleFunction<?>>of(
+                    "kg/s", MassFlow::ofKilogramsPerSecond)),
+            VolumetricFlow.class, QuantitySymbolTable.of(Map.<String, DoubleFunction<?>>of(
+                    "m3/s", VolumetricFlow::ofCubicMetersPerSecond,
+                    "m³/s", VolumetricFlow::ofCubicMetersPerSecond,
+                    "m3/h", VolumetricFlow::ofCubicMetersPerHour,
+                    "m³/h", VolumetricFlow::ofCubicMetersPerHour)),
+            Power.class, QuantitySymbolTable.of(Map.<String, DoubleFunction<?>>of(
+                    "W", Power::ofWatts,
+                    "kW", Power::ofKiloWatts)),
+            SpecificEnthalpy.class, QuantitySymbolTable.of(Map.<String, DoubleFunction<?>>of(
+                    "kJ/kg", SpecificEnthalpy::ofKiloJoulePerKiloGram)),
+            Density.class, QuantitySymbolTable.of(Map.<String, DoubleFunction<?>>of(
+                    "kg/m3", Density::ofKilogramPerCubicMeter,
+                    "kg/m³", Density::ofKilogramPerCubicMeter))
+    );
+
+    public FastQuantityModule() {
+        super(FastQuantityModule.class.getSimpleName());
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+
+                QuantitySymbolTable symbolTable = SYMBOL_TABLES.get(beanDesc.getBeanClass());
+                return symbolTable == null ? deserializer : new FastQuantityDeserializer(deserializer, symbolTable);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import com.synerset.unitility.unitsystem.Unit;
+
+/**
+ * Precomputed conversion of value between two units of the same quantity: target = factor * source + offset.
+ * Units of all supported quantities are related linearly, with offset only for temperature scales.
+ *
+ * @param factor       The multiplier of source value.
+ * @param offset       The offset added to the scaled value.
+ * @param targetSymbol The symbol of target unit.
+ */
+record LinearConversion(double factor, double offset, String targetSymbol) {
+
+    double apply(double sourceValue) {
+        return factor * sourceValue + offset;
+    }
+
+    static LinearConversion between(Unit sourceUnit, Unit targetUnit) {
+        double targetOfZero = targetUnit.fromValueInBaseUnit(sourceUnit.toValueInBaseUnit(0));
+        double targetOfOne = targetUnit.fromValueInBaseUnit(sourceUnit.toValueInBaseUnit(1));
+        return new LinearConversion(targetOfOne - targetOfZero, targetOfZero, targetUnit.getSymbol());
+    }
+
+}
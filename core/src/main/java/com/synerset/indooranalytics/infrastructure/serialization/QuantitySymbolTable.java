@@ -0,0 +1,162 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import java.util.Map;
+import java.util.function.DoubleFunction;
+
+/**
+ * Precomputed table of unit symbols of a single quantity type, with factory of quantity for each symbol. Symbols are
+ * stored as char arrays, so that a symbol can be recognized directly from parser text buffer, without creating a String.
+ */
+final class QuantitySymbolTable {
+
+    static final int UNKNOWN_SYMBOL = -1;
+
+    // Decimal values with up to 15 significant digits and power of ten up to 22 are exact doubles, so a single
+    // multiplication or division gives correctly rounded result, the same as Double.parseDouble.
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1E0, 1E1, 1E2, 1E3, 1E4, 1E5, 1E6, 1E7, 1E8, 1E9, 1E10, 1E11,
+            1E12, 1E13, 1E14, 1E15, 1E16, 1E17, 1E18, 1E19, 1E20, 1E21, 1E22
+    };
+
+    private final char[][] symbols;
+    private final DoubleFunction<?>[] factories;
+
+    private QuantitySymbolTable(char[][] symbols, DoubleFunction<?>[] factories) {
+        this.symbols = symbols;
+        this.factories = factories;
+    }
+
+    /**
+     * Finds index of the unit symbol given as a range of characters.
+     *
+     * @param buffer The characters buffer.
+     * @param offset The offset of symbol in buffer.
+     * @param length The length of symbol.
+     * @return The index of symbol or {@value #UNKNOWN_SYMBOL} if symbol is not in the table.
+     */
+    int indexOf(char[] buffer, int offset, int length) {
+        for (int index = 0; index < symbols.length; index++) {
+            if (matches(symbols[index], buffer, offset, length)) {
+                return index;
+            }
+        }
+        return UNKNOWN_SYMBOL;
+    }
+
+    /**
+     * Creates quantity in unit of the symbol found by {@link #indexOf(char[], int, int)}.
+     *
+     * @param index The index of symbol.
+     * @param value The value of quantity, in unit of symbol.
+     * @return The quantity.
+     */
+    Object create(int index, double value) {
+        return factories[index].apply(value);
+    }
+
+    /**
+     * Parses quantity given as text of a number directly followed by unit symbol, e.g. "20.5oC" or "50_000Pa", from a
+     * range of characters. Underscores in the number are skipped. Only plain decimal numbers, optionally with minus sign
+     * and exponent, which can be converted to double exactly without creating a String, are recognized.
+     *
+     * @param buffer The characters buffer.
+     * @param offset The offset of text in buffer.
+     * @param length The length of text.
+     * @return The quantity, or null if text has other form or unit symbol is not in the table.
+     */
+    Object parse(char[] buffer, int offset, int length) {
+        int end = offset + length;
+        int position = offset;
+        boolean negative = position < end && buffer[position] == '-';
+        if (negative) {
+            position++;
+        }
+        if (position == end || !isDigit(buffer[position])) {
+            return null;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; position < end; position++) {
+            char character = buffer[position];
+            if (isDigit(character)) {
+                if (mantissa != 0 || character != '0') {
+                    significantDigits++;
+                }
+                mantissa = mantissa * 10 + (character - '0');
+                if (fraction) {
+                    fractionDigits++;
+                }
+            } else if (character == '.' && !fraction) {
+                fraction = true;
+            } else if (character != '_') {
+                break;
+            }
+        }
+        if (significantDigits > MAX_EXACT_DIGITS) {
+            return null;
+        }
+
+        int exponent = 0;
+        if (position < end && (buffer[position] == 'e' || buffer[position] == 'E')) {
+            int exponentPosition = position + 1;
+            boolean negativeExponent = exponentPosition < end && buffer[exponentPosition] == '-';
+            if (exponentPosition < end && (buffer[exponentPosition] == '-' || buffer[exponentPosition] == '+')) {
+                exponentPosition++;
+            }
+            if (exponentPosition < end && isDigit(buffer[exponentPosition])) {
+                for (; exponentPosition < end && isDigit(buffer[exponentPosition]); exponentPosition++) {
+                    exponent = Math.min(exponent * 10 + (buffer[exponentPosition] - '0'), EXACT_POWERS_OF_TEN.length);
+                }
+                exponent = negativeExponent ? -exponent : exponent;
+                position = exponentPosition;
+            }
+        }
+
+        int symbolIndex = indexOf(buffer, position, end - position);
+        int powerOfTen = exponent - fractionDigits;
+        if (symbolIndex == UNKNOWN_SYMBOL || Math.abs(powerOfTen) >= EXACT_POWERS_OF_TEN.length) {
+            return null;
+        }
+        double value = powerOfTen >= 0
+                ? mantissa * EXACT_POWERS_OF_TEN[powerOfTen]
+                : mantissa / EXACT_POWERS_OF_TEN[-powerOfTen];
+        return create(symbolIndex, negative ? -value : value);
+    }
+
+    String symbolAt(int index) {
+        return new String(symbols[index]);
+    }
+
+    static QuantitySymbolTable of(Map<String, DoubleFunction<?>> factoriesBySymbol) {
+        char[][] symbols = new char[factoriesBySymbol.size()][];
+        DoubleFunction<?>[] factories = new DoubleFunction<?>[factoriesBySymbol.size()];
+        int index = 0;
+        for (Map.Entry<String, DoubleFunction<?>> entry : factoriesBySymbol.entrySet()) {
+            symbols[index] = entry.getKey().toCharArray();
+            factories[index] = entry.getValue();
+            index++;
+        }
+        return new QuantitySymbolTable(symbols, factories);
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean matches(char[] symbol, char[] buffer, int offset, int length) {
+        if (symbol.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (symbol[i] != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Resolves target units requested with {@value #UNITS_PARAM} query parameter and stores them as request attribute,
+ * to be applied when the response is serialized. Unsupported symbols are rejected before the request is handled.
+ */
+public class UnitConversionInterceptor implements HandlerInterceptor {
+
+    public static final String UNITS_PARAM = "units";
+
+    private final UnitConversionTable conversionTable;
+
+    public UnitConversionInterceptor(UnitConversionTable conversionTable) {
+        this.conversionTable = conversionTable;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String targetSymbols = request.getParameter(UNITS_PARAM);
+        if (targetSymbols != null && !targetSymbols.isBlank()) {
+            request.setAttribute(UnitConversions.REQUEST_ATTRIBUTE, conversionTable.select(targetSymbols));
+        }
+        return true;
+    }
+
+}
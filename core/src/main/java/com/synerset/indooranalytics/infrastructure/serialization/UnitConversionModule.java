@@ -0,0 +1,31 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+
+/**
+ * Jackson module wrapping serializers of all quantity types with {@link ConvertingQuantitySerializer}. Wrapped
+ * serializers produce the same output as before, unless {@link UnitConversions} are set as writer attribute.
+ */
+public class UnitConversionModule extends SimpleModule {
+
+    public UnitConversionModule() {
+        super(UnitConversionModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+
+                return PhysicalQuantity.class.isAssignableFrom(beanDesc.getBeanClass())
+                        ? new ConvertingQuantitySerializer((JsonSerializer<Object>) serializer)
+                        : serializer;
+            }
+        });
+    }
+
+}
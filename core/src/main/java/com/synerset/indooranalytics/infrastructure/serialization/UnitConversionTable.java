@@ -0,0 +1,120 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import com.synerset.indooranalytics.infrastructure.exceptionhandling.IndoorAnalyticsInvalidArgumentException;
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.flow.VolumetricFlow;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Density;
+import com.synerset.unitility.unitsystem.thermodynamic.DynamicViscosity;
+import com.synerset.unitility.unitsystem.thermodynamic.KinematicViscosity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificHeat;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.unitsystem.thermodynamic.ThermalConductivity;
+import com.synerset.unitility.unitsystem.thermodynamic.ThermalDiffusivity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table of linear conversions between all units of quantities used in responses, precomputed at startup. For each
+ * target unit symbol, table holds conversion from every unit of the same quantity type. Symbols are the same as in
+ * responses, with a few ASCII aliases (e.g. "m3/h", "oF", "CFM"). Symbol shared by two quantity types (e.g. "m²/s")
+ * selects target unit of both.
+ */
+public final class UnitConversionTable {
+
+    static final String SYMBOL_SEPARATOR = ",";
+    static final Map<String, String> SYMBOL_ALIASES = Map.of(
+            "oC", "°C",
+            "oF", "°F",
+            "m3/h", "m³/h",
+            "m3/s", "m³/s",
+            "ft3/min", "ft³/min",
+            "CFM", "ft³/min",
+            "kg/m3", "kg/m³",
+            "lb/ft3", "lb/ft³",
+            "m2/s", "m²/s",
+            "ft2/s", "ft²/s"
+    );
+
+    private final Map<String, Map<Class<?>, Map<Unit, LinearConversion>>> conversionsBySymbol = new HashMap<>();
+
+    UnitConversionTable(List<PhysicalQuantity<?>> quantityTypes) {
+        for (PhysicalQuantity<?> quantityType : quantityTypes) {
+            Unit[] units = unitsOf(quantityType.getUnit());
+            for (Unit targetUnit : units) {
+                Map<Unit, LinearConversion> conversionsFromSource = new HashMap<>();
+                for (Unit sourceUnit : units) {
+                    conversionsFromSource.put(sourceUnit, LinearConversion.between(sourceUnit, targetUnit));
+                }
+                conversionsBySymbol.computeIfAbsent(targetUnit.getSymbol(), symbol -> new HashMap<>())
+                        .put(quantityType.getClass(), conversionsFromSource);
+            }
+        }
+    }
+
+    /**
+     * Creates table for quantity types used in responses of this service.
+     */
+    public static UnitConversionTable create() {
+        return new UnitConversionTable(List.of(
+                Temperature.ofCelsius(0),
+                Pressure.ofPascal(0),
+                Density.ofKilogramPerCubicMeter(0),
+                RelativeHumidity.ofPercentage(0),
+                HumidityRatio.ofKilogramPerKilogram(0),
+                SpecificHeat.ofKiloJoulePerKiloGramKelvin(0),
+                SpecificEnthalpy.ofKiloJoulePerKiloGram(0),
+                DynamicViscosity.ofKiloGramPerMeterSecond(0),
+                KinematicViscosity.ofSquareFootPerSecond(0),
+                ThermalConductivity.ofWattsPerMeterKelvin(0),
+                ThermalDiffusivity.ofSquareFeetPerSecond(0),
+                MassFlow.ofKilogramsPerSecond(0),
+                VolumetricFlow.ofGallonsPerHour(0),
+                Power.ofWatts(0)
+        ));
+    }
+
+    /**
+     * Selects conversions for comma separated list of target unit symbols, e.g. "kJ/kg,CFM,°F".
+     *
+     * @param targetSymbols The comma separated target unit symbols.
+     * @return The selected unit conversions.
+     * @throws IndoorAnalyticsInvalidArgumentException if symbol is not supported or two symbols target the same
+     *                                                 quantity type.
+     */
+    public UnitConversions select(String targetSymbols) {
+        Map<Class<?>, Map<Unit, LinearConversion>> selectedConversions = new HashMap<>();
+        for (String targetSymbol : targetSymbols.split(SYMBOL_SEPARATOR)) {
+            String symbol = targetSymbol.trim();
+            Map<Class<?>, Map<Unit, LinearConversion>> conversionsByType =
+                    conversionsBySymbol.get(SYMBOL_ALIASES.getOrDefault(symbol, symbol));
+            if (conversionsByType == null) {
+                throw new IndoorAnalyticsInvalidArgumentException("Invalid request. Unsupported target unit symbol: "
+                                                                  + symbol);
+            }
+            conversionsByType.forEach((quantityType, conversions) -> {
+                if (selectedConversions.put(quantityType, conversions) != null) {
+                    throw new IndoorAnalyticsInvalidArgumentException("Invalid request. More than one target unit "
+                                                                      + "requested for " + quantityType.getSimpleName());
+                }
+            });
+        }
+        return new UnitConversions(selectedConversions);
+    }
+
+    private static Unit[] unitsOf(Unit unit) {
+        if (unit instanceof Enum<?> enumUnit) {
+            return (Unit[]) enumUnit.getDeclaringClass().getEnumConstants();
+        }
+        return new Unit[]{unit};
+    }
+
+}
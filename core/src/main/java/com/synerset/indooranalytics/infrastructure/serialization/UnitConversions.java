@@ -0,0 +1,62 @@
+package com.synerset.indooranalytics.infrastructure.serialization;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+
+/**
+ * Target units requested for a single response, selected from {@link UnitConversionTable}. Selection is stored as
+ * request attribute and passed to serializers as Jackson writer attribute, quantities of selected types are converted
+ * while the response is being serialized.
+ */
+public final class UnitConversions {
+
+    public static final String REQUEST_ATTRIBUTE = UnitConversions.class.getName();
+
+    private final Map<Class<?>, Map<Unit, LinearConversion>> conversionsByType;
+
+    UnitConversions(Map<Class<?>, Map<Unit, LinearConversion>> conversionsByType) {
+        this.conversionsByType = conversionsByType;
+    }
+
+    /**
+     * Adds unit conversions requested for current request, if any, to the writer attributes.
+     *
+     * @param writer The object writer of response.
+     * @return The object writer with unit conversions attribute, or the same writer if no conversion is requested.
+     */
+    public static ObjectWriter withRequestConversions(ObjectWriter writer) {
+        Object conversions = requestConversions();
+        return conversions == null ? writer : writer.withAttribute(UnitConversions.class, conversions);
+    }
+
+    /**
+     * Adds unit conversions requested for current request, if any, to the serialization config attributes, for
+     * responses written without object writer.
+     *
+     * @param config The serialization config of response.
+     * @return The config with unit conversions attribute, or the same config if no conversion is requested.
+     */
+    public static SerializationConfig withRequestConversions(SerializationConfig config) {
+        Object conversions = requestConversions();
+        return conversions == null ? config : config.withAttribute(UnitConversions.class, conversions);
+    }
+
+    private static Object requestConversions() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes == null
+                ? null
+                : requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    LinearConversion find(PhysicalQuantity<?> quantity) {
+        Map<Unit, LinearConversion> conversionsFromSource = conversionsByType.get(quantity.getClass());
+        return conversionsFromSource == null ? null : conversionsFromSource.get(quantity.getUnit());
+    }
+
+}
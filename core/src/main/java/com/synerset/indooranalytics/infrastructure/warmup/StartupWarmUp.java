@@ -0,0 +1,122 @@
+package com.synerset.indooranalytics.infrastructure.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.process.heating.Heating;
+import com.synerset.indooranalytics.domain.process.HeatingProcessPort;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.indooranalytics.infrastructure.adapter.process.ProcessControllerMapper;
+import com.synerset.indooranalytics.infrastructure.adapter.property.PhysicalPropertiesMapper;
+import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercises physical properties and heating operations, response mappers and JSON (de)serialization of requests and
+ * responses before the application reports readiness. Application runners complete before readiness state changes to
+ * accepting traffic, so with readiness probes in place, first requests are served by loaded classes and compiled code
+ * paths of solvers, mappers and Jackson. Services passed to warm-up are expected to be separate instances of the
+ * application services, reporting to their own meter registry, so that warm-up calls do not show up in solver, cache
+ * and coalescing metrics. Inputs vary between iterations, so that memoizing cache, if enabled, does not short-circuit
+ * calculations. A failed operation is logged and does not stop the application.
+ */
+public class StartupWarmUp implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupWarmUp.class);
+
+    private final PhysicalPropertiesPort propertiesService;
+    private final HeatingProcessPort heatingService;
+    private final PhysicalPropertiesMapper propertiesMapper;
+    private final ProcessControllerMapper processMapper;
+    private final ObjectMapper objectMapper;
+    private final int iterations;
+
+    public StartupWarmUp(PhysicalPropertiesPort propertiesService,
+                         HeatingProcessPort heatingService,
+                         PhysicalPropertiesMapper propertiesMapper,
+                         ProcessControllerMapper processMapper,
+                         ObjectMapper objectMapper,
+                         int iterations) {
+
+        this.propertiesService = propertiesService;
+        this.heatingService = heatingService;
+        this.propertiesMapper = propertiesMapper;
+        this.processMapper = processMapper;
+        this.objectMapper = objectMapper;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        int failures = 0;
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            try {
+                warmUp(iteration);
+            } catch (RuntimeException | IOException ex) {
+                failures++;
+                LOGGER.warn("Warm-up iteration {} failed: {}", iteration, ex.getMessage());
+            }
+        }
+        LOGGER.info("Warm-up completed: {} iterations, {} failed, took {} ms", iterations, failures,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void warmUp(int iteration) throws IOException {
+        Pressure pressure = Pressure.ofPascal(95_000 + iteration % 10 * 1_000);
+        Temperature temperature = Temperature.ofCelsius(-10 + iteration % 40);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(20 + iteration % 60);
+
+        HumidAir humidAir = warmUpProperties(pressure, temperature, relativeHumidity);
+        Heating heating = warmUpHeating(pressure, temperature, relativeHumidity);
+        warmUpSerialization(pressure, temperature, relativeHumidity);
+        objectMapper.writeValueAsBytes(propertiesMapper.toHumidAirResponse(humidAir));
+        objectMapper.writeValueAsBytes(processMapper.toHeatingResponse(heating));
+    }
+
+    private HumidAir warmUpProperties(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity) {
+        HumidAir humidAir = propertiesService.getHumidAirProperties(pressure, temperature, relativeHumidity);
+        HumidityRatio humidityRatio = humidAir.getHumidityRatio();
+        propertiesService.getDryAirProperties(pressure, temperature);
+        propertiesService.getHumidAirProperties(pressure, temperature, humidityRatio);
+        propertiesService.getHumidAirPropertiesFromWbt(pressure, humidAir.getWetBulbTemperature(), relativeHumidity);
+        propertiesService.getHumidAirPropertiesFromTdp(pressure, humidAir.getDewPointTemperature(), relativeHumidity);
+        propertiesService.getHumidAirPropertiesFromIx(pressure, humidAir.getSpecificEnthalpy(), humidityRatio);
+        propertiesService.getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity);
+        return humidAir;
+    }
+
+    private Heating warmUpHeating(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity) {
+        HumidAir inletAir = HumidAir.of(pressure, temperature, relativeHumidity);
+        FlowOfHumidAir inletFlow = FlowOfHumidAir.of(inletAir, MassFlow.ofKilogramsPerSecond(1.0));
+        heatingService.computeHeatingForInputPower(inletFlow, Power.ofKiloWatts(10));
+        heatingService.computeHeatingForTargetTemperature(inletFlow,
+                Temperature.ofCelsius(temperature.getInCelsius() + 10));
+        return heatingService.computeHeatingForTargetRelativeHumidity(inletFlow, RelativeHumidity.ofPercentage(10));
+    }
+
+    private void warmUpSerialization(Pressure pressure, Temperature temperature, RelativeHumidity relativeHumidity)
+            throws IOException {
+
+        HumidAirStateRequest stateRequest = new HumidAirStateRequest(temperature, pressure, relativeHumidity, null);
+        objectMapper.readValue(objectMapper.writeValueAsBytes(stateRequest), HumidAirStateRequest.class);
+
+        InletAirFlowRequest flowRequest = new InletAirFlowRequest(pressure, temperature, relativeHumidity, null, null,
+                MassFlow.ofKilogramsPerSecond(1.0));
+        objectMapper.readValue(objectMapper.writeValueAsBytes(flowRequest), InletAirFlowRequest.class);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class CoolingProcessServiceTest {
+
+    private static final CoolantData COOLANT_DATA = new CoolantData(Temperature.ofCelsius(7), Temperature.ofCelsius(14));
+
+    private CoilSurfaceStateCache surfaceStateCache;
+    private CoolingProcessService coolingService;
+
+    @BeforeEach
+    void init() {
+        surfaceStateCache = new CoilSurfaceStateCache();
+        coolingService = new CoolingProcessService(surfaceStateCache);
+    }
+
+    @Test
+    @DisplayName("Cooling: should reuse cached coil surface state for the same coolant and pressure")
+    void shouldReuseCachedCoilSurfaceState() {
+        // Given
+        FlowOfHumidAir firstFlow = flowOf(35, 55);
+        FlowOfHumidAir secondFlow = flowOf(28, 40);
+
+        // When
+        CoolingProcess firstProcess = coolingService.computeCoolingForTargetTemperature(firstFlow, COOLANT_DATA,
+                Temperature.ofCelsius(25));
+        CoolingProcess secondProcess = coolingService.computeCoolingForTargetRelativeHumidity(secondFlow, COOLANT_DATA,
+                RelativeHumidity.ofPercentage(60));
+
+        // Then
+        assertThat(surfaceStateCache.size()).isEqualTo(1);
+        assertThat(firstProcess.condensateFlow().getFluid()).isSameAs(secondProcess.condensateFlow().getFluid());
+        assertThat(secondProcess.outletFlow().getRelativeHumidity().getInPercent()).isEqualTo(60, withPrecision(1E-6));
+    }
+
+    @Test
+    @DisplayName("Cooling: should keep humidity ratio and discharge no condensate for dry coil")
+    void shouldNotDischargeCondensateForDryCoil() {
+        // Given
+        FlowOfHumidAir inletFlow = flowOf(30, 20);
+
+        // When
+        CoolingProcess coolingProcess = coolingService.computeCoolingForTargetTemperature(inletFlow, COOLANT_DATA,
+                Temperature.ofCelsius(20));
+
+        // Then
+        assertThat(coolingProcess.outletFlow().getHumidityRatio().getInKilogramPerKilogram())
+                .isEqualTo(inletFlow.getHumidityRatio().getInKilogramPerKilogram(), withPrecision(1E-12));
+        assertThat(coolingProcess.condensateFlow().getMassFlow().getInKilogramsPerSecond()).isZero();
+    }
+
+    @Test
+    @DisplayName("Cooling: should reject input power exceeding coil capacity")
+    void shouldRejectInputPowerExceedingCoilCapacity() {
+        // Given
+        FlowOfHumidAir inletFlow = flowOf(35, 55);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> coolingService.computeCoolingForInputPower(inletFlow, COOLANT_DATA, Power.ofKiloWatts(-1000)))
+                .isInstanceOf(ProcessCalculationException.class)
+                .hasMessageContaining("exceeds coil capacity");
+    }
+
+    private static FlowOfHumidAir flowOf(double temperature, double relativeHumidity) {
+        HumidAir humidAir = HumidAir.of(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(temperature),
+                RelativeHumidity.ofPercentage(relativeHumidity));
+        return FlowOfHumidAir.of(humidAir, MassFlow.ofKilogramsPerSecond(5.0));
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.synerset.indooranalytics.domain.process;
+
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.process.heating.Heating;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+/**
+ * Compares rows of batch heating and points of heating sweep with single heating processes of Hvac|Engine. Both use
+ * the same equations, outlet temperature differs only by accuracy of the solver, accepted tolerances are 1 W for
+ * heating power, 0.001 K for temperature, 0.001 % for relative humidity and 0.001 kJ/kg for specific enthalpy.
+ */
+class HeatingProcessServiceTest {
+
+    private static final double POWER_TOLERANCE = 1E-3;
+    private static final double TEMPERATURE_TOLERANCE = 1E-3;
+    private static final double RELATIVE_HUMIDITY_TOLERANCE = 1E-3;
+    private static final double ENTHALPY_TOLERANCE = 1E-3;
+    private static final double HUMIDITY_RATIO_TOLERANCE = 1E-9;
+
+    private static final double[] PRESSURES = {101_325, 101_325, 95_000};
+    private static final double[] TEMPERATURES = {-20, 5, 12};
+    private static final double[] RELATIVE_HUMIDITIES = {95, 70, 55};
+    private static final double[] MASS_FLOWS = {5.0, 2.5, 0.8};
+
+    private HeatingProcessPort heatingService;
+
+    @BeforeEach
+    void init() {
+        heatingService = HeatingProcessPort.create();
+    }
+
+    @Test
+    @DisplayName("Heating batch: should match single heating process for input power")
+    void shouldMatchSingleHeatingForInputPower() {
+        // Given
+        double[] inputPowers = {100, 20, 5};
+
+        // When
+        HeatingBatchResult batchResult = heatingService.computeHeatingBatch(batchInput(inputPowers),
+                HeatingBatchMode.INPUT_POWER);
+
+        // Then
+        assertMatchesSingleHeating(batchResult, inputPowers, (inletFlow, target) ->
+                heatingService.computeHeatingForInputPower(inletFlow, Power.ofKiloWatts(target)));
+    }
+
+    @Test
+    @DisplayName("Heating batch: should match single heating process for target temperature")
+    void shouldMatchSingleHeatingForTargetTemperature() {
+        // Given
+        double[] targetTemperatures = {20, 25, 30};
+
+        // When
+        HeatingBatchResult batchResult = heatingService.computeHeatingBatch(batchInput(targetTemperatures),
+                HeatingBatchMode.TARGET_TEMPERATURE);
+
+        // Then
+        assertMatchesSingleHeating(batchResult, targetTemperatures, (inletFlow, target) ->
+                heatingService.computeHeatingForTargetTemperature(inletFlow, Temperature.ofCelsius(target)));
+    }
+
+    @Test
+    @DisplayName("Heating batch: should match single heating process for target relative humidity")
+    void shouldMatchSingleHeatingForTargetRelativeHumidity() {
+        // Given
+        double[] targetRelativeHumidities = {10, 35, 30};
+
+        // When
+        HeatingBatchResult batchResult = heatingService.computeHeatingBatch(batchInput(targetRelativeHumidities),
+                HeatingBatchMode.TARGET_RELATIVE_HUMIDITY);
+
+        // Then
+        assertMatchesSingleHeating(batchResult, targetRelativeHumidities, (inletFlow, target) ->
+                heatingService.computeHeatingForTargetRelativeHumidity(inletFlow, RelativeHumidity.ofPercentage(target)));
+    }
+
+    @Test
+    @DisplayName("Heating batch: should report failure of a row without failing the batch")
+    void shouldReportFailedRow() {
+        // Given
+        double[] targetTemperatures = {20, 0, 30};
+
+        // When
+        HeatingBatchResult batchResult = heatingService.computeHeatingBatch(batchInput(targetTemperatures),
+                HeatingBatchMode.TARGET_TEMPERATURE);
+
+        // Then
+        assertThat(batchResult.failureCount()).isEqualTo(1);
+        assertThat(batchResult.failureReason()[1]).contains("Target temperature must be greater than inlet temperature");
+        assertThat(batchResult.heatingPower()[1]).isNaN();
+        assertThat(batchResult.failureReason()[0]).isNull();
+        assertThat(batchResult.failureReason()[2]).isNull();
+    }
+
+    @Test
+    @DisplayName("Heating sweep: should match single heating process at every point for input power")
+    void shouldMatchSingleHeatingAtSweepPointsForInputPower() {
+        // Given
+        double[] inletTemperatures = {-20, -5, 10};
+        double[] massFlows = {0.8, 2.5, 5.0};
+        HeatingSweepInput sweepInput = new HeatingSweepInput(95_000, inletTemperatures, 80, Double.NaN, massFlows, 40);
+
+        // When
+        HeatingBatchResult sweepResult = heatingService.computeHeatingSweep(sweepInput, HeatingBatchMode.INPUT_POWER);
+
+        // Then
+        assertMatchesSingleHeatingAtSweepPoints(sweepInput, sweepResult, inletFlow ->
+                heatingService.computeHeatingForInputPower(inletFlow, Power.ofKiloWatts(sweepInput.target())));
+    }
+
+    @Test
+    @DisplayName("Heating sweep: should match single heating process at every point for target relative humidity")
+    void shouldMatchSingleHeatingAtSweepPointsForTargetRelativeHumidity() {
+        // Given
+        double[] inletTemperatures = {-20, -5, 10};
+        double[] massFlows = {0.8, 2.5, 5.0};
+        HeatingSweepInput sweepInput = new HeatingSweepInput(95_000, inletTemperatures, 80, Double.NaN, massFlows, 25);
+
+        // When
+        HeatingBatchResult sweepResult = heatingService.computeHeatingSweep(sweepInput,
+                HeatingBatchMode.TARGET_RELATIVE_HUMIDITY);
+
+        // Then
+        assertMatchesSingleHeatingAtSweepPoints(sweepInput, sweepResult, inletFlow ->
+                heatingService.computeHeatingForTargetRelativeHumidity(inletFlow,
+                        RelativeHumidity.ofPercentage(sweepInput.target())));
+    }
+
+    private static HeatingBatchInput batchInput(double[] targets) {
+        return new HeatingBatchInput(PRESSURES, TEMPERATURES, RELATIVE_HUMIDITIES, null, MASS_FLOWS, targets);
+    }
+
+    private static void assertMatchesSingleHeating(HeatingBatchResult batchResult, double[] targets,
+                                                   BiFunction<FlowOfHumidAir, Double, Heating> singleHeating) {
+
+        assertThat(batchResult.failureCount()).isZero();
+        for (int row = 0; row < targets.length; row++) {
+            HumidAir inletAir = HumidAir.of(Pressure.ofPascal(PRESSURES[row]), Temperature.ofCelsius(TEMPERATURES[row]),
+                    RelativeHumidity.ofPercentage(RELATIVE_HUMIDITIES[row]));
+            Heating expected = singleHeating.apply(FlowOfHumidAir.of(inletAir,
+                    MassFlow.ofKilogramsPerSecond(MASS_FLOWS[row])), targets[row]);
+            FlowOfHumidAir expectedOutlet = expected.getOutletFlow();
+
+            assertThat(batchResult.heatingPower()[row])
+                    .isEqualTo(expected.getHeatOfProcess().getInKiloWatts(), withPrecision(POWER_TOLERANCE));
+            assertThat(batchResult.outletTemperature()[row])
+                    .isEqualTo(expectedOutlet.getTemperature().getInCelsius(), withPrecision(TEMPERATURE_TOLERANCE));
+            assertThat(batchResult.outletRelativeHumidity()[row])
+                    .isEqualTo(expectedOutlet.getRelativeHumidity().getInPercent(), withPrecision(RELATIVE_HUMIDITY_TOLERANCE));
+            assertThat(batchResult.outletHumidityRatio()[row])
+                    .isEqualTo(expectedOutlet.getHumidityRatio().getInKilogramPerKilogram(), withPrecision(HUMIDITY_RATIO_TOLERANCE));
+            assertThat(batchResult.outletSpecificEnthalpy()[row])
+                    .isEqualTo(expectedOutlet.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(), withPrecision(ENTHALPY_TOLERANCE));
+        }
+    }
+
+    private static void assertMatchesSingleHeatingAtSweepPoints(HeatingSweepInput sweepInput, HeatingBatchResult sweepResult,
+                                                                Function<FlowOfHumidAir, Heating> singleHeating) {
+
+        assertThat(sweepResult.failureCount()).isZero();
+        for (int level = 0; level < sweepInput.inletTemperature().length; level++) {
+            for (int flowLevel = 0; flowLevel < sweepInput.inletMassFlow().length; flowLevel++) {
+                int row = level * sweepInput.inletMassFlow().length + flowLevel;
+                HumidAir inletAir = HumidAir.of(Pressure.ofPascal(sweepInput.inletPressure()),
+                        Temperature.ofCelsius(sweepInput.inletTemperature()[level]),
+                        RelativeHumidity.ofPercentage(sweepInput.inletRelativeHumidity()));
+                Heating expected = singleHeating.apply(FlowOfHumidAir.of(inletAir,
+                        MassFlow.ofKilogramsPerSecond(sweepInput.inletMassFlow()[flowLevel])));
+
+                assertThat(sweepResult.heatingPower()[row])
+                        .isEqualTo(expected.getHeatOfProcess().getInKiloWatts(), withPrecision(POWER_TOLERANCE));
+                assertThat(sweepResult.outletTemperature()[row])
+                        .isEqualTo(expected.getOutletFlow().getTemperature().getInCelsius(), withPrecision(TEMPERATURE_TOLERANCE));
+                assertThat(sweepResult.outletRelativeHumidity()[row])
+                        .isEqualTo(expected.getOutletFlow().getRelativeHumidity().getInPercent(),
+                                withPrecision(RELATIVE_HUMIDITY_TOLERANCE));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class HumidAirKernelTest {
+
+    @Test
+    @DisplayName("Kernel: should calculate the same properties as object-based humid air for relative humidity input")
+    void shouldMatchHumidAirForRelativeHumidityInput() {
+        // Given
+        double[] pressures = {101_325, 100_000, 60_000};
+        double[] temperatures = {20, -5, 35};
+        double[] relativeHumidities = {45, 80, 95};
+        HumidAirColumns columns = HumidAirColumns.ofSize(pressures.length);
+        for (int row = 0; row < pressures.length; row++) {
+            columns.pressure()[row] = pressures[row];
+            columns.temperature()[row] = Temperature.ofCelsius(temperatures[row]).getInKelvins();
+            columns.relativeHumidity()[row] = relativeHumidities[row];
+        }
+
+        // When
+        PhysicalPropertiesPort.create().computeHumidAirPropertiesBatch(columns);
+
+        // Then
+        for (int row = 0; row < pressures.length; row++) {
+            HumidAir expected = HumidAir.of(Pressure.ofPascal(pressures[row]), Temperature.ofCelsius(temperatures[row]),
+                    RelativeHumidity.ofPercentage(relativeHumidities[row]));
+            assertMatches(expected, columns, row);
+        }
+    }
+
+    @Test
+    @DisplayName("Kernel: should calculate the same properties as object-based humid air for humidity ratio input")
+    void shouldMatchHumidAirForHumidityRatioInput() {
+        // Given
+        HumidAirColumns columns = HumidAirColumns.ofSize(1);
+        columns.pressure()[0] = 101_325;
+        columns.temperature()[0] = Temperature.ofCelsius(25).getInKelvins();
+        columns.humidityRatio()[0] = 0.008;
+
+        // When
+        HumidAirKernel.compute(columns);
+
+        // Then
+        HumidAir expected = HumidAir.of(Pressure.ofPascal(101_325), Temperature.ofCelsius(25),
+                HumidityRatio.ofKilogramPerKilogram(0.008));
+        assertMatches(expected, columns, 0);
+    }
+
+    @Test
+    @DisplayName("Kernel: should calculate batch split into fork-join tasks with the same results as sequential kernel")
+    void shouldCalculateBatchInParallel() {
+        // Given
+        int size = HumidAirBatchTask.ROWS_PER_TASK * 4 + 1;
+        HumidAirColumns parallelColumns = HumidAirColumns.ofSize(size);
+        HumidAirColumns sequentialColumns = HumidAirColumns.ofSize(size);
+        for (HumidAirColumns columns : new HumidAirColumns[]{parallelColumns, sequentialColumns}) {
+            for (int row = 0; row < size; row++) {
+                columns.pressure()[row] = 101_325;
+                columns.temperature()[row] = Temperature.ofCelsius(-20 + 60.0 * row / size).getInKelvins();
+                columns.relativeHumidity()[row] = 10 + 85.0 * row / size;
+            }
+        }
+
+        // When
+        PhysicalPropertiesPort.create().computeHumidAirPropertiesBatch(parallelColumns);
+        HumidAirKernel.compute(sequentialColumns);
+
+        // Then
+        assertThat(parallelColumns.density()).containsExactly(sequentialColumns.density());
+        assertThat(parallelColumns.specificEnthalpy()).containsExactly(sequentialColumns.specificEnthalpy());
+        assertThat(parallelColumns.wetBulbTemperature()).containsExactly(sequentialColumns.wetBulbTemperature());
+        assertThat(parallelColumns.failureReason()).containsOnlyNulls();
+    }
+
+    private static void assertMatches(HumidAir expected, HumidAirColumns columns, int row) {
+        assertThat(HumidAirKernel.vapourState(columns, row)).isEqualTo(expected.getVapourState());
+        assertThat(columns.humidityRatio()[row]).isEqualTo(expected.getHumidityRatio().getInKilogramPerKilogram(), withPrecision(1E-12));
+        assertThat(columns.maxHumidityRatio()[row]).isEqualTo(expected.getMaxHumidityRatio().getInKilogramPerKilogram(), withPrecision(1E-12));
+        assertThat(columns.relativeHumidity()[row]).isEqualTo(expected.getRelativeHumidity().getInPercent(), withPrecision(1E-9));
+        assertThat(columns.saturationPressure()[row]).isEqualTo(expected.getSaturationPressure().getInPascals(), withPrecision(1E-9));
+        assertThat(columns.density()[row]).isEqualTo(expected.getDensity().getInKilogramsPerCubicMeters(), withPrecision(1E-9));
+        assertThat(columns.specificEnthalpy()[row] / 1000).isEqualTo(expected.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(), withPrecision(1E-9));
+        assertThat(columns.wetBulbTemperature()[row]).isEqualTo(expected.getWetBulbTemperature().getInKelvins(), withPrecision(1E-9));
+        assertThat(columns.dewPointTemperature()[row]).isEqualTo(expected.getDewPointTemperature().getInKelvins(), withPrecision(1E-9));
+        assertThat(columns.prandtlNumber()[row]).isEqualTo(expected.getPrandtlNumber().getValue(), withPrecision(1E-9));
+        assertThat(columns.failureReason()[row]).isNull();
+    }
+
+}
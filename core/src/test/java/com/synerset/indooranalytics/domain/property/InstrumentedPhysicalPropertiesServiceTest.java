@@ -0,0 +1,217 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class InstrumentedPhysicalPropertiesServiceTest {
+
+    private static final double TEMPERATURE_TOLERANCE = 1E-4;
+
+    private PhysicalPropertiesPort exactService;
+    private RecordingSolverListener listener;
+    private PhysicalPropertiesPort instrumentedService;
+
+    @BeforeEach
+    void init() {
+        exactService = PhysicalPropertiesPort.create();
+        listener = new RecordingSolverListener();
+        instrumentedService = PhysicalPropertiesPort.createInstrumented(exactService, listener);
+    }
+
+    @Test
+    @DisplayName("Solver instrumentation: should match exact service and report iterations for wet bulb temperature")
+    void shouldMatchExactServiceForWetBulbTemperature() {
+        // Given
+        Pressure pressure = Pressure.STANDARD_ATMOSPHERE;
+        Temperature wetBulbTemperature = Temperature.ofCelsius(17.23);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(47.6);
+
+        // When
+        HumidAir instrumented = instrumentedService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity);
+        HumidAir exact = exactService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity);
+
+        // Then
+        assertThat(instrumented.getTemperature().getInCelsius())
+                .isEqualTo(exact.getTemperature().getInCelsius(), withPrecision(TEMPERATURE_TOLERANCE));
+        assertThat(listener.converged).containsExactly(SolverEntryPoint.WET_BULB_TEMPERATURE);
+        assertThat(listener.iterations.get(0)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Solver instrumentation: should match exact service for dew point, enthalpy and humidity inputs")
+    void shouldMatchExactServiceForRemainingEntryPoints() {
+        // Given
+        Pressure pressure = Pressure.ofPascal(95_000);
+        Temperature dewPointTemperature = Temperature.ofCelsius(-3.5);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(63.3);
+        SpecificEnthalpy specificEnthalpy = SpecificEnthalpy.ofKiloJoulePerKiloGram(45.2);
+        HumidityRatio humidityRatio = HumidityRatio.ofKilogramPerKilogram(0.0081);
+
+        // When
+        HumidAir fromTdp = instrumentedService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, relativeHumidity);
+        HumidAir fromIx = instrumentedService.getHumidAirPropertiesFromIx(pressure, specificEnthalpy, humidityRatio);
+        HumidAir fromXRh = instrumentedService.getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity);
+
+        // Then
+        assertThat(fromTdp.getTemperature().getInCelsius()).isEqualTo(exactService
+                        .getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, relativeHumidity).getTemperature()
+                        .getInCelsius(), withPrecision(TEMPERATURE_TOLERANCE));
+        assertThat(fromIx.getTemperature().getInCelsius()).isEqualTo(exactService
+                        .getHumidAirPropertiesFromIx(pressure, specificEnthalpy, humidityRatio).getTemperature()
+                        .getInCelsius(), withPrecision(TEMPERATURE_TOLERANCE));
+        assertThat(fromXRh.getTemperature().getInCelsius()).isEqualTo(exactService
+                        .getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity).getTemperature()
+                        .getInCelsius(), withPrecision(TEMPERATURE_TOLERANCE));
+        assertThat(listener.converged).containsExactly(SolverEntryPoint.DEW_POINT_TEMPERATURE,
+                SolverEntryPoint.SPECIFIC_ENTHALPY, SolverEntryPoint.HUMIDITY);
+    }
+
+    @ParameterizedTest(name = "p = {0} Pa, WBT = {1} °C, RH = {2} %")
+    @CsvSource({
+            "101325, 10, 90",
+            "101325, 10, 99.5",
+            "101325, 45, 60",
+            "60000, 15, 40",
+            "60000, 30, 95"
+    })
+    @DisplayName("Solver instrumentation: should match exact service for wet bulb temperature at high humidity, high temperature and low pressure")
+    void shouldMatchExactServiceForWetBulbTemperatureAtEdgeStates(double pascals, double celsius, double percent) {
+        // Given
+        Pressure pressure = Pressure.ofPascal(pascals);
+        Temperature wetBulbTemperature = Temperature.ofCelsius(celsius);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(percent);
+
+        // When
+        HumidAir instrumented = instrumentedService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity);
+        HumidAir exact = exactService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity);
+
+        // Then
+        assertThat(instrumented.getTemperature().getInCelsius())
+                .isEqualTo(exact.getTemperature().getInCelsius(), withPrecision(TEMPERATURE_TOLERANCE));
+        assertThat(listener.converged).containsExactly(SolverEntryPoint.WET_BULB_TEMPERATURE);
+        assertThat(listener.failures).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Solver instrumentation: should match exact service for enthalpy and humidity inputs at low pressure")
+    void shouldMatchExactServiceForEnthalpyAndHumidityAtLowPressure() {
+        // Given
+        Pressure pressure = Pressure.ofPascal(60_000);
+        SpecificEnthalpy specificEnthalpy = SpecificEnthalpy.ofKiloJoulePerKiloGram(95);
+        HumidityRatio humidityRatio = HumidityRatio.ofKilogramPerKilogram(0.025);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(98);
+
+        // When
+        HumidAir fromIx = instrumentedService.getHumidAirPropertiesFromIx(pressure, specificEnthalpy, humidityRatio);
+        HumidAir fromXRh = instrumentedService.getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity);
+
+        // Then
+        assertThat(fromIx.getTemperature().getInCelsius()).isEqualTo(exactService
+                        .getHumidAirPropertiesFromIx(pressure, specificEnthalpy, humidityRatio).getTemperature()
+                        .getInCelsius(), withPrecision(TEMPERATURE_TOLERANCE));
+        assertThat(fromXRh.getTemperature().getInCelsius()).isEqualTo(exactService
+                        .getHumidAirPropertiesFromXRh(pressure, humidityRatio, relativeHumidity).getTemperature()
+                        .getInCelsius(), withPrecision(TEMPERATURE_TOLERANCE));
+        assertThat(listener.converged).containsExactly(SolverEntryPoint.SPECIFIC_ENTHALPY, SolverEntryPoint.HUMIDITY);
+    }
+
+    @Test
+    @DisplayName("Solver instrumentation: should bound search range below the temperature where vapour pressure reaches total pressure")
+    void shouldBoundSearchRangeBelowVapourPressureLimit() {
+        // Given
+        double pressure = 60_000;
+
+        // When
+        double saturatedLimit = InstrumentedPhysicalPropertiesService.vapourPressureLimit(pressure, 100);
+        double humidLimit = InstrumentedPhysicalPropertiesService.vapourPressureLimit(pressure, 90);
+        double dryLimit = InstrumentedPhysicalPropertiesService.vapourPressureLimit(pressure, 0);
+
+        // Then
+        assertThat(HumidAirEquations.saturationPressure(saturatedLimit)).isLessThan(pressure)
+                .isCloseTo(pressure, withPrecision(1.0));
+        assertThat(0.9 * HumidAirEquations.saturationPressure(humidLimit)).isLessThan(pressure);
+        assertThat(humidLimit).isGreaterThan(saturatedLimit);
+        assertThat(dryLimit).isEqualTo(InstrumentedPhysicalPropertiesService.MAX_TEMPERATURE);
+    }
+
+    @Test
+    @DisplayName("Solver instrumentation: should report failure when dry bulb temperature is out of search range")
+    void shouldReportFailureOutOfSearchRange() {
+        // Given
+        Pressure pressure = Pressure.STANDARD_ATMOSPHERE;
+        Temperature dewPointTemperature = Temperature.ofCelsius(20);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(0.1);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> instrumentedService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, relativeHumidity))
+                .isInstanceOf(SolverConvergenceException.class);
+        assertThat(listener.converged).isEmpty();
+        assertThat(listener.failures).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Solver instrumentation: should converge in fewer iterations with warm start for a stream of similar inputs")
+    void shouldConvergeInFewerIterationsWithWarmStart() {
+        // Given
+        PhysicalPropertiesPort warmStartService = PhysicalPropertiesPort.createInstrumented(exactService, listener, true);
+        Pressure pressure = Pressure.STANDARD_ATMOSPHERE;
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(55);
+
+        // When
+        List<Double> dryBulbTemperatures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Temperature wetBulbTemperature = Temperature.ofCelsius(15 + 0.05 * i);
+            dryBulbTemperatures.add(warmStartService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature,
+                    relativeHumidity).getTemperature().getInCelsius());
+        }
+
+        // Then
+        for (int i = 0; i < 10; i++) {
+            Temperature wetBulbTemperature = Temperature.ofCelsius(15 + 0.05 * i);
+            double coldStartTemperature = instrumentedService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature,
+                    relativeHumidity).getTemperature().getInCelsius();
+            assertThat(dryBulbTemperatures.get(i)).isEqualTo(coldStartTemperature, withPrecision(TEMPERATURE_TOLERANCE));
+        }
+        int firstSolutionIterations = listener.iterations.get(0);
+        assertThat(listener.iterations.subList(1, 10)).allSatisfy(iterations ->
+                assertThat(iterations).isLessThan(firstSolutionIterations));
+    }
+
+    private static class RecordingSolverListener implements SolverListener {
+
+        private final List<SolverEntryPoint> converged = new ArrayList<>();
+        private final List<Integer> iterations = new ArrayList<>();
+        private final List<SolverFailureReason> failures = new ArrayList<>();
+
+        @Override
+        public void onConverged(SolverEntryPoint entryPoint, int iterations, long elapsedNanos) {
+            this.converged.add(entryPoint);
+            this.iterations.add(iterations);
+        }
+
+        @Override
+        public void onFailed(SolverEntryPoint entryPoint, SolverFailureReason reason, int iterations, long elapsedNanos) {
+            this.failures.add(reason);
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.synerset.indooranalytics.domain.property;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class TabulatedPhysicalPropertiesServiceTest {
+
+    private static final double ERROR_TOLERANCE = 0.01;
+    private static final LookupTableGrid GRID = new LookupTableGrid(10, 30, 0.5, 20, 80, 1);
+
+    private static PhysicalPropertiesPort exactService;
+    private static TabulatedPhysicalPropertiesService tabulatedService;
+
+    @BeforeAll
+    static void init() {
+        exactService = PhysicalPropertiesPort.create();
+        tabulatedService = new TabulatedPhysicalPropertiesService(exactService, List.of(Pressure.STANDARD_ATMOSPHERE),
+                GRID, ERROR_TOLERANCE);
+    }
+
+    @Test
+    @DisplayName("Lookup table: should interpolate dry bulb temperature from wet bulb temperature within error tolerance")
+    void shouldInterpolateFromWetBulbTemperatureWithinTolerance() {
+        // Given
+        Pressure pressure = Pressure.STANDARD_ATMOSPHERE;
+        Temperature wetBulbTemperature = Temperature.ofCelsius(17.23);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(47.6);
+
+        // When
+        HumidAir tabulated = tabulatedService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity);
+        HumidAir exact = exactService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity);
+
+        // Then
+        assertThat(tabulated.getTemperature().getInCelsius())
+                .isEqualTo(exact.getTemperature().getInCelsius(), withPrecision(ERROR_TOLERANCE));
+        assertThat(tabulatedService.getMaxInterpolationError()).isLessThanOrEqualTo(ERROR_TOLERANCE);
+    }
+
+    @Test
+    @DisplayName("Lookup table: should interpolate dry bulb temperature from dew point temperature within error tolerance")
+    void shouldInterpolateFromDewPointTemperatureWithinTolerance() {
+        // Given
+        Pressure pressure = Pressure.STANDARD_ATMOSPHERE;
+        Temperature dewPointTemperature = Temperature.ofCelsius(12.81);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(63.3);
+
+        // When
+        HumidAir tabulated = tabulatedService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, relativeHumidity);
+        HumidAir exact = exactService.getHumidAirPropertiesFromTdp(pressure, dewPointTemperature, relativeHumidity);
+
+        // Then
+        assertThat(tabulated.getTemperature().getInCelsius())
+                .isEqualTo(exact.getTemperature().getInCelsius(), withPrecision(ERROR_TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("Lookup table: should fall back to exact solver outside the grid and at other pressure levels")
+    void shouldFallBackToExactSolverOutsideTable() {
+        // Given
+        Pressure otherPressure = Pressure.ofPascal(90_000);
+        Temperature wetBulbTemperature = Temperature.ofCelsius(40);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(50);
+
+        // When
+        HumidAir outsideGrid = tabulatedService.getHumidAirPropertiesFromWbt(Pressure.STANDARD_ATMOSPHERE, wetBulbTemperature, relativeHumidity);
+        HumidAir otherPressureLevel = tabulatedService.getHumidAirPropertiesFromWbt(otherPressure, Temperature.ofCelsius(20), relativeHumidity);
+
+        // Then
+        HumidAir expectedOutsideGrid = exactService.getHumidAirPropertiesFromWbt(Pressure.STANDARD_ATMOSPHERE, wetBulbTemperature, relativeHumidity);
+        HumidAir expectedOtherPressureLevel = exactService.getHumidAirPropertiesFromWbt(otherPressure, Temperature.ofCelsius(20), relativeHumidity);
+        assertThat(outsideGrid.getTemperature()).isEqualTo(expectedOutsideGrid.getTemperature());
+        assertThat(otherPressureLevel.getTemperature()).isEqualTo(expectedOtherPressureLevel.getTemperature());
+    }
+
+}
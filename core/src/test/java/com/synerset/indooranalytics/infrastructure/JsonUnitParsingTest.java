@@ -18,7 +18,9 @@ import com.synerset.unitility.unitsystem.thermodynamic.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.convert.ConversionService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -30,6 +32,10 @@ class JsonUnitParsingTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    @Qualifier("mvcConversionService")
+    private ConversionService conversionService;
+
     @Test
     @DisplayName("Serialization / Deserialization: should successfully serialize and deserialize physical quantity types")
     void shouldSerializeAndDeserializeCorrectlyAllUnitilityQuantities() throws JsonProcessingException {
@@ -72,4 +78,74 @@ class JsonUnitParsingTest {
         assertThat(actualUnitRecord).isEqualTo(expectedUnitRecord);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Deserialization: should deserialize quantities in common SI units and fall back for other forms and units")
+    void shouldDeserializeQuantitiesInFastPathAndFallback() throws JsonProcessingException {
+        // Given
+        String fastPathJson = """
+                {"temperature": {"value": 20, "unit": "oC"},
+                 "pressure": {"unit": "Pa", "value": 50000.5},
+                 "volumetricFlow": {"value": 3600, "unit": "m3/h"},
+                 "power": {"value": -1.5E1, "unit": "kW"}}
+                """;
+        TestUnitsRecord fallbackSource = new TestUnitsRecord(null, null, null, null, null, null, null, null, null,
+                null, null, VolumetricFlow.ofGallonsPerHour(TEST_VALUE), null, RelativeHumidity.ofDecimal(TEST_VALUE),
+                null, null, null, null, null, null, null, Power.ofHorsePower(TEST_VALUE), null,
+                SpecificEnthalpy.ofBTUPerPound(TEST_VALUE), null, null, null, null);
+        String fallbackJson = objectMapper.writeValueAsString(fallbackSource);
+
+        // When
+        TestUnitsRecord fastPathRecord = objectMapper.readValue(fastPathJson, TestUnitsRecord.class);
+        TestUnitsRecord fallbackRecord = objectMapper.readValue(fallbackJson, TestUnitsRecord.class);
+
+        // Then
+        assertThat(fastPathRecord.temperature()).isEqualTo(Temperature.ofCelsius(20));
+        assertThat(fastPathRecord.pressure()).isEqualTo(Pressure.ofPascal(50000.5));
+        assertThat(fastPathRecord.volumetricFlow()).isEqualTo(VolumetricFlow.ofCubicMetersPerHour(3600));
+        assertThat(fastPathRecord.power()).isEqualTo(Power.ofKiloWatts(-15));
+
+        assertThat(fallbackRecord).isEqualTo(fallbackSource);
+    }
+
+    @Test
+    @DisplayName("Deserialization: should deserialize quantities given as text in common SI units and fall back for other units")
+    void shouldDeserializeQuantitiesGivenAsText() throws JsonProcessingException {
+        // Given
+        String textJson = """
+                {"temperature": "-20.5oC",
+                 "pressure": "50_000.5Pa",
+                 "relativeHumidity": "40.5%",
+                 "power": "-1.5E1kW",
+                 "massFlow": "0.000001kg/s",
+                 "specificEnthalpy": "1.5BTU/lb",
+                 "density": "12345678901234567kg/m3"}
+                """;
+
+        // When
+        TestUnitsRecord textRecord = objectMapper.readValue(textJson, TestUnitsRecord.class);
+
+        // Then
+        assertThat(textRecord.temperature()).isEqualTo(Temperature.ofCelsius(-20.5));
+        assertThat(textRecord.pressure()).isEqualTo(Pressure.ofPascal(50000.5));
+        assertThat(textRecord.relativeHumidity()).isEqualTo(RelativeHumidity.ofPercentage(40.5));
+        assertThat(textRecord.power()).isEqualTo(Power.ofKiloWatts(-15));
+        assertThat(textRecord.massFlow()).isEqualTo(MassFlow.ofKilogramsPerSecond(0.000001));
+        assertThat(textRecord.specificEnthalpy()).isEqualTo(SpecificEnthalpy.ofBTUPerPound(TEST_VALUE));
+        assertThat(textRecord.density()).isEqualTo(Density.ofKilogramPerCubicMeter(12345678901234567.0));
+    }
+
+    @Test
+    @DisplayName("Conversion: should convert query parameters in common SI units and fall back for other units")
+    void shouldConvertQueryParameters() {
+        // When
+        Temperature temperature = conversionService.convert("20.5oC", Temperature.class);
+        Pressure pressure = conversionService.convert("101_325.0Pa", Pressure.class);
+        Temperature fallbackTemperature = conversionService.convert("293.65K", Temperature.class);
+
+        // Then
+        assertThat(temperature).isEqualTo(Temperature.ofCelsius(20.5));
+        assertThat(pressure).isEqualTo(Pressure.ofPascal(101325));
+        assertThat(fallbackTemperature).isEqualTo(Temperature.ofKelvins(293.65));
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.synerset.indooranalytics.infrastructure.adapter.process;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
+import com.synerset.indooranalyticsapi.process.common.OutletAirFlowResponse;
+import com.synerset.indooranalyticsapi.process.cooling.data.CondensateFlowResponse;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolantDataRequest;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolingProcessRequest;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolingProcessResponse;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.restassured.RestAssured;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+class CoolingProcessControllerTest {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ProcessControllerMapper processMapper;
+
+    @BeforeEach
+    void init() {
+        RestAssured.config = RestAssured.config().objectMapperConfig(new ObjectMapperConfig().jackson2ObjectMapperFactory((type, s) -> objectMapper));
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+    }
+
+    @Test
+    @DisplayName("Cooling: should successfully return cooling results for target temperature")
+    void getCoolingForTargetTemperature() {
+        // Given
+        HumidAir inletAir = HumidAir.of(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(35),
+                RelativeHumidity.ofPercentage(55));
+        FlowOfHumidAir flowOfHumidAir = FlowOfHumidAir.of(inletAir, MassFlow.ofKilogramsPerSecond(9.25));
+        CoolantDataRequest coolantDataRequest = new CoolantDataRequest(Temperature.ofCelsius(7), Temperature.ofCelsius(14));
+        Temperature targetTemperature = Temperature.ofCelsius(25);
+
+        // When
+        InletAirFlowRequest inletFlowRequest = processMapper.toInletFlowRequest(flowOfHumidAir);
+
+        CoolingProcessRequest coolingProcessRequest = new CoolingProcessRequest(
+                inletFlowRequest,
+                coolantDataRequest,
+                null,
+                targetTemperature,
+                null
+        );
+
+        CoolingProcessResponse coolingProcessResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(coolingProcessRequest)
+                .when()
+                .post("/indoor-analytics/processes/cooling/target-temperature")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(CoolingProcessResponse.class);
+
+        CoolingProcessResponse coolingProcessResponseImperial = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(coolingProcessRequest)
+                .queryParam("imperial-units", true)
+                .when()
+                .post("/indoor-analytics/processes/cooling/target-temperature")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(CoolingProcessResponse.class);
+
+        // Then
+        assertThat(coolingProcessResponse).isNotNull();
+        assertThat(coolingProcessResponseImperial).isNotNull();
+        assertThat(coolingProcessResponse).isEqualTo(coolingProcessResponseImperial);
+
+        OutletAirFlowResponse outletAirFlowResponse = coolingProcessResponse.outletAirFlow();
+        CondensateFlowResponse condensateFlowResponse = coolingProcessResponse.waterCondensateFlow();
+        double dryAirMassFlow = flowOfHumidAir.getDryAirMassFlow().getInKilogramsPerSecond();
+
+        assertThat(coolingProcessResponse.coolingStrategy()).isEqualTo("CoolingFromTemperature");
+        assertThat(coolingProcessResponse.bypassFactor().getValue()).isEqualTo(14.5 / 24.5, withPrecision(1E-9));
+
+        assertThat(outletAirFlowResponse.outletPressure()).isEqualTo(flowOfHumidAir.getPressure());
+        assertThat(outletAirFlowResponse.outletTemperature().getInCelsius()).isEqualTo(25, withPrecision(1E-9));
+        assertThat(outletAirFlowResponse.outletHumidityRatio().getValue()).isEqualTo(0.01482, withPrecision(1E-4));
+        assertThat(outletAirFlowResponse.outletDryAirMassFlow().getInKilogramsPerSecond()).isEqualTo(dryAirMassFlow, withPrecision(1E-9));
+
+        assertThat(condensateFlowResponse.condTemperature().getInCelsius()).isEqualTo(10.5, withPrecision(1E-9));
+        double condensateMassFlow = dryAirMassFlow * (flowOfHumidAir.getHumidityRatio().getValue()
+                - outletAirFlowResponse.outletHumidityRatio().getValue());
+        assertThat(condensateFlowResponse.condMassFlow().getInKilogramsPerSecond()).isEqualTo(condensateMassFlow, withPrecision(1E-9));
+
+        double expectedCoolingPower = dryAirMassFlow * (outletAirFlowResponse.outletSpecificEnthalpy().getInKiloJoulesPerKiloGram()
+                - flowOfHumidAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram())
+                + condensateMassFlow * condensateFlowResponse.condSpecificEnthalpy().getInKiloJoulesPerKiloGram();
+        assertThat(coolingProcessResponse.coolingPower().getInKiloWatts()).isEqualTo(expectedCoolingPower, withPrecision(1E-6));
+        assertThat(coolingProcessResponse.coolingPower().getInKiloWatts()).isNegative();
+
+    }
+
+    @Test
+    @DisplayName("Cooling: should return cooling results for input power matching process for target temperature")
+    void getCoolingForInputPower() {
+        // Given
+        HumidAir inletAir = HumidAir.of(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(30),
+                RelativeHumidity.ofPercentage(45));
+        FlowOfHumidAir flowOfHumidAir = FlowOfHumidAir.of(inletAir, MassFlow.ofKilogramsPerSecond(3.0));
+        CoolantDataRequest coolantDataRequest = new CoolantDataRequest(Temperature.ofCelsius(7), Temperature.ofCelsius(14));
+        InletAirFlowRequest inletFlowRequest = processMapper.toInletFlowRequest(flowOfHumidAir);
+
+        CoolingProcessResponse temperatureResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(new CoolingProcessRequest(inletFlowRequest, coolantDataRequest, null, Temperature.ofCelsius(20), null))
+                .when()
+                .post("/indoor-analytics/processes/cooling/target-temperature")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(CoolingProcessResponse.class);
+
+        // When
+        CoolingProcessRequest powerRequest = new CoolingProcessRequest(
+                inletFlowRequest,
+                coolantDataRequest,
+                temperatureResponse.coolingPower(),
+                null,
+                null
+        );
+
+        List<CoolingProcessResponse> batchResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(List.of(powerRequest, powerRequest))
+                .when()
+                .post("/indoor-analytics/processes/cooling/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .jsonPath()
+                .getList(".", CoolingProcessResponse.class);
+
+        // Then
+        assertThat(batchResponse).hasSize(2);
+        CoolingProcessResponse powerResponse = batchResponse.get(0);
+        assertThat(powerResponse.coolingStrategy()).isEqualTo("CoolingFromPower");
+        assertThat(powerResponse.bypassFactor().getValue())
+                .isEqualTo(temperatureResponse.bypassFactor().getValue(), withPrecision(1E-6));
+        assertThat(powerResponse.outletAirFlow().outletTemperature().getInCelsius()).isEqualTo(20, withPrecision(1E-4));
+        assertThat(batchResponse.get(1)).isEqualTo(powerResponse);
+
+    }
+
+    @Test
+    @DisplayName("Cooling: should reject cooling request with coolant supply temperature greater than return")
+    void getCoolingWithInvalidCoolantData() {
+        // Given
+        FlowOfHumidAir flowOfHumidAir = FlowOfHumidAir.of(HumidAir.of(Pressure.STANDARD_ATMOSPHERE,
+                Temperature.ofCelsius(35), RelativeHumidity.ofPercentage(55)), MassFlow.ofKilogramsPerSecond(9.25));
+
+        CoolingProcessRequest coolingProcessRequest = new CoolingProcessRequest(
+                processMapper.toInletFlowRequest(flowOfHumidAir),
+                new CoolantDataRequest(Temperature.ofCelsius(14), Temperature.ofCelsius(7)),
+                null,
+                Temperature.ofCelsius(25),
+                null
+        );
+
+        // When
+        // Then
+        RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(coolingProcessRequest)
+                .when()
+                .post("/indoor-analytics/processes/cooling/target-temperature")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+
+    }
+
+}
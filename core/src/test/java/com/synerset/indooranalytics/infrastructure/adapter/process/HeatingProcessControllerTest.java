@@ -4,8 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
 import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
 import com.synerset.indooranalyticsapi.process.common.OutletAirFlowResponse;
+import com.synerset.indooranalyticsapi.process.common.SweepRange;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingBatchRequest;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingBatchResponse;
 import com.synerset.indooranalyticsapi.process.heating.data.HeatingProcessRequest;
 import com.synerset.indooranalyticsapi.process.heating.data.HeatingProcessResponse;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingSweepRequest;
 import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
 import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.Power;
@@ -21,6 +25,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.withPrecision;
 
@@ -238,4 +244,178 @@ class HeatingProcessControllerTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Heating: should return batch heating results for target temperature with per row failures")
+    void getHeatingBatchForTargetTemperature() {
+        // Given
+        FlowOfHumidAir flowOfHumidAir = FlowOfHumidAir.ofValues(-20, 95, 20_000);
+        double inletMassFlow = flowOfHumidAir.getMassFlow().getInKilogramsPerSecond();
+
+        // When
+        HeatingBatchRequest heatingBatchRequest = new HeatingBatchRequest(
+                null,
+                new double[]{-20, -20},
+                new double[]{95, 95},
+                null,
+                new double[]{inletMassFlow, inletMassFlow},
+                null,
+                new double[]{15, -30},
+                null
+        );
+
+        HeatingBatchResponse heatingBatchResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(heatingBatchRequest)
+                .when()
+                .post("/indoor-analytics/processes/heating/batch/target-temperature")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(HeatingBatchResponse.class);
+
+        // Then
+        assertThat(heatingBatchResponse).isNotNull();
+        assertThat(heatingBatchResponse.heatingStrategy()).isEqualTo("HeatingFromTemperature");
+
+        assertThat(heatingBatchResponse.heatingPower()[0]).isEqualTo(271.94, withPrecision(0.01));
+        assertThat(heatingBatchResponse.outletTemperature()[0]).isEqualTo(15);
+        assertThat(heatingBatchResponse.outletHumidityRatio()[0])
+                .isEqualTo(flowOfHumidAir.getHumidityRatio().getValue(), withPrecision(1E-9));
+        assertThat(heatingBatchResponse.outletRelativeHumidity()[0]).isEqualTo(5.75, withPrecision(0.01));
+        assertThat(heatingBatchResponse.outletSpecificEnthalpy()[0]).isEqualTo(16.59, withPrecision(0.01));
+        assertThat(heatingBatchResponse.failureReason()[0]).isNull();
+
+        assertThat(heatingBatchResponse.heatingPower()[1]).isNaN();
+        assertThat(heatingBatchResponse.outletTemperature()[1]).isNaN();
+        assertThat(heatingBatchResponse.failureReason()[1]).startsWith("Target temperature must be greater");
+
+    }
+
+    @Test
+    @DisplayName("Heating: should reject batch heating request without target column")
+    void getHeatingBatchWithoutTargetColumn() {
+        // Given
+        HeatingBatchRequest heatingBatchRequest = new HeatingBatchRequest(
+                null,
+                new double[]{-20},
+                new double[]{95},
+                null,
+                new double[]{6.4},
+                null,
+                null,
+                null
+        );
+
+        // When
+        // Then
+        RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(heatingBatchRequest)
+                .when()
+                .post("/indoor-analytics/processes/heating/batch/input-power")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+
+    }
+
+    @Test
+    @DisplayName("Heating: should stream heating sweep points for every combination of temperature and mass flow")
+    void getHeatingSweepForTargetTemperature() {
+        // Given
+        HeatingSweepRequest heatingSweepRequest = new HeatingSweepRequest(
+                null,
+                new SweepRange(-25.0, 15.0, 0.5),
+                RelativeHumidity.ofPercentage(95),
+                null,
+                new SweepRange(1.0, 10.0, 1.0),
+                null,
+                Temperature.ofCelsius(10),
+                null
+        );
+
+        // When
+        String csvResponse = RestAssured
+                .given()
+                .contentType(ContentType.JSON)
+                .body(heatingSweepRequest)
+                .queryParam("format", "csv")
+                .when()
+                .post("/indoor-analytics/processes/heating/sweep")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("text/csv")
+                .extract()
+                .asString();
+
+        List<Double> jsonHeatingPower = RestAssured
+                .given()
+                .contentType(ContentType.JSON)
+                .body(heatingSweepRequest)
+                .when()
+                .post("/indoor-analytics/processes/heating/sweep")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .jsonPath()
+                .getList("points.heatingPower", Double.class);
+
+        // Then
+        String[] csvLines = csvResponse.split("\n");
+        assertThat(csvLines).hasSize(1 + 81 * 10);
+        assertThat(csvLines[0]).startsWith("inletTemperature,inletMassFlow,heatingPower");
+        assertThat(csvLines[1]).startsWith("-25.0,1.0,");
+        assertThat(csvLines[810]).startsWith("15.0,10.0,NaN");
+        assertThat(csvLines[810]).contains("Target temperature must be greater");
+
+        assertThat(jsonHeatingPower).hasSize(81 * 10);
+        assertThat(jsonHeatingPower.get(9)).isEqualTo(10 * jsonHeatingPower.get(0), withPrecision(1E-9));
+        assertThat(jsonHeatingPower.get(0)).isPositive();
+
+    }
+
+    @Test
+    @DisplayName("Heating: should reject heating sweep with too many points or ranges out of physical range")
+    void getHeatingSweepForInvalidRanges() {
+        // Given
+        HeatingSweepRequest tooLongSweepRequest = new HeatingSweepRequest(
+                null,
+                // Number of levels exceeds the range of long
+                new SweepRange(-25.0, 15.0, 1E-300),
+                RelativeHumidity.ofPercentage(95),
+                null,
+                new SweepRange(1.0, 10.0, 1.0),
+                null,
+                Temperature.ofCelsius(10),
+                null
+        );
+        HeatingSweepRequest unphysicalSweepRequest = new HeatingSweepRequest(
+                null,
+                new SweepRange(-25.0, 15.0, 0.5),
+                RelativeHumidity.ofPercentage(95),
+                null,
+                new SweepRange(-10.0, 10.0, 1.0),
+                null,
+                Temperature.ofCelsius(10),
+                null
+        );
+
+        // When
+        // Then
+        for (HeatingSweepRequest heatingSweepRequest : List.of(tooLongSweepRequest, unphysicalSweepRequest)) {
+            RestAssured
+                    .given()
+                    .contentType(ContentType.JSON)
+                    .body(heatingSweepRequest)
+                    .when()
+                    .post("/indoor-analytics/processes/heating/sweep")
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value());
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.synerset.indooranalytics.infrastructure.adapter.process;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
+import com.synerset.indooranalyticsapi.process.common.OutletAirFlowResponse;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingMultipleProcessRequest;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingProcessRequest;
+import com.synerset.indooranalyticsapi.process.mixing.data.MixingProcessResponse;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.restassured.RestAssured;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+class MixingProcessControllerTest {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ProcessControllerMapper processMapper;
+
+    @BeforeEach
+    void init() {
+        RestAssured.config = RestAssured.config().objectMapperConfig(new ObjectMapperConfig().jackson2ObjectMapperFactory((type, s) -> objectMapper));
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+    }
+
+    @Test
+    @DisplayName("Mixing: should successfully return mixing results for two flows")
+    void getMixing() {
+        // Given
+        FlowOfHumidAir inletFlow = flowOf(-20, 95, 3.5);
+        FlowOfHumidAir recirculationFlow = flowOf(15, 30, 7.0);
+        double inletDryAirMassFlow = inletFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+        double recirculationDryAirMassFlow = recirculationFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+        double totalDryAirMassFlow = inletDryAirMassFlow + recirculationDryAirMassFlow;
+
+        // When
+        MixingProcessRequest mixingProcessRequest = new MixingProcessRequest(
+                processMapper.toInletFlowRequest(inletFlow),
+                processMapper.toInletFlowRequest(recirculationFlow)
+        );
+
+        MixingProcessResponse mixingProcessResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(mixingProcessRequest)
+                .when()
+                .post("/indoor-analytics/processes/mixing")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(MixingProcessResponse.class);
+
+        MixingProcessResponse mixingProcessResponseImperial = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(mixingProcessRequest)
+                .queryParam("imperial-units", true)
+                .when()
+                .post("/indoor-analytics/processes/mixing")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(MixingProcessResponse.class);
+
+        // Then
+        assertThat(mixingProcessResponse).isNotNull();
+        assertThat(mixingProcessResponseImperial).isNotNull();
+        assertThat(mixingProcessResponse).isEqualTo(mixingProcessResponseImperial);
+
+        OutletAirFlowResponse outletAirFlowResponse = mixingProcessResponse.outletAirFlow();
+        double expectedHumidityRatio = (inletDryAirMassFlow * inletFlow.getHumidityRatio().getValue()
+                + recirculationDryAirMassFlow * recirculationFlow.getHumidityRatio().getValue()) / totalDryAirMassFlow;
+        double expectedSpecificEnthalpy = (inletDryAirMassFlow * inletFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram()
+                + recirculationDryAirMassFlow * recirculationFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram()) / totalDryAirMassFlow;
+
+        assertThat(mixingProcessResponse.mixingStrategy()).isEqualTo("MixingOfTwoFlows");
+        assertThat(outletAirFlowResponse.outletPressure()).isEqualTo(inletFlow.getPressure());
+        assertThat(outletAirFlowResponse.outletDryAirMassFlow().getInKilogramsPerSecond()).isEqualTo(totalDryAirMassFlow, withPrecision(1E-9));
+        assertThat(outletAirFlowResponse.outletHumidityRatio().getValue()).isEqualTo(expectedHumidityRatio, withPrecision(1E-12));
+        assertThat(outletAirFlowResponse.outletSpecificEnthalpy().getInKiloJoulesPerKiloGram()).isEqualTo(expectedSpecificEnthalpy, withPrecision(1E-6));
+
+    }
+
+    @Test
+    @DisplayName("Mixing: should return unchanged air state for hundreds of identical mixing flows")
+    void getMixingOfMultipleFlows() {
+        // Given
+        FlowOfHumidAir zoneReturnFlow = flowOf(24, 50, 0.25);
+        InletAirFlowRequest zoneReturnRequest = processMapper.toInletFlowRequest(zoneReturnFlow);
+        List<InletAirFlowRequest> mixingFlowRequests = Collections.nCopies(250, zoneReturnRequest);
+
+        // When
+        MixingMultipleProcessRequest mixingProcessRequest = new MixingMultipleProcessRequest(
+                zoneReturnRequest,
+                mixingFlowRequests
+        );
+
+        MixingProcessResponse mixingProcessResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(mixingProcessRequest)
+                .when()
+                .post("/indoor-analytics/processes/mixing/multiple")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(MixingProcessResponse.class);
+
+        // Then
+        OutletAirFlowResponse outletAirFlowResponse = mixingProcessResponse.outletAirFlow();
+
+        assertThat(mixingProcessResponse.mixingStrategy()).isEqualTo("MixingOfMultipleFlows");
+        assertThat(outletAirFlowResponse.outletTemperature().getInCelsius()).isEqualTo(24, withPrecision(1E-6));
+        assertThat(outletAirFlowResponse.outletRelativeHumidity().getInPercent()).isEqualTo(50, withPrecision(1E-6));
+        assertThat(outletAirFlowResponse.outletMassFlow().getInKilogramsPerSecond()).isEqualTo(251 * 0.25, withPrecision(1E-9));
+
+    }
+
+    private static FlowOfHumidAir flowOf(double temperature, double relativeHumidity, double massFlow) {
+        HumidAir humidAir = HumidAir.of(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(temperature),
+                RelativeHumidity.ofPercentage(relativeHumidity));
+        return FlowOfHumidAir.of(humidAir, MassFlow.ofKilogramsPerSecond(massFlow));
+    }
+
+}
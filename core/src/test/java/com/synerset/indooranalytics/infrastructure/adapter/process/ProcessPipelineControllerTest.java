@@ -0,0 +1,165 @@
+package com.synerset.indooranalytics.infrastructure.adapter.process;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.hvacengine.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalyticsapi.common.InvalidResponse;
+import com.synerset.indooranalyticsapi.process.common.InletAirFlowRequest;
+import com.synerset.indooranalyticsapi.process.cooling.data.CoolantDataRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.CoolingStepRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.HeatingStepRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.MixingStepRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessPipelineRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessPipelineResponse;
+import com.synerset.indooranalyticsapi.process.pipeline.data.ProcessStepResponse;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.restassured.RestAssured;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+class ProcessPipelineControllerTest {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ProcessControllerMapper processMapper;
+
+    @BeforeEach
+    void init() {
+        RestAssured.config = RestAssured.config().objectMapperConfig(new ObjectMapperConfig().jackson2ObjectMapperFactory((type, s) -> objectMapper));
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+    }
+
+    @Test
+    @DisplayName("Pipeline: should pass outlet air of each step to the next step")
+    void getPipeline() {
+        // Given
+        InletAirFlowRequest outdoorAirRequest = processMapper.toInletFlowRequest(flowOf(32, 45, 3.0));
+        InletAirFlowRequest returnAirRequest = processMapper.toInletFlowRequest(flowOf(24, 50, 6.0));
+        CoolantDataRequest coolantDataRequest = new CoolantDataRequest(Temperature.ofCelsius(7), Temperature.ofCelsius(12));
+
+        // When
+        ProcessPipelineRequest pipelineRequest = new ProcessPipelineRequest(
+                outdoorAirRequest,
+                List.of(
+                        new MixingStepRequest(List.of(returnAirRequest)),
+                        new CoolingStepRequest(coolantDataRequest, null, Temperature.ofCelsius(14), null),
+                        new HeatingStepRequest(null, Temperature.ofCelsius(18), null)
+                )
+        );
+
+        ProcessPipelineResponse pipelineResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(pipelineRequest)
+                .when()
+                .post("/indoor-analytics/processes/pipeline")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(ProcessPipelineResponse.class);
+
+        // Then
+        assertThat(pipelineResponse.steps()).hasSize(3);
+        ProcessStepResponse mixingStep = pipelineResponse.steps().get(0);
+        ProcessStepResponse coolingStep = pipelineResponse.steps().get(1);
+        ProcessStepResponse heatingStep = pipelineResponse.steps().get(2);
+
+        assertThat(mixingStep.process()).isEqualTo("mixing");
+        assertThat(mixingStep.heatOfProcess().getValue()).isZero();
+        assertThat(mixingStep.waterCondensateFlow()).isNull();
+
+        assertThat(coolingStep.process()).isEqualTo("cooling");
+        assertThat(coolingStep.outletAirFlow().outletTemperature().getInCelsius()).isEqualTo(14, withPrecision(1E-9));
+        assertThat(coolingStep.outletAirFlow().outletDryAirMassFlow())
+                .isEqualTo(mixingStep.outletAirFlow().outletDryAirMassFlow());
+        assertThat(coolingStep.waterCondensateFlow()).isNotNull();
+
+        assertThat(heatingStep.process()).isEqualTo("heating");
+        assertThat(heatingStep.strategy()).isEqualTo("HeatingFromTemperature");
+        assertThat(heatingStep.outletAirFlow().outletTemperature().getInCelsius()).isEqualTo(18, withPrecision(1E-9));
+        assertThat(heatingStep.outletAirFlow().outletHumidityRatio())
+                .isEqualTo(coolingStep.outletAirFlow().outletHumidityRatio());
+
+    }
+
+    @Test
+    @DisplayName("Pipeline: should reject pipeline with step without target")
+    void getPipelineWithStepWithoutTarget() {
+        // Given
+        ProcessPipelineRequest pipelineRequest = new ProcessPipelineRequest(
+                processMapper.toInletFlowRequest(flowOf(-10, 80, 3.0)),
+                List.of(new HeatingStepRequest(null, null, null))
+        );
+
+        // When
+        // Then
+        RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(pipelineRequest)
+                .when()
+                .post("/indoor-analytics/processes/pipeline")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+
+    }
+
+    @Test
+    @DisplayName("Pipeline: should report index of heating step failed in calculation")
+    void getPipelineWithFailingHeatingStep() {
+        // Given
+        ProcessPipelineRequest pipelineRequest = new ProcessPipelineRequest(
+                processMapper.toInletFlowRequest(flowOf(-10, 80, 3.0)),
+                List.of(
+                        new MixingStepRequest(List.of(processMapper.toInletFlowRequest(flowOf(20, 40, 1.0)))),
+                        // Outlet temperature would exceed the range of humid air equations by far
+                        new HeatingStepRequest(Power.ofKiloWatts(300_000), null, null)
+                )
+        );
+
+        // When
+        InvalidResponse invalidResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(pipelineRequest)
+                .when()
+                .post("/indoor-analytics/processes/pipeline")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .extract()
+                .as(InvalidResponse.class);
+
+        // Then
+        assertThat(invalidResponse.cause()).isEqualTo("ProcessCalculationException");
+        assertThat(invalidResponse.message()).contains("Step 1: ");
+
+    }
+
+    private static FlowOfHumidAir flowOf(double temperature, double relativeHumidity, double massFlow) {
+        HumidAir humidAir = HumidAir.of(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(temperature),
+                RelativeHumidity.ofPercentage(relativeHumidity));
+        return FlowOfHumidAir.of(humidAir, MassFlow.ofKilogramsPerSecond(massFlow));
+    }
+
+}
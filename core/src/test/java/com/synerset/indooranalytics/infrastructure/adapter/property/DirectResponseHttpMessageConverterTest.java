@@ -0,0 +1,123 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.synerset.hvacengine.fluids.dryair.DryAir;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.HumidAirColumns;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.indooranalyticsapi.property.data.DryAirResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DirectResponseHttpMessageConverterTest {
+
+    @Autowired
+    List<AbstractJackson2HttpMessageConverter> jacksonConverters;
+
+    @Autowired
+    PhysicalPropertiesMapper propertiesMapper;
+
+    @Autowired
+    HumidAirJsonWriter humidAirWriter;
+
+    @Autowired
+    DryAirJsonWriter dryAirWriter;
+
+    DirectResponseHttpMessageConverter directConverter;
+
+    @BeforeEach
+    void init() {
+        directConverter = new DirectResponseHttpMessageConverter(jacksonConverters);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/json", "application/cbor", "application/x-jackson-smile"})
+    @DisplayName("DirectResponse: should write dry air with body identical to response record written by Jackson converter")
+    void writeDryAir(String mediaType) throws IOException {
+        // Given
+        DryAir dryAir = DryAir.of(Pressure.ofPascal(100_000), Temperature.ofCelsius(25));
+        DryAirResponse dryAirResponse = propertiesMapper.toDryAirResponse(dryAir).toImperialUnits();
+        DirectResponse directResponse = (generator, provider) -> dryAirWriter.writeDryAir(dryAir, true, generator, provider);
+
+        // When
+        MockHttpOutputMessage expectedMessage = writeWithJacksonConverter(dryAirResponse, MediaType.parseMediaType(mediaType));
+        MockHttpOutputMessage actualMessage = new MockHttpOutputMessage();
+        directConverter.write(directResponse, MediaType.parseMediaType(mediaType), actualMessage);
+
+        // Then
+        assertThat(actualMessage.getBodyAsBytes()).isEqualTo(expectedMessage.getBodyAsBytes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/json", "application/cbor", "application/x-jackson-smile"})
+    @DisplayName("DirectResponse: should write humid air with body identical to response record written by Jackson converter")
+    void writeHumidAir(String mediaType) throws IOException {
+        // Given
+        HumidAir humidAir = HumidAir.of(Pressure.ofPascal(100_000), Temperature.ofCelsius(25),
+                RelativeHumidity.ofPercentage(45));
+        HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAir);
+        DirectResponse directResponse = (generator, provider) ->
+                humidAirWriter.writeHumidAir(humidAir, false, generator, provider);
+
+        // When
+        MockHttpOutputMessage expectedMessage = writeWithJacksonConverter(humidAirResponse, MediaType.parseMediaType(mediaType));
+        MockHttpOutputMessage actualMessage = new MockHttpOutputMessage();
+        directConverter.write(directResponse, MediaType.parseMediaType(mediaType), actualMessage);
+
+        // Then
+        assertThat(actualMessage.getBodyAsBytes()).isEqualTo(expectedMessage.getBodyAsBytes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("DirectResponse: should write batch of calculated columns with body identical to list of response records")
+    void writeHumidAirColumns(boolean imperialUnits) throws IOException {
+        // Given
+        List<HumidAirStateRequest> humidAirStates = List.of(
+                new HumidAirStateRequest(Temperature.ofCelsius(25), Pressure.ofPascal(100_000), RelativeHumidity.ofPercentage(45), null),
+                new HumidAirStateRequest(Temperature.ofCelsius(-5), Pressure.ofPascal(101_325), RelativeHumidity.ofPercentage(80), null));
+        HumidAirColumns humidAirColumns = PhysicalPropertiesPort.create()
+                .computeHumidAirPropertiesBatch(propertiesMapper.toHumidAirColumns(humidAirStates));
+        List<HumidAirResponse> humidAirResponses = propertiesMapper.toHumidAirResponses(humidAirColumns).stream()
+                .map(humidAirResponse -> imperialUnits ? humidAirResponse.toImperialUnits() : humidAirResponse)
+                .toList();
+        DirectResponse directResponse = (generator, provider) ->
+                humidAirWriter.writeHumidAirArray(humidAirColumns, imperialUnits, generator, provider);
+
+        // When
+        MockHttpOutputMessage expectedMessage = writeWithJacksonConverter(humidAirResponses, MediaType.APPLICATION_JSON);
+        MockHttpOutputMessage actualMessage = new MockHttpOutputMessage();
+        directConverter.write(directResponse, MediaType.APPLICATION_JSON, actualMessage);
+
+        // Then
+        assertThat(actualMessage.getBodyAsString()).isEqualTo(expectedMessage.getBodyAsString());
+    }
+
+    private MockHttpOutputMessage writeWithJacksonConverter(Object response, MediaType mediaType) throws IOException {
+        AbstractJackson2HttpMessageConverter jacksonConverter = jacksonConverters.stream()
+                .filter(converter -> converter.canWrite(response.getClass(), mediaType))
+                .findFirst()
+                .orElseThrow();
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        jacksonConverter.write(response, mediaType, outputMessage);
+        return outputMessage;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.hvacengine.fluids.dryair.DryAir;
+import com.synerset.indooranalyticsapi.property.data.DryAirResponse;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DryAirJsonWriterTest {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    PhysicalPropertiesMapper propertiesMapper;
+
+    @Autowired
+    DryAirJsonWriter dryAirWriter;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("DryAir: should write dry air directly with output identical to serialized response record")
+    void writeDryAir(boolean imperialUnits) throws IOException {
+        // Given
+        DryAir dryAir = DryAir.of(Pressure.ofPascal(100_000), Temperature.ofCelsius(25));
+        DryAirResponse dryAirResponse = propertiesMapper.toDryAirResponse(dryAir);
+        String expectedJson = objectMapper.writeValueAsString(imperialUnits
+                ? dryAirResponse.toImperialUnits()
+                : dryAirResponse);
+
+        // When
+        StringWriter actualJson = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(actualJson)) {
+            dryAirWriter.writeDryAir(dryAir, imperialUnits, generator, objectMapper.getSerializerProviderInstance());
+        }
+
+        // Then
+        assertThat(actualJson).hasToString(expectedJson);
+    }
+
+}
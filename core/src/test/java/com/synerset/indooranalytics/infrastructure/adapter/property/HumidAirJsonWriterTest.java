@@ -0,0 +1,83 @@
+package com.synerset.indooranalytics.infrastructure.adapter.property;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.HumidAirColumns;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class HumidAirJsonWriterTest {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    PhysicalPropertiesMapper propertiesMapper;
+
+    @Autowired
+    HumidAirJsonWriter humidAirWriter;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("HumidAir: should write humid air directly with output identical to serialized response record")
+    void writeHumidAir(boolean imperialUnits) throws IOException {
+        // Given
+        HumidAir humidAir = HumidAir.of(Pressure.ofPascal(100_000), Temperature.ofCelsius(25),
+                RelativeHumidity.ofPercentage(45));
+        HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAir);
+        String expectedJson = objectMapper.writeValueAsString(imperialUnits
+                ? humidAirResponse.toImperialUnits()
+                : humidAirResponse);
+
+        // When
+        StringWriter actualJson = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(actualJson)) {
+            humidAirWriter.writeHumidAir(humidAir, imperialUnits, generator, humidAirWriter.createSerializerProvider());
+        }
+
+        // Then
+        assertThat(actualJson).hasToString(expectedJson);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("HumidAir: should write calculated columns row directly with output identical to serialized response record")
+    void writeHumidAirColumnsRow(boolean imperialUnits) throws IOException {
+        // Given
+        HumidAirStateRequest humidAirState = new HumidAirStateRequest(Temperature.ofCelsius(25), Pressure.ofPascal(100_000),
+                RelativeHumidity.ofPercentage(45), null);
+        HumidAirColumns humidAirColumns = PhysicalPropertiesPort.create()
+                .computeHumidAirPropertiesBatch(propertiesMapper.toHumidAirColumns(List.of(humidAirState)));
+        HumidAirResponse humidAirResponse = propertiesMapper.toHumidAirResponse(humidAirColumns, 0);
+        String expectedJson = objectMapper.writeValueAsString(imperialUnits
+                ? humidAirResponse.toImperialUnits()
+                : humidAirResponse);
+
+        // When
+        StringWriter actualJson = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(actualJson)) {
+            humidAirWriter.writeHumidAir(humidAirColumns, 0, imperialUnits, generator, humidAirWriter.createSerializerProvider());
+        }
+
+        // Then
+        assertThat(actualJson).hasToString(expectedJson);
+    }
+
+}
@@ -1,25 +1,38 @@
 package com.synerset.indooranalytics.infrastructure.adapter.property;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.synerset.hvacengine.fluids.SharedEquations;
 import com.synerset.hvacengine.fluids.dryair.DryAirEquations;
 import com.synerset.hvacengine.fluids.humidair.HumidAirEquations;
 import com.synerset.hvacengine.fluids.humidair.VapourState;
+import com.synerset.indooranalyticsapi.common.InvalidResponse;
 import com.synerset.indooranalyticsapi.property.data.DryAirResponse;
 import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import com.synerset.indooranalyticsapi.property.data.HumidAirStateRequest;
 import com.synerset.unitility.unitsystem.dimensionless.PrandtlNumber;
 import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
 import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.restassured.RestAssured;
 import io.restassured.config.ObjectMapperConfig;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.withPrecision;
@@ -30,6 +43,9 @@ class PhysicalPropertiesControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @BeforeEach
     void init() {
         RestAssured.config = RestAssured.config().objectMapperConfig(new ObjectMapperConfig().jackson2ObjectMapperFactory((type, s) -> objectMapper));
@@ -167,6 +183,242 @@ class PhysicalPropertiesControllerTest {
 
     }
 
+    @Test
+    @DisplayName("HumidAir: should return the same humid air in compact binary encodings as in JSON")
+    void getHumidAirPropertiesInBinaryEncodings() throws IOException {
+        // Given
+        String cborMediaType = "application/cbor";
+        String smileMediaType = "application/x-jackson-smile";
+
+        // When
+        byte[] jsonBody = getHumidAirPropertiesAs(MediaType.APPLICATION_JSON_VALUE);
+        byte[] cborBody = getHumidAirPropertiesAs(cborMediaType);
+        byte[] smileBody = getHumidAirPropertiesAs(smileMediaType);
+
+        // Then
+        HumidAirResponse jsonResponse = objectMapper.readValue(jsonBody, HumidAirResponse.class);
+        HumidAirResponse cborResponse = objectMapper.copyWith(new CBORFactory()).readValue(cborBody, HumidAirResponse.class);
+        HumidAirResponse smileResponse = objectMapper.copyWith(new SmileFactory()).readValue(smileBody, HumidAirResponse.class);
+
+        assertThat(cborResponse).isEqualTo(jsonResponse);
+        assertThat(smileResponse).isEqualTo(jsonResponse);
+        assertThat(cborBody.length).isLessThan(jsonBody.length);
+        assertThat(smileBody.length).isLessThan(jsonBody.length);
+
+    }
+
+    @Test
+    @DisplayName("HumidAir: should return humid air with quantities converted to requested target units")
+    void getHumidAirPropertiesInRequestedUnits() {
+        // Given
+        Pressure pressure = Pressure.ofPascal(100_000);
+        Temperature temperature = Temperature.ofCelsius(25);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(45);
+
+        // When
+        HumidAirResponse humidAirResponseImperial = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("pressure", pressure.toEngineeringFormat())
+                .queryParam("temperature", temperature.toEngineeringFormat())
+                .queryParam("relative-humidity", relativeHumidity.toEngineeringFormat())
+                .queryParam("imperial-units", true)
+                .when()
+                .get("/indoor-analytics/properties/humid-air")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(HumidAirResponse.class);
+
+        JsonPath humidAirInRequestedUnits = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("pressure", pressure.toEngineeringFormat())
+                .queryParam("temperature", temperature.toEngineeringFormat())
+                .queryParam("relative-humidity", relativeHumidity.toEngineeringFormat())
+                .queryParam("units", "oF,psi,BTU/lb")
+                .when()
+                .get("/indoor-analytics/properties/humid-air")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .jsonPath();
+
+        // Then
+        assertThat(humidAirInRequestedUnits.getString("temperature.unit")).isEqualTo("°F");
+        assertThat(humidAirInRequestedUnits.getDouble("temperature.value"))
+                .isEqualTo(humidAirResponseImperial.temperature().getValue(), withPrecision(1E-9));
+        assertThat(humidAirInRequestedUnits.getString("dewPointTemperature.unit")).isEqualTo("°F");
+        assertThat(humidAirInRequestedUnits.getString("pressure.unit")).isEqualTo("psi");
+        assertThat(humidAirInRequestedUnits.getDouble("pressure.value"))
+                .isEqualTo(humidAirResponseImperial.pressure().getValue(), withPrecision(1E-9));
+        assertThat(humidAirInRequestedUnits.getString("specificEnthalpy.unit")).isEqualTo("BTU/lb");
+        assertThat(humidAirInRequestedUnits.getDouble("specificEnthalpy.value"))
+                .isEqualTo(humidAirResponseImperial.specificEnthalpy().getValue(), withPrecision(1E-9));
+        assertThat(humidAirInRequestedUnits.getString("density.unit")).isEqualTo("kg/m³");
+
+        RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("temperature", temperature.toEngineeringFormat())
+                .queryParam("units", "oF,K")
+                .when()
+                .get("/indoor-analytics/properties/humid-air")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+
+    }
+
+    @Test
+    @DisplayName("HumidAir: should return ETag and Cache-Control headers and answer conditional request with not modified")
+    void getHumidAirPropertiesConditionally() {
+        // Given
+        Temperature temperature = Temperature.ofCelsius(22);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(40);
+
+        // When
+        Response firstResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("temperature", temperature.toEngineeringFormat())
+                .queryParam("relative-humidity", relativeHumidity.toEngineeringFormat())
+                .when()
+                .get("/indoor-analytics/properties/humid-air");
+
+        String eTag = firstResponse.getHeader(HttpHeaders.ETAG);
+
+        String secondETag = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("relative-humidity", relativeHumidity.toEngineeringFormat())
+                .queryParam("temperature", temperature.toEngineeringFormat())
+                .when()
+                .get("/indoor-analytics/properties/humid-air")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .header(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(eTag).isNotBlank().startsWith("\"");
+        assertThat(secondETag).isEqualTo(eTag);
+        assertThat(firstResponse.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=");
+
+        RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .queryParam("temperature", temperature.toEngineeringFormat())
+                .queryParam("relative-humidity", relativeHumidity.toEngineeringFormat())
+                .when()
+                .get("/indoor-analytics/properties/humid-air")
+                .then()
+                .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+    }
+
+    @Test
+    @DisplayName("HumidAir: should successfully return humid air for a batch of states in order of request")
+    void getHumidAirPropertiesBatch() {
+        // Given
+        Pressure expectedPressure = Pressure.ofPascal(100_000);
+        Temperature expectedFirstTemperature = Temperature.ofCelsius(25);
+        RelativeHumidity expectedFirstRelativeHumidity = RelativeHumidity.ofPercentage(45);
+        Temperature expectedSecondTemperature = Temperature.ofCelsius(-5);
+        HumidityRatio expectedSecondHumidityRatio = HumidityRatio.ofKilogramPerKilogram(0.002);
+
+        List<HumidAirStateRequest> humidAirStates = List.of(
+                new HumidAirStateRequest(expectedFirstTemperature, expectedPressure, expectedFirstRelativeHumidity, null),
+                new HumidAirStateRequest(expectedSecondTemperature, expectedPressure, null, expectedSecondHumidityRatio)
+        );
+
+        // When
+        HumidAirResponse[] humidAirResponses = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(humidAirStates)
+                .when()
+                .post("/indoor-analytics/properties/humid-air/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(HumidAirResponse[].class);
+
+        HumidAirResponse[] humidAirResponsesImperial = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(humidAirStates)
+                .queryParam("imperial-units", true)
+                .when()
+                .post("/indoor-analytics/properties/humid-air/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(HumidAirResponse[].class);
+
+        // Then
+        Pressure expectedSaturationPressure = HumidAirEquations.saturationPressure(expectedFirstTemperature);
+        HumidityRatio expectedFirstHumidityRatio = HumidAirEquations.humidityRatio(expectedFirstRelativeHumidity, expectedSaturationPressure, expectedPressure);
+        RelativeHumidity expectedSecondRelativeHumidity = HumidAirEquations.relativeHumidity(expectedSecondTemperature, expectedSecondHumidityRatio, expectedPressure);
+
+        assertThat(humidAirResponses).hasSize(2);
+        assertThat(humidAirResponses).isEqualTo(humidAirResponsesImperial);
+
+        assertThat(humidAirResponses[0].temperature()).isEqualTo(expectedFirstTemperature);
+        assertThat(humidAirResponses[0].pressure()).isEqualTo(expectedPressure);
+        assertThat(humidAirResponses[0].humidityRatio()).isEqualTo(expectedFirstHumidityRatio);
+
+        assertThat(humidAirResponses[1].temperature()).isEqualTo(expectedSecondTemperature);
+        assertThat(humidAirResponses[1].humidityRatio()).isEqualTo(expectedSecondHumidityRatio);
+        assertThat(humidAirResponses[1].relativeHumidity()).isEqualTo(expectedSecondRelativeHumidity);
+    }
+
+    @Test
+    @DisplayName("HumidAir: should stream humid air for NDJSON states and report invalid line in place")
+    void getHumidAirPropertiesStream() throws Exception {
+        // Given
+        Pressure expectedPressure = Pressure.ofPascal(100_000);
+        Temperature expectedFirstTemperature = Temperature.ofCelsius(25);
+        RelativeHumidity expectedFirstRelativeHumidity = RelativeHumidity.ofPercentage(45);
+        Temperature invalidTemperature = Temperature.ofCelsius(500);
+        Temperature expectedThirdTemperature = Temperature.ofCelsius(-5);
+        HumidityRatio expectedThirdHumidityRatio = HumidityRatio.ofKilogramPerKilogram(0.002);
+
+        String humidAirStates = objectMapper.writeValueAsString(new HumidAirStateRequest(expectedFirstTemperature, expectedPressure, expectedFirstRelativeHumidity, null)) + "\n"
+                + objectMapper.writeValueAsString(new HumidAirStateRequest(invalidTemperature, expectedPressure, expectedFirstRelativeHumidity, null)) + "\n"
+                + objectMapper.writeValueAsString(new HumidAirStateRequest(expectedThirdTemperature, expectedPressure, null, expectedThirdHumidityRatio)) + "\n";
+
+        // When
+        String responseBody = RestAssured
+                .given()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .body(humidAirStates)
+                .when()
+                .post("/indoor-analytics/properties/humid-air/stream")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .asString();
+
+        // Then
+        String[] lines = responseBody.split("\n");
+        assertThat(lines).hasSize(3);
+
+        HumidAirResponse firstResponse = objectMapper.readValue(lines[0], HumidAirResponse.class);
+        InvalidResponse secondResponse = objectMapper.readValue(lines[1], InvalidResponse.class);
+        HumidAirResponse thirdResponse = objectMapper.readValue(lines[2], HumidAirResponse.class);
+
+        assertThat(firstResponse.temperature()).isEqualTo(expectedFirstTemperature);
+        assertThat(firstResponse.relativeHumidity()).isEqualTo(expectedFirstRelativeHumidity);
+        assertThat(secondResponse.cause()).isEqualTo("ConstraintViolationException");
+        assertThat(thirdResponse.temperature()).isEqualTo(expectedThirdTemperature);
+        assertThat(thirdResponse.humidityRatio()).isEqualTo(expectedThirdHumidityRatio);
+    }
+
     @Test
     @DisplayName("HumidAir: should successfully return humid air derived from wet bulb temperature")
     void getHumidAirPropertiesFromWbt() {
@@ -240,6 +492,108 @@ class PhysicalPropertiesControllerTest {
 
     }
 
+    @Test
+    @DisplayName("HumidAir: should reject physically impossible states before calculation")
+    void getHumidAirPropertiesForImpossibleStates() {
+        // Given
+        Pressure pressure = Pressure.ofPascal(60_000);
+        double rejectionsBefore = errorResponses("IndoorAnalyticsInvalidArgumentException");
+
+        // When
+        InvalidResponse boilingStateResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("temperature", Temperature.ofCelsius(120).toEngineeringFormat())
+                .queryParam("relative-humidity", RelativeHumidity.ofPercentage(100).toEngineeringFormat())
+                .when()
+                .get("/indoor-analytics/properties/humid-air")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .extract()
+                .as(InvalidResponse.class);
+
+        InvalidResponse dewPointResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("pressure", pressure.toEngineeringFormat())
+                .queryParam("dew-point-temperature", Temperature.ofCelsius(90).toEngineeringFormat())
+                .queryParam("relative-humidity", RelativeHumidity.ofPercentage(50).toEngineeringFormat())
+                .when()
+                .get("/indoor-analytics/properties/humid-air/from-dew-point")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .extract()
+                .as(InvalidResponse.class);
+
+        // Then
+        assertThat(boilingStateResponse.cause()).isEqualTo("IndoorAnalyticsInvalidArgumentException");
+        assertThat(boilingStateResponse.message()).contains("partial pressure");
+        assertThat(dewPointResponse.cause()).isEqualTo("IndoorAnalyticsInvalidArgumentException");
+        assertThat(dewPointResponse.message()).contains("dew point");
+        assertThat(boilingStateResponse.timestamp()).isNotNull();
+        assertThat(errorResponses("IndoorAnalyticsInvalidArgumentException")).isEqualTo(rejectionsBefore + 2);
+
+    }
+
+    @Test
+    @DisplayName("HumidAir: should reject physically impossible states of batch and stream, reporting each state")
+    void getHumidAirPropertiesForImpossibleBatchAndStreamStates() throws Exception {
+        // Given
+        Temperature validTemperature = Temperature.ofCelsius(25);
+        RelativeHumidity validRelativeHumidity = RelativeHumidity.ofPercentage(45);
+        Temperature boilingTemperature = Temperature.ofCelsius(120);
+        RelativeHumidity saturatedRelativeHumidity = RelativeHumidity.ofPercentage(100);
+
+        HumidAirStateRequest validState = new HumidAirStateRequest(validTemperature, null, validRelativeHumidity, null);
+        HumidAirStateRequest boilingState = new HumidAirStateRequest(boilingTemperature, null, saturatedRelativeHumidity, null);
+        List<HumidAirStateRequest> humidAirStates = List.of(validState, boilingState, validState, boilingState);
+
+        String humidAirStream = objectMapper.writeValueAsString(validState) + "\n"
+                + objectMapper.writeValueAsString(boilingState) + "\n"
+                + objectMapper.writeValueAsString(validState) + "\n";
+
+        // When
+        InvalidResponse batchResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .body(humidAirStates)
+                .when()
+                .post("/indoor-analytics/properties/humid-air/batch")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .extract()
+                .as(InvalidResponse.class);
+
+        String streamBody = RestAssured
+                .given()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .body(humidAirStream)
+                .when()
+                .post("/indoor-analytics/properties/humid-air/stream")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .asString();
+
+        // Then
+        assertThat(batchResponse.cause()).isEqualTo("IndoorAnalyticsInvalidArgumentException");
+        assertThat(batchResponse.message())
+                .contains("State at index 1: Water vapour partial pressure", "State at index 3: Water vapour partial pressure")
+                .doesNotContain("index 0", "index 2");
+
+        String[] lines = streamBody.split("\n");
+        assertThat(lines).hasSize(3);
+        HumidAirResponse firstResponse = objectMapper.readValue(lines[0], HumidAirResponse.class);
+        InvalidResponse secondResponse = objectMapper.readValue(lines[1], InvalidResponse.class);
+        HumidAirResponse thirdResponse = objectMapper.readValue(lines[2], HumidAirResponse.class);
+        assertThat(firstResponse.temperature()).isEqualTo(validTemperature);
+        assertThat(secondResponse.cause()).isEqualTo("IndoorAnalyticsInvalidArgumentException");
+        assertThat(secondResponse.message()).contains("partial pressure");
+        assertThat(thirdResponse.temperature()).isEqualTo(validTemperature);
+    }
+
     @Test
     @DisplayName("HumidAir: should successfully return humid air derived from dew point temperature")
     void getHumidAirPropertiesFromTdp() {
@@ -457,4 +811,24 @@ class PhysicalPropertiesControllerTest {
         assertThat(humidAirResponse.prandtlNumber()).isEqualTo(expeectedPrandtlNumber);
     }
 
-}
\ No newline at end of file
+    private static byte[] getHumidAirPropertiesAs(String mediaType) {
+        return RestAssured
+                .given()
+                .accept(mediaType)
+                .queryParam("pressure", Pressure.ofPascal(100_000).toEngineeringFormat())
+                .queryParam("temperature", Temperature.ofCelsius(25).toEngineeringFormat())
+                .queryParam("relative-humidity", RelativeHumidity.ofPercentage(45).toEngineeringFormat())
+                .when()
+                .get("/indoor-analytics/properties/humid-air")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .asByteArray();
+    }
+
+    private double errorResponses(String cause) {
+        Counter counter = meterRegistry.find("error-responses").tag("cause", cause).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+}
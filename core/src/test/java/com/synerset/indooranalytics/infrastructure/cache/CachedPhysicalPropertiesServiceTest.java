@@ -0,0 +1,54 @@
+package com.synerset.indooranalytics.infrastructure.cache;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class CachedPhysicalPropertiesServiceTest {
+
+    private static final QuantizationResolution RESOLUTION = new QuantizationResolution(0.01, 1.0, 0.01, 0.00001, 0.01);
+
+    private MeterRegistry meterRegistry;
+    private PhysicalPropertiesPort cachedService;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachedService = new CachedPhysicalPropertiesService(PhysicalPropertiesPort.create(), RESOLUTION, 100,
+                Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Cache: should return the same instance for inputs within one quantization step")
+    void shouldReturnCachedResultForInputsWithinQuantizationStep() {
+        // Given
+        Pressure pressure = Pressure.ofPascal(101_325);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(45);
+
+        // When
+        HumidAir firstHumidAir = cachedService.getHumidAirProperties(pressure, Temperature.ofCelsius(20.001), relativeHumidity);
+        HumidAir secondHumidAir = cachedService.getHumidAirProperties(pressure, Temperature.ofCelsius(19.999), relativeHumidity);
+        HumidAir otherHumidAir = cachedService.getHumidAirProperties(pressure, Temperature.ofCelsius(20.5), relativeHumidity);
+
+        // Then
+        assertThat(secondHumidAir).isSameAs(firstHumidAir);
+        assertThat(otherHumidAir).isNotSameAs(firstHumidAir);
+        assertThat(firstHumidAir.getTemperature().getInCelsius()).isEqualTo(20.0, withPrecision(1E-10));
+
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.synerset.indooranalytics.infrastructure.cache;
+
+import com.synerset.hvacengine.fluids.humidair.HumidAir;
+import com.synerset.indooranalytics.domain.property.HumidAirState;
+import com.synerset.indooranalytics.domain.property.PhysicalPropertiesPort;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingPhysicalPropertiesServiceTest {
+
+    private static final int CONCURRENT_CALLS = 8;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch calculationRelease = new CountDownLatch(1);
+
+    private MeterRegistry meterRegistry;
+    private PhysicalPropertiesPort coalescingService;
+
+    @BeforeEach
+    void init() {
+        PhysicalPropertiesPort exactService = PhysicalPropertiesPort.create();
+        PhysicalPropertiesPort slowService = (PhysicalPropertiesPort) Proxy.newProxyInstance(
+                PhysicalPropertiesPort.class.getClassLoader(),
+                new Class<?>[]{PhysicalPropertiesPort.class},
+                (proxy, method, args) -> {
+                    executions.incrementAndGet();
+                    calculationRelease.await(5, TimeUnit.SECONDS);
+                    return method.invoke(exactService, args);
+                });
+        meterRegistry = new SimpleMeterRegistry();
+        coalescingService = new CoalescingPhysicalPropertiesService(slowService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Coalescing: should share one in-flight calculation between concurrent identical calls")
+    void shouldShareInFlightCalculationBetweenIdenticalCalls() throws Exception {
+        // Given
+        Pressure pressure = Pressure.ofPascal(101_325);
+        Temperature wetBulbTemperature = Temperature.ofCelsius(18);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(60);
+
+        // When
+        List<HumidAir> humidAirs;
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLS)) {
+            List<Future<HumidAir>> calls = IntStream.range(0, CONCURRENT_CALLS)
+                    .mapToObj(i -> executor.submit(() ->
+                            coalescingService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity)))
+                    .toList();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalescedCount() < CONCURRENT_CALLS - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            calculationRelease.countDown();
+
+            humidAirs = calls.stream()
+                    .map(CoalescingPhysicalPropertiesServiceTest::await)
+                    .toList();
+        }
+
+        // Then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(humidAirs).hasSize(CONCURRENT_CALLS).allSatisfy(humidAir -> assertThat(humidAir).isSameAs(humidAirs.get(0)));
+        assertThat(meterRegistry.get(CoalescingPhysicalPropertiesService.COUNTER_NAME).tag("result", "executed").counter().count()).isEqualTo(1);
+        assertThat(coalescedCount()).isEqualTo(CONCURRENT_CALLS - 1);
+
+        coalescingService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity);
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Coalescing: should complete waiting call when shared calculation fails with an error")
+    void shouldCompleteWaitingCallWhenCalculationFailsWithError() throws Exception {
+        // Given
+        AssertionError calculationError = new AssertionError("Calculation failed");
+        PhysicalPropertiesPort failingService = (PhysicalPropertiesPort) Proxy.newProxyInstance(
+                PhysicalPropertiesPort.class.getClassLoader(),
+                new Class<?>[]{PhysicalPropertiesPort.class},
+                (proxy, method, args) -> {
+                    executions.incrementAndGet();
+                    calculationRelease.await(5, TimeUnit.SECONDS);
+                    throw calculationError;
+                });
+        PhysicalPropertiesPort failingCoalescingService = new CoalescingPhysicalPropertiesService(failingService, meterRegistry);
+        Pressure pressure = Pressure.ofPascal(101_325);
+        Temperature wetBulbTemperature = Temperature.ofCelsius(18);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(60);
+
+        // When
+        List<Future<HumidAir>> calls;
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            calls = IntStream.range(0, 2)
+                    .mapToObj(i -> executor.submit(() ->
+                            failingCoalescingService.getHumidAirPropertiesFromWbt(pressure, wetBulbTemperature, relativeHumidity)))
+                    .toList();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalescedCount() < 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            calculationRelease.countDown();
+
+            // Then
+            for (Future<HumidAir> call : calls) {
+                assertThatThrownBy(() -> call.get(10, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .cause()
+                        .isSameAs(calculationError);
+            }
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(coalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Coalescing: should delegate closed-form and batch calls without coalescing")
+    void shouldDelegateClosedFormAndBatchCallsWithoutCoalescing() {
+        // Given
+        calculationRelease.countDown();
+        Pressure pressure = Pressure.ofPascal(101_325);
+        Temperature temperature = Temperature.ofCelsius(24);
+        RelativeHumidity relativeHumidity = RelativeHumidity.ofPercentage(50);
+        HumidAirState humidAirState = new HumidAirState(pressure, temperature, null, relativeHumidity);
+
+        // When
+        coalescingService.getDryAirProperties(pressure, temperature);
+        coalescingService.getHumidAirProperties(pressure, temperature, relativeHumidity);
+        coalescingService.getHumidAirProperties(pressure, temperature, HumidityRatio.ofKilogramPerKilogram(0.009));
+        List<HumidAir> batch = coalescingService.getHumidAirPropertiesBatch(List.of(humidAirState, humidAirState));
+
+        // Then
+        assertThat(batch).hasSize(2);
+        assertThat(executions.get()).isEqualTo(4);
+        assertThat(meterRegistry.get(CoalescingPhysicalPropertiesService.COUNTER_NAME).tag("result", "executed").counter().count()).isZero();
+        assertThat(coalescedCount()).isZero();
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get(CoalescingPhysicalPropertiesService.COUNTER_NAME).tag("result", "coalesced").counter().count();
+    }
+
+    private static HumidAir await(Future<HumidAir> call) {
+        try {
+            return call.get(10, TimeUnit.SECONDS);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
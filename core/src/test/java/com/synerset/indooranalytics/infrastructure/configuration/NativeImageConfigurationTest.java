@@ -0,0 +1,43 @@
+package com.synerset.indooranalytics.infrastructure.configuration;
+
+import com.synerset.indooranalyticsapi.common.InvalidResponse;
+import com.synerset.indooranalyticsapi.process.common.SweepRange;
+import com.synerset.indooranalyticsapi.process.heating.data.HeatingSweepRequest;
+import com.synerset.indooranalyticsapi.process.pipeline.data.HeatingStepRequest;
+import com.synerset.indooranalyticsapi.property.data.HumidAirResponse;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.validation.PhysicalRange;
+import jakarta.validation.Constraint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeImageConfigurationTest {
+
+    @Test
+    @DisplayName("Native image: should register reflection and resource hints for api types, validators and Swagger UI")
+    void shouldRegisterRuntimeHints() {
+        // Given
+        RuntimeHints hints = new RuntimeHints();
+
+        // When
+        new NativeImageConfiguration.IndoorAnalyticsRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        assertThat(RuntimeHintsPredicates.reflection().onType(HumidAirResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(HeatingStepRequest.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(HeatingSweepRequest.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(SweepRange.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(InvalidResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Temperature.class)).accepts(hints);
+        for (Class<?> validatorType : PhysicalRange.class.getAnnotation(Constraint.class).validatedBy()) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(validatorType)).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/resources/webjars/swagger-ui/5.2.0/index.html"))
+                .accepts(hints);
+    }
+
+}
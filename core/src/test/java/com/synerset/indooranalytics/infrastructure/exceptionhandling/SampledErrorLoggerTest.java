@@ -0,0 +1,57 @@
+package com.synerset.indooranalytics.infrastructure.exceptionhandling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SampledErrorLoggerTest {
+
+    private static final String MESSAGE = "Invalid request: ";
+    private static final IndoorAnalyticsInvalidArgumentException REJECTION =
+            new IndoorAnalyticsInvalidArgumentException("Invalid request. RH = 120%");
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Error logging: should log at most the configured number of rejections per second and count the rest")
+    void shouldSampleRejectionsWithinSecond() {
+        // Given
+        SampledErrorLogger errorLogger = new SampledErrorLogger(2, clock::get);
+
+        // When
+        int logged = 0;
+        for (int rejection = 0; rejection < 100; rejection++) {
+            if (errorLogger.log(MESSAGE, REJECTION)) {
+                logged++;
+            }
+        }
+
+        // Then
+        assertThat(logged).isEqualTo(2);
+        assertThat(errorLogger.getSkippedCount()).isEqualTo(98);
+    }
+
+    @Test
+    @DisplayName("Error logging: should log again in the next second and report skipped rejections with it")
+    void shouldLogAgainInNextSecond() {
+        // Given
+        SampledErrorLogger errorLogger = new SampledErrorLogger(1, clock::get);
+        boolean firstLogged = errorLogger.log(MESSAGE, REJECTION);
+        boolean secondLogged = errorLogger.log(MESSAGE, REJECTION);
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        boolean thirdLogged = errorLogger.log(MESSAGE, REJECTION);
+
+        // Then
+        assertThat(firstLogged).isTrue();
+        assertThat(secondLogged).isFalse();
+        assertThat(thirdLogged).isTrue();
+        assertThat(errorLogger.getSkippedCount()).isZero();
+    }
+
+}
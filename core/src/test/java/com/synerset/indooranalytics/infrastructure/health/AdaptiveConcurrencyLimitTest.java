@@ -0,0 +1,108 @@
+package com.synerset.indooranalytics.infrastructure.health;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long BASELINE_LATENCY = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long SOLVER_HEAVY_LATENCY = TimeUnit.MILLISECONDS.toNanos(40);
+    private static final Duration WINDOW = Duration.ofSeconds(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Load shedding: should reject solver-heavy requests before regular ones when limit is saturated")
+    void shouldRejectLowerPriorityRequestsFirst() {
+        // Given
+        AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(4, 1, 8, 2.0, 0.5, WINDOW, clock::get);
+
+        // When
+        boolean firstSolverHeavy = concurrencyLimit.tryAcquire(0.5);
+        boolean secondSolverHeavy = concurrencyLimit.tryAcquire(0.5);
+        boolean thirdSolverHeavy = concurrencyLimit.tryAcquire(0.5);
+        boolean firstRegular = concurrencyLimit.tryAcquire(1.0);
+        boolean secondRegular = concurrencyLimit.tryAcquire(1.0);
+        boolean thirdRegular = concurrencyLimit.tryAcquire(1.0);
+
+        // Then
+        assertThat(firstSolverHeavy).isTrue();
+        assertThat(secondSolverHeavy).isTrue();
+        assertThat(thirdSolverHeavy).isFalse();
+        assertThat(firstRegular).isTrue();
+        assertThat(secondRegular).isTrue();
+        assertThat(thirdRegular).isFalse();
+        assertThat(concurrencyLimit.getInFlight()).isEqualTo(4);
+        assertThat(concurrencyLimit.isRejectingWithin(TimeUnit.SECONDS.toNanos(5))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Load shedding: should grow limit under load with stable latency and back off once per window when latency rises")
+    void shouldAdaptLimitToLatencyOncePerWindow() {
+        // Given
+        AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(8, 2, 64, 2.0, 0.5, WINDOW, clock::get);
+        acquire(concurrencyLimit, 5);
+        release(concurrencyLimit, LatencyClass.REGULAR, BASELINE_LATENCY, 5);
+
+        // When
+        clock.addAndGet(WINDOW.toNanos());
+        acquire(concurrencyLimit, 5);
+        release(concurrencyLimit, LatencyClass.REGULAR, BASELINE_LATENCY * 10, 5);
+        int limitAfterStableWindow = concurrencyLimit.getLimit();
+
+        clock.addAndGet(WINDOW.toNanos());
+        acquire(concurrencyLimit, 1);
+        release(concurrencyLimit, LatencyClass.REGULAR, BASELINE_LATENCY * 10, 1);
+
+        // Then
+        assertThat(limitAfterStableWindow).isEqualTo(10);
+        assertThat(concurrencyLimit.getLimit()).isEqualTo(5);
+        assertThat(concurrencyLimit.getInFlight()).isZero();
+        assertThat(concurrencyLimit.isRejectingWithin(TimeUnit.SECONDS.toNanos(5))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Load shedding: should compare solver-heavy latency with its own baseline, not with regular requests")
+    void shouldKeepSeparateBaselinesForLatencyClasses() {
+        // Given
+        AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(8, 2, 64, 2.0, 0.5, WINDOW, clock::get);
+        acquire(concurrencyLimit, 10);
+        release(concurrencyLimit, LatencyClass.REGULAR, BASELINE_LATENCY, 5);
+        release(concurrencyLimit, LatencyClass.SOLVER_HEAVY, SOLVER_HEAVY_LATENCY, 5);
+
+        // When
+        clock.addAndGet(WINDOW.toNanos());
+        acquire(concurrencyLimit, 10);
+        release(concurrencyLimit, LatencyClass.REGULAR, BASELINE_LATENCY, 5);
+        release(concurrencyLimit, LatencyClass.SOLVER_HEAVY, SOLVER_HEAVY_LATENCY, 5);
+
+        clock.addAndGet(WINDOW.toNanos());
+        acquire(concurrencyLimit, 1);
+        release(concurrencyLimit, LatencyClass.REGULAR, BASELINE_LATENCY, 1);
+
+        // Then
+        assertThat(concurrencyLimit.getLimit()).isEqualTo(13);
+        assertThat(concurrencyLimit.getInFlight()).isZero();
+    }
+
+    private static void acquire(AdaptiveConcurrencyLimit concurrencyLimit, int permits) {
+        for (int permit = 0; permit < permits; permit++) {
+            assertThat(concurrencyLimit.tryAcquire(1.0)).isTrue();
+        }
+    }
+
+    private static void release(AdaptiveConcurrencyLimit concurrencyLimit, LatencyClass latencyClass,
+                                long latencyNanos, int permits) {
+
+        for (int permit = 0; permit < permits; permit++) {
+            concurrencyLimit.release(latencyClass, latencyNanos);
+        }
+    }
+
+}
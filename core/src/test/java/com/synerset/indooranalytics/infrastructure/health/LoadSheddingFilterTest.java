@@ -0,0 +1,133 @@
+package com.synerset.indooranalytics.infrastructure.health;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerset.indooranalyticsapi.common.InvalidResponse;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import io.restassured.RestAssured;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+class LoadSheddingFilterTest {
+
+    private static final String READINESS_PATH = "/indoor-analytics/actuator/health/readiness";
+    // Default readiness hold time with margin
+    private static final Duration READINESS_TIMEOUT = Duration.ofSeconds(7);
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    AdaptiveConcurrencyLimit concurrencyLimit;
+
+    private int heldPermits;
+
+    @BeforeEach
+    void init() {
+        RestAssured.config = RestAssured.config().objectMapperConfig(new ObjectMapperConfig().jackson2ObjectMapperFactory((type, s) -> objectMapper));
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+    }
+
+    @AfterEach
+    void releaseHeldPermits() {
+        for (; heldPermits > 0; heldPermits--) {
+            concurrencyLimit.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Load shedding: should reject solver-heavy request with 503 and Retry-After, while serving regular requests")
+    void shouldRejectSolverHeavyRequestWhenItsShareIsInUse() {
+        // Given
+        holdPermits(0.75);
+
+        // When
+        Response wetBulbResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("wet-bulb-temperature", Temperature.ofCelsius(18).toEngineeringFormat())
+                .queryParam("relative-humidity", RelativeHumidity.ofPercentage(50).toEngineeringFormat())
+                .when()
+                .get("/indoor-analytics/properties/humid-air/from-wet-bulb");
+
+        Response dryAirResponse = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("temperature", Temperature.ofCelsius(20).toEngineeringFormat())
+                .when()
+                .get("/indoor-analytics/properties/dry-air");
+
+        // Then
+        assertThat(wetBulbResponse.statusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(wetBulbResponse.header(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        InvalidResponse invalidResponse = wetBulbResponse.as(InvalidResponse.class);
+        assertThat(invalidResponse.cause()).isEqualTo("ServiceOverloaded");
+        assertThat(invalidResponse.message()).isEqualTo("Service is overloaded, retry after 1 s.");
+        assertThat(invalidResponse.timestamp()).isNotNull();
+
+        assertThat(dryAirResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @DisplayName("Load shedding: should take instance out of readiness while shedding and restore it after hold time")
+    void shouldSwitchReadinessWhileShedding() throws InterruptedException {
+        // Given
+        String statusBeforeShedding = awaitReadinessStatus("UP");
+        holdPermits(1.0);
+
+        // When
+        int rejectedStatus = RestAssured
+                .given()
+                .accept(ContentType.JSON)
+                .queryParam("temperature", Temperature.ofCelsius(20).toEngineeringFormat())
+                .when()
+                .get("/indoor-analytics/properties/dry-air")
+                .statusCode();
+
+        Response readinessWhileShedding = RestAssured.given().when().get(READINESS_PATH);
+        releaseHeldPermits();
+        String statusAfterHoldTime = awaitReadinessStatus("UP");
+
+        // Then
+        assertThat(statusBeforeShedding).isEqualTo("UP");
+        assertThat(rejectedStatus).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(readinessWhileShedding.statusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(readinessWhileShedding.jsonPath().getString("status")).isEqualTo("OUT_OF_SERVICE");
+        assertThat(statusAfterHoldTime).isEqualTo("UP");
+    }
+
+    private void holdPermits(double limitShare) {
+        while (concurrencyLimit.tryAcquire(limitShare)) {
+            heldPermits++;
+        }
+    }
+
+    private static String awaitReadinessStatus(String expectedStatus) throws InterruptedException {
+        long deadline = System.nanoTime() + READINESS_TIMEOUT.toNanos();
+        String status = readinessStatus();
+        while (!expectedStatus.equals(status) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            status = readinessStatus();
+        }
+        return status;
+    }
+
+    private static String readinessStatus() {
+        return RestAssured.given().when().get(READINESS_PATH).jsonPath().getString("status");
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.synerset.indooranalytics.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+class RequestPhaseTimerTest {
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Metrics: should record every request phase and expose them for Prometheus")
+    void shouldRecordEveryRequestPhase() {
+        // Given
+        String endpoint = "property-humid-air-from-wbt";
+
+        // When
+        RestAssured.given()
+                .queryParam("wet-bulb-temperature", 15)
+                .queryParam("relative-humidity", 60)
+                .queryParam("imperial-units", true)
+                .when()
+                .get("/indoor-analytics/properties/humid-air/from-wet-bulb")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        String scrape = RestAssured.given()
+                .when()
+                .get("/indoor-analytics/actuator/prometheus")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .asString();
+
+        // Then
+        for (RequestPhase phase : RequestPhase.values()) {
+            Timer timer = meterRegistry.find(RequestPhaseTimer.METRIC_NAME)
+                    .tag("endpoint", endpoint)
+                    .tag("phase", phase.getTagValue())
+                    .timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isPositive();
+        }
+        assertThat(scrape).contains("indoor_analytics_request_phase_seconds_bucket");
+    }
+
+}
@@ -0,0 +1,2 @@
+cd ..
+docker build -t indoor-analytics-native -f docker/Dockerfile.native .
\ No newline at end of file
@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Compares startup time and memory usage of the JVM image (docker/Dockerfile) and the native image
+# (docker/Dockerfile.native). Each image is started in turn, startup time is measured from container start until
+# readiness is reported, memory usage is read from docker stats after one request to each measured endpoint.
+# Results are printed and written to load-tests/results/images.csv.
+# Requires docker and curl, images are expected to be built beforehand with docker/1_build_image.bat and
+# docker/3_build_native_image.bat (tags indoor-analytics and indoor-analytics-native).
+# STARTUP_TIMEOUT (seconds, default 120) limits waiting for the application to become ready.
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+RESULTS_DIR="$SCRIPT_DIR/results"
+BASE_URL="http://localhost:8090/indoor-analytics"
+READINESS_URL="$BASE_URL/actuator/health/readiness"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-120}"
+RESULTS_FILE="$RESULTS_DIR/images.csv"
+container_id=""
+mkdir -p "$RESULTS_DIR"
+
+stop_container() {
+  if [[ -n "$container_id" ]]; then
+    docker rm -f "$container_id" > /dev/null 2>&1 || true
+    container_id=""
+  fi
+}
+trap stop_container EXIT
+
+now_ms() {
+  date +%s%3N
+}
+
+measure_image() {
+  local image="$1" start ready memory deadline
+  start=$(now_ms)
+  container_id=$(docker run -d -p 8090:8090 "$image")
+  deadline=$((SECONDS + STARTUP_TIMEOUT))
+  until curl -sf "$READINESS_URL" > /dev/null; do
+    if (( SECONDS >= deadline )); then
+      echo "Image $image was not ready within $STARTUP_TIMEOUT s" >&2
+      docker logs "$container_id" >&2
+      return 1
+    fi
+    sleep 0.1
+  done
+  ready=$(now_ms)
+
+  curl -sf -o /dev/null "$BASE_URL/properties/dry-air?temperature=20"
+  curl -sf -o /dev/null "$BASE_URL/properties/humid-air/from-wet-bulb?wet-bulb-temperature=18.0&relative-humidity=50"
+  memory=$(docker stats --no-stream --format '{{.MemUsage}}' "$container_id" | cut -d/ -f1 | tr -d ' ')
+  stop_container
+
+  echo "$image,$((ready - start)),$memory" | tee -a "$RESULTS_FILE"
+}
+
+echo "image,ready_ms,memory_usage" | tee "$RESULTS_FILE"
+measure_image indoor-analytics
+measure_image indoor-analytics-native
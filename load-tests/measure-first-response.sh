@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Measures time to first fast response of the packaged application, started once with warm-up disabled and once with
+# warm-up enabled. Startup begins when JVM is launched, first fast response is the first wet bulb request answered
+# within FAST_RESPONSE_MS (default 20). Requests are sent only after readiness is reported. Results are printed and
+# written to load-tests/results/first-response.csv.
+# Requires JDK 21, curl and a packaged application (mvn -B package -DskipTests).
+# PORT (default 8090) is the port the application is started on and measured at.
+# STARTUP_TIMEOUT (seconds, default 120) limits waiting for the application to become ready.
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="$(ls "$SCRIPT_DIR"/../core/target/*-exec.jar)"
+RESULTS_DIR="$SCRIPT_DIR/results"
+PORT="${PORT:-8090}"
+BASE_URL="http://localhost:$PORT/indoor-analytics"
+READINESS_URL="$BASE_URL/actuator/health/readiness"
+REQUEST_URL="$BASE_URL/properties/humid-air/from-wet-bulb?wet-bulb-temperature=18.0&relative-humidity=50"
+FAST_RESPONSE_MS="${FAST_RESPONSE_MS:-20}"
+MAX_REQUESTS="${MAX_REQUESTS:-1000}"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-120}"
+RESULTS_FILE="$RESULTS_DIR/first-response.csv"
+app_pid=""
+mkdir -p "$RESULTS_DIR"
+
+stop_app() {
+  if [[ -n "$app_pid" ]]; then
+    kill "$app_pid" 2>/dev/null || true
+    wait "$app_pid" 2>/dev/null || true
+    app_pid=""
+  fi
+}
+trap stop_app EXIT
+
+now_ms() {
+  date +%s%3N
+}
+
+measure_setup() {
+  local setup="$1" warm_up="$2" start ready first_request_ms="" fast_at="" deadline
+  start=$(now_ms)
+  java -jar "$JAR" --spring.profiles.active=prod --server.port="$PORT" --indoor-analytics.warm-up.enabled="$warm_up" \
+    > "$RESULTS_DIR/$setup.log" 2>&1 &
+  app_pid=$!
+  deadline=$((SECONDS + STARTUP_TIMEOUT))
+  until curl -sf "$READINESS_URL" > /dev/null; do
+    if ! kill -0 "$app_pid" 2>/dev/null || (( SECONDS >= deadline )); then
+      echo "Application of setup $setup did not become ready, see $RESULTS_DIR/$setup.log" >&2
+      return 1
+    fi
+    sleep 0.1
+  done
+  ready=$(now_ms)
+
+  for ((request = 1; request <= MAX_REQUESTS; request++)); do
+    local duration_ms
+    duration_ms=$(curl -sf -o /dev/null -w '%{time_total}' "$REQUEST_URL" | awk '{ printf "%d", $1 * 1000 }')
+    first_request_ms="${first_request_ms:-$duration_ms}"
+    if (( duration_ms <= FAST_RESPONSE_MS )); then
+      fast_at=$(now_ms)
+      break
+    fi
+  done
+  stop_app
+
+  if [[ -z "$fast_at" ]]; then
+    echo "Setup $setup: no response within $FAST_RESPONSE_MS ms after $MAX_REQUESTS requests" >&2
+    return 1
+  fi
+  echo "$setup,$((ready - start)),$first_request_ms,$request,$((fast_at - start))" | tee -a "$RESULTS_FILE"
+}
+
+echo "setup,ready_ms,first_request_ms,requests_to_fast_response,first_fast_response_ms" | tee "$RESULTS_FILE"
+measure_setup no-warm-up false
+measure_setup warm-up true
@@ -0,0 +1,69 @@
+// k6 load test of physical properties endpoints. Two scenarios are run one after another with the same arrival rate:
+// dry-air (closed-form equations, cheap) and humid-air from wet bulb temperature (iterative solver, CPU heavy).
+// Usage: k6 run -e BASE_URL=http://localhost:8090/indoor-analytics -e RATE=2000 properties-load-test.js
+import http from 'k6/http';
+import {check} from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8090/indoor-analytics';
+const RATE = parseInt(__ENV.RATE || '2000');
+const DURATION = __ENV.DURATION || '60s';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '2000');
+
+export const options = {
+    discardResponseBodies: true,
+    scenarios: {
+        dryAir: {
+            executor: 'constant-arrival-rate',
+            exec: 'dryAir',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: MAX_VUS / 4,
+            maxVUs: MAX_VUS,
+            tags: {endpoint: 'dry-air'},
+        },
+        wetBulb: {
+            executor: 'constant-arrival-rate',
+            exec: 'wetBulb',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            startTime: DURATION,
+            preAllocatedVUs: MAX_VUS / 4,
+            maxVUs: MAX_VUS,
+            tags: {endpoint: 'from-wet-bulb'},
+        },
+    },
+    // Always passing thresholds, declared only to get separate summary metrics for each endpoint
+    thresholds: {
+        'http_req_duration{endpoint:dry-air}': ['p(99)>=0'],
+        'http_req_duration{endpoint:from-wet-bulb}': ['p(99)>=0'],
+        'http_req_failed{endpoint:dry-air}': ['rate>=0'],
+        'http_req_failed{endpoint:from-wet-bulb}': ['rate>=0'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+};
+
+// Inputs are varied so that the optional properties cache does not turn the test into a cache benchmark
+function temperature() {
+    return (Math.random() * 60 - 20).toFixed(2);
+}
+
+export function dryAir() {
+    const res = http.get(`${BASE_URL}/properties/dry-air?temperature=${temperature()}`);
+    check(res, {'status is 200': (r) => r.status === 200});
+}
+
+// Pairs of wet bulb temperature and relative humidity of typical indoor and outdoor design states (e.g. 25 °C and 50 %
+// give wet bulb temperature of 18 °C). Wet bulb temperature is jittered by up to 0.5 K, which keeps every pair valid.
+const WET_BULB_STATES = [
+    [13.7, 50], [18.0, 50], [19.9, 40], [17.0, 60], [8.3, 80], [21.4, 30], [23.7, 70], [4.5, 60],
+];
+
+export function wetBulb() {
+    const [wetBulbTemperature, relativeHumidity] = WET_BULB_STATES[Math.floor(Math.random() * WET_BULB_STATES.length)];
+    const jitteredTemperature = (wetBulbTemperature + Math.random() - 0.5).toFixed(2);
+    const res = http.get(`${BASE_URL}/properties/humid-air/from-wet-bulb?wet-bulb-temperature=${jitteredTemperature}`
+        + `&relative-humidity=${relativeHumidity}`);
+    check(res, {'status is 200': (r) => r.status === 200});
+}
@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Runs the properties load test against the application started with the default platform thread pool and then with
+# the virtual-threads profile. k6 summaries are written to load-tests/results/<setup>.json.
+# Requires JDK 21, curl and k6 on PATH, and a packaged application (mvn -B package -DskipTests).
+# PORT (default 8090) is the port the application is started on and tested at.
+# STARTUP_TIMEOUT (seconds, default 120) limits waiting for the application to become ready.
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="$(ls "$SCRIPT_DIR"/../core/target/*-exec.jar)"
+RESULTS_DIR="$SCRIPT_DIR/results"
+PORT="${PORT:-8090}"
+BASE_URL="http://localhost:$PORT/indoor-analytics"
+READINESS_URL="$BASE_URL/actuator/health/readiness"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-120}"
+app_pid=""
+mkdir -p "$RESULTS_DIR"
+
+stop_app() {
+  if [[ -n "$app_pid" ]]; then
+    kill "$app_pid" 2>/dev/null || true
+    # Waits for the port to be released before the next setup is started
+    wait "$app_pid" 2>/dev/null || true
+    app_pid=""
+  fi
+}
+trap stop_app EXIT
+
+wait_until_ready() {
+  local setup="$1" deadline=$((SECONDS + STARTUP_TIMEOUT))
+  until curl -sf "$READINESS_URL" > /dev/null; do
+    if ! kill -0 "$app_pid" 2>/dev/null; then
+      echo "Application of setup $setup exited during startup, see $RESULTS_DIR/$setup.log" >&2
+      return 1
+    fi
+    if (( SECONDS >= deadline )); then
+      echo "Application of setup $setup was not ready within $STARTUP_TIMEOUT s" >&2
+      return 1
+    fi
+    sleep 1
+  done
+}
+
+run_setup() {
+  local setup="$1" profiles="$2"
+  java -jar "$JAR" --spring.profiles.active="$profiles" --server.port="$PORT" > "$RESULTS_DIR/$setup.log" 2>&1 &
+  app_pid=$!
+  wait_until_ready "$setup"
+  k6 run -e BASE_URL="$BASE_URL" --summary-export "$RESULTS_DIR/$setup.json" "$SCRIPT_DIR/properties-load-test.js"
+  stop_app
+}
+
+run_setup platform-threads prod
+run_setup virtual-threads prod,virtual-threads